@@ -0,0 +1,85 @@
+package io.sphere.sdk.client.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free histogram of durations in nanoseconds with logarithmic buckets like an HDR histogram.
+ *
+ * <p>Each power of two is split into {@value #SUB_BUCKET_COUNT} buckets, so a recorded value is reported with a relative error of at most about 3%.
+ * Durations above {@code 2^}{@value #MAX_EXPONENT} nanoseconds (about 2.4 hours) are counted in the last bucket, the maximum is kept exactly.
+ * Recording only increments counters and does not allocate.</p>
+ *
+ * @see LatencyHistogramSnapshot
+ */
+public final class LatencyHistogram {
+    static final int SUB_BUCKET_BITS = 5;
+    static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    static final int MAX_EXPONENT = 43;
+    static final int BUCKET_COUNT = SUB_BUCKET_COUNT + (MAX_EXPONENT - SUB_BUCKET_BITS + 1) * SUB_BUCKET_COUNT;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+    private final AtomicLong totalCount = new AtomicLong();
+    private final AtomicLong sumNanos = new AtomicLong();
+    private final AtomicLong minNanos = new AtomicLong(Long.MAX_VALUE);
+    private final AtomicLong maxNanos = new AtomicLong();
+
+    private LatencyHistogram() {
+    }
+
+    public static LatencyHistogram of() {
+        return new LatencyHistogram();
+    }
+
+    /**
+     * Records one duration, negative values are counted as 0.
+     *
+     * @param durationInNanoseconds the duration, for example the difference of two {@link System#nanoTime()} calls
+     */
+    public void recordNanos(final long durationInNanoseconds) {
+        final long value = Math.max(0, durationInNanoseconds);
+        counts.incrementAndGet(bucketIndex(value));
+        totalCount.incrementAndGet();
+        sumNanos.addAndGet(value);
+        minNanos.accumulateAndGet(value, Math::min);
+        maxNanos.accumulateAndGet(value, Math::max);
+    }
+
+    /**
+     * Creates an immutable copy of the current state. Concurrent recordings may be partially contained.
+     *
+     * @return snapshot
+     */
+    public LatencyHistogramSnapshot snapshot() {
+        final long[] bucketCounts = new long[BUCKET_COUNT];
+        long count = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            bucketCounts[i] = counts.get(i);
+            count += bucketCounts[i];
+        }
+        final long min = minNanos.get();
+        return LatencyHistogramSnapshot.of(bucketCounts, count, sumNanos.get(), min == Long.MAX_VALUE ? 0 : min, maxNanos.get());
+    }
+
+    static int bucketIndex(final long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+        final int exponent = Math.min(63 - Long.numberOfLeadingZeros(value), MAX_EXPONENT);
+        if (exponent == MAX_EXPONENT && value >= (1L << (MAX_EXPONENT + 1))) {
+            return BUCKET_COUNT - 1;
+        }
+        final int shift = exponent - SUB_BUCKET_BITS;
+        final int subBucket = (int) (value >>> shift) - SUB_BUCKET_COUNT;
+        return SUB_BUCKET_COUNT + shift * SUB_BUCKET_COUNT + subBucket;
+    }
+
+    static long highestValueOfBucket(final int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+        final int shift = (index - SUB_BUCKET_COUNT) / SUB_BUCKET_COUNT;
+        final long subBucket = (index - SUB_BUCKET_COUNT) % SUB_BUCKET_COUNT;
+        return ((SUB_BUCKET_COUNT + subBucket + 1) << shift) - 1;
+    }
+}
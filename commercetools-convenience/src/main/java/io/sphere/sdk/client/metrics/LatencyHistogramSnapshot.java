@@ -0,0 +1,75 @@
+package io.sphere.sdk.client.metrics;
+
+import io.sphere.sdk.models.Base;
+
+/**
+ * Immutable state of a {@link LatencyHistogram}. All durations are in nanoseconds.
+ */
+public final class LatencyHistogramSnapshot extends Base {
+    private final long[] bucketCounts;
+    private final long count;
+    private final long sumNanos;
+    private final long minNanos;
+    private final long maxNanos;
+
+    private LatencyHistogramSnapshot(final long[] bucketCounts, final long count, final long sumNanos, final long minNanos, final long maxNanos) {
+        this.bucketCounts = bucketCounts;
+        this.count = count;
+        this.sumNanos = sumNanos;
+        this.minNanos = minNanos;
+        this.maxNanos = maxNanos;
+    }
+
+    static LatencyHistogramSnapshot of(final long[] bucketCounts, final long count, final long sumNanos, final long minNanos, final long maxNanos) {
+        return new LatencyHistogramSnapshot(bucketCounts, count, sumNanos, minNanos, maxNanos);
+    }
+
+    /**
+     * The number of recorded durations.
+     *
+     * @return count
+     */
+    public long getCount() {
+        return count;
+    }
+
+    public long getMinNanos() {
+        return minNanos;
+    }
+
+    public long getMaxNanos() {
+        return maxNanos;
+    }
+
+    public long getMeanNanos() {
+        return count == 0 ? 0 : sumNanos / count;
+    }
+
+    /**
+     * Gets the duration which is greater than or equal to {@code percentile} percent of the recorded durations.
+     * The value is the upper bound of the bucket, so it is at most about 3% too high, but never higher than {@link #getMaxNanos()}.
+     *
+     * @param percentile the percentile between 0 and 100, for example 99.9
+     * @return duration in nanoseconds or 0 if nothing has been recorded
+     */
+    public long getValueAtPercentileNanos(final double percentile) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("percentile must be between 0 and 100 but was " + percentile);
+        }
+        if (count == 0) {
+            return 0;
+        }
+        final long countAtPercentile = Math.max(1, (long) Math.ceil(percentile / 100 * count));
+        if (countAtPercentile == 1) {
+            return minNanos;
+        }
+        long seen = 0;
+        for (int i = 0; i < bucketCounts.length; i++) {
+            seen += bucketCounts[i];
+            if (seen >= countAtPercentile) {
+                return Math.max(minNanos, Math.min(maxNanos, LatencyHistogram.highestValueOfBucket(i)));
+            }
+        }
+        return maxNanos;
+    }
+}
@@ -1,8 +1,37 @@
 package io.sphere.sdk.client.metrics;
 
 import java.util.Observable;
+import java.util.Observer;
 
+/**
+ * Adapter to publish the measurements as {@link ObservedDuration} messages.
+ * {@link Observable#notifyObservers(Object)} is synchronized, so the messages are only created and published if observers are registered.
+ */
 final class MetricObservable extends Observable {
+    private volatile boolean observed = false;
+
+    @Override
+    public synchronized void addObserver(final Observer o) {
+        super.addObserver(o);
+        observed = countObservers() > 0;
+    }
+
+    @Override
+    public synchronized void deleteObserver(final Observer o) {
+        super.deleteObserver(o);
+        observed = countObservers() > 0;
+    }
+
+    @Override
+    public synchronized void deleteObservers() {
+        super.deleteObservers();
+        observed = false;
+    }
+
+    boolean isObserved() {
+        return observed;
+    }
+
     @Override
     public void notifyObservers(final Object arg) {
         setChanged();
@@ -6,39 +6,50 @@ import io.sphere.sdk.client.SphereRequestDecorator;
 import io.sphere.sdk.http.HttpResponse;
 
 import javax.annotation.Nullable;
-import java.util.Observable;
 
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+/**
+ * Measures the attempts of one execution of {@link SimpleMetricsSphereClient}.
+ * The intent is created once by the client, so retries and hedges below the client send the same intent
+ * and each deserialization measures its own wait since the serialization.
+ */
 final class MetricSphereRequest<T> extends SphereRequestDecorator<T> {
     private final String id;
-    private final Observable observable;
+    private final MetricObservable observable;
+    private final HttpRequestIntent httpRequestIntent;
+    private final RequestMetricsRecorder.EndpointHistograms histograms;
+    private final long serializationEndNanos;
     @Nullable
-    private String correlationId = null;
+    private volatile String correlationId = null;
 
-    MetricSphereRequest(final SphereRequest<T> delegate, final String id, final Observable observable) {
+    MetricSphereRequest(final SphereRequest<T> delegate, final String id, final MetricObservable observable, final HttpRequestIntent httpRequestIntent,
+                        final RequestMetricsRecorder.EndpointHistograms histograms, final long serializationEndNanos) {
         super(delegate);
         this.id = id;
         this.observable = observable;
+        this.httpRequestIntent = httpRequestIntent;
+        this.histograms = histograms;
+        this.serializationEndNanos = serializationEndNanos;
     }
 
     @Override
     public HttpRequestIntent httpRequestIntent() {
-        final long startTimestamp = System.currentTimeMillis();
-        final HttpRequestIntent result = super.httpRequestIntent();
-        final long stopTimestamp = System.currentTimeMillis();
-        final long duration = stopTimestamp - startTimestamp;
-        observable.notifyObservers(ObservedSerializationDuration.of(duration, id, delegate));
-        return result;
+        return httpRequestIntent;
     }
 
     @Nullable
     @Override
     public T deserialize(final HttpResponse httpResponse) {
-        final long startTimestamp = System.currentTimeMillis();
+        final long startNanos = System.nanoTime();
+        histograms.wait.recordNanos(startNanos - serializationEndNanos);
         final T result = super.deserialize(httpResponse);
-        final long stopTimestamp = System.currentTimeMillis();
-        final long duration = stopTimestamp - startTimestamp;
-        correlationId = httpResponse.getHeaders().findFlatHeader("X-Correlation-ID").orElse(null);
-        observable.notifyObservers(ObservedDeserializationDuration.of(duration, id, delegate, correlationId, httpResponse, result));
+        final long durationNanos = System.nanoTime() - startNanos;
+        histograms.deserialization.recordNanos(durationNanos);
+        if (observable.isObserved()) {
+            correlationId = httpResponse.getHeaders().findFlatHeader("X-Correlation-ID").orElse(null);
+            observable.notifyObservers(ObservedDeserializationDuration.of(NANOSECONDS.toMillis(durationNanos), id, delegate, correlationId, httpResponse, result));
+        }
         return result;
     }
 
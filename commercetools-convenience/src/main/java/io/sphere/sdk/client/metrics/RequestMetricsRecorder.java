@@ -0,0 +1,88 @@
+package io.sphere.sdk.client.metrics;
+
+import io.sphere.sdk.client.Endpoints;
+import io.sphere.sdk.client.HttpRequestIntent;
+import io.sphere.sdk.http.HttpMethod;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Collects the durations of the phases of requests in {@link LatencyHistogram}s per http method and endpoint.
+ *
+ * <p>The endpoint is the path of the request without query, ID segments are replaced by {@code {id}}
+ * and segments with a key like {@code key=foo} by {@code key={value}}, see {@link Endpoints#normalize(String)},
+ * so {@code GET /products/6b2f... ?expand=productType} and {@code GET /products/7c3a...} are both counted for {@code GET /products/{id}}.</p>
+ *
+ * <p>The recorder is thread-safe and can be shared between multiple {@link SimpleMetricsSphereClient}s.</p>
+ */
+public final class RequestMetricsRecorder {
+    private final ConcurrentMap<EndpointKey, EndpointHistograms> endpoints = new ConcurrentHashMap<>();
+
+    private RequestMetricsRecorder() {
+    }
+
+    public static RequestMetricsRecorder of() {
+        return new RequestMetricsRecorder();
+    }
+
+    /**
+     * Creates snapshots of the histograms of all endpoints which have been requested so far.
+     *
+     * @return snapshots, one for each http method and endpoint
+     */
+    public List<RequestMetricsSnapshot> getSnapshots() {
+        return endpoints.entrySet().stream()
+                .map(entry -> entry.getValue().snapshot(entry.getKey().httpMethod, entry.getKey().endpoint))
+                .collect(toList());
+    }
+
+    EndpointHistograms histogramsFor(final HttpRequestIntent httpRequestIntent) {
+        final EndpointKey key = new EndpointKey(httpRequestIntent.getHttpMethod(), Endpoints.normalize(httpRequestIntent.getPath()));
+        final EndpointHistograms existing = endpoints.get(key);
+        return existing != null ? existing : endpoints.computeIfAbsent(key, k -> new EndpointHistograms());
+    }
+
+    static final class EndpointHistograms {
+        final LatencyHistogram serialization = LatencyHistogram.of();
+        final LatencyHistogram wait = LatencyHistogram.of();
+        final LatencyHistogram deserialization = LatencyHistogram.of();
+        final LatencyHistogram total = LatencyHistogram.of();
+
+        private RequestMetricsSnapshot snapshot(final HttpMethod httpMethod, final String endpoint) {
+            return RequestMetricsSnapshot.of(httpMethod, endpoint, serialization.snapshot(), wait.snapshot(),
+                    deserialization.snapshot(), total.snapshot());
+        }
+    }
+
+    private static final class EndpointKey {
+        private final HttpMethod httpMethod;
+        private final String endpoint;
+
+        private EndpointKey(final HttpMethod httpMethod, final String endpoint) {
+            this.httpMethod = httpMethod;
+            this.endpoint = endpoint;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof EndpointKey)) {
+                return false;
+            }
+            final EndpointKey that = (EndpointKey) o;
+            return httpMethod == that.httpMethod && endpoint.equals(that.endpoint);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(httpMethod, endpoint);
+        }
+    }
+}
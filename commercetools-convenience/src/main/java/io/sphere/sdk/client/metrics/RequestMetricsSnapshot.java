@@ -0,0 +1,85 @@
+package io.sphere.sdk.client.metrics;
+
+import io.sphere.sdk.http.HttpMethod;
+import io.sphere.sdk.models.Base;
+
+/**
+ * Latency histograms of the requests to one endpoint with one http method.
+ *
+ * @see RequestMetricsRecorder#getSnapshots()
+ */
+public final class RequestMetricsSnapshot extends Base {
+    private final HttpMethod httpMethod;
+    private final String endpoint;
+    private final LatencyHistogramSnapshot serialization;
+    private final LatencyHistogramSnapshot wait;
+    private final LatencyHistogramSnapshot deserialization;
+    private final LatencyHistogramSnapshot total;
+
+    private RequestMetricsSnapshot(final HttpMethod httpMethod, final String endpoint, final LatencyHistogramSnapshot serialization,
+                                   final LatencyHistogramSnapshot wait, final LatencyHistogramSnapshot deserialization,
+                                   final LatencyHistogramSnapshot total) {
+        this.httpMethod = httpMethod;
+        this.endpoint = endpoint;
+        this.serialization = serialization;
+        this.wait = wait;
+        this.deserialization = deserialization;
+        this.total = total;
+    }
+
+    static RequestMetricsSnapshot of(final HttpMethod httpMethod, final String endpoint, final LatencyHistogramSnapshot serialization,
+                                     final LatencyHistogramSnapshot wait, final LatencyHistogramSnapshot deserialization,
+                                     final LatencyHistogramSnapshot total) {
+        return new RequestMetricsSnapshot(httpMethod, endpoint, serialization, wait, deserialization, total);
+    }
+
+    public HttpMethod getHttpMethod() {
+        return httpMethod;
+    }
+
+    /**
+     * The normalized path like {@code /products/{id}}.
+     *
+     * @return endpoint
+     */
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    /**
+     * Durations of creating the {@link io.sphere.sdk.client.HttpRequestIntent} from the request object.
+     *
+     * @return histogram
+     */
+    public LatencyHistogramSnapshot getSerialization() {
+        return serialization;
+    }
+
+    /**
+     * Durations between the creation of the {@link io.sphere.sdk.client.HttpRequestIntent} and the start of the deserialization,
+     * so mostly the time waiting for the platform and the network, including the retries of the request.
+     *
+     * @return histogram
+     */
+    public LatencyHistogramSnapshot getWait() {
+        return wait;
+    }
+
+    /**
+     * Durations of transforming the http response into the result object.
+     *
+     * @return histogram
+     */
+    public LatencyHistogramSnapshot getDeserialization() {
+        return deserialization;
+    }
+
+    /**
+     * Durations from calling {@link SimpleMetricsSphereClient#execute(io.sphere.sdk.client.SphereRequest)} until the completion of the result.
+     *
+     * @return histogram
+     */
+    public LatencyHistogramSnapshot getTotal() {
+        return total;
+    }
+}
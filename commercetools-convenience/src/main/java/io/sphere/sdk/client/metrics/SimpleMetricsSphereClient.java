@@ -1,45 +1,93 @@
 package io.sphere.sdk.client.metrics;
 
+import io.sphere.sdk.client.HttpRequestIntent;
 import io.sphere.sdk.client.SphereClient;
 import io.sphere.sdk.client.SphereClientDecorator;
 import io.sphere.sdk.client.SphereRequest;
+import io.sphere.sdk.utils.CompletableFutureUtils;
 
+import javax.annotation.Nullable;
+import java.util.List;
 import java.util.Observable;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.atomic.AtomicLong;
 
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
 /**
  * A decorator for {@link SphereClient}s which collects the time of serialization from and to JSON
  * as well as the time waiting for the response of the commercetools platform.
  *
+ * <p>The durations are measured in nanoseconds and recorded in latency histograms per endpoint,
+ * see {@link #getMetricsSnapshots()}. For compatibility they are also published as {@link ObservedDuration} messages
+ * to the observers of {@link #getMetricObservable()}, these messages are only created if an observer is registered.</p>
+ *
+ * <p>The request is serialized once per execution, retries of decorators below this client send the same {@link HttpRequestIntent}.
+ * The total duration is also recorded for failed requests.</p>
+ *
  * {@include.example io.sphere.sdk.client.metrics.SimpleMetricsSphereClientDemo}
  */
 public final class SimpleMetricsSphereClient extends SphereClientDecorator implements SphereClient {
     private final AtomicLong requestIdGenerator = new AtomicLong(0);
-    private final Observable metricObservable = new MetricObservable();
+    private final MetricObservable metricObservable = new MetricObservable();
+    private final RequestMetricsRecorder metricsRecorder;
 
-    private SimpleMetricsSphereClient(final SphereClient delegate) {
+    private SimpleMetricsSphereClient(final SphereClient delegate, final RequestMetricsRecorder metricsRecorder) {
         super(delegate);
+        this.metricsRecorder = metricsRecorder;
     }
 
     public static SimpleMetricsSphereClient of(final SphereClient delegate) {
-        return new SimpleMetricsSphereClient(delegate);
+        return of(delegate, RequestMetricsRecorder.of());
+    }
+
+    /**
+     * Creates a metrics client which records into the given recorder, for example to aggregate the metrics of multiple clients.
+     *
+     * @param delegate the client which performs the requests
+     * @param metricsRecorder the recorder for the latency histograms
+     * @return metrics client
+     */
+    public static SimpleMetricsSphereClient of(final SphereClient delegate, final RequestMetricsRecorder metricsRecorder) {
+        return new SimpleMetricsSphereClient(delegate, metricsRecorder);
     }
 
     @Override
     public <T> CompletionStage<T> execute(final SphereRequest<T> sphereRequest) {
-        final String id = "" + requestIdGenerator.incrementAndGet();
-        final long startTimestamp = System.currentTimeMillis();
-        final MetricSphereRequest<T> metricSphereRequest = new MetricSphereRequest<>(sphereRequest, id, metricObservable);
+        final String id = Long.toString(requestIdGenerator.incrementAndGet());
+        final long startNanos = System.nanoTime();
+        final HttpRequestIntent httpRequestIntent;
+        try {
+            httpRequestIntent = sphereRequest.httpRequestIntent();
+        } catch (final RuntimeException e) {
+            notifyTotalDuration(id, sphereRequest, startNanos, null, null, e);
+            return CompletableFutureUtils.failed(e);
+        }
+        final long serializationEndNanos = System.nanoTime();
+        final long serializationNanos = serializationEndNanos - startNanos;
+        final RequestMetricsRecorder.EndpointHistograms histograms = metricsRecorder.histogramsFor(httpRequestIntent);
+        histograms.serialization.recordNanos(serializationNanos);
+        if (metricObservable.isObserved()) {
+            metricObservable.notifyObservers(ObservedSerializationDuration.of(NANOSECONDS.toMillis(serializationNanos), id, sphereRequest));
+        }
+        final MetricSphereRequest<T> metricSphereRequest =
+                new MetricSphereRequest<>(sphereRequest, id, metricObservable, httpRequestIntent, histograms, serializationEndNanos);
         final CompletionStage<T> completionStage = super.execute(metricSphereRequest);
         completionStage.whenComplete((nullableResult, nullableThrowable) -> {
-            final long stopTimestamp = System.currentTimeMillis();
-            final long duration = stopTimestamp - startTimestamp;
-            metricObservable.notifyObservers(ObservedTotalDuration.of(duration, id, sphereRequest, metricSphereRequest.getCorrelationId(), nullableResult, nullableThrowable));
+            histograms.total.recordNanos(System.nanoTime() - startNanos);
+            notifyTotalDuration(id, sphereRequest, startNanos, metricSphereRequest.getCorrelationId(), nullableResult, nullableThrowable);
         });
         return completionStage;
     }
 
+    private void notifyTotalDuration(final String id, final SphereRequest<?> sphereRequest, final long startNanos, @Nullable final String correlationId,
+                                     @Nullable final Object nullableResult, @Nullable final Throwable nullableThrowable) {
+        if (metricObservable.isObserved()) {
+            final long durationNanos = System.nanoTime() - startNanos;
+            metricObservable.notifyObservers(ObservedTotalDuration.of(NANOSECONDS.toMillis(durationNanos), id, sphereRequest, correlationId, nullableResult, nullableThrowable));
+        }
+    }
+
     /**
      * The observable where observers can be registered.
      * @return observable
@@ -47,4 +95,20 @@ public final class SimpleMetricsSphereClient extends SphereClientDecorator imple
     public Observable getMetricObservable() {
         return metricObservable;
     }
+
+    /**
+     * The recorder which contains the latency histograms of this client.
+     * @return recorder
+     */
+    public RequestMetricsRecorder getMetricsRecorder() {
+        return metricsRecorder;
+    }
+
+    /**
+     * Creates snapshots of the latency histograms for serialization, waiting, deserialization and the total duration per endpoint.
+     * @return snapshots, one for each http method and endpoint
+     */
+    public List<RequestMetricsSnapshot> getMetricsSnapshots() {
+        return metricsRecorder.getSnapshots();
+    }
 }
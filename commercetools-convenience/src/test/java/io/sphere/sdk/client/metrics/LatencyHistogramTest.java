@@ -0,0 +1,48 @@
+package io.sphere.sdk.client.metrics;
+
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+public class LatencyHistogramTest {
+    @Test
+    public void percentilesWithinRelativeError() {
+        final LatencyHistogram histogram = LatencyHistogram.of();
+        for (long i = 1; i <= 10_000; i++) {
+            histogram.recordNanos(i * 1000);
+        }
+
+        final LatencyHistogramSnapshot snapshot = histogram.snapshot();
+
+        assertThat(snapshot.getCount()).isEqualTo(10_000);
+        assertThat(snapshot.getMinNanos()).isEqualTo(1000);
+        assertThat(snapshot.getMaxNanos()).isEqualTo(10_000_000);
+        assertThat(snapshot.getMeanNanos()).isEqualTo(5_000_500);
+        assertThat((double) snapshot.getValueAtPercentileNanos(50)).isCloseTo(5_000_000, within(5_000_000 * 0.04));
+        assertThat((double) snapshot.getValueAtPercentileNanos(99)).isCloseTo(9_900_000, within(9_900_000 * 0.04));
+        assertThat(snapshot.getValueAtPercentileNanos(100)).isEqualTo(10_000_000);
+        assertThat(snapshot.getValueAtPercentileNanos(0)).isEqualTo(1000);
+    }
+
+    @Test
+    public void bucketsCoverAllValues() {
+        long previousIndex = -1;
+        for (long value = 0; value < 1_000_000; value++) {
+            final int index = LatencyHistogram.bucketIndex(value);
+            assertThat(index).isBetween((int) previousIndex, (int) previousIndex + 1);
+            assertThat(LatencyHistogram.highestValueOfBucket(index)).isGreaterThanOrEqualTo(value);
+            previousIndex = index;
+        }
+        assertThat(LatencyHistogram.bucketIndex(Long.MAX_VALUE)).isEqualTo(LatencyHistogram.BUCKET_COUNT - 1);
+    }
+
+    @Test
+    public void emptySnapshot() {
+        final LatencyHistogramSnapshot snapshot = LatencyHistogram.of().snapshot();
+
+        assertThat(snapshot.getCount()).isZero();
+        assertThat(snapshot.getMinNanos()).isZero();
+        assertThat(snapshot.getValueAtPercentileNanos(99.9)).isZero();
+    }
+}
@@ -5,6 +5,7 @@ import io.sphere.sdk.client.SphereClient;
 import io.sphere.sdk.client.SphereRequest;
 import io.sphere.sdk.client.TestDoubleSphereClientFactory;
 import io.sphere.sdk.http.HttpHeaders;
+import io.sphere.sdk.http.HttpMethod;
 import io.sphere.sdk.http.HttpResponse;
 import io.sphere.sdk.projects.Project;
 import io.sphere.sdk.projects.queries.ProjectGet;
@@ -14,6 +15,8 @@ import org.junit.Test;
 import java.util.*;
 import java.util.concurrent.TimeUnit;
 
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
 public class SimpleMetricsSphereClientTest {
 
     public static final int MINIMUM_WAIT_IN_MILLISECONDS = 23;
@@ -66,6 +69,44 @@ public class SimpleMetricsSphereClientTest {
         softly.assertAll();//important
     }
 
+    @Test
+    public void recordsHistogramsPerEndpoint() {
+        final SphereClient asyncClient = TestDoubleSphereClientFactory.createHttpTestDouble(intent -> HTTP_RESPONSE);
+        final SimpleMetricsSphereClient simpleMetricsSphereClient = SimpleMetricsSphereClient.of(asyncClient);
+        final BlockingSphereClient blockingSphereClient = BlockingSphereClient.of(simpleMetricsSphereClient, 10, TimeUnit.SECONDS);
+
+        blockingSphereClient.executeBlocking(ProjectGet.of());
+        blockingSphereClient.executeBlocking(ProjectGet.of());
+
+        final List<RequestMetricsSnapshot> snapshots = simpleMetricsSphereClient.getMetricsSnapshots();
+        final SoftAssertions softly = new SoftAssertions();
+        softly.assertThat(snapshots).hasSize(1);
+        final RequestMetricsSnapshot snapshot = snapshots.get(0);
+        softly.assertThat(snapshot.getHttpMethod()).isEqualTo(HttpMethod.GET);
+        softly.assertThat(snapshot.getSerialization().getCount()).as("serialization").isEqualTo(2);
+        softly.assertThat(snapshot.getWait().getCount()).as("wait").isEqualTo(2);
+        softly.assertThat(snapshot.getDeserialization().getCount()).as("deserialization").isEqualTo(2);
+        softly.assertThat(snapshot.getTotal().getCount()).as("total").isEqualTo(2);
+        softly.assertThat(snapshot.getTotal().getMaxNanos()).as("total max")
+                .isGreaterThanOrEqualTo(snapshot.getDeserialization().getMaxNanos());
+        softly.assertAll();
+    }
+
+    @Test
+    public void recordsTotalOfFailedRequests() {
+        final SphereClient asyncClient = TestDoubleSphereClientFactory.createHttpTestDouble(intent -> HttpResponse.of(500));
+        final SimpleMetricsSphereClient simpleMetricsSphereClient = SimpleMetricsSphereClient.of(asyncClient);
+
+        assertThatThrownBy(() -> simpleMetricsSphereClient.execute(ProjectGet.of()).toCompletableFuture().join());
+
+        final RequestMetricsSnapshot snapshot = simpleMetricsSphereClient.getMetricsSnapshots().get(0);
+        final SoftAssertions softly = new SoftAssertions();
+        softly.assertThat(snapshot.getSerialization().getCount()).as("serialization").isEqualTo(1);
+        softly.assertThat(snapshot.getDeserialization().getCount()).as("deserialization").isZero();
+        softly.assertThat(snapshot.getTotal().getCount()).as("total").isEqualTo(1);
+        softly.assertAll();
+    }
+
     private static class MetricObserver implements Observer {
         private final List<Object> messages = Collections.synchronizedList(new LinkedList<>());
 
@@ -79,4 +120,4 @@ public class SimpleMetricsSphereClientTest {
             return (T) messages.stream().filter(o -> o.getClass().isAssignableFrom(clazz)).findFirst().get();
         }
     }
-}
\ No newline at end of file
+}
@@ -3,6 +3,7 @@ package io.sphere.sdk.client.retry;
 import io.sphere.sdk.client.RetrySphereClientDecorator;
 import io.sphere.sdk.client.SphereClient;
 import io.sphere.sdk.retry.RetryAction;
+import io.sphere.sdk.retry.RetryBackoff;
 import io.sphere.sdk.retry.RetryPredicate;
 import io.sphere.sdk.retry.RetryRule;
 
@@ -19,7 +20,7 @@ public class RetryBadGatewayExample {
         final int maxAttempts = 5;
         final List<RetryRule> retryRules = singletonList(RetryRule.of(
                 RetryPredicate.ofMatchingStatusCodes(BAD_GATEWAY_502, SERVICE_UNAVAILABLE_503, GATEWAY_TIMEOUT_504),
-                RetryAction.ofScheduledRetry(maxAttempts, context -> Duration.ofSeconds(context.getAttempt() * 2)))
+                RetryAction.ofScheduledRetry(maxAttempts, RetryBackoff.ofDecorrelatedJitter(Duration.ofSeconds(1), Duration.ofSeconds(30))))
         );
         return RetrySphereClientDecorator.of(delegate, retryRules);
     }
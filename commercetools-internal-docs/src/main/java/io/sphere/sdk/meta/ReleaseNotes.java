@@ -134,6 +134,18 @@ import java.util.function.Function;
  <li class=fixed-in-release></li>
  </ul>
  -->
+ <h3 class=released-version id="v1_27_0">1.27.0</h3>
+ <ul>
+ <li class=change-in-release>Create commands, update commands and {@link io.sphere.sdk.orders.commands.OrderImportCommand} send their JSON body
+ as {@link ByteArrayHttpRequestBody} instead of {@link StringHttpRequestBody}.
+ Custom {@link HttpClient} implementations need to send the bytes of {@link ByteArrayHttpRequestBody#getBytes()} as they are,
+ the content type is the one of the request headers or {@code application/json}.
+ </li>
+ <li class=change-in-release>{@link Attribute#getValue(AttributeAccess)} remembers the value decoded with the latest used {@link AttributeAccess},
+ so reading it again returns the same instance. Sets, lists and maps are still decoded for each call and can be modified by the caller.
+ </li>
+ </ul>
+
  <h3 class=released-version id="v1_26_0">1.26.0 (19.10.2017)</h3>
  <ul>
  <li class=new-in-release>Added support for creating multi buy discounts for custom line items{@link io.sphere.sdk.cartdiscounts.MultiBuyCustomLineItemsTarget},
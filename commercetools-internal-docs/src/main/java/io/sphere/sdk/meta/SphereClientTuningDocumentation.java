@@ -32,11 +32,47 @@ import org.asynchttpclient.AsyncHttpClient;
  <h3 id=timeout-client>Timeout Client</h3>
  See {@link io.sphere.sdk.client.TimeoutSphereClientDecorator}.
 
+ <h3 id=circuit-breaker-client>Fail fast on degraded endpoints</h3>
+ See {@link io.sphere.sdk.client.CircuitBreakerSphereClientDecorator}, it opens a circuit per endpoint on many server errors or slow responses and probes it again later.
+
  <h3 id=retry-client>Retry Client</h3>
  See {@link io.sphere.sdk.client.RetrySphereClientDecorator}.
+ Use a jittered {@link io.sphere.sdk.retry.RetryBackoff} so that clients do not retry in lockstep and a {@link io.sphere.sdk.retry.RetryBudget} so that retries fail fast instead of multiplying the load when the platform degrades.
+ Timeouts, scheduled retries and token refreshes of all clients are scheduled by the one thread of {@link io.sphere.sdk.utils.HashedWheelTimer#shared()}, which hands the work over to the common {@link java.util.concurrent.ForkJoinPool}, so decorating many clients does not start more threads.
 
  <h3 id=queue-client>Limit the amount of parallel requests</h3>
  See {@link io.sphere.sdk.client.QueueSphereClientDecorator}.
+ To give some requests priority over others, for example checkout requests over an import, see {@link io.sphere.sdk.client.PriorityQueueSphereClientDecorator}.
+ To stay below the rate limits of the platform, see {@link io.sphere.sdk.client.RateLimitingSphereClientDecorator}, which slows down on 429 and 503 responses.
+
+ <h3 id=single-flight-client>Collapse identical parallel requests</h3>
+ See {@link io.sphere.sdk.client.SingleFlightSphereClientDecorator}, it sends identical GET requests which run at the same time only once.
+
+ <h3 id=hedging-client>Cut the tail latency of reads</h3>
+ See {@link io.sphere.sdk.client.HedgingSphereClientDecorator}, it sends a second identical read if the first one is slower than a percentile of the recent latencies and uses the first response.
+
+ <h3 id=caching-client>Cache reference data</h3>
+ See {@link io.sphere.sdk.client.CachingSphereClientDecorator}, it caches the responses of GET requests for configured endpoints like product types or zones, revalidates them with ETags and can serve stale responses while refreshing them.
+
+ <h3 id=token-refresh>Renew access tokens ahead of time</h3>
+ {@link io.sphere.sdk.client.SphereAccessTokenSupplier#ofAutoRefresh(io.sphere.sdk.client.SphereAuthConfig, io.sphere.sdk.http.HttpClient, boolean, double)}
+ renews the token in the background after the given part of its lifetime, requests with an invalid token share one token fetch.
+ To serve many projects from one JVM, {@link io.sphere.sdk.client.SharedSphereAccessTokenManager} schedules the refreshes of the tokens of all clients with one timer and fetches them in the common {@link java.util.concurrent.ForkJoinPool}.
+
+ <h3 id=deserialization-executor>Deserialize responses on a dedicated thread pool</h3>
+ By default the responses are deserialized in the common {@link java.util.concurrent.ForkJoinPool}.
+ To isolate and size the parsing of big responses, create the clients with {@link io.sphere.sdk.client.SphereClientFactory#of(java.util.function.Supplier, java.util.concurrent.Executor)}
+ and a bounded {@link io.sphere.sdk.client.SphereDeserializationExecutor} which also reports its saturation.
+
+ <h3 id=correlation-ids>Generate correlation ids without contention</h3>
+ The default correlation ids use {@link java.util.UUID#randomUUID()}, which shares one {@link java.security.SecureRandom}.
+ For high request rates create the clients with {@link io.sphere.sdk.client.SphereClientFactory#of(java.util.function.Supplier, java.util.function.Function)}
+ and {@link io.sphere.sdk.client.CorrelationIdGenerator#ofSequential(String)}.
+
+ <h3 id=accelerated-json>Deserialize without reflection</h3>
+ Batch jobs which read millions of resources can add {@code com.fasterxml.jackson.module:jackson-module-afterburner} to the classpath
+ and start the JVM with {@code -Dio.sphere.sdk.json.accelerated=true}, then {@link io.sphere.sdk.json.SphereJsonUtils} and the clients
+ use {@link io.sphere.sdk.json.SphereJsonUtils#newAcceleratedObjectMapper()}.
 
  <h3 id=add-functionality-to-the-client>Using design patterns to add functionality to the clients</h3>
  <p>The clients are interfaces which have a default implementation (add "Impl" to the interface name).<br>
@@ -66,6 +102,15 @@ import org.asynchttpclient.AsyncHttpClient;
 
  <p>For configuration parameters refer to <a href="https://github.com/AsyncHttpClient/async-http-client">github.com/AsyncHttpClient/async-http-client</a>.</p>
 
+ <p>The module {@code sdk-http-apache-h2} provides {@code io.sphere.sdk.http.ApacheH2HttpClientAdapter} which uses HTTP/2,
+ so parallel requests are multiplexed over one connection instead of opening one TCP and TLS connection per parallel request.</p>
+
+ <p>To send big payloads like order imports compressed, wrap the http client with {@link io.sphere.sdk.http.GzipRequestBodyHttpClientDecorator}.</p>
+
+ <p>The connection pool can be sized with {@link io.sphere.sdk.http.HttpClientPoolConfig}, for example with
+ {@code SphereAsyncHttpClientFactory.create(HttpClientPoolConfig.of().withMaxConnectionsPerHost(100))} or {@code ApacheHttpClientAdapter.of(poolConfig)}.
+ The clients created this way report the state of the pool, connect latencies and TLS handshakes with {@link io.sphere.sdk.http.HttpClient#getMetrics()}.</p>
+
   */
 public final class SphereClientTuningDocumentation {
     private SphereClientTuningDocumentation() {
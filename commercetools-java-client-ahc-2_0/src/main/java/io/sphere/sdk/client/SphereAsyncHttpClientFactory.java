@@ -2,6 +2,7 @@ package io.sphere.sdk.client;
 
 import io.sphere.sdk.http.AsyncHttpClientAdapter;
 import io.sphere.sdk.http.HttpClient;
+import io.sphere.sdk.http.HttpClientPoolConfig;
 import io.sphere.sdk.models.Base;
 import org.asynchttpclient.DefaultAsyncHttpClient;
 import org.asynchttpclient.DefaultAsyncHttpClientConfig;
@@ -12,15 +13,40 @@ import org.asynchttpclient.DefaultAsyncHttpClientConfig;
 public final class SphereAsyncHttpClientFactory extends SphereHttpClientFactory {
     @Deprecated
     public static HttpClient create() {
+        return create(HttpClientPoolConfig.of());
+    }
+
+    /**
+     * Creates an {@link HttpClient} with a commercetools configured underlying {@link org.asynchttpclient.AsyncHttpClient}
+     * and the given connection pool settings.
+     *
+     * @param poolConfig the connection pool settings, unset values keep the defaults of AsyncHttpClient
+     * @return http client
+     */
+    public static HttpClient create(final HttpClientPoolConfig poolConfig) {
         /*
         http://static.javadoc.io/org.asynchttpclient/async-http-client/2.0.0-RC9/org/asynchttpclient/AsyncHttpClientConfig.html
          */
-        final DefaultAsyncHttpClientConfig config = new DefaultAsyncHttpClientConfig.Builder()
+        final DefaultAsyncHttpClientConfig.Builder builder = new DefaultAsyncHttpClientConfig.Builder()
                 .setEnabledProtocols(new String[]{"TLSv1.1", "TLSv1.2"})
                 .setReadTimeout(121000)
-                .setRequestTimeout(121000)
-                .build();
-        return AsyncHttpClientAdapter.of(new DefaultAsyncHttpClient(config));
+                .setRequestTimeout(121000);
+        if (poolConfig.getMaxConnectionsPerHost() != null) {
+            builder.setMaxConnectionsPerHost(poolConfig.getMaxConnectionsPerHost());
+        }
+        if (poolConfig.getMaxConnections() != null) {
+            builder.setMaxConnections(poolConfig.getMaxConnections());
+        }
+        if (poolConfig.getKeepAlive() != null) {
+            builder.setKeepAlive(poolConfig.getKeepAlive());
+        }
+        if (poolConfig.getPooledConnectionIdleTimeout() != null) {
+            builder.setPooledConnectionIdleTimeout((int) poolConfig.getPooledConnectionIdleTimeout().toMillis());
+        }
+        if (poolConfig.getConnectTimeout() != null) {
+            builder.setConnectTimeout((int) poolConfig.getConnectTimeout().toMillis());
+        }
+        return AsyncHttpClientAdapter.of(new DefaultAsyncHttpClient(builder.build()));
     }
 
     @Override
@@ -2,6 +2,7 @@ package io.sphere.sdk.client;
 
 import io.sphere.sdk.http.ApacheHttpClientAdapter;
 import io.sphere.sdk.http.HttpClient;
+import io.sphere.sdk.http.HttpClientPoolConfig;
 import org.apache.http.impl.nio.client.HttpAsyncClients;
 
 public final class SphereApacheHttpClientFactory extends SphereHttpClientFactory {
@@ -14,6 +15,16 @@ public final class SphereApacheHttpClientFactory extends SphereHttpClientFactory
         return ApacheHttpClientAdapter.of(HttpAsyncClients.createDefault());
     }
 
+    /**
+     * Creates an {@link HttpClient} with a pooling Apache client configured by {@code poolConfig}.
+     *
+     * @param poolConfig the connection pool settings, unset values keep the defaults of the Apache client
+     * @return http client
+     */
+    public static HttpClient create(final HttpClientPoolConfig poolConfig) {
+        return ApacheHttpClientAdapter.of(poolConfig);
+    }
+
     @Override
     public  HttpClient getClient(){
         return create();
@@ -1,30 +1,84 @@
 package io.sphere.sdk.client;
 
-import java.util.concurrent.ScheduledThreadPoolExecutor;
+import io.sphere.sdk.utils.HashedWheelTimer;
+import io.sphere.sdk.utils.SphereInternalLogger;
+
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 
+/**
+ * Processes its messages one after another in the common pool, delayed messages are scheduled with the shared {@link HashedWheelTimer},
+ * so an actor does not need an own thread.
+ */
 abstract class Actor extends AutoCloseableService {
-    private final ScheduledThreadPoolExecutor executor = createExecutor();//kind of mailbox
-
-    private ScheduledThreadPoolExecutor createExecutor() {
-        final ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1);
-        executor.setMaximumPoolSize(1);
-        return executor;
-    }
+    private final Queue<Object> mailbox = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean processing = new AtomicBoolean(false);
+    private final Set<HashedWheelTimer.Timeout> scheduledMessages = ConcurrentHashMap.newKeySet();
+    private volatile boolean stopped = false;
 
     public final void tell(final Object message) {
-        executor.execute(() -> receive(message));
+        if (!stopped) {
+            mailbox.add(message);
+            processMailboxIfIdle();
+        }
     }
 
     protected final void schedule(final Object message, final long delay, final TimeUnit unit) {
-        executor.schedule(() -> tell(message), delay, unit);
+        if (!stopped) {
+            final AtomicReference<HashedWheelTimer.Timeout> timeoutReference = new AtomicReference<>();
+            final HashedWheelTimer.Timeout timeout = HashedWheelTimer.shared().schedule(() -> {
+                final HashedWheelTimer.Timeout scheduledTimeout = timeoutReference.get();
+                if (scheduledTimeout != null) {
+                    scheduledMessages.remove(scheduledTimeout);
+                }
+                tell(message);
+            }, delay, unit);
+            timeoutReference.set(timeout);
+            scheduledMessages.add(timeout);
+            if (timeout.isExpired()) {
+                scheduledMessages.remove(timeout);
+            }
+        }
+    }
+
+    private void processMailboxIfIdle() {
+        if (!mailbox.isEmpty() && processing.compareAndSet(false, true)) {
+            ForkJoinPool.commonPool().execute(this::processMailbox);
+        }
+    }
+
+    private void processMailbox() {
+        try {
+            Object message;
+            while (!stopped && (message = mailbox.poll()) != null) {
+                try {
+                    receive(message);
+                } catch (final RuntimeException e) {
+                    SphereInternalLogger.getLogger(getClass()).error(() -> "Error while processing " + getClass().getSimpleName() + " message.", e);
+                }
+            }
+        } finally {
+            processing.set(false);
+        }
+        if (!stopped) {
+            processMailboxIfIdle();
+        }
     }
 
     @Override
     protected void internalClose() {
         closeThisActor();
-        executor.shutdownNow();
+        stopped = true;
+        scheduledMessages.forEach(HashedWheelTimer.Timeout::cancel);
+        scheduledMessages.clear();
+        mailbox.clear();
     }
 
     protected final ReceiveBuilder receiveBuilder(final Object message) {
@@ -23,16 +23,19 @@ final class AuthActor extends Actor {
     private final Function<Supplier<CompletionStage<Tokens>>, CompletionStage<Tokens>> supervisedTokenSupplier;
     private final Consumer<Tokens> requestUpdateTokens;
     private final Consumer<Throwable> requestUpdateFailedStatus;
+    private final double refreshAheadRatio;
     private boolean isWaitingForToken = false;
 
     public AuthActor(final TokensSupplier internalTokensSupplier,
                      final Function<Supplier<CompletionStage<Tokens>>, CompletionStage<Tokens>> supervisedTokenSupplier,
                      final Consumer<Tokens> requestUpdateTokens,
-                     final Consumer<Throwable> requestUpdateFailedStatus) {
+                     final Consumer<Throwable> requestUpdateFailedStatus,
+                     final double refreshAheadRatio) {
         this.internalTokensSupplier = internalTokensSupplier;
         this.supervisedTokenSupplier = supervisedTokenSupplier;
         this.requestUpdateTokens = requestUpdateTokens;
         this.requestUpdateFailedStatus = requestUpdateFailedStatus;
+        this.refreshAheadRatio = refreshAheadRatio;
     }
 
     @Override
@@ -73,14 +76,18 @@ final class AuthActor extends Actor {
 
     private void scheduleNextTokenFetchFromSphere(final Tokens tokens) {
         final Long delayInSecondsToFetchNewToken = Optional.ofNullable(tokens.getExpiresIn())
-                .map(ttlInSeconds -> selectNextRetryTime(ttlInSeconds))
+                .map(ttlInSeconds -> selectNextRetryTime(ttlInSeconds, refreshAheadRatio))
                 .orElse(60L);
         schedule(new FetchTokenFromSphereMessage(), delayInSecondsToFetchNewToken, TimeUnit.SECONDS);
     }
 
     static Long selectNextRetryTime(final Long ttlInSeconds) {
+        return selectNextRetryTime(ttlInSeconds, 0.5);
+    }
+
+    static Long selectNextRetryTime(final Long ttlInSeconds, final double refreshAheadRatio) {
         final long aDay = 60 * 60 * 24L;
-        final long minimum = Math.min(ttlInSeconds / 2, aDay);
+        final long minimum = Math.min((long) (ttlInSeconds * refreshAheadRatio), aDay);
         final long aSecond = 1L;
         return Math.max(minimum, aSecond);
     }
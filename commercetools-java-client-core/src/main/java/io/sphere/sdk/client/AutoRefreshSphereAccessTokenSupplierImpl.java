@@ -12,6 +12,7 @@ import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 
@@ -20,18 +21,25 @@ import static java.util.Arrays.asList;
 /**
  *  Holds OAuth access tokenCache for accessing protected Sphere HTTP API endpoints.
  *  Refreshes the access token as needed automatically.
+ *
+ *  <p>The token is renewed in the background after {@code refreshAheadRatio} of its lifetime, the requests use the cached token meanwhile.
+ *  Concurrent calls of {@link #getNewToken()}, for example from requests failing with an invalid token, share one token fetch.</p>
  */
 final class AutoRefreshSphereAccessTokenSupplierImpl extends AutoCloseableService implements RefreshableSphereAccessTokenSupplier {
     private final TokensSupplier tokensSupplier;//managed by the authActor
     private volatile CompletableFuture<String> currentAccessTokenFuture = new CompletableFuture<>();
     private volatile Optional<Tokens> currentTokensOption = Optional.empty();
+    private final AtomicReference<CompletableFuture<String>> pendingNewTokenFuture = new AtomicReference<>();
     private final Actor authActor;
     private final List<RetryRule> retryRules = createRules();
     private final AsyncRetrySupervisor supervisor = AsyncRetrySupervisor.of(retryRules);
 
-    private AutoRefreshSphereAccessTokenSupplierImpl(final SphereAuthConfig config, final HttpClient httpClient, final boolean closeHttpClient) {
+    private AutoRefreshSphereAccessTokenSupplierImpl(final SphereAuthConfig config, final HttpClient httpClient, final boolean closeHttpClient, final double refreshAheadRatio) {
+        if (refreshAheadRatio <= 0 || refreshAheadRatio >= 1) {
+            throw new IllegalArgumentException("refreshAheadRatio must be between 0 and 1 exclusive but was " + refreshAheadRatio);
+        }
         tokensSupplier = TokensSupplierImpl.of(config, httpClient, closeHttpClient);
-        authActor = new AuthActor(tokensSupplier, this::supervisedTokenSupplier, this::requestUpdateTokens, this::requestUpdateFailedStatus);
+        authActor = new AuthActor(tokensSupplier, this::supervisedTokenSupplier, this::requestUpdateTokens, this::requestUpdateFailedStatus, refreshAheadRatio);
         authActor.tell(new AuthActorProtocol.FetchTokenFromSphereMessage());
     }
 
@@ -43,7 +51,7 @@ final class AutoRefreshSphereAccessTokenSupplierImpl extends AutoCloseableServic
             return unknownHost || unauthorized;
         };
         final RetryRule fatalRetryRule = RetryRule.of(isFatal, RetryAction.ofShutdownServiceAndSendLatestException());
-        final RetryRule retryScheduledRetryRule = RetryRule.of(RetryPredicate.ofAlwaysTrue(), RetryAction.ofScheduledRetry(2, retryContext -> Duration.ofMillis(retryContext.getAttempt() * retryContext.getAttempt() * 50)));
+        final RetryRule retryScheduledRetryRule = RetryRule.of(RetryPredicate.ofAlwaysTrue(), RetryAction.ofScheduledRetry(2, RetryBackoff.ofDecorrelatedJitter(Duration.ofMillis(50), Duration.ofMillis(500))));
         return asList(fatalRetryRule, retryScheduledRetryRule);
     }
 
@@ -59,14 +67,21 @@ final class AutoRefreshSphereAccessTokenSupplierImpl extends AutoCloseableServic
 
     @Override
     public CompletionStage<String> getNewToken() {
-        authActor.tell(new AuthActorProtocol.FetchTokenFromSphereMessage());
         /*
-        Two times a token will be fetched, once to update the cached token
-        and the other time to get a new token to the caller.
-        This way it minimizes the possibility of race conditions but is less effective.
-        But this should be okay since it should be a rare case that his happens.
+        All callers wait for the next token fetched by the auth actor, which also updates the cached token,
+        so a burst of requests with an invalid token causes only one token request.
          */
-        return tokensSupplier.get().thenApplyAsync(tokens -> tokens.getAccessToken());
+        while (true) {
+            final CompletableFuture<String> pendingFuture = pendingNewTokenFuture.get();
+            if (pendingFuture != null) {
+                return pendingFuture;
+            }
+            final CompletableFuture<String> newTokenFuture = new CompletableFuture<>();
+            if (pendingNewTokenFuture.compareAndSet(null, newTokenFuture)) {
+                authActor.tell(new AuthActorProtocol.FetchTokenFromSphereMessage());
+                return newTokenFuture;
+            }
+        }
     }
 
     @Override
@@ -76,10 +91,18 @@ final class AutoRefreshSphereAccessTokenSupplierImpl extends AutoCloseableServic
     }
 
     public static SphereAccessTokenSupplier createAndBeginRefreshInBackground(final SphereAuthConfig config, final HttpClient httpClient, final boolean closeHttpClient) {
-        return new AutoRefreshSphereAccessTokenSupplierImpl(config, httpClient, closeHttpClient);
+        return createAndBeginRefreshInBackground(config, httpClient, closeHttpClient, 0.5);
+    }
+
+    public static SphereAccessTokenSupplier createAndBeginRefreshInBackground(final SphereAuthConfig config, final HttpClient httpClient, final boolean closeHttpClient, final double refreshAheadRatio) {
+        return new AutoRefreshSphereAccessTokenSupplierImpl(config, httpClient, closeHttpClient, refreshAheadRatio);
     }
 
     private void requestUpdateTokens(final Tokens tokens) {
+        final CompletableFuture<String> pendingFuture = pendingNewTokenFuture.getAndSet(null);
+        if (pendingFuture != null) {
+            pendingFuture.complete(tokens.getAccessToken());
+        }
         if (!currentTokensOption.isPresent() || currentTokenIsOlder(tokens)) {
             currentTokensOption = Optional.ofNullable(tokens);
             final String accessToken = tokens.getAccessToken();
@@ -92,6 +115,10 @@ final class AutoRefreshSphereAccessTokenSupplierImpl extends AutoCloseableServic
     }
 
     private void requestUpdateFailedStatus(final Throwable error) {
+        final CompletableFuture<String> pendingFuture = pendingNewTokenFuture.getAndSet(null);
+        if (pendingFuture != null) {
+            pendingFuture.completeExceptionally(error);
+        }
         if (!currentTokensOption.isPresent()) {
             currentAccessTokenFuture.completeExceptionally(error);
         } else if (lastTokenIsStillValid()) {
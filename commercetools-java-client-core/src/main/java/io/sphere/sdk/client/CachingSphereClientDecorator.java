@@ -0,0 +1,261 @@
+package io.sphere.sdk.client;
+
+import io.sphere.sdk.http.HttpHeaders;
+import io.sphere.sdk.http.HttpMethod;
+import io.sphere.sdk.http.HttpResponse;
+import io.sphere.sdk.utils.CompletableFutureUtils;
+
+import javax.annotation.Nullable;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Wraps a {@link SphereClient} to cache the responses of GET requests for slowly changing data like product types, tax categories,
+ * zones, shipping methods or channels.
+ *
+ * <p>The cache key is the path with the query and the headers of the {@link HttpRequestIntent}. The cache stores the raw
+ * {@link HttpResponse} and every hit deserializes it again with {@link SphereRequest#deserialize(HttpResponse)} of the current request,
+ * so callers never share result objects. Only responses with status 200 of endpoints with a time to live in the {@link ResponseCacheConfig} are stored,
+ * if the total size of the bodies exceeds the limit, the least recently used responses are evicted.</p>
+ *
+ * <p>If an expired response has an {@code ETag} header, it is revalidated with {@code If-None-Match}, and a 304 response renews the cached one.
+ * With {@link ResponseCacheConfig#withStaleWhileRevalidate(java.time.Duration)} expired responses are returned immediately for a while
+ * and refreshed in the background, only one refresh per response runs at a time.</p>
+ *
+ * <p>The counters are available with {@link #getMetrics()}.</p>
+ */
+public final class CachingSphereClientDecorator extends SphereClientDecorator implements SphereClient {
+    private static final int NOT_MODIFIED_304 = 304;
+    private static final int OK_200 = 200;
+    private final ResponseCacheConfig config;
+    private final LinkedHashMap<CacheKey, CachedResponse> cache = new LinkedHashMap<>(16, 0.75f, true);//guarded by cache
+    private long sizeInBytes = 0;//guarded by cache
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder staleHits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder revalidations = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    private CachingSphereClientDecorator(final SphereClient delegate, final ResponseCacheConfig config) {
+        super(delegate);
+        this.config = config;
+    }
+
+    /**
+     * Creates a caching client.
+     *
+     * @param delegate the client which performs the requests
+     * @param config the size of the cache and the time to live per endpoint
+     * @return client
+     */
+    public static CachingSphereClientDecorator of(final SphereClient delegate, final ResponseCacheConfig config) {
+        return new CachingSphereClientDecorator(delegate, config);
+    }
+
+    @Override
+    public <T> CompletionStage<T> execute(final SphereRequest<T> sphereRequest) {
+        final HttpRequestIntent httpRequestIntent = sphereRequest.httpRequestIntent();
+        if (httpRequestIntent.getHttpMethod() != HttpMethod.GET || httpRequestIntent.getBody() != null) {
+            return super.execute(sphereRequest);
+        }
+        final long ttlNanos = config.getTtl(Endpoints.resource(httpRequestIntent.getPath())).toNanos();
+        if (ttlNanos <= 0) {
+            return super.execute(sphereRequest);
+        }
+        final CacheKey key = new CacheKey(httpRequestIntent);
+        final CachedResponse cachedResponse = get(key);
+        final long nowNanos = System.nanoTime();
+        if (cachedResponse != null && nowNanos - cachedResponse.expiresAtNanos < 0) {
+            hits.increment();
+            return deserializeCached(sphereRequest, cachedResponse);
+        }
+        if (cachedResponse != null && nowNanos - cachedResponse.expiresAtNanos < config.getStaleWhileRevalidate().toNanos()) {
+            staleHits.increment();
+            if (cachedResponse.revalidating.compareAndSet(false, true)) {
+                fetch(sphereRequest, key, cachedResponse, ttlNanos)
+                        .whenComplete((value, throwable) -> cachedResponse.revalidating.set(false));
+            }
+            return deserializeCached(sphereRequest, cachedResponse);
+        }
+        misses.increment();
+        return fetch(sphereRequest, key, cachedResponse, ttlNanos);
+    }
+
+    /**
+     * Takes a snapshot of the counters and the size of the cache.
+     *
+     * @return metrics
+     */
+    public ResponseCacheMetrics getMetrics() {
+        final int entries;
+        final long currentSizeInBytes;
+        synchronized (cache) {
+            entries = cache.size();
+            currentSizeInBytes = sizeInBytes;
+        }
+        return ResponseCacheMetrics.of(hits.sum(), staleHits.sum(), misses.sum(), revalidations.sum(), evictions.sum(), entries, currentSizeInBytes);
+    }
+
+    /**
+     * Removes all cached responses.
+     */
+    public void invalidateAll() {
+        synchronized (cache) {
+            cache.clear();
+            sizeInBytes = 0;
+        }
+    }
+
+    private <T> CompletionStage<T> fetch(final SphereRequest<T> sphereRequest, final CacheKey key,
+                                         @Nullable final CachedResponse cachedResponse, final long ttlNanos) {
+        return super.execute(new CachingSphereRequest<>(sphereRequest, key, cachedResponse, ttlNanos));
+    }
+
+    private static <T> CompletionStage<T> deserializeCached(final SphereRequest<T> sphereRequest, final CachedResponse cachedResponse) {
+        try {
+            return CompletableFutureUtils.successful(sphereRequest.deserialize(cachedResponse.httpResponse));
+        } catch (final RuntimeException e) {
+            return CompletableFutureUtils.failed(e);
+        }
+    }
+
+    @Nullable
+    private CachedResponse get(final CacheKey key) {
+        synchronized (cache) {
+            return cache.get(key);
+        }
+    }
+
+    private void put(final CacheKey key, final CachedResponse cachedResponse) {
+        synchronized (cache) {
+            final CachedResponse replaced = cache.put(key, cachedResponse);
+            sizeInBytes += cachedResponse.sizeInBytes - (replaced != null ? replaced.sizeInBytes : 0);
+            final Iterator<CachedResponse> iterator = cache.values().iterator();
+            while (sizeInBytes > config.getMaxSizeInBytes() && iterator.hasNext()) {
+                sizeInBytes -= iterator.next().sizeInBytes;
+                iterator.remove();
+                evictions.increment();
+            }
+        }
+    }
+
+    @Nullable
+    private static String findETag(final HttpResponse httpResponse) {
+        final HttpHeaders headers = httpResponse.getHeaders();
+        return headers.findFlatHeader(HttpHeaders.ETAG)
+                .orElseGet(() -> headers.findFlatHeader(HttpHeaders.ETAG.toLowerCase()).orElse(null));
+    }
+
+    /**
+     * Sends the request conditionally if the expired response has an ETag and stores the response before it is deserialized.
+     */
+    private final class CachingSphereRequest<T> extends SphereRequestDecorator<T> {
+        private final CacheKey key;
+        @Nullable
+        private final CachedResponse expiredResponse;
+        private final long ttlNanos;
+
+        private CachingSphereRequest(final SphereRequest<T> delegate, final CacheKey key, @Nullable final CachedResponse expiredResponse, final long ttlNanos) {
+            super(delegate);
+            this.key = key;
+            this.expiredResponse = expiredResponse;
+            this.ttlNanos = ttlNanos;
+        }
+
+        @Override
+        public HttpRequestIntent httpRequestIntent() {
+            final HttpRequestIntent httpRequestIntent = super.httpRequestIntent();
+            return expiredResponse != null && expiredResponse.etag != null
+                    ? httpRequestIntent.plusHeader(HttpHeaders.IF_NONE_MATCH, expiredResponse.etag)
+                    : httpRequestIntent;
+        }
+
+        @Override
+        public boolean canDeserialize(final HttpResponse httpResponse) {
+            return isNotModified(httpResponse) || super.canDeserialize(httpResponse);
+        }
+
+        @Override
+        public T deserialize(final HttpResponse httpResponse) {
+            if (isNotModified(httpResponse)) {
+                revalidations.increment();
+                put(key, expiredResponse.renew(System.nanoTime() + ttlNanos));
+                return super.deserialize(expiredResponse.httpResponse);
+            }
+            final Integer statusCode = httpResponse.getStatusCode();
+            if (statusCode != null && statusCode == OK_200) {
+                final byte[] body = httpResponse.getResponseBody();
+                if (body != null) {
+                    final HttpResponse bufferedResponse = HttpResponse.of(statusCode, body, null, httpResponse.getHeaders());
+                    put(key, new CachedResponse(bufferedResponse, findETag(bufferedResponse), System.nanoTime() + ttlNanos, body.length + key.path.length()));
+                }
+            }
+            return super.deserialize(httpResponse);
+        }
+
+        private boolean isNotModified(final HttpResponse httpResponse) {
+            final Integer statusCode = httpResponse.getStatusCode();
+            return expiredResponse != null && statusCode != null && statusCode == NOT_MODIFIED_304;
+        }
+
+        @Override
+        public String toString() {
+            return delegate.toString();//the reflective default would print the whole cache
+        }
+    }
+
+    private static final class CachedResponse {
+        private final HttpResponse httpResponse;
+        @Nullable
+        private final String etag;
+        private final long expiresAtNanos;
+        private final long sizeInBytes;
+        private final AtomicBoolean revalidating = new AtomicBoolean(false);
+
+        private CachedResponse(final HttpResponse httpResponse, @Nullable final String etag, final long expiresAtNanos, final long sizeInBytes) {
+            this.httpResponse = httpResponse;
+            this.etag = etag;
+            this.expiresAtNanos = expiresAtNanos;
+            this.sizeInBytes = sizeInBytes;
+        }
+
+        private CachedResponse renew(final long newExpiresAtNanos) {
+            return new CachedResponse(httpResponse, etag, newExpiresAtNanos, sizeInBytes);
+        }
+    }
+
+    private static final class CacheKey {
+        private final String path;
+        private final Map<String, List<String>> headers;
+        private final int hashCode;
+
+        private CacheKey(final HttpRequestIntent httpRequestIntent) {
+            this.path = httpRequestIntent.getPath();
+            this.headers = httpRequestIntent.getHeaders().getHeadersAsMap();
+            this.hashCode = Objects.hash(path, headers);
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof CacheKey)) {
+                return false;
+            }
+            final CacheKey that = (CacheKey) o;
+            return hashCode == that.hashCode && path.equals(that.path) && headers.equals(that.headers);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+}
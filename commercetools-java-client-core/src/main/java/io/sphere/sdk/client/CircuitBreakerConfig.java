@@ -0,0 +1,146 @@
+package io.sphere.sdk.client;
+
+import io.sphere.sdk.models.Base;
+
+import java.time.Duration;
+
+/**
+ * Thresholds of the circuit breakers of {@link CircuitBreakerSphereClientDecorator}.
+ *
+ * <pre>{@code
+ * final CircuitBreakerConfig circuitBreakerConfig = CircuitBreakerConfig.of()
+ *         .withSlowCallDuration(Duration.ofSeconds(2))
+ *         .withOpenDuration(Duration.ofSeconds(10));
+ * }</pre>
+ */
+public final class CircuitBreakerConfig extends Base {
+    private final double failureRateThreshold;
+    private final double slowCallRateThreshold;
+    private final Duration slowCallDuration;
+    private final int slidingWindowSize;
+    private final int minimumNumberOfCalls;
+    private final Duration openDuration;
+    private final int permittedCallsInHalfOpenState;
+
+    private CircuitBreakerConfig(final double failureRateThreshold, final double slowCallRateThreshold, final Duration slowCallDuration,
+                                 final int slidingWindowSize, final int minimumNumberOfCalls, final Duration openDuration,
+                                 final int permittedCallsInHalfOpenState) {
+        if (failureRateThreshold <= 0 || failureRateThreshold > 1) {
+            throw new IllegalArgumentException("failureRateThreshold must be greater than 0 and at most 1 but was " + failureRateThreshold);
+        }
+        if (slowCallRateThreshold <= 0 || slowCallRateThreshold > 1) {
+            throw new IllegalArgumentException("slowCallRateThreshold must be greater than 0 and at most 1 but was " + slowCallRateThreshold);
+        }
+        if (slidingWindowSize < 1 || minimumNumberOfCalls < 1 || permittedCallsInHalfOpenState < 1) {
+            throw new IllegalArgumentException("slidingWindowSize, minimumNumberOfCalls and permittedCallsInHalfOpenState must be positive");
+        }
+        this.failureRateThreshold = failureRateThreshold;
+        this.slowCallRateThreshold = slowCallRateThreshold;
+        this.slowCallDuration = slowCallDuration;
+        this.slidingWindowSize = slidingWindowSize;
+        this.minimumNumberOfCalls = minimumNumberOfCalls;
+        this.openDuration = openDuration;
+        this.permittedCallsInHalfOpenState = permittedCallsInHalfOpenState;
+    }
+
+    /**
+     * Creates a configuration which opens a circuit if at least 50% of the last 100 calls failed or took longer than 5 seconds,
+     * keeps it open for 30 seconds and then probes it with 5 calls.
+     *
+     * @return configuration
+     */
+    public static CircuitBreakerConfig of() {
+        return new CircuitBreakerConfig(0.5, 0.5, Duration.ofSeconds(5), 100, 20, Duration.ofSeconds(30), 5);
+    }
+
+    /**
+     * The part of the failed calls in the sliding window which opens the circuit.
+     *
+     * @return rate between 0 exclusive and 1 inclusive
+     */
+    public double getFailureRateThreshold() {
+        return failureRateThreshold;
+    }
+
+    /**
+     * The part of the slow calls in the sliding window which opens the circuit.
+     *
+     * @return rate between 0 exclusive and 1 inclusive
+     */
+    public double getSlowCallRateThreshold() {
+        return slowCallRateThreshold;
+    }
+
+    /**
+     * The duration from which on a call counts as slow, no matter if it succeeded.
+     *
+     * @return duration
+     */
+    public Duration getSlowCallDuration() {
+        return slowCallDuration;
+    }
+
+    /**
+     * The number of the latest calls of an endpoint from which the failure and slow call rates are calculated.
+     *
+     * @return number of calls
+     */
+    public int getSlidingWindowSize() {
+        return slidingWindowSize;
+    }
+
+    /**
+     * The number of calls which have to be recorded before the rates can open the circuit.
+     *
+     * @return number of calls
+     */
+    public int getMinimumNumberOfCalls() {
+        return minimumNumberOfCalls;
+    }
+
+    /**
+     * The time an open circuit rejects all calls before it lets probes through.
+     *
+     * @return duration
+     */
+    public Duration getOpenDuration() {
+        return openDuration;
+    }
+
+    /**
+     * The number of probe calls in the half open state, if all of them succeed fast enough the circuit closes again.
+     *
+     * @return number of calls
+     */
+    public int getPermittedCallsInHalfOpenState() {
+        return permittedCallsInHalfOpenState;
+    }
+
+    public CircuitBreakerConfig withFailureRateThreshold(final double failureRateThreshold) {
+        return new CircuitBreakerConfig(failureRateThreshold, slowCallRateThreshold, slowCallDuration, slidingWindowSize, minimumNumberOfCalls, openDuration, permittedCallsInHalfOpenState);
+    }
+
+    public CircuitBreakerConfig withSlowCallRateThreshold(final double slowCallRateThreshold) {
+        return new CircuitBreakerConfig(failureRateThreshold, slowCallRateThreshold, slowCallDuration, slidingWindowSize, minimumNumberOfCalls, openDuration, permittedCallsInHalfOpenState);
+    }
+
+    public CircuitBreakerConfig withSlowCallDuration(final Duration slowCallDuration) {
+        return new CircuitBreakerConfig(failureRateThreshold, slowCallRateThreshold, slowCallDuration, slidingWindowSize, minimumNumberOfCalls, openDuration, permittedCallsInHalfOpenState);
+    }
+
+    public CircuitBreakerConfig withSlidingWindowSize(final int slidingWindowSize) {
+        return new CircuitBreakerConfig(failureRateThreshold, slowCallRateThreshold, slowCallDuration, slidingWindowSize, minimumNumberOfCalls, openDuration, permittedCallsInHalfOpenState);
+    }
+
+    public CircuitBreakerConfig withMinimumNumberOfCalls(final int minimumNumberOfCalls) {
+        return new CircuitBreakerConfig(failureRateThreshold, slowCallRateThreshold, slowCallDuration, slidingWindowSize, minimumNumberOfCalls, openDuration, permittedCallsInHalfOpenState);
+    }
+
+    public CircuitBreakerConfig withOpenDuration(final Duration openDuration) {
+        return new CircuitBreakerConfig(failureRateThreshold, slowCallRateThreshold, slowCallDuration, slidingWindowSize, minimumNumberOfCalls, openDuration, permittedCallsInHalfOpenState);
+    }
+
+    public CircuitBreakerConfig withPermittedCallsInHalfOpenState(final int permittedCallsInHalfOpenState) {
+        return new CircuitBreakerConfig(failureRateThreshold, slowCallRateThreshold, slowCallDuration, slidingWindowSize, minimumNumberOfCalls, openDuration, permittedCallsInHalfOpenState);
+    }
+}
@@ -0,0 +1,79 @@
+package io.sphere.sdk.client;
+
+import io.sphere.sdk.models.Base;
+
+/**
+ * Snapshot of the circuit breaker of one endpoint in {@link CircuitBreakerSphereClientDecorator}.
+ */
+public final class CircuitBreakerSnapshot extends Base {
+    private final String endpoint;
+    private final CircuitBreakerState state;
+    private final double failureRate;
+    private final double slowCallRate;
+    private final int bufferedCalls;
+    private final long rejectedCalls;
+
+    private CircuitBreakerSnapshot(final String endpoint, final CircuitBreakerState state, final double failureRate,
+                                   final double slowCallRate, final int bufferedCalls, final long rejectedCalls) {
+        this.endpoint = endpoint;
+        this.state = state;
+        this.failureRate = failureRate;
+        this.slowCallRate = slowCallRate;
+        this.bufferedCalls = bufferedCalls;
+        this.rejectedCalls = rejectedCalls;
+    }
+
+    public static CircuitBreakerSnapshot of(final String endpoint, final CircuitBreakerState state, final double failureRate,
+                                            final double slowCallRate, final int bufferedCalls, final long rejectedCalls) {
+        return new CircuitBreakerSnapshot(endpoint, state, failureRate, slowCallRate, bufferedCalls, rejectedCalls);
+    }
+
+    /**
+     * The endpoint like {@code /product-projections/search}.
+     *
+     * @return endpoint
+     */
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    public CircuitBreakerState getState() {
+        return state;
+    }
+
+    /**
+     * The part of the failed calls in the sliding window.
+     *
+     * @return rate between 0 and 1
+     */
+    public double getFailureRate() {
+        return failureRate;
+    }
+
+    /**
+     * The part of the slow calls in the sliding window.
+     *
+     * @return rate between 0 and 1
+     */
+    public double getSlowCallRate() {
+        return slowCallRate;
+    }
+
+    /**
+     * The number of calls in the sliding window.
+     *
+     * @return number of calls
+     */
+    public int getBufferedCalls() {
+        return bufferedCalls;
+    }
+
+    /**
+     * The number of calls which have been rejected since the decorator has been created.
+     *
+     * @return number of calls
+     */
+    public long getRejectedCalls() {
+        return rejectedCalls;
+    }
+}
@@ -0,0 +1,250 @@
+package io.sphere.sdk.client;
+
+import io.sphere.sdk.http.HttpException;
+import io.sphere.sdk.utils.CompletableFutureUtils;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import static java.util.stream.Collectors.toList;
+
+/**
+ * Wraps a {@link SphereClient} with one circuit breaker per endpoint, so requests to a degraded endpoint fail fast
+ * with {@link SphereCircuitBreakerOpenException} instead of piling up until they time out, while other endpoints stay usable.
+ *
+ * <p>The endpoint consists of the leading fixed path segments of {@link SphereRequest#httpRequestIntent()}, for example
+ * {@code /product-projections/search} or {@code /carts}, IDs and keys are not part of it.</p>
+ *
+ * <p>Each circuit breaker records the outcomes of the latest calls in a sliding window. Server errors (5xx), timeouts and
+ * connection errors count as failures, calls which take longer than {@link CircuitBreakerConfig#getSlowCallDuration()} count as slow.
+ * If the failure rate or the slow call rate reaches its threshold, the circuit opens and rejects all calls of the endpoint.
+ * After {@link CircuitBreakerConfig#getOpenDuration()} it lets some probe calls through, if all of them succeed fast enough
+ * the circuit closes, otherwise it opens again.</p>
+ *
+ * <p>The states can be monitored with {@link #getSnapshots()}.</p>
+ */
+public final class CircuitBreakerSphereClientDecorator extends SphereClientDecorator implements SphereClient {
+    private final CircuitBreakerConfig config;
+    private final ConcurrentMap<String, CircuitBreaker> circuitBreakers = new ConcurrentHashMap<>();
+
+    private CircuitBreakerSphereClientDecorator(final SphereClient delegate, final CircuitBreakerConfig config) {
+        super(delegate);
+        this.config = config;
+    }
+
+    /**
+     * Creates a client with the defaults of {@link CircuitBreakerConfig#of()}.
+     *
+     * @param delegate the client which performs the requests
+     * @return client
+     */
+    public static CircuitBreakerSphereClientDecorator of(final SphereClient delegate) {
+        return of(delegate, CircuitBreakerConfig.of());
+    }
+
+    /**
+     * Creates a client.
+     *
+     * @param delegate the client which performs the requests
+     * @param config the thresholds for all endpoints
+     * @return client
+     */
+    public static CircuitBreakerSphereClientDecorator of(final SphereClient delegate, final CircuitBreakerConfig config) {
+        return new CircuitBreakerSphereClientDecorator(delegate, config);
+    }
+
+    @Override
+    public <T> CompletionStage<T> execute(final SphereRequest<T> sphereRequest) {
+        final String endpoint = Endpoints.fixedPrefix(sphereRequest.httpRequestIntent().getPath());
+        final CircuitBreaker circuitBreaker = circuitBreakerFor(endpoint);
+        final long startNanos = System.nanoTime();
+        final long permit = circuitBreaker.tryAcquire(startNanos);
+        if (permit < 0) {
+            return CompletableFutureUtils.failed(new SphereCircuitBreakerOpenException(endpoint));
+        }
+        final CompletionStage<T> result;
+        try {
+            result = super.execute(sphereRequest);
+        } catch (final RuntimeException e) {
+            circuitBreaker.onComplete(permit, true, false, System.nanoTime());
+            return CompletableFutureUtils.failed(e);
+        }
+        result.whenComplete((value, throwable) -> {
+            final long endNanos = System.nanoTime();
+            final Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null ? throwable.getCause() : throwable;
+            if (cause instanceof SphereCircuitBreakerOpenException) {
+                circuitBreaker.release(permit);
+            } else {
+                final boolean slow = endNanos - startNanos >= config.getSlowCallDuration().toNanos();
+                circuitBreaker.onComplete(permit, isFailure(cause), slow, endNanos);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * The state of the circuit breaker of an endpoint.
+     *
+     * @param endpoint the endpoint like {@code /product-projections/search}
+     * @return state, {@link CircuitBreakerState#CLOSED} for endpoints without requests
+     */
+    public CircuitBreakerState getState(final String endpoint) {
+        return Optional.ofNullable(circuitBreakers.get(endpoint))
+                .map(circuitBreaker -> circuitBreaker.snapshot(endpoint).getState())
+                .orElse(CircuitBreakerState.CLOSED);
+    }
+
+    /**
+     * Takes a snapshot of the circuit breakers of all endpoints which have been requested.
+     *
+     * @return snapshots
+     */
+    public List<CircuitBreakerSnapshot> getSnapshots() {
+        return circuitBreakers.entrySet().stream()
+                .map((Map.Entry<String, CircuitBreaker> entry) -> entry.getValue().snapshot(entry.getKey()))
+                .collect(toList());
+    }
+
+    private CircuitBreaker circuitBreakerFor(final String endpoint) {
+        final CircuitBreaker existing = circuitBreakers.get(endpoint);
+        return existing != null ? existing : circuitBreakers.computeIfAbsent(endpoint, e -> new CircuitBreaker(config));
+    }
+
+    private static boolean isFailure(final Throwable cause) {
+        if (cause instanceof SphereServiceException) {
+            final Integer statusCode = ((SphereServiceException) cause).getStatusCode();
+            return statusCode != null && statusCode >= 500;
+        }
+        return cause instanceof SphereTimeoutException || cause instanceof HttpException;
+    }
+
+    /**
+     * Circuit breaker of one endpoint. The permit returned by {@link #tryAcquire(long)} is the generation of the state,
+     * so outcomes of calls which started before a state change are ignored.
+     */
+    static final class CircuitBreaker {
+        private final CircuitBreakerConfig config;
+        private final boolean[] failures;
+        private final boolean[] slowCalls;
+        private final int minimumNumberOfCalls;
+        private CircuitBreakerState state = CircuitBreakerState.CLOSED;
+        private long generation = 0;
+        private int position = 0;
+        private int bufferedCalls = 0;
+        private int failureCount = 0;
+        private int slowCallCount = 0;
+        private long openedAtNanos;
+        private int halfOpenPermits = 0;
+        private int halfOpenSuccesses = 0;
+        private long rejectedCalls = 0;
+
+        CircuitBreaker(final CircuitBreakerConfig config) {
+            this.config = config;
+            this.failures = new boolean[config.getSlidingWindowSize()];
+            this.slowCalls = new boolean[config.getSlidingWindowSize()];
+            this.minimumNumberOfCalls = Math.min(config.getMinimumNumberOfCalls(), config.getSlidingWindowSize());
+        }
+
+        /**
+         * Checks if a call may pass.
+         *
+         * @return the permit to report the outcome or -1 if the call is rejected
+         */
+        synchronized long tryAcquire(final long nowNanos) {
+            if (state == CircuitBreakerState.OPEN) {
+                if (nowNanos - openedAtNanos < config.getOpenDuration().toNanos()) {
+                    rejectedCalls++;
+                    return -1;
+                }
+                transitionTo(CircuitBreakerState.HALF_OPEN);
+                halfOpenPermits = config.getPermittedCallsInHalfOpenState();
+                halfOpenSuccesses = 0;
+            }
+            if (state == CircuitBreakerState.HALF_OPEN) {
+                if (halfOpenPermits == 0) {
+                    rejectedCalls++;
+                    return -1;
+                }
+                halfOpenPermits--;
+            }
+            return generation;
+        }
+
+        synchronized void onComplete(final long permit, final boolean failed, final boolean slow, final long nowNanos) {
+            if (permit != generation) {
+                return;
+            }
+            if (state == CircuitBreakerState.HALF_OPEN) {
+                if (failed || slow) {
+                    open(nowNanos);
+                } else if (++halfOpenSuccesses >= config.getPermittedCallsInHalfOpenState()) {
+                    resetWindow();
+                    transitionTo(CircuitBreakerState.CLOSED);
+                }
+            } else if (state == CircuitBreakerState.CLOSED) {
+                record(failed, slow);
+                if (bufferedCalls >= minimumNumberOfCalls
+                        && (failureRate() >= config.getFailureRateThreshold() || slowCallRate() >= config.getSlowCallRateThreshold())) {
+                    open(nowNanos);
+                }
+            }
+        }
+
+        /**
+         * Returns the permit of a call which has not reached the endpoint.
+         */
+        synchronized void release(final long permit) {
+            if (permit == generation && state == CircuitBreakerState.HALF_OPEN) {
+                halfOpenPermits++;
+            }
+        }
+
+        synchronized CircuitBreakerSnapshot snapshot(final String endpoint) {
+            return CircuitBreakerSnapshot.of(endpoint, state, failureRate(), slowCallRate(), bufferedCalls, rejectedCalls);
+        }
+
+        private void record(final boolean failed, final boolean slow) {
+            if (bufferedCalls == failures.length) {
+                failureCount -= failures[position] ? 1 : 0;
+                slowCallCount -= slowCalls[position] ? 1 : 0;
+            } else {
+                bufferedCalls++;
+            }
+            failures[position] = failed;
+            slowCalls[position] = slow;
+            failureCount += failed ? 1 : 0;
+            slowCallCount += slow ? 1 : 0;
+            position = (position + 1) % failures.length;
+        }
+
+        private void open(final long nowNanos) {
+            openedAtNanos = nowNanos;
+            transitionTo(CircuitBreakerState.OPEN);
+        }
+
+        private void transitionTo(final CircuitBreakerState newState) {
+            state = newState;
+            generation++;
+        }
+
+        private void resetWindow() {
+            position = 0;
+            bufferedCalls = 0;
+            failureCount = 0;
+            slowCallCount = 0;
+        }
+
+        private double failureRate() {
+            return bufferedCalls == 0 ? 0 : (double) failureCount / bufferedCalls;
+        }
+
+        private double slowCallRate() {
+            return bufferedCalls == 0 ? 0 : (double) slowCallCount / bufferedCalls;
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package io.sphere.sdk.client;
+
+/**
+ * State of the circuit breaker of one endpoint in {@link CircuitBreakerSphereClientDecorator}.
+ */
+public enum CircuitBreakerState {
+    /**
+     * Calls pass and their outcomes are recorded.
+     */
+    CLOSED,
+    /**
+     * Calls fail immediately with {@link SphereCircuitBreakerOpenException}.
+     */
+    OPEN,
+    /**
+     * A limited number of probe calls pass to decide if the circuit closes again.
+     */
+    HALF_OPEN
+}
@@ -0,0 +1,91 @@
+package io.sphere.sdk.client;
+
+/**
+ * Derives the endpoint of a request path, so all decorators and the metrics group requests the same way.
+ *
+ * <p>Fixed segments consist of lowercase letters and hyphens like {@code product-projections} or {@code search},
+ * other segments are IDs, keys or numbers of a resource. The query is never part of the endpoint.</p>
+ *
+ * <p>This class is an internal helper of the SDK and not meant to be used by applications.</p>
+ */
+public final class Endpoints {
+    private static final int MAX_FIXED_SEGMENTS = 2;
+
+    private Endpoints() {
+    }
+
+    /**
+     * Replaces the variable segments of {@code path} by placeholders, so {@code /products/6b2f...?expand=productType}
+     * becomes {@code /products/{id}} and {@code /products/key=shoe-42} becomes {@code /products/key={value}}.
+     *
+     * @param path the path of a request
+     * @return endpoint with all segments
+     */
+    public static String normalize(final String path) {
+        return endpoint(path, Integer.MAX_VALUE, false);
+    }
+
+    /**
+     * The first segment of {@code path} like {@code /products} or {@code /carts}.
+     *
+     * @param path the path of a request
+     * @return endpoint with one segment
+     */
+    static String resource(final String path) {
+        return endpoint(path, 1, false);
+    }
+
+    /**
+     * The leading fixed segments of {@code path}, at most two, like {@code /product-projections/search} or {@code /carts}.
+     *
+     * @param path the path of a request
+     * @return endpoint without placeholders
+     */
+    static String fixedPrefix(final String path) {
+        return endpoint(path, MAX_FIXED_SEGMENTS, true);
+    }
+
+    private static String endpoint(final String path, final int maxSegments, final boolean onlyFixedSegments) {
+        final int queryStart = path.indexOf('?');
+        final int end = queryStart < 0 ? path.length() : queryStart;
+        final StringBuilder builder = new StringBuilder(end);
+        int segmentStart = 0;
+        int segments = 0;
+        while (segmentStart < end && segments < maxSegments) {
+            final int slash = path.indexOf('/', segmentStart);
+            final int segmentEnd = slash < 0 || slash > end ? end : slash;
+            if (segmentEnd > segmentStart) {
+                if (isFixedSegment(path, segmentStart, segmentEnd)) {
+                    builder.append('/').append(path, segmentStart, segmentEnd);
+                } else if (onlyFixedSegments) {
+                    break;
+                } else {
+                    appendPlaceholder(builder, path, segmentStart, segmentEnd);
+                }
+                segments++;
+            }
+            segmentStart = segmentEnd + 1;
+        }
+        return builder.length() == 0 ? "/" : builder.toString();
+    }
+
+    private static void appendPlaceholder(final StringBuilder builder, final String path, final int start, final int end) {
+        builder.append('/');
+        final int equalsSign = path.indexOf('=', start);
+        if (equalsSign >= 0 && equalsSign < end) {
+            builder.append(path, start, equalsSign + 1).append("{value}");
+        } else {
+            builder.append("{id}");
+        }
+    }
+
+    private static boolean isFixedSegment(final String path, final int start, final int end) {
+        for (int i = start; i < end; i++) {
+            final char c = path.charAt(i);
+            if (!(c >= 'a' && c <= 'z') && c != '-') {
+                return false;
+            }
+        }
+        return true;
+    }
+}
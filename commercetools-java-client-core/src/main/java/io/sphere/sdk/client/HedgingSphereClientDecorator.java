@@ -0,0 +1,227 @@
+package io.sphere.sdk.client;
+
+import io.sphere.sdk.http.HttpMethod;
+import io.sphere.sdk.search.Search;
+import io.sphere.sdk.utils.HashedWheelTimer;
+
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Wraps a {@link SphereClient} to cut the tail latency of reads by sending a second identical request if the first one takes unusually long.
+ *
+ * <p>For each endpoint the decorator keeps the latencies of the latest requests. If a request is still outstanding after
+ * the configured percentile of these latencies, for example the 95th, the same request is sent again and the first response wins,
+ * the slower response is ignored. Only one of the two has to succeed.</p>
+ *
+ * <p>Only requests without side effects are hedged: GET and HEAD requests and searches like
+ * {@code ProductProjectionSearch}, which are sent as POST. All other requests pass unchanged.
+ * The hedges are limited by a budget, each request allows {@code maxHedgeRatio} hedges, so a slow platform
+ * receives at most this part of additional requests. Until enough latencies are known for an endpoint, nothing is hedged.</p>
+ *
+ * <p>The delays are scheduled with {@link HashedWheelTimer#shared()}, which has a resolution of 10 milliseconds.</p>
+ */
+public final class HedgingSphereClientDecorator extends SphereClientDecorator implements SphereClient {
+    private static final int LATENCY_SAMPLES = 512;
+    private static final int MIN_SAMPLES = 64;
+    private static final double MAX_HEDGE_BURST = 10;
+    private final HashedWheelTimer timer = HashedWheelTimer.shared();
+    private final ConcurrentMap<String, LatencyTracker> latencyTrackers = new ConcurrentHashMap<>();
+    private final double percentile;
+    private final double maxHedgeRatio;
+    private final LongAdder hedgedRequests = new LongAdder();
+    private double hedgeBalance = MAX_HEDGE_BURST;//guarded by this
+
+    private HedgingSphereClientDecorator(final SphereClient delegate, final double percentile, final double maxHedgeRatio) {
+        super(delegate);
+        if (percentile <= 0 || percentile >= 1) {
+            throw new IllegalArgumentException("percentile must be between 0 and 1 exclusive but was " + percentile);
+        }
+        if (maxHedgeRatio <= 0 || maxHedgeRatio > 1) {
+            throw new IllegalArgumentException("maxHedgeRatio must be greater than 0 and at most 1 but was " + maxHedgeRatio);
+        }
+        this.percentile = percentile;
+        this.maxHedgeRatio = maxHedgeRatio;
+    }
+
+    /**
+     * Creates a client which hedges requests outstanding longer than the 95th percentile of their endpoint, for at most 5% of the requests.
+     *
+     * @param delegate the client which performs the requests
+     * @return client
+     */
+    public static HedgingSphereClientDecorator of(final SphereClient delegate) {
+        return of(delegate, 0.95, 0.05);
+    }
+
+    /**
+     * Creates a client.
+     *
+     * @param delegate the client which performs the requests
+     * @param percentile the percentile of the latencies of an endpoint after which a request is hedged, for example 0.95
+     * @param maxHedgeRatio the maximal part of additional requests, for example 0.05 for 5%
+     * @return client
+     */
+    public static HedgingSphereClientDecorator of(final SphereClient delegate, final double percentile, final double maxHedgeRatio) {
+        return new HedgingSphereClientDecorator(delegate, percentile, maxHedgeRatio);
+    }
+
+    @Override
+    public <T> CompletionStage<T> execute(final SphereRequest<T> sphereRequest) {
+        final HttpRequestIntent httpRequestIntent = sphereRequest.httpRequestIntent();
+        if (!isHedgeable(sphereRequest, httpRequestIntent)) {
+            return super.execute(sphereRequest);
+        }
+        final LatencyTracker latencyTracker = latencyTrackerFor(Endpoints.fixedPrefix(httpRequestIntent.getPath()));
+        depositHedge();
+        final long hedgeDelayNanos = latencyTracker.getHedgeDelayNanos();
+        final long startNanos = System.nanoTime();
+        final CompletionStage<T> primary = super.execute(sphereRequest);
+        if (hedgeDelayNanos <= 0) {
+            primary.whenComplete((value, throwable) -> recordLatency(latencyTracker, startNanos, throwable));
+            return primary;
+        }
+        final CompletableFuture<T> result = new CompletableFuture<>();
+        final AtomicInteger outstandingAttempts = new AtomicInteger(1);
+        primary.whenComplete((value, throwable) -> {
+            recordLatency(latencyTracker, startNanos, throwable);
+            completeAttempt(result, outstandingAttempts, value, throwable);
+        });
+        if (result.isDone()) {
+            return result;
+        }
+        final HashedWheelTimer.Timeout hedgeTimeout = timer.schedule(() -> {
+            if (!result.isDone() && tryAcquireHedge() && incrementIfOutstanding(outstandingAttempts)) {
+                hedgedRequests.increment();
+                final CompletionStage<T> hedge;
+                try {
+                    hedge = super.execute(sphereRequest);
+                } catch (final RuntimeException e) {
+                    completeAttempt(result, outstandingAttempts, null, e);
+                    return;
+                }
+                hedge.whenComplete((value, throwable) -> completeAttempt(result, outstandingAttempts, value, throwable));
+            }
+        }, hedgeDelayNanos, TimeUnit.NANOSECONDS, ForkJoinPool.commonPool());
+        result.whenComplete((value, throwable) -> hedgeTimeout.cancel());
+        return result;
+    }
+
+    /**
+     * The number of additional requests which have been sent.
+     *
+     * @return number of hedged requests
+     */
+    public long getHedgedRequests() {
+        return hedgedRequests.sum();
+    }
+
+    /**
+     * The current delay after which a request to an endpoint is hedged.
+     *
+     * @param endpoint the endpoint like {@code /product-projections/search}
+     * @return the delay in milliseconds or empty if not enough latencies are known
+     */
+    public Optional<Long> getHedgeDelayMillis(final String endpoint) {
+        return Optional.ofNullable(latencyTrackers.get(endpoint))
+                .map(LatencyTracker::getHedgeDelayNanos)
+                .filter(delayNanos -> delayNanos > 0)
+                .map(TimeUnit.NANOSECONDS::toMillis);
+    }
+
+    private static boolean isHedgeable(final SphereRequest<?> sphereRequest, final HttpRequestIntent httpRequestIntent) {
+        final HttpMethod httpMethod = httpRequestIntent.getHttpMethod();
+        return httpMethod == HttpMethod.GET || httpMethod == HttpMethod.HEAD || sphereRequest instanceof Search;
+    }
+
+    private static <T> void completeAttempt(final CompletableFuture<T> result, final AtomicInteger outstandingAttempts, final T value, final Throwable throwable) {
+        if (throwable == null) {
+            result.complete(value);
+        } else if (outstandingAttempts.decrementAndGet() == 0) {
+            result.completeExceptionally(throwable);
+        }
+    }
+
+    /**
+     * Registers the hedge as outstanding attempt unless all attempts already failed.
+     */
+    private static boolean incrementIfOutstanding(final AtomicInteger outstandingAttempts) {
+        while (true) {
+            final int current = outstandingAttempts.get();
+            if (current == 0) {
+                return false;
+            }
+            if (outstandingAttempts.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    private static void recordLatency(final LatencyTracker latencyTracker, final long startNanos, final Throwable throwable) {
+        if (throwable == null) {
+            latencyTracker.record(System.nanoTime() - startNanos);
+        }
+    }
+
+    private synchronized void depositHedge() {
+        hedgeBalance = Math.min(MAX_HEDGE_BURST, hedgeBalance + maxHedgeRatio);
+    }
+
+    private synchronized boolean tryAcquireHedge() {
+        if (hedgeBalance >= 1) {
+            hedgeBalance -= 1;
+            return true;
+        }
+        return false;
+    }
+
+    private LatencyTracker latencyTrackerFor(final String endpoint) {
+        final LatencyTracker existing = latencyTrackers.get(endpoint);
+        return existing != null ? existing : latencyTrackers.computeIfAbsent(endpoint, e -> new LatencyTracker(percentile));
+    }
+
+    /**
+     * Keeps the latest latencies of an endpoint in a ring buffer and recalculates the percentile every {@code MIN_SAMPLES} records.
+     */
+    static final class LatencyTracker {
+        private final double percentile;
+        private final long[] samples = new long[LATENCY_SAMPLES];
+        private int position = 0;
+        private int size = 0;
+        private int recordsSinceUpdate = 0;
+        private volatile long hedgeDelayNanos = 0;
+
+        LatencyTracker(final double percentile) {
+            this.percentile = percentile;
+        }
+
+        synchronized void record(final long latencyNanos) {
+            samples[position] = latencyNanos;
+            position = (position + 1) % samples.length;
+            size = Math.min(size + 1, samples.length);
+            if (++recordsSinceUpdate >= MIN_SAMPLES) {
+                recordsSinceUpdate = 0;
+                final long[] sorted = Arrays.copyOf(samples, size);
+                Arrays.sort(sorted);
+                hedgeDelayNanos = sorted[Math.min(size - 1, (int) (size * percentile))];
+            }
+        }
+
+        /**
+         * The delay after which a request is hedged.
+         *
+         * @return the delay or 0 if not enough latencies are known
+         */
+        long getHedgeDelayNanos() {
+            return hedgeDelayNanos;
+        }
+    }
+}
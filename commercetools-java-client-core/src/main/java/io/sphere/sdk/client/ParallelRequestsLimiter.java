@@ -0,0 +1,163 @@
+package io.sphere.sdk.client;
+
+import io.sphere.sdk.utils.CompletableFutureUtils;
+
+import javax.annotation.Nullable;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Permit based limiter for asynchronous tasks which does not need a dedicated thread.
+ * The amount of running tasks is tracked with a lock-free counter, waiting tasks are stored in a lock-free queue.
+ * Queued tasks are started by the thread which completes a running task or by the thread adding a task,
+ * a work-in-progress counter guarantees that only one thread at a time drains the queue and that
+ * synchronously completing tasks do not cause a recursion.
+ */
+final class ParallelRequestsLimiter {
+    private final int maxParallelRequests;
+    @Nullable
+    private final Semaphore queueSlots;
+    private final QueueOverflowStrategy overflowStrategy;
+    private final AtomicInteger runningTasks = new AtomicInteger();
+    private final AtomicInteger queuedTasksCount = new AtomicInteger();
+    private final AtomicInteger workInProgress = new AtomicInteger();
+    private final Queue<PendingTask<?>> queuedTasks = new ConcurrentLinkedQueue<>();
+    private volatile boolean closed = false;
+
+    private ParallelRequestsLimiter(final int maxParallelRequests, @Nullable final Integer maxQueueSize, final QueueOverflowStrategy overflowStrategy) {
+        if (maxParallelRequests < 1) {
+            throw new IllegalArgumentException("maxParallelRequests must be at least 1 but was " + maxParallelRequests);
+        }
+        if (maxQueueSize != null && maxQueueSize < 0) {
+            throw new IllegalArgumentException("maxQueueSize must not be negative but was " + maxQueueSize);
+        }
+        this.maxParallelRequests = maxParallelRequests;
+        this.queueSlots = maxQueueSize == null ? null : new Semaphore(maxQueueSize);
+        this.overflowStrategy = overflowStrategy;
+    }
+
+    <T> CompletionStage<T> submit(final Supplier<CompletionStage<T>> task) {
+        if (closed) {
+            throw new IllegalStateException("Client is already closed.");
+        }
+        final PendingTask<T> pendingTask = new PendingTask<>(task);
+        if (queuedTasks.isEmpty() && tryAcquirePermit()) {
+            start(pendingTask);
+        } else if (acquireQueueSlot(pendingTask)) {
+            queuedTasksCount.incrementAndGet();
+            queuedTasks.add(pendingTask);
+            drain();
+        }
+        return pendingTask.promise;
+    }
+
+    int getRunningTasks() {
+        return runningTasks.get();
+    }
+
+    int getQueuedTasks() {
+        return queuedTasksCount.get();
+    }
+
+    void close() {
+        closed = true;
+        PendingTask<?> task;
+        while ((task = queuedTasks.poll()) != null) {
+            releaseQueueSlot();
+            task.promise.completeExceptionally(new IllegalStateException("Client has been closed before the request could be executed."));
+        }
+    }
+
+    private boolean tryAcquirePermit() {
+        int current;
+        do {
+            current = runningTasks.get();
+            if (current >= maxParallelRequests) {
+                return false;
+            }
+        } while (!runningTasks.compareAndSet(current, current + 1));
+        return true;
+    }
+
+    private boolean acquireQueueSlot(final PendingTask<?> pendingTask) {
+        if (queueSlots == null) {
+            return true;
+        } else if (overflowStrategy == QueueOverflowStrategy.BLOCK) {
+            try {
+                queueSlots.acquire();
+                return true;
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                pendingTask.promise.completeExceptionally(e);
+                return false;
+            }
+        } else if (queueSlots.tryAcquire()) {
+            return true;
+        } else {
+            pendingTask.promise.completeExceptionally(new SphereQueueFullException("The queue for waiting requests is full, maximum parallel requests: " + maxParallelRequests));
+            return false;
+        }
+    }
+
+    private void releaseQueueSlot() {
+        queuedTasksCount.decrementAndGet();
+        if (queueSlots != null) {
+            queueSlots.release();
+        }
+    }
+
+    private <T> void start(final PendingTask<T> pendingTask) {
+        CompletionStage<T> stage;
+        try {
+            stage = pendingTask.task.get();
+        } catch (final Throwable e) {
+            stage = CompletableFutureUtils.failed(e);
+        }
+        stage.whenComplete((result, throwable) -> {
+            if (throwable != null) {
+                pendingTask.promise.completeExceptionally(throwable);
+            } else {
+                pendingTask.promise.complete(result);
+            }
+            runningTasks.decrementAndGet();
+            drain();
+        });
+    }
+
+    private void drain() {
+        if (workInProgress.getAndIncrement() != 0) {
+            return;//the thread already draining will pick up the change
+        }
+        int missed = 1;
+        do {
+            while (!closed && !queuedTasks.isEmpty() && tryAcquirePermit()) {
+                final PendingTask<?> task = queuedTasks.poll();
+                if (task == null) {
+                    runningTasks.decrementAndGet();
+                    break;
+                }
+                releaseQueueSlot();
+                start(task);
+            }
+            missed = workInProgress.addAndGet(-missed);
+        } while (missed != 0);
+    }
+
+    static ParallelRequestsLimiter of(final int maxParallelRequests, @Nullable final Integer maxQueueSize, final QueueOverflowStrategy overflowStrategy) {
+        return new ParallelRequestsLimiter(maxParallelRequests, maxQueueSize, overflowStrategy);
+    }
+
+    private static final class PendingTask<T> {
+        private final Supplier<CompletionStage<T>> task;
+        private final CompletableFuture<T> promise = new CompletableFuture<>();
+
+        private PendingTask(final Supplier<CompletionStage<T>> task) {
+            this.task = task;
+        }
+    }
+}
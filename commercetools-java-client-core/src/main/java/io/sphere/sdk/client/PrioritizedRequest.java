@@ -0,0 +1,16 @@
+package io.sphere.sdk.client;
+
+/**
+ * Marker interface for {@link SphereRequest}s which should be executed in a specific {@link RequestLane} of a {@link PriorityQueueSphereClientDecorator}.
+ * Requests not implementing this interface are executed in the default lane.
+ *
+ * @see PrioritizedSphereRequest
+ */
+public interface PrioritizedRequest {
+    /**
+     * The name of the {@link RequestLane} this request should be queued in.
+     *
+     * @return lane name
+     */
+    String getRequestLane();
+}
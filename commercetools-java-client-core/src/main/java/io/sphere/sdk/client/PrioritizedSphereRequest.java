@@ -0,0 +1,25 @@
+package io.sphere.sdk.client;
+
+/**
+ * Decorates a {@link SphereRequest} to execute it in a specific {@link RequestLane} of a {@link PriorityQueueSphereClientDecorator}
+ * without changing the request itself.
+ *
+ * @param <T> the type of the result of this request
+ */
+public final class PrioritizedSphereRequest<T> extends SphereRequestDecorator<T> implements PrioritizedRequest {
+    private final String requestLane;
+
+    private PrioritizedSphereRequest(final SphereRequest<T> delegate, final String requestLane) {
+        super(delegate);
+        this.requestLane = requestLane;
+    }
+
+    @Override
+    public String getRequestLane() {
+        return requestLane;
+    }
+
+    public static <T> PrioritizedSphereRequest<T> of(final SphereRequest<T> sphereRequest, final String requestLane) {
+        return new PrioritizedSphereRequest<>(sphereRequest, requestLane);
+    }
+}
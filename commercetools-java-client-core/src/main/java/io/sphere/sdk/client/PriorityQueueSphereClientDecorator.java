@@ -0,0 +1,83 @@
+package io.sphere.sdk.client;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * Decorates a {@link SphereClient} to limit the amount of parallel requests like {@link QueueSphereClientDecorator}
+ * but queues waiting requests in several {@link RequestLane}s, so for example a bulk import cannot starve the requests of a shop frontend.
+ *
+ * <p>A request selects its lane by implementing {@link PrioritizedRequest}, existing requests can be wrapped with {@link PrioritizedSphereRequest#of(SphereRequest, String)}.
+ * Requests without a lane or with an unknown lane are queued in the default lane.</p>
+ *
+ * <p>Free slots are shared between the lanes with waiting requests in proportion to their weights
+ * and each lane is additionally limited by its own {@link RequestLane#getMaxParallelRequests()}.
+ * The queue depth per lane can be read with {@link #getQueueDepth(String)} and {@link #getQueueDepths()}.</p>
+ */
+public final class PriorityQueueSphereClientDecorator extends SphereClientDecorator implements SphereClient {
+    private final PriorityRequestsLimiter limiter;
+    private final boolean closeUnderlyingClient;
+
+    private PriorityQueueSphereClientDecorator(final SphereClient delegate, final int maxParallelRequests, final List<RequestLane> lanes,
+                                               final String defaultLaneName, final boolean closeUnderlyingClient) {
+        super(delegate);
+        this.closeUnderlyingClient = closeUnderlyingClient;
+        this.limiter = PriorityRequestsLimiter.of(maxParallelRequests, lanes, defaultLaneName);
+    }
+
+    @Override
+    public <T> CompletionStage<T> execute(final SphereRequest<T> sphereRequest) {
+        final String laneName = sphereRequest instanceof PrioritizedRequest
+                ? ((PrioritizedRequest) sphereRequest).getRequestLane()
+                : limiter.getDefaultLaneName();
+        return limiter.submit(laneName, () -> super.execute(sphereRequest));
+    }
+
+    /**
+     * Gets the amount of requests waiting in a lane to be sent.
+     *
+     * @param laneName the name of the lane
+     * @return the amount of queued requests, 0 for unknown lanes
+     */
+    public int getQueueDepth(final String laneName) {
+        return limiter.getQueuedTasks(laneName);
+    }
+
+    /**
+     * Gets the amount of requests of a lane which await a response.
+     *
+     * @param laneName the name of the lane
+     * @return the amount of running requests, 0 for unknown lanes
+     */
+    public int getRunningRequests(final String laneName) {
+        return limiter.getRunningTasks(laneName);
+    }
+
+    /**
+     * Gets the amount of waiting requests for all lanes.
+     *
+     * @return map from the lane name to the amount of queued requests
+     */
+    public Map<String, Integer> getQueueDepths() {
+        return limiter.getQueuedTasks();
+    }
+
+    @Override
+    public void close() {
+        limiter.close();
+        if (closeUnderlyingClient) {
+            super.close();
+        }
+    }
+
+    public static PriorityQueueSphereClientDecorator of(final SphereClient delegate, final int maxParallelRequests, final List<RequestLane> lanes,
+                                                        final String defaultLaneName, final boolean closeUnderlyingClient) {
+        return new PriorityQueueSphereClientDecorator(delegate, maxParallelRequests, lanes, defaultLaneName, closeUnderlyingClient);
+    }
+
+    public static PriorityQueueSphereClientDecorator of(final SphereClient delegate, final int maxParallelRequests, final List<RequestLane> lanes,
+                                                        final String defaultLaneName) {
+        return of(delegate, maxParallelRequests, lanes, defaultLaneName, true);
+    }
+}
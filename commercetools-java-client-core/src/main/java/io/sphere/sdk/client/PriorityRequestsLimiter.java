@@ -0,0 +1,178 @@
+package io.sphere.sdk.client;
+
+import io.sphere.sdk.utils.CompletableFutureUtils;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static java.util.Collections.unmodifiableMap;
+
+/**
+ * Limits the amount of running asynchronous tasks like {@link ParallelRequestsLimiter} but keeps waiting tasks in several lanes.
+ * Free slots are distributed with a smooth weighted round robin over the lanes which have waiting tasks and are below their own limit.
+ * Only the thread holding the work-in-progress counter selects lanes, so the round robin state needs no synchronization.
+ */
+final class PriorityRequestsLimiter {
+    private final int maxParallelRequests;
+    private final Map<String, Lane> lanes;
+    private final Lane defaultLane;
+    private final AtomicInteger runningTasks = new AtomicInteger();
+    private final AtomicInteger workInProgress = new AtomicInteger();
+    private volatile boolean closed = false;
+
+    private PriorityRequestsLimiter(final int maxParallelRequests, final List<RequestLane> requestLanes, final String defaultLaneName) {
+        if (maxParallelRequests < 1) {
+            throw new IllegalArgumentException("maxParallelRequests must be at least 1 but was " + maxParallelRequests);
+        }
+        this.maxParallelRequests = maxParallelRequests;
+        final Map<String, Lane> lanes = new LinkedHashMap<>();
+        requestLanes.forEach(requestLane -> lanes.put(requestLane.getName(), new Lane(requestLane)));
+        this.lanes = unmodifiableMap(lanes);
+        this.defaultLane = lanes.get(defaultLaneName);
+        if (defaultLane == null) {
+            throw new IllegalArgumentException("The default lane " + defaultLaneName + " is not one of the lanes " + lanes.keySet());
+        }
+    }
+
+    <T> CompletionStage<T> submit(final String laneName, final Supplier<CompletionStage<T>> task) {
+        if (closed) {
+            throw new IllegalStateException("Client is already closed.");
+        }
+        final Lane lane = lanes.getOrDefault(laneName, defaultLane);
+        final PendingTask<T> pendingTask = new PendingTask<>(lane, task);
+        lane.queuedTasksCount.incrementAndGet();
+        lane.queuedTasks.add(pendingTask);
+        drain();
+        return pendingTask.promise;
+    }
+
+    String getDefaultLaneName() {
+        return defaultLane.requestLane.getName();
+    }
+
+    int getQueuedTasks(final String laneName) {
+        final Lane lane = lanes.get(laneName);
+        return lane == null ? 0 : lane.queuedTasksCount.get();
+    }
+
+    int getRunningTasks(final String laneName) {
+        final Lane lane = lanes.get(laneName);
+        return lane == null ? 0 : lane.runningTasks.get();
+    }
+
+    Map<String, Integer> getQueuedTasks() {
+        final Map<String, Integer> result = new LinkedHashMap<>();
+        lanes.forEach((name, lane) -> result.put(name, lane.queuedTasksCount.get()));
+        return unmodifiableMap(result);
+    }
+
+    void close() {
+        closed = true;
+        lanes.values().forEach(lane -> {
+            PendingTask<?> task;
+            while ((task = lane.queuedTasks.poll()) != null) {
+                lane.queuedTasksCount.decrementAndGet();
+                task.promise.completeExceptionally(new IllegalStateException("Client has been closed before the request could be executed."));
+            }
+        });
+    }
+
+    private <T> void start(final PendingTask<T> pendingTask) {
+        CompletionStage<T> stage;
+        try {
+            stage = pendingTask.task.get();
+        } catch (final Throwable e) {
+            stage = CompletableFutureUtils.failed(e);
+        }
+        stage.whenComplete((result, throwable) -> {
+            if (throwable != null) {
+                pendingTask.promise.completeExceptionally(throwable);
+            } else {
+                pendingTask.promise.complete(result);
+            }
+            pendingTask.lane.runningTasks.decrementAndGet();
+            runningTasks.decrementAndGet();
+            drain();
+        });
+    }
+
+    private void drain() {
+        if (workInProgress.getAndIncrement() != 0) {
+            return;//the thread already draining will pick up the change
+        }
+        int missed = 1;
+        do {
+            while (!closed && runningTasks.get() < maxParallelRequests) {
+                final Lane lane = selectLane();
+                if (lane == null) {
+                    break;
+                }
+                final PendingTask<?> task = lane.queuedTasks.poll();
+                if (task != null) {
+                    lane.queuedTasksCount.decrementAndGet();
+                    lane.runningTasks.incrementAndGet();
+                    runningTasks.incrementAndGet();
+                    start(task);
+                }
+            }
+            missed = workInProgress.addAndGet(-missed);
+        } while (missed != 0);
+    }
+
+    /**
+     * Smooth weighted round robin over the lanes which can start a task right now.
+     *
+     * @return the lane to take the next task from or null if no lane can start a task
+     */
+    private Lane selectLane() {
+        Lane selected = null;
+        int totalWeight = 0;
+        for (final Lane lane : lanes.values()) {
+            if (!lane.queuedTasks.isEmpty() && lane.runningTasks.get() < lane.requestLane.getMaxParallelRequests()) {
+                lane.currentWeight += lane.requestLane.getWeight();
+                totalWeight += lane.requestLane.getWeight();
+                if (selected == null || lane.currentWeight > selected.currentWeight) {
+                    selected = lane;
+                }
+            }
+        }
+        if (selected != null) {
+            selected.currentWeight -= totalWeight;
+        }
+        return selected;
+    }
+
+    static PriorityRequestsLimiter of(final int maxParallelRequests, final List<RequestLane> requestLanes, final String defaultLaneName) {
+        return new PriorityRequestsLimiter(maxParallelRequests, requestLanes, defaultLaneName);
+    }
+
+    private static final class Lane {
+        private final RequestLane requestLane;
+        private final Queue<PendingTask<?>> queuedTasks = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger queuedTasksCount = new AtomicInteger();
+        private final AtomicInteger runningTasks = new AtomicInteger();
+        private int currentWeight = 0;//only accessed by the draining thread
+
+        private Lane(final RequestLane requestLane) {
+            this.requestLane = requestLane;
+        }
+    }
+
+    private static final class PendingTask<T> {
+        private final Lane lane;
+        private final Supplier<CompletionStage<T>> task;
+        private final CompletableFuture<T> promise = new CompletableFuture<>();
+
+        private PendingTask(final Lane lane, final Supplier<CompletionStage<T>> task) {
+            this.lane = lane;
+            this.task = task;
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package io.sphere.sdk.client;
+
+/**
+ * Defines how {@link QueueSphereClientDecorator} behaves if its queue for waiting requests is full.
+ */
+public enum QueueOverflowStrategy {
+    /**
+     * The request is not queued and the returned {@link java.util.concurrent.CompletionStage} is completed exceptionally with a {@link SphereQueueFullException}.
+     */
+    REJECT,
+
+    /**
+     * The thread calling {@link SphereClient#execute(SphereRequest)} is blocked until a queue slot becomes available, so producers are slowed down to the speed of the commercetools platform.
+     */
+    BLOCK
+}
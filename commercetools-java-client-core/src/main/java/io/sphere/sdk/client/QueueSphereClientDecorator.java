@@ -1,55 +1,80 @@
 package io.sphere.sdk.client;
 
-import io.sphere.sdk.client.QueueSphereClientDecoratorActor.AsyncTask;
-import io.sphere.sdk.utils.CompletableFutureUtils;
-
-import java.util.concurrent.CompletableFuture;
+import javax.annotation.Nullable;
 import java.util.concurrent.CompletionStage;
 
 /**
  * Decorates a {@link SphereClient} to limit the amount of parallel requests which await an answer.
- * If {@code maxParallelRequests} are waiting for a response every further request will be added to an unbound queue.
+ * If {@code maxParallelRequests} are waiting for a response every further request will be added to a queue.
  * Then the next answer will cause that the first request in the queue will be executed.
  *
+ * <p>The decorator does not use an own thread, the parallel requests are counted with a lock-free counter and
+ * queued requests are started by the thread completing a previous request.</p>
+ *
+ * <p>By default the queue is unbound. With {@link #of(SphereClient, int, int, QueueOverflowStrategy)} the queue size can be limited,
+ * the {@link QueueOverflowStrategy} defines if further requests are rejected or if the calling thread is blocked until the queue has free space.</p>
+ *
  */
 public final class QueueSphereClientDecorator extends SphereClientDecorator implements SphereClient {
-    private final Actor actor;
+    private final ParallelRequestsLimiter limiter;
     private final boolean closeUnderlyingClient;
 
-    private QueueSphereClientDecorator(final SphereClient delegate, final int maxParallelRequests, final boolean closeUnderlyingClient) {
+    private QueueSphereClientDecorator(final SphereClient delegate, final int maxParallelRequests,
+                                       @Nullable final Integer maxQueueSize, final QueueOverflowStrategy overflowStrategy,
+                                       final boolean closeUnderlyingClient) {
         super(delegate);
         this.closeUnderlyingClient = closeUnderlyingClient;
-        this.actor = new QueueSphereClientDecoratorActor(maxParallelRequests);
+        this.limiter = ParallelRequestsLimiter.of(maxParallelRequests, maxQueueSize, overflowStrategy);
     }
 
 
     @Override
     public <T> CompletionStage<T> execute(final SphereRequest<T> sphereRequest) {
-        final CompletableFuture<T> promiseForTheClient = new CompletableFuture<>();
-        final AsyncTask asyncTask = new AsyncTask(() -> {
-            final CompletionStage<T> realFuture = super.execute(sphereRequest);
-            CompletableFutureUtils.transferResult(realFuture, promiseForTheClient);
-            CompletableFuture<String> forHandlerFuture = new CompletableFuture<>();
-            realFuture.whenComplete((v, e) -> forHandlerFuture.complete("done"));
-            return forHandlerFuture;
-        });
-        actor.tell(asyncTask);
-        return promiseForTheClient;
+        return limiter.submit(() -> super.execute(sphereRequest));
     }
 
     @Override
     public void close() {
-        AutoCloseableService.closeQuietly(actor);
+        limiter.close();
         if (closeUnderlyingClient) {
             super.close();
         }
     }
 
     public static SphereClient of(final SphereClient delegate, final int maxParallelRequests, final boolean closeUnderlyingClient) {
-        return new QueueSphereClientDecorator(delegate, maxParallelRequests, closeUnderlyingClient);
+        return new QueueSphereClientDecorator(delegate, maxParallelRequests, null, QueueOverflowStrategy.REJECT, closeUnderlyingClient);
     }
 
     public static SphereClient of(final SphereClient delegate, final int maxParallelRequests) {
         return of(delegate, maxParallelRequests, true);
     }
+
+    /**
+     * Creates a decorator with a bound queue for requests waiting for a free slot.
+     *
+     * @param delegate the client to decorate
+     * @param maxParallelRequests the maximum amount of requests waiting for a response
+     * @param maxQueueSize the maximum amount of requests waiting to be sent
+     * @param overflowStrategy the behaviour if the queue is full
+     * @param closeUnderlyingClient if true, closing this client also closes {@code delegate}
+     * @return decorated client
+     */
+    public static SphereClient of(final SphereClient delegate, final int maxParallelRequests, final int maxQueueSize,
+                                  final QueueOverflowStrategy overflowStrategy, final boolean closeUnderlyingClient) {
+        return new QueueSphereClientDecorator(delegate, maxParallelRequests, maxQueueSize, overflowStrategy, closeUnderlyingClient);
+    }
+
+    /**
+     * Creates a decorator with a bound queue for requests waiting for a free slot, closing this client also closes {@code delegate}.
+     *
+     * @param delegate the client to decorate
+     * @param maxParallelRequests the maximum amount of requests waiting for a response
+     * @param maxQueueSize the maximum amount of requests waiting to be sent
+     * @param overflowStrategy the behaviour if the queue is full
+     * @return decorated client
+     */
+    public static SphereClient of(final SphereClient delegate, final int maxParallelRequests, final int maxQueueSize,
+                                  final QueueOverflowStrategy overflowStrategy) {
+        return of(delegate, maxParallelRequests, maxQueueSize, overflowStrategy, true);
+    }
 }
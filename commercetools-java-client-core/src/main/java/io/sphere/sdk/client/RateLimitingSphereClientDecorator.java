@@ -0,0 +1,210 @@
+package io.sphere.sdk.client;
+
+import io.sphere.sdk.http.HttpResponse;
+import io.sphere.sdk.models.SphereException;
+import io.sphere.sdk.utils.CompletableFutureUtils;
+import io.sphere.sdk.utils.HashedWheelTimer;
+
+import javax.annotation.Nullable;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Wraps a {@link SphereClient} to limit the rate of requests per endpoint with a token bucket.
+ *
+ * <p>The endpoint is the first segment of the path of {@link SphereRequest#httpRequestIntent()}, for example {@code /products} or {@code /carts}.
+ * Each endpoint starts with {@code requestsPerSecond} and can send up to {@code burst} requests at once.
+ * Requests above the rate are delayed with {@link HashedWheelTimer#shared()}, so no thread is blocked while waiting.</p>
+ *
+ * <p>The rate adapts to the platform like TCP congestion control (AIMD): responses with status 429 or 503 halve the rate of the endpoint
+ * down to 1/32 of the configured rate and a {@code Retry-After} header in seconds pauses the endpoint,
+ * every successful response increases the rate by 1% of the configured rate up to the configured rate.</p>
+ *
+ * <p>Failed requests are not retried, combine this decorator with {@link RetrySphereClientDecorator} for that.</p>
+ */
+public final class RateLimitingSphereClientDecorator extends SphereClientDecorator implements SphereClient {
+    private static final String RETRY_AFTER = "Retry-After";
+    private final HashedWheelTimer timer = HashedWheelTimer.shared();
+    private final ConcurrentMap<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+    private final double requestsPerSecond;
+    private final int burst;
+
+    private RateLimitingSphereClientDecorator(final SphereClient delegate, final double requestsPerSecond, final int burst) {
+        super(delegate);
+        if (requestsPerSecond <= 0) {
+            throw new IllegalArgumentException("requestsPerSecond must be positive but was " + requestsPerSecond);
+        }
+        if (burst < 1) {
+            throw new IllegalArgumentException("burst must be at least 1 but was " + burst);
+        }
+        this.requestsPerSecond = requestsPerSecond;
+        this.burst = burst;
+    }
+
+    /**
+     * Creates a rate limiting client which allows bursts of one second of requests.
+     *
+     * @param delegate the client which performs the requests
+     * @param requestsPerSecond the maximal rate per endpoint
+     * @return client
+     */
+    public static SphereClient of(final SphereClient delegate, final double requestsPerSecond) {
+        return of(delegate, requestsPerSecond, (int) Math.max(1, Math.ceil(requestsPerSecond)));
+    }
+
+    /**
+     * Creates a rate limiting client.
+     *
+     * @param delegate the client which performs the requests
+     * @param requestsPerSecond the maximal rate per endpoint
+     * @param burst the number of requests which can be sent at once after the endpoint was idle
+     * @return client
+     */
+    public static SphereClient of(final SphereClient delegate, final double requestsPerSecond, final int burst) {
+        return new RateLimitingSphereClientDecorator(delegate, requestsPerSecond, burst);
+    }
+
+    @Override
+    public <T> CompletionStage<T> execute(final SphereRequest<T> sphereRequest) {
+        final TokenBucket bucket = bucketFor(sphereRequest.httpRequestIntent().getPath());
+        final long delayNanos = bucket.reserve(System.nanoTime());
+        if (delayNanos <= 0) {
+            return executeAndAdapt(sphereRequest, bucket);
+        }
+        final CompletableFuture<T> result = new CompletableFuture<>();
+        timer.schedule(() -> executeAndAdapt(sphereRequest, bucket).whenComplete((value, throwable) -> {
+            if (throwable != null) {
+                result.completeExceptionally(throwable);
+            } else {
+                result.complete(value);
+            }
+        }), delayNanos, TimeUnit.NANOSECONDS, ForkJoinPool.commonPool());
+        return result;
+    }
+
+    /**
+     * Executes the request, a synchronous exception of the delegate is returned as failed stage,
+     * otherwise the caller of a delayed request would wait forever.
+     */
+    private <T> CompletionStage<T> executeAndAdapt(final SphereRequest<T> sphereRequest, final TokenBucket bucket) {
+        final CompletionStage<T> result;
+        try {
+            result = super.execute(sphereRequest);
+        } catch (final RuntimeException e) {
+            return CompletableFutureUtils.failed(e);
+        }
+        result.whenComplete((value, throwable) -> {
+            final HttpResponse throttlingResponse = throttlingResponseOrNull(throwable);
+            if (throttlingResponse != null) {
+                bucket.decrease(System.nanoTime(), retryAfterSeconds(throttlingResponse));
+            } else if (throwable == null) {
+                bucket.increase();
+            }
+        });
+        return result;
+    }
+
+    /**
+     * The current rate of an endpoint after the adaptions to throttling responses.
+     *
+     * @param endpoint the first path segment like {@code /products}
+     * @return requests per second
+     */
+    public double getCurrentRequestsPerSecond(final String endpoint) {
+        return Optional.ofNullable(buckets.get(endpoint)).map(TokenBucket::getRate).orElse(requestsPerSecond);
+    }
+
+    private TokenBucket bucketFor(final String path) {
+        final String endpoint = Endpoints.resource(path);
+        final TokenBucket existing = buckets.get(endpoint);
+        return existing != null ? existing : buckets.computeIfAbsent(endpoint, e -> new TokenBucket(requestsPerSecond, burst));
+    }
+
+    @Nullable
+    private static HttpResponse throttlingResponseOrNull(@Nullable final Throwable throwable) {
+        final Throwable cause = throwable instanceof CompletionException ? throwable.getCause() : throwable;
+        if (cause instanceof SphereException) {
+            final HttpResponse httpResponse = ((SphereException) cause).getHttpResponse();
+            if (httpResponse != null && httpResponse.getStatusCode() != null
+                    && (httpResponse.getStatusCode() == 429 || httpResponse.getStatusCode() == 503)) {
+                return httpResponse;
+            }
+        }
+        return null;
+    }
+
+    private static long retryAfterSeconds(final HttpResponse httpResponse) {
+        return httpResponse.getHeaders().findFlatHeader(RETRY_AFTER)
+                .map(value -> {
+                    try {
+                        return Long.parseLong(value.trim());
+                    } catch (final NumberFormatException e) {
+                        return 0L;//HTTP dates are not supported
+                    }
+                })
+                .orElse(0L);
+    }
+
+    static final class TokenBucket {
+        private final double maxRate;
+        private final double minRate;
+        private final double increaseStep;
+        private final int burst;
+        private double rate;
+        private double tokens;
+        private long lastRefillNanos;
+        private long pausedUntilNanos;
+
+        TokenBucket(final double maxRate, final int burst) {
+            this.maxRate = maxRate;
+            this.minRate = maxRate / 32;
+            this.increaseStep = maxRate / 100;
+            this.burst = burst;
+            this.rate = maxRate;
+            this.tokens = burst;
+            this.lastRefillNanos = System.nanoTime();
+            this.pausedUntilNanos = lastRefillNanos;
+        }
+
+        /**
+         * Takes a token and returns how long the request has to wait for it. Tokens can be borrowed, so waiting requests keep their order.
+         */
+        synchronized long reserve(final long nowNanos) {
+            refill(nowNanos);
+            tokens -= 1;
+            final long waitForTokenNanos = tokens >= 0 ? 0 : (long) (-tokens / rate * 1e9);
+            return Math.max(waitForTokenNanos, pausedUntilNanos - nowNanos);
+        }
+
+        synchronized void decrease(final long nowNanos, final long retryAfterSeconds) {
+            refill(nowNanos);
+            rate = Math.max(minRate, rate / 2);
+            tokens = Math.min(tokens, 0);
+            if (retryAfterSeconds > 0) {
+                pausedUntilNanos = Math.max(pausedUntilNanos, nowNanos + TimeUnit.SECONDS.toNanos(retryAfterSeconds));
+            }
+        }
+
+        synchronized void increase() {
+            rate = Math.min(maxRate, rate + increaseStep);
+        }
+
+        synchronized double getRate() {
+            return rate;
+        }
+
+        private void refill(final long nowNanos) {
+            final long elapsedNanos = nowNanos - lastRefillNanos;
+            if (elapsedNanos > 0) {
+                tokens = Math.min(burst, tokens + elapsedNanos / 1e9 * rate);
+                lastRefillNanos = nowNanos;
+            }
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package io.sphere.sdk.client;
+
+import io.sphere.sdk.models.Base;
+
+/**
+ * Configuration of one lane of a {@link PriorityQueueSphereClientDecorator}.
+ *
+ * <p>Requests waiting in different lanes are started in proportion to the weights of the lanes,
+ * so a lane with weight 3 gets three times the slots of a lane with weight 1 as long as both have waiting requests.
+ * Independent of the weight, a lane never has more than {@link #getMaxParallelRequests()} requests awaiting a response.</p>
+ */
+public final class RequestLane extends Base {
+    private final String name;
+    private final int weight;
+    private final int maxParallelRequests;
+
+    private RequestLane(final String name, final int weight, final int maxParallelRequests) {
+        if (weight < 1) {
+            throw new IllegalArgumentException("weight must be at least 1 but was " + weight);
+        }
+        if (maxParallelRequests < 1) {
+            throw new IllegalArgumentException("maxParallelRequests must be at least 1 but was " + maxParallelRequests);
+        }
+        this.name = name;
+        this.weight = weight;
+        this.maxParallelRequests = maxParallelRequests;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getWeight() {
+        return weight;
+    }
+
+    public int getMaxParallelRequests() {
+        return maxParallelRequests;
+    }
+
+    public static RequestLane of(final String name, final int weight, final int maxParallelRequests) {
+        return new RequestLane(name, weight, maxParallelRequests);
+    }
+}
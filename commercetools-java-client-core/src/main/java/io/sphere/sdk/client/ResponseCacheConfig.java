@@ -0,0 +1,95 @@
+package io.sphere.sdk.client;
+
+import io.sphere.sdk.models.Base;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Configuration of {@link CachingSphereClientDecorator}.
+ *
+ * <p>Only endpoints with a time to live are cached, the endpoint is the first path segment like {@code /product-types}.</p>
+ *
+ * <pre>{@code
+ * final ResponseCacheConfig cacheConfig = ResponseCacheConfig.of(10 * 1024 * 1024)
+ *         .withTtl("/product-types", Duration.ofMinutes(10))
+ *         .withTtl("/tax-categories", Duration.ofMinutes(10))
+ *         .withStaleWhileRevalidate(Duration.ofMinutes(1));
+ * }</pre>
+ */
+public final class ResponseCacheConfig extends Base {
+    private final long maxSizeInBytes;
+    private final Duration defaultTtl;
+    private final Map<String, Duration> ttlByEndpoint;
+    private final Duration staleWhileRevalidate;
+
+    private ResponseCacheConfig(final long maxSizeInBytes, final Duration defaultTtl, final Map<String, Duration> ttlByEndpoint,
+                                final Duration staleWhileRevalidate) {
+        if (maxSizeInBytes <= 0) {
+            throw new IllegalArgumentException("maxSizeInBytes must be positive but was " + maxSizeInBytes);
+        }
+        this.maxSizeInBytes = maxSizeInBytes;
+        this.defaultTtl = defaultTtl;
+        this.ttlByEndpoint = Collections.unmodifiableMap(ttlByEndpoint);
+        this.staleWhileRevalidate = staleWhileRevalidate;
+    }
+
+    /**
+     * Creates a configuration which does not cache any endpoint yet.
+     *
+     * @param maxSizeInBytes the maximal size of all cached response bodies, the least recently used responses are evicted first
+     * @return configuration
+     */
+    public static ResponseCacheConfig of(final long maxSizeInBytes) {
+        return new ResponseCacheConfig(maxSizeInBytes, Duration.ZERO, Collections.emptyMap(), Duration.ZERO);
+    }
+
+    public long getMaxSizeInBytes() {
+        return maxSizeInBytes;
+    }
+
+    /**
+     * The time to live for endpoints without an own time to live, {@link Duration#ZERO} disables caching for them.
+     *
+     * @return time to live
+     */
+    public Duration getDefaultTtl() {
+        return defaultTtl;
+    }
+
+    /**
+     * The time a response of {@code endpoint} is used without asking the platform.
+     *
+     * @param endpoint the first path segment like {@code /product-types}
+     * @return time to live, {@link Duration#ZERO} if the endpoint is not cached
+     */
+    public Duration getTtl(final String endpoint) {
+        return ttlByEndpoint.getOrDefault(endpoint, defaultTtl);
+    }
+
+    /**
+     * The time after the expiry in which a response is still returned while it is refreshed in the background,
+     * {@link Duration#ZERO} means that callers wait for the refresh.
+     *
+     * @return duration
+     */
+    public Duration getStaleWhileRevalidate() {
+        return staleWhileRevalidate;
+    }
+
+    public ResponseCacheConfig withDefaultTtl(final Duration defaultTtl) {
+        return new ResponseCacheConfig(maxSizeInBytes, defaultTtl, ttlByEndpoint, staleWhileRevalidate);
+    }
+
+    public ResponseCacheConfig withTtl(final String endpoint, final Duration ttl) {
+        final Map<String, Duration> newTtlByEndpoint = new HashMap<>(ttlByEndpoint);
+        newTtlByEndpoint.put(endpoint, ttl);
+        return new ResponseCacheConfig(maxSizeInBytes, defaultTtl, newTtlByEndpoint, staleWhileRevalidate);
+    }
+
+    public ResponseCacheConfig withStaleWhileRevalidate(final Duration staleWhileRevalidate) {
+        return new ResponseCacheConfig(maxSizeInBytes, defaultTtl, ttlByEndpoint, staleWhileRevalidate);
+    }
+}
@@ -0,0 +1,85 @@
+package io.sphere.sdk.client;
+
+import io.sphere.sdk.models.Base;
+
+/**
+ * Snapshot of the counters of a {@link CachingSphereClientDecorator}.
+ */
+public final class ResponseCacheMetrics extends Base {
+    private final long hits;
+    private final long staleHits;
+    private final long misses;
+    private final long revalidations;
+    private final long evictions;
+    private final int entries;
+    private final long sizeInBytes;
+
+    private ResponseCacheMetrics(final long hits, final long staleHits, final long misses, final long revalidations,
+                                 final long evictions, final int entries, final long sizeInBytes) {
+        this.hits = hits;
+        this.staleHits = staleHits;
+        this.misses = misses;
+        this.revalidations = revalidations;
+        this.evictions = evictions;
+        this.entries = entries;
+        this.sizeInBytes = sizeInBytes;
+    }
+
+    public static ResponseCacheMetrics of(final long hits, final long staleHits, final long misses, final long revalidations,
+                                          final long evictions, final int entries, final long sizeInBytes) {
+        return new ResponseCacheMetrics(hits, staleHits, misses, revalidations, evictions, entries, sizeInBytes);
+    }
+
+    /**
+     * The number of requests answered from a fresh cached response.
+     *
+     * @return count
+     */
+    public long getHits() {
+        return hits;
+    }
+
+    /**
+     * The number of requests answered from an expired response while it was refreshed in the background.
+     *
+     * @return count
+     */
+    public long getStaleHits() {
+        return staleHits;
+    }
+
+    /**
+     * The number of cacheable requests which have been sent to the platform.
+     *
+     * @return count
+     */
+    public long getMisses() {
+        return misses;
+    }
+
+    /**
+     * The number of requests which the platform answered with 304 Not Modified, so the cached body was used.
+     *
+     * @return count
+     */
+    public long getRevalidations() {
+        return revalidations;
+    }
+
+    /**
+     * The number of responses which have been removed to stay below the maximal size.
+     *
+     * @return count
+     */
+    public long getEvictions() {
+        return evictions;
+    }
+
+    public int getEntries() {
+        return entries;
+    }
+
+    public long getSizeInBytes() {
+        return sizeInBytes;
+    }
+}
@@ -1,5 +1,6 @@
 package io.sphere.sdk.client;
 
+import io.sphere.sdk.retry.RetryBudget;
 import io.sphere.sdk.retry.RetryRule;
 
 import java.util.List;
@@ -9,12 +10,31 @@ import java.util.List;
  * <p id="retry-gateway-timeout">A best practice example to retry on gateway timeouts and similar problems</p>
  * {@include.example io.sphere.sdk.client.retry.RetryBadGatewayExample}
  *
+ * <p id="retry-budget">To prevent that retries multiply the load when the platform degrades, a {@link RetryBudget} can limit the retries
+ * to a ratio of the requests. It can be shared by several clients:</p>
+ * <pre><code>
+ * final RetryBudget retryBudget = RetryBudget.of(0.2);
+ * final SphereClient client = RetrySphereClientDecorator.of(delegate, retryRules, retryBudget);
+ * </code></pre>
+ *
  * <p id="retry-delete-on-version-conflict">Not best practice but a lot of people requested to retry deletes on version conflicts:</p>
  * {@include.example io.sphere.sdk.client.retry.RetryDeleteExample}
  *
  */
 public interface RetrySphereClientDecorator extends SphereClient {
     static SphereClient of(final SphereClient delegate, final List<RetryRule> retryRules) {
-        return new RetrySphereClientImpl(delegate, retryRules);
+        return new RetrySphereClientImpl(delegate, retryRules, null);
+    }
+
+    /**
+     * Creates a client which retries failed requests as long as {@code retryBudget} allows it and fails fast otherwise.
+     *
+     * @param delegate the client which performs the requests
+     * @param retryRules the rules which decide how to handle an error
+     * @param retryBudget the budget, can be shared with other clients
+     * @return client
+     */
+    static SphereClient of(final SphereClient delegate, final List<RetryRule> retryRules, final RetryBudget retryBudget) {
+        return new RetrySphereClientImpl(delegate, retryRules, retryBudget);
     }
 }
@@ -1,17 +1,19 @@
 package io.sphere.sdk.client;
 
 import io.sphere.sdk.retry.AsyncRetrySupervisor;
+import io.sphere.sdk.retry.RetryBudget;
 import io.sphere.sdk.retry.RetryRule;
 
+import javax.annotation.Nullable;
 import java.util.List;
 import java.util.concurrent.CompletionStage;
 
 final class RetrySphereClientImpl extends SphereClientDecorator {
     private final AsyncRetrySupervisor supervisor;
 
-    RetrySphereClientImpl(final SphereClient delegate, final List<RetryRule> retryRules) {
+    RetrySphereClientImpl(final SphereClient delegate, final List<RetryRule> retryRules, @Nullable final RetryBudget retryBudget) {
         super(delegate);
-        this.supervisor = AsyncRetrySupervisor.of(retryRules);
+        this.supervisor = retryBudget != null ? AsyncRetrySupervisor.of(retryRules, retryBudget) : AsyncRetrySupervisor.of(retryRules);
     }
 
     @Override
@@ -0,0 +1,304 @@
+package io.sphere.sdk.client;
+
+import io.sphere.sdk.http.HttpClient;
+import io.sphere.sdk.utils.CompletableFutureUtils;
+import io.sphere.sdk.utils.HashedWheelTimer;
+
+import javax.annotation.Nullable;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static io.sphere.sdk.client.SphereAuth.AUTH_LOGGER;
+
+/**
+ * Holds the access tokens for many projects and scopes in one JVM and refreshes all of them without own threads.
+ * The refreshes are scheduled with {@link HashedWheelTimer#shared()} and the tokens are fetched in the common {@link ForkJoinPool}.
+ *
+ * <p>In contrast to {@link SphereAccessTokenSupplier#ofAutoRefresh(SphereAuthConfig, HttpClient, boolean)}, which starts own threads for each supplier,
+ * {@link #getTokenSupplier(SphereAuthConfig)} returns a lightweight view. Clients with the same project key, client credentials, auth URL and scopes
+ * share one token. The token is renewed after {@code refreshAheadRatio} of its lifetime, a failed fetch is retried with a growing delay of at most a minute.
+ * Closing a view releases the token, closing the manager stops all refreshes.</p>
+ *
+ * <pre><code>
+ * final SharedSphereAccessTokenManager tokenManager = SharedSphereAccessTokenManager.of(httpClient, false);
+ * final SphereClient client = SphereClient.of(config, httpClient, tokenManager.getTokenSupplier(config));
+ * </code></pre>
+ */
+public final class SharedSphereAccessTokenManager extends AutoCloseableService {
+    private static final long MAX_RETRY_DELAY_IN_SECONDS = 60;
+    private final HttpClient httpClient;
+    private final boolean closeHttpClient;
+    private final double refreshAheadRatio;
+    private final HashedWheelTimer timer = HashedWheelTimer.shared();
+    private final ConcurrentMap<TokenKey, SharedTokens> tokensByKey = new ConcurrentHashMap<>();
+
+    private SharedSphereAccessTokenManager(final HttpClient httpClient, final boolean closeHttpClient, final double refreshAheadRatio) {
+        if (refreshAheadRatio <= 0 || refreshAheadRatio >= 1) {
+            throw new IllegalArgumentException("refreshAheadRatio must be between 0 and 1 exclusive but was " + refreshAheadRatio);
+        }
+        this.httpClient = httpClient;
+        this.closeHttpClient = closeHttpClient;
+        this.refreshAheadRatio = refreshAheadRatio;
+    }
+
+    /**
+     * Creates a token manager which renews tokens after half of their lifetime.
+     *
+     * @param httpClient the http client to fetch the tokens
+     * @param closeHttpClient set to true, if the httpClient should be closed with the manager
+     * @return token manager
+     */
+    public static SharedSphereAccessTokenManager of(final HttpClient httpClient, final boolean closeHttpClient) {
+        return of(httpClient, closeHttpClient, 0.5);
+    }
+
+    /**
+     * Creates a token manager.
+     *
+     * @param httpClient the http client to fetch the tokens
+     * @param closeHttpClient set to true, if the httpClient should be closed with the manager
+     * @param refreshAheadRatio the part of the lifetime of a token after which it is renewed, between 0 and 1 exclusive
+     * @return token manager
+     */
+    public static SharedSphereAccessTokenManager of(final HttpClient httpClient, final boolean closeHttpClient, final double refreshAheadRatio) {
+        return new SharedSphereAccessTokenManager(httpClient, closeHttpClient, refreshAheadRatio);
+    }
+
+    /**
+     * Provides a token supplier for {@code config} which shares the token with all other suppliers for the same project key, credentials and scopes.
+     * The first supplier for a configuration starts fetching the token.
+     *
+     * @param config the configuration to fetch a token
+     * @return token supplier, closing it does not close the manager
+     */
+    public SphereAccessTokenSupplier getTokenSupplier(final SphereAuthConfig config) {
+        rejectExcutionIfClosed("Token manager is already closed.");
+        final TokenKey key = TokenKey.of(config);
+        final SharedTokens sharedTokens = tokensByKey.compute(key, (k, existing) -> {
+            final SharedTokens tokens = existing != null ? existing : new SharedTokens(config);
+            tokens.users++;
+            tokens.start();
+            return tokens;
+        });
+        return new SharedTokenSupplier(key, sharedTokens);
+    }
+
+    /**
+     * The number of distinct tokens which are currently kept up to date.
+     *
+     * @return number of tokens
+     */
+    public int getTokenCount() {
+        return tokensByKey.size();
+    }
+
+    private void release(final TokenKey key) {
+        tokensByKey.computeIfPresent(key, (k, tokens) -> {
+            tokens.users--;
+            if (tokens.users > 0) {
+                return tokens;
+            }
+            tokens.stop();
+            return null;
+        });
+    }
+
+    @Override
+    protected void internalClose() {
+        final List<SharedTokens> allTokens = new ArrayList<>(tokensByKey.values());
+        tokensByKey.clear();
+        allTokens.forEach(SharedTokens::stop);
+        if (closeHttpClient) {
+            closeQuietly(httpClient);
+        }
+    }
+
+    private final class SharedTokens {
+        private final TokensSupplier tokensSupplier;
+        private final AtomicBoolean started = new AtomicBoolean(false);
+        private final AtomicReference<CompletableFuture<String>> pendingFetch = new AtomicReference<>();
+        private volatile CompletableFuture<String> currentAccessTokenFuture = new CompletableFuture<>();
+        @Nullable
+        private volatile Tokens currentTokens;
+        @Nullable
+        private volatile HashedWheelTimer.Timeout scheduledRefresh;
+        private volatile boolean stopped = false;
+        private int failedAttempts = 0;//only modified by the single running fetch
+        private int users = 0;//guarded by tokensByKey.compute
+
+        private SharedTokens(final SphereAuthConfig config) {
+            this.tokensSupplier = TokensSupplier.of(config, httpClient, false);
+        }
+
+        private void start() {
+            if (started.compareAndSet(false, true)) {
+                fetch();
+            }
+        }
+
+        private void stop() {
+            stopped = true;
+            final HashedWheelTimer.Timeout refresh = scheduledRefresh;
+            if (refresh != null) {
+                refresh.cancel();
+            }
+            closeQuietly(tokensSupplier);
+        }
+
+        /**
+         * Fetches a new token unless a fetch is already running.
+         *
+         * @return the future of the running fetch
+         */
+        private CompletableFuture<String> fetch() {
+            while (true) {
+                final CompletableFuture<String> running = pendingFetch.get();
+                if (running != null) {
+                    return running;
+                }
+                final CompletableFuture<String> newFetch = new CompletableFuture<>();
+                if (pendingFetch.compareAndSet(null, newFetch)) {
+                    if (stopped) {
+                        pendingFetch.set(null);
+                        newFetch.completeExceptionally(new IllegalStateException("Token manager is already closed."));
+                    } else {
+                        tokensSupplier.get().whenComplete((tokens, throwable) -> onFetchCompleted(newFetch, tokens, throwable));
+                    }
+                    return newFetch;
+                }
+            }
+        }
+
+        private void onFetchCompleted(final CompletableFuture<String> fetch, @Nullable final Tokens tokens, @Nullable final Throwable throwable) {
+            if (tokens != null) {
+                failedAttempts = 0;
+                currentTokens = tokens;
+                if (currentAccessTokenFuture.isDone()) {
+                    currentAccessTokenFuture = CompletableFutureUtils.successful(tokens.getAccessToken());
+                } else {
+                    currentAccessTokenFuture.complete(tokens.getAccessToken());
+                }
+                pendingFetch.set(null);
+                fetch.complete(tokens.getAccessToken());
+                final long delayInSeconds = Optional.ofNullable(tokens.getExpiresIn())
+                        .map(ttlInSeconds -> AuthActor.selectNextRetryTime(ttlInSeconds, refreshAheadRatio))
+                        .orElse(60L);
+                scheduleFetch(delayInSeconds);
+            } else {
+                final Throwable cause = throwable instanceof CompletionException && throwable.getCause() != null ? throwable.getCause() : throwable;
+                AUTH_LOGGER.error(() -> "Can't fetch tokens.", cause);
+                failedAttempts++;
+                if (!currentAccessTokenFuture.isDone()) {
+                    currentAccessTokenFuture.completeExceptionally(cause);
+                } else if (!lastTokenIsStillValid()) {
+                    currentTokens = null;
+                    currentAccessTokenFuture = CompletableFutureUtils.failed(cause);
+                }
+                pendingFetch.set(null);
+                fetch.completeExceptionally(cause);
+                if (!(cause instanceof UnauthorizedException)) {
+                    scheduleFetch(Math.min(1L << Math.min(failedAttempts - 1, 6), MAX_RETRY_DELAY_IN_SECONDS));
+                }
+            }
+        }
+
+        private boolean lastTokenIsStillValid() {
+            final Tokens tokens = currentTokens;
+            return tokens != null && Optional.ofNullable(tokens.getExpiresZonedDateTime())
+                    .map(expireTime -> expireTime.isAfter(ZonedDateTime.now()))
+                    .orElse(true);
+        }
+
+        private void scheduleFetch(final long delayInSeconds) {
+            if (!stopped) {
+                scheduledRefresh = timer.schedule(this::fetch, delayInSeconds, TimeUnit.SECONDS, ForkJoinPool.commonPool());//the fetch must not block the shared timer thread
+            }
+        }
+    }
+
+    private final class SharedTokenSupplier extends AutoCloseableService implements RefreshableSphereAccessTokenSupplier {
+        private final TokenKey key;
+        private final SharedTokens sharedTokens;
+
+        private SharedTokenSupplier(final TokenKey key, final SharedTokens sharedTokens) {
+            this.key = key;
+            this.sharedTokens = sharedTokens;
+        }
+
+        @Override
+        public CompletionStage<String> get() {
+            rejectExcutionIfClosed("Token supplier is already closed.");
+            return sharedTokens.currentAccessTokenFuture;
+        }
+
+        @Override
+        public CompletionStage<String> getNewToken() {
+            return sharedTokens.fetch();
+        }
+
+        @Override
+        protected void internalClose() {
+            if (!isClosed()) {
+                release(key);
+            }
+        }
+    }
+
+    private static final class TokenKey {
+        private final String projectKey;
+        private final String clientId;
+        private final String clientSecret;
+        private final String authUrl;
+        private final List<String> scopes;
+
+        private TokenKey(final String projectKey, final String clientId, final String clientSecret, final String authUrl, final List<String> scopes) {
+            this.projectKey = projectKey;
+            this.clientId = clientId;
+            this.clientSecret = clientSecret;
+            this.authUrl = authUrl;
+            this.scopes = scopes;
+        }
+
+        private static TokenKey of(final SphereAuthConfig config) {
+            return new TokenKey(config.getProjectKey(), config.getClientId(), config.getClientSecret(), config.getAuthUrl(), new ArrayList<>(config.getScopes()));
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof TokenKey)) {
+                return false;
+            }
+            final TokenKey that = (TokenKey) o;
+            return projectKey.equals(that.projectKey)
+                    && clientId.equals(that.clientId)
+                    && clientSecret.equals(that.clientSecret)
+                    && authUrl.equals(that.authUrl)
+                    && scopes.equals(that.scopes);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(projectKey, clientId, clientSecret, authUrl, scopes);
+        }
+
+        @Override
+        public String toString() {
+            return projectKey + "/" + clientId + scopes;
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package io.sphere.sdk.client;
+
+import io.sphere.sdk.http.HttpMethod;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Decorator for {@link SphereClient}s which collapses identical idempotent requests that are executed at the same time.
+ *
+ * <p>If a {@link HttpMethod#GET} or {@link HttpMethod#HEAD} request is executed while a request of the same class
+ * with the same path, query and headers is still in flight, it is not sent again but completes with the result of the running request.
+ * So a cache miss for a popular product or the category tree results in one call to the platform instead of one call per thread.
+ * Requests with other methods are always sent, as well as requests whose class does not determine the type of the result,
+ * like {@link JavaAndHttpResponseSphereRequest}, since the callers of two such requests may expect different result types.
+ * {@link SphereRequestDecorator}s are collapsed if the decorated request can be collapsed.</p>
+ *
+ * <p>Once the running request completes, the next identical request is sent again, so the decorator does not cache results.
+ * All callers get the same result object, so it must not be modified.
+ * Every caller gets a separate stage, so cancelling or completing it does not affect the other callers.</p>
+ */
+public final class SingleFlightSphereClientDecorator extends SphereClientDecorator implements SphereClient {
+    private final Map<RequestKey, CompletableFuture<Object>> inFlightRequests = new ConcurrentHashMap<>();
+
+    private SingleFlightSphereClientDecorator(final SphereClient delegate) {
+        super(delegate);
+    }
+
+    public static SphereClient of(final SphereClient delegate) {
+        return new SingleFlightSphereClientDecorator(delegate);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> CompletionStage<T> execute(final SphereRequest<T> sphereRequest) {
+        final HttpRequestIntent httpRequestIntent = sphereRequest.httpRequestIntent();
+        final Class<?> resultTypeClass = resultTypeClass(sphereRequest);
+        if (!isIdempotent(httpRequestIntent) || !SphereRequestResultTypes.hasFixedResultType(resultTypeClass)) {
+            return super.execute(sphereRequest);
+        }
+        final RequestKey key = new RequestKey(sphereRequest.getClass(), resultTypeClass, httpRequestIntent);
+        final CompletableFuture<Object> newResult = new CompletableFuture<>();
+        final CompletableFuture<Object> runningResult = inFlightRequests.putIfAbsent(key, newResult);
+        if (runningResult != null) {
+            return (CompletionStage<T>) runningResult.thenApply(Function.identity());
+        }
+        final CompletionStage<T> delegateResult;
+        try {
+            delegateResult = super.execute(sphereRequest);
+        } catch (final RuntimeException e) {
+            inFlightRequests.remove(key, newResult);
+            newResult.completeExceptionally(e);
+            throw e;
+        }
+        delegateResult.whenComplete((result, throwable) -> {
+            inFlightRequests.remove(key, newResult);
+            if (throwable != null) {
+                newResult.completeExceptionally(throwable);
+            } else {
+                newResult.complete(result);
+            }
+        });
+        return (CompletionStage<T>) newResult.thenApply(Function.identity());
+    }
+
+    private static boolean isIdempotent(final HttpRequestIntent httpRequestIntent) {
+        final HttpMethod httpMethod = httpRequestIntent.getHttpMethod();
+        return (httpMethod == HttpMethod.GET || httpMethod == HttpMethod.HEAD) && httpRequestIntent.getBody() == null;
+    }
+
+    /**
+     * A {@link SphereRequestDecorator} has the result type of its delegate, so the innermost request determines it.
+     */
+    private static Class<?> resultTypeClass(final SphereRequest<?> sphereRequest) {
+        SphereRequest<?> current = sphereRequest;
+        while (current instanceof SphereRequestDecorator) {
+            current = ((SphereRequestDecorator<?>) current).delegate;
+        }
+        return current.getClass();
+    }
+
+    private static final class RequestKey {
+        private final Class<?> requestClass;
+        private final Class<?> resultTypeClass;
+        private final HttpMethod httpMethod;
+        private final String path;
+        private final Map<String, List<String>> headers;
+        private final int hashCode;
+
+        private RequestKey(final Class<?> requestClass, final Class<?> resultTypeClass, final HttpRequestIntent httpRequestIntent) {
+            this.requestClass = requestClass;
+            this.resultTypeClass = resultTypeClass;
+            this.httpMethod = httpRequestIntent.getHttpMethod();
+            this.path = httpRequestIntent.getPath();
+            this.headers = httpRequestIntent.getHeaders().getHeadersAsMap();
+            this.hashCode = Objects.hash(requestClass, resultTypeClass, httpMethod, path, headers);
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof RequestKey)) {
+                return false;
+            }
+            final RequestKey that = (RequestKey) o;
+            return hashCode == that.hashCode
+                    && requestClass.equals(that.requestClass)
+                    && resultTypeClass.equals(that.resultTypeClass)
+                    && httpMethod == that.httpMethod
+                    && path.equals(that.path)
+                    && headers.equals(that.headers);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+}
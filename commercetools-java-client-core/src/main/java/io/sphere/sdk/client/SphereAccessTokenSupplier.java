@@ -29,6 +29,21 @@ public interface SphereAccessTokenSupplier extends AutoCloseable, Supplier<Compl
         return AutoRefreshSphereAccessTokenSupplierImpl.createAndBeginRefreshInBackground(config, httpClient, closeHttpClient);
     }
 
+    /**
+     * Provides a token generator which tries to always provide a valid token and renews it in the background
+     * after {@code refreshAheadRatio} of its lifetime, for example 0.8 renews a token valid for 48 hours after about 38 hours.
+     * The refresh is scheduled at most one day ahead.
+     *
+     * @param config the configuration to fetch a token
+     * @param httpClient used http client
+     * @param closeHttpClient set to true, if the httpClient should be closed with the created SphereAccessTokenSupplier
+     * @param refreshAheadRatio the part of the lifetime of a token after which it is renewed, between 0 and 1 exclusive, the default is 0.5
+     * @return token service
+     */
+    static SphereAccessTokenSupplier ofAutoRefresh(final SphereAuthConfig config, final HttpClient httpClient, final boolean closeHttpClient, final double refreshAheadRatio) {
+        return AutoRefreshSphereAccessTokenSupplierImpl.createAndBeginRefreshInBackground(config, httpClient, closeHttpClient, refreshAheadRatio);
+    }
+
     /**
      * Provides a token generator which just returns a fixed token, so the client is only usable
      * for the live time of this token.
@@ -0,0 +1,26 @@
+package io.sphere.sdk.client;
+
+import io.sphere.sdk.models.SphereException;
+
+/**
+ * Exception used by {@link CircuitBreakerSphereClientDecorator} if a request is rejected without sending it because the circuit of its endpoint is open.
+ */
+public class SphereCircuitBreakerOpenException extends SphereException {
+    static final long serialVersionUID = 0L;
+
+    private final String endpoint;
+
+    public SphereCircuitBreakerOpenException(final String endpoint) {
+        super("The circuit breaker for " + endpoint + " is open.");
+        this.endpoint = endpoint;
+    }
+
+    /**
+     * The endpoint of the rejected request like {@code /product-projections/search}.
+     *
+     * @return endpoint
+     */
+    public String getEndpoint() {
+        return endpoint;
+    }
+}
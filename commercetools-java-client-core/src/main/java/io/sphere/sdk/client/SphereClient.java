@@ -3,6 +3,7 @@ package io.sphere.sdk.client;
 import io.sphere.sdk.http.HttpClient;
 
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
 
 /**
  * A client interface to perform requests to the platform.
@@ -46,6 +47,24 @@ public interface SphereClient extends AutoCloseable {
         return SphereClientImpl.of(config, httpClient, tokenSupplier, CorrelationIdGenerator.of(config.getProjectKey()));
     }
 
+    /**
+     * Raw client creation with a dedicated executor for processing the responses.
+     * If the access token is already present the request is sent from the calling thread
+     * and the response is deserialized on {@code deserializationExecutor} without further thread switches.
+     * The executor is not shut down by closing the client.
+     * See also SphereClientFactory.
+     *
+     * @param config platform project and location
+     * @param httpClient client to execute requests
+     * @param tokenSupplier delivery of access tokens
+     * @param deserializationExecutor executor to deserialize the responses
+     * @return sphere client
+     */
+    static SphereClient of(final SphereApiConfig config, final HttpClient httpClient, final SphereAccessTokenSupplier tokenSupplier,
+                           final Executor deserializationExecutor) {
+        return SphereClientImpl.of(config, httpClient, tokenSupplier, CorrelationIdGenerator.of(config.getProjectKey()), deserializationExecutor);
+    }
+
     /**
      * Getter for the SphereApiConfig used for this client
      * @return the configuration used for this client
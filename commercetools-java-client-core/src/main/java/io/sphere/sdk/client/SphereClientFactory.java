@@ -9,6 +9,8 @@ import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.ServiceLoader;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
 import java.util.function.Supplier;
 
 /**
@@ -29,7 +31,7 @@ public interface SphereClientFactory {
     default SphereClient createClient(SphereClientConfig config) {
         final HttpClient httpClient = createHttpClient();
         final SphereAccessTokenSupplier tokenSupplier = SphereAccessTokenSupplier.ofAutoRefresh(config, httpClient, false);
-        return SphereClient.of(config, httpClient, tokenSupplier);
+        return createClient(config, httpClient, tokenSupplier);
     }
 
     /**
@@ -39,7 +41,19 @@ public interface SphereClientFactory {
      * @return client
      */
     default SphereClient createClient(SphereApiConfig config, SphereAccessTokenSupplier tokenSupplier) {
-        return SphereClient.of(config, createHttpClient(), tokenSupplier);
+        return createClient(config, createHttpClient(), tokenSupplier);
+    }
+
+    /**
+     * Creates a client of its parts, all other methods to create a client delegate to this method.
+     *
+     * @param config the configuration to use the API
+     * @param httpClient the http client used for performing requests
+     * @param tokenSupplier a service which provides tokens
+     * @return client
+     */
+    default SphereClient createClient(SphereApiConfig config, HttpClient httpClient, SphereAccessTokenSupplier tokenSupplier) {
+        return SphereClient.of(config, httpClient, tokenSupplier);
     }
 
     /**
@@ -77,7 +91,7 @@ public interface SphereClientFactory {
             public void close() {
             }
         };
-        return SphereClient.of(config, uncloseableHttpClient, SphereAccessTokenSupplier.ofConstantToken(accessToken));
+        return createClient(config, uncloseableHttpClient, SphereAccessTokenSupplier.ofConstantToken(accessToken));
     }
 
     /**
@@ -90,11 +104,56 @@ public interface SphereClientFactory {
      * @return client
      */
     default SphereClient createClientOfApiConfigAndAccessToken(SphereApiConfig config, String accessToken) {
-        return SphereClient.of(config, createHttpClient(), SphereAccessTokenSupplier.ofConstantToken(accessToken));
+        return createClient(config, createHttpClient(), SphereAccessTokenSupplier.ofConstantToken(accessToken));
     }
 
     static SphereClientFactory of(final Supplier<HttpClient> httpClientSupplier) {
-        return new SphereClientFactoryImpl(httpClientSupplier);
+        return new SphereClientFactoryImpl(httpClientSupplier, null);
+    }
+
+    /**
+     * Creates a factory for clients which deserialize the responses on {@code deserializationExecutor}
+     * instead of hopping through the common {@link java.util.concurrent.ForkJoinPool}.
+     * The executor is not shut down by closing the clients.
+     * {@link SphereDeserializationExecutor} provides a bounded pool which reports its saturation.
+     *
+     * @param httpClientSupplier supplier for the http clients
+     * @param deserializationExecutor executor to deserialize the responses
+     * @return factory
+     * @see SphereClient#of(SphereApiConfig, HttpClient, SphereAccessTokenSupplier, Executor)
+     */
+    static SphereClientFactory of(final Supplier<HttpClient> httpClientSupplier, final Executor deserializationExecutor) {
+        return new SphereClientFactoryImpl(httpClientSupplier, deserializationExecutor);
+    }
+
+    /**
+     * Creates a factory for clients which use a custom {@link CorrelationIdGenerator}, for example
+     * {@link CorrelationIdGenerator#ofSequential(String)} for high request rates.
+     *
+     * <pre><code>
+     * final SphereClientFactory factory = SphereClientFactory.of(httpClientSupplier, CorrelationIdGenerator::ofSequential);
+     * </code></pre>
+     *
+     * @param httpClientSupplier supplier for the http clients
+     * @param correlationIdGeneratorFactory creates the correlation id generator for a project key
+     * @return factory
+     */
+    static SphereClientFactory of(final Supplier<HttpClient> httpClientSupplier, final Function<String, CorrelationIdGenerator> correlationIdGeneratorFactory) {
+        return new SphereClientFactoryImpl(httpClientSupplier, null, correlationIdGeneratorFactory);
+    }
+
+    /**
+     * Creates a factory for clients which deserialize the responses on {@code deserializationExecutor} and use a custom {@link CorrelationIdGenerator}.
+     *
+     * @param httpClientSupplier supplier for the http clients
+     * @param deserializationExecutor executor to deserialize the responses
+     * @param correlationIdGeneratorFactory creates the correlation id generator for a project key
+     * @return factory
+     * @see #of(Supplier, Executor)
+     */
+    static SphereClientFactory of(final Supplier<HttpClient> httpClientSupplier, final Executor deserializationExecutor,
+                                  final Function<String, CorrelationIdGenerator> correlationIdGeneratorFactory) {
+        return new SphereClientFactoryImpl(httpClientSupplier, deserializationExecutor, correlationIdGeneratorFactory);
     }
 
     static SphereClientFactory of() {
@@ -3,17 +3,36 @@ package io.sphere.sdk.client;
 import io.sphere.sdk.http.HttpClient;
 import io.sphere.sdk.models.Base;
 
+import javax.annotation.Nullable;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
 import java.util.function.Supplier;
 
 final class SphereClientFactoryImpl extends Base implements SphereClientFactory {
     private final Supplier<HttpClient> httpClientSupplier;
+    @Nullable
+    private final Executor deserializationExecutor;
+    private final Function<String, CorrelationIdGenerator> correlationIdGeneratorFactory;
 
-    SphereClientFactoryImpl(final Supplier<HttpClient> httpClientSupplier) {
+    SphereClientFactoryImpl(final Supplier<HttpClient> httpClientSupplier, @Nullable final Executor deserializationExecutor) {
+        this(httpClientSupplier, deserializationExecutor, CorrelationIdGenerator::of);
+    }
+
+    SphereClientFactoryImpl(final Supplier<HttpClient> httpClientSupplier, @Nullable final Executor deserializationExecutor,
+                            final Function<String, CorrelationIdGenerator> correlationIdGeneratorFactory) {
         this.httpClientSupplier = httpClientSupplier;
+        this.deserializationExecutor = deserializationExecutor;
+        this.correlationIdGeneratorFactory = correlationIdGeneratorFactory;
     }
 
     @Override
     public HttpClient createHttpClient() {
         return httpClientSupplier.get();
     }
+
+    @Override
+    public SphereClient createClient(final SphereApiConfig config, final HttpClient httpClient, final SphereAccessTokenSupplier tokenSupplier) {
+        final CorrelationIdGenerator correlationIdGenerator = correlationIdGeneratorFactory.apply(config.getProjectKey());
+        return SphereClientImpl.of(config, httpClient, tokenSupplier, correlationIdGenerator, deserializationExecutor);
+    }
 }
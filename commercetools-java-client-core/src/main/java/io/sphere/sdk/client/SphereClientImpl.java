@@ -10,35 +10,43 @@ import io.sphere.sdk.utils.SphereInternalLogger;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import javax.annotation.Nullable;
 import java.util.List;
 import java.util.Optional;
 import java.util.ServiceLoader;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
 
 import static io.sphere.sdk.client.HttpResponseBodyUtils.bytesToString;
 import static io.sphere.sdk.utils.SphereInternalLogger.getLogger;
 
 final class SphereClientImpl extends AutoCloseableService implements SphereClient {
     private static final Logger classLogger = LoggerFactory.getLogger(SphereClient.class);
-    private final ObjectMapper objectMapper = SphereJsonUtils.newObjectMapper();
+    private final ObjectMapper objectMapper = SphereJsonUtils.newObjectMapper(SphereJsonUtils.isAccelerated());
     private final HttpClient httpClient;
     private final SphereApiConfig config;
     private final SphereAccessTokenSupplier tokenSupplier;
     private final String userAgent;
     private final CorrelationIdGenerator correlationIdGenerator;
+    @Nullable
+    private final Executor deserializationExecutor;
 
     static {
         ServiceLoader.load(SphereClientModule.class,SphereClientImpl.class.getClassLoader()).iterator().forEachRemaining(m -> {});
     }
 
     private SphereClientImpl(final SphereApiConfig config, final SphereAccessTokenSupplier tokenSupplier,
-                             final HttpClient httpClient, final CorrelationIdGenerator correlationIdGenerator) {
+                             final HttpClient httpClient, final CorrelationIdGenerator correlationIdGenerator,
+                             @Nullable final Executor deserializationExecutor) {
         this.httpClient = httpClient;
         this.config = config;
         this.tokenSupplier = tokenSupplier;
         userAgent = UserAgentUtils.obtainUserAgent(httpClient);
         this.correlationIdGenerator = correlationIdGenerator;
+        this.deserializationExecutor = deserializationExecutor;
     }
 
     @Override
@@ -46,7 +54,14 @@ final class SphereClientImpl extends AutoCloseableService implements SphereClien
         rejectExcutionIfClosed("Client is already closed.");
         try {
             final int ttl = 1;
-            return tokenSupplier.get().thenComposeAsync(token -> execute(sphereRequest, token, ttl));
+            final CompletionStage<String> tokenStage = tokenSupplier.get();
+            if (deserializationExecutor != null && tokenStage instanceof CompletableFuture) {
+                final CompletableFuture<String> tokenFuture = (CompletableFuture<String>) tokenStage;
+                if (tokenFuture.isDone() && !tokenFuture.isCompletedExceptionally()) {
+                    return execute(sphereRequest, tokenFuture.join(), ttl);//fast path, the token is already present
+                }
+            }
+            return thenComposeAsync(tokenStage, token -> execute(sphereRequest, token, ttl));
         } catch (final Throwable throwable) {
             return CompletableFutureUtils.failed(throwable);
         }
@@ -59,9 +74,8 @@ final class SphereClientImpl extends AutoCloseableService implements SphereClien
         logger.trace(() -> {
             final String output;
             final String httpMethodAndUrl = httpRequest.getHttpMethod() + " " + httpRequest.getUrl();
-            if (httpRequest.getBody() != null && httpRequest.getBody() instanceof StringHttpRequestBody) {
-                final StringHttpRequestBody body = (StringHttpRequestBody) httpRequest.getBody();
-                final String unformattedBody = body.getSecuredBody();
+            final String unformattedBody = httpRequest.getBody() != null ? httpRequest.getBody().getSecuredBody() : null;
+            if (unformattedBody != null) {
                 final boolean isJsonRequest = httpRequest.getHeaders().findFlatHeader(HttpHeaders.CONTENT_TYPE).map(ct -> ct.toLowerCase().contains("json")).orElse(true);
                 if (isJsonRequest) {
                     String prettyPrint;
@@ -84,20 +98,21 @@ final class SphereClientImpl extends AutoCloseableService implements SphereClien
     }
 
     private <T> CompletableFuture<T> executeWithRecover(final SphereRequest<T> sphereRequest, final HttpRequest httpRequest, final int ttl) {
-        final CompletionStage<T> intermediateResult = httpClient.execute(httpRequest).thenApplyAsync(httpResponse -> {
+        final Function<HttpResponse, T> responseProcessor = httpResponse -> {
             try {
                 return processHttpResponse(sphereRequest, objectMapper, config, httpResponse, httpRequest);
             } catch (final SphereException e) {
                 fillExceptionWithData(sphereRequest, httpResponse, e, config, httpRequest);
                 throw e;
             }
-        });
+        };
+        final CompletionStage<HttpResponse> httpResponseStage = httpClient.execute(httpRequest);
         final CompletableFuture<T> result = new CompletableFuture<T>();
-        intermediateResult.whenCompleteAsync((value, throwable) -> {
+        final BiConsumer<T, Throwable> recover = (value, throwable) -> {
             if (throwable != null) {
                 if (throwable.getCause() instanceof InvalidTokenException && ttl > 0 && tokenSupplier instanceof RefreshableSphereAccessTokenSupplier) {
                     final RefreshableSphereAccessTokenSupplier supplier = (RefreshableSphereAccessTokenSupplier) tokenSupplier;
-                    final CompletionStage<T> nextAttemptCompletionStage = supplier.getNewToken().thenComposeAsync(token -> execute(sphereRequest, token, ttl - 1));
+                    final CompletionStage<T> nextAttemptCompletionStage = thenComposeAsync(supplier.getNewToken(), token -> execute(sphereRequest, token, ttl - 1));
                     CompletableFutureUtils.transferResult(nextAttemptCompletionStage, result);
                 } else {
                     result.completeExceptionally(throwable);
@@ -105,14 +120,25 @@ final class SphereClientImpl extends AutoCloseableService implements SphereClien
             } else {
                 result.complete(value);
             }
-        });
+        };
+        if (deserializationExecutor == null) {
+            httpResponseStage.thenApplyAsync(responseProcessor).whenCompleteAsync(recover);
+        } else {
+            //the deserialization is the only hop, the result is handed over on the same thread
+            httpResponseStage.thenApplyAsync(responseProcessor, deserializationExecutor).whenComplete(recover);
+        }
         return result;
     }
 
+    private <T> CompletionStage<T> thenComposeAsync(final CompletionStage<String> tokenStage, final Function<String, CompletionStage<T>> f) {
+        return deserializationExecutor == null
+                ? tokenStage.thenComposeAsync(f)
+                : tokenStage.thenComposeAsync(f, deserializationExecutor);
+    }
+
     private <T> HttpRequest createHttpRequest(final SphereRequest<T> sphereRequest, final String token) {
         final String correlationId = correlationIdGenerator.get();
-        return sphereRequest
-                .httpRequestIntent()
+        return sphereRequest.httpRequestIntent()
                 .plusHeader(HttpHeaders.X_CORRELATION_ID, correlationId)
                 .plusHeader(HttpHeaders.USER_AGENT, userAgent)
                 .plusHeader(HttpHeaders.ACCEPT_ENCODING, "gzip")
@@ -141,8 +167,10 @@ final class SphereClientImpl extends AutoCloseableService implements SphereClien
             try {
                 result = sphereRequest.deserialize(httpResponse);
             } catch (final JsonException e) {
-                final byte[] bytes = httpResponse.getResponseBody();
-                e.addNote("Cannot parse " + bytesToString(bytes));
+                final String body = Optional.ofNullable(httpResponse.getResponseBody())
+                        .map(bytes -> bytesToString(bytes))
+                        .orElse("<empty body>");
+                e.addNote("Cannot parse " + body);
                 throw e;
             }
         }
@@ -170,12 +198,18 @@ final class SphereClientImpl extends AutoCloseableService implements SphereClien
 
     public static SphereClient of(final SphereApiConfig config, final HttpClient httpClient,
                                   final SphereAccessTokenSupplier tokenSupplier) {
-        return new SphereClientImpl(config, tokenSupplier, httpClient, CorrelationIdGenerator.of(config.getProjectKey()));
+        return new SphereClientImpl(config, tokenSupplier, httpClient, CorrelationIdGenerator.of(config.getProjectKey()), null);
     }
 
     public static SphereClient of(final SphereApiConfig config, final HttpClient httpClient,
                                   final SphereAccessTokenSupplier tokenSupplier, final CorrelationIdGenerator correlationIdGenerator) {
-        return new SphereClientImpl(config, tokenSupplier, httpClient, correlationIdGenerator);
+        return new SphereClientImpl(config, tokenSupplier, httpClient, correlationIdGenerator, null);
+    }
+
+    public static SphereClient of(final SphereApiConfig config, final HttpClient httpClient,
+                                  final SphereAccessTokenSupplier tokenSupplier, final CorrelationIdGenerator correlationIdGenerator,
+                                  @Nullable final Executor deserializationExecutor) {
+        return new SphereClientImpl(config, tokenSupplier, httpClient, correlationIdGenerator, deserializationExecutor);
     }
 
     @Override
@@ -0,0 +1,136 @@
+package io.sphere.sdk.client;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded thread pool to deserialize the responses of a {@link SphereClient} isolated from the common {@link java.util.concurrent.ForkJoinPool}.
+ *
+ * <p>The pool has a fixed amount of daemon threads and a bounded queue. If all threads are busy and the queue is full,
+ * the response is deserialized by the thread which received it, usually an I/O thread of the {@link io.sphere.sdk.http.HttpClient}.
+ * This slows down reading further responses instead of buffering an unlimited amount of them and is counted in {@link #getCallerRunsCount()}.</p>
+ *
+ * <p>The executor is not closed by the clients using it, close it after closing the clients.</p>
+ *
+ * @see SphereClientFactory#of(java.util.function.Supplier, Executor)
+ */
+public final class SphereDeserializationExecutor implements Executor, AutoCloseable {
+    private static final AtomicInteger POOL_COUNTER = new AtomicInteger();
+    private final ThreadPoolExecutor threadPoolExecutor;
+    private final int queueCapacity;
+    private final AtomicLong callerRunsCount = new AtomicLong();
+
+    private SphereDeserializationExecutor(final int threads, final int queueCapacity) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("threads must be at least 1 but was " + threads);
+        }
+        if (queueCapacity < 1) {
+            throw new IllegalArgumentException("queueCapacity must be at least 1 but was " + queueCapacity);
+        }
+        this.queueCapacity = queueCapacity;
+        this.threadPoolExecutor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), threadFactory(), (runnable, executor) -> {
+                    callerRunsCount.incrementAndGet();
+                    runnable.run();
+                });
+    }
+
+    @Override
+    public void execute(final Runnable command) {
+        threadPoolExecutor.execute(command);
+    }
+
+    /**
+     * Gets the amount of threads of this pool.
+     *
+     * @return the amount of threads
+     */
+    public int getThreads() {
+        return threadPoolExecutor.getMaximumPoolSize();
+    }
+
+    /**
+     * Gets the approximate amount of threads which are currently deserializing a response.
+     *
+     * @return the amount of busy threads
+     */
+    public int getActiveThreads() {
+        return threadPoolExecutor.getActiveCount();
+    }
+
+    /**
+     * Gets the amount of responses waiting for a free thread.
+     *
+     * @return the amount of queued responses
+     */
+    public int getQueuedTasks() {
+        return threadPoolExecutor.getQueue().size();
+    }
+
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    /**
+     * Gets the approximate amount of responses which have been deserialized by the pool threads.
+     *
+     * @return the amount of completed tasks
+     */
+    public long getCompletedTasks() {
+        return threadPoolExecutor.getCompletedTaskCount();
+    }
+
+    /**
+     * Gets how often the pool was saturated and a response has been deserialized by the submitting thread.
+     * A growing value means that the pool is too small for the load.
+     *
+     * @return the amount of tasks executed by the caller
+     */
+    public long getCallerRunsCount() {
+        return callerRunsCount.get();
+    }
+
+    /**
+     * Stops the threads after the queued responses have been deserialized.
+     * Responses submitted afterwards are deserialized by the submitting thread.
+     */
+    @Override
+    public void close() {
+        threadPoolExecutor.shutdown();
+    }
+
+    /**
+     * Creates a pool with {@code threads} threads and a queue for up to {@code queueCapacity} waiting responses.
+     *
+     * @param threads the amount of threads, at least 1
+     * @param queueCapacity the maximal amount of responses waiting for a thread, at least 1
+     * @return executor
+     */
+    public static SphereDeserializationExecutor of(final int threads, final int queueCapacity) {
+        return new SphereDeserializationExecutor(threads, queueCapacity);
+    }
+
+    /**
+     * Creates a pool with one thread per available processor and a queue for 1000 waiting responses.
+     *
+     * @return executor
+     */
+    public static SphereDeserializationExecutor of() {
+        return of(Runtime.getRuntime().availableProcessors(), 1000);
+    }
+
+    private static ThreadFactory threadFactory() {
+        final int poolNumber = POOL_COUNTER.incrementAndGet();
+        final AtomicInteger threadCounter = new AtomicInteger();
+        return runnable -> {
+            final Thread thread = new Thread(runnable, "sphere-deserialization-" + poolNumber + "-" + threadCounter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
@@ -0,0 +1,16 @@
+package io.sphere.sdk.client;
+
+import io.sphere.sdk.models.SphereException;
+
+/**
+ * Exception used by {@link QueueSphereClientDecorator} if a request is rejected because the queue for waiting requests is full.
+ *
+ * @see QueueOverflowStrategy#REJECT
+ */
+public class SphereQueueFullException extends SphereException {
+    static final long serialVersionUID = 0L;
+
+    public SphereQueueFullException(final String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,109 @@
+package io.sphere.sdk.client;
+
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Finds request classes whose class alone determines the type of the result, like {@code ProductByIdGet}.
+ * Generic requests like {@link JavaAndHttpResponseSphereRequest} leave the result type open,
+ * so two instances of the same class can produce results of different types.
+ */
+final class SphereRequestResultTypes {
+    private static final ClassValue<Boolean> FIXED_RESULT_TYPE = new ClassValue<Boolean>() {
+        @Override
+        protected Boolean computeValue(final Class<?> type) {
+            final BoundType resultType = findResultType(type, Collections.emptyMap());
+            return resultType != null && isFixed(resultType);
+        }
+    };
+
+    private SphereRequestResultTypes() {
+    }
+
+    static boolean hasFixedResultType(final Class<?> requestClass) {
+        return FIXED_RESULT_TYPE.get(requestClass);
+    }
+
+    /**
+     * Searches the type argument of {@link SphereRequest} in the type hierarchy.
+     *
+     * @return the type argument with the type variables known at its declaration or null if the class implements the raw type
+     */
+    private static BoundType findResultType(final Type type, final Map<TypeVariable<?>, BoundType> bindings) {
+        final Class<?> rawType;
+        final Map<TypeVariable<?>, BoundType> rawTypeBindings;
+        if (type instanceof ParameterizedType) {
+            final ParameterizedType parameterizedType = (ParameterizedType) type;
+            rawType = (Class<?>) parameterizedType.getRawType();
+            final Type[] typeArguments = parameterizedType.getActualTypeArguments();
+            if (rawType == SphereRequest.class) {
+                return new BoundType(typeArguments[0], bindings);
+            }
+            final TypeVariable<?>[] typeParameters = rawType.getTypeParameters();
+            rawTypeBindings = new HashMap<>();
+            for (int i = 0; i < typeParameters.length; i++) {
+                rawTypeBindings.put(typeParameters[i], new BoundType(typeArguments[i], bindings));
+            }
+        } else if (type instanceof Class) {
+            rawType = (Class<?>) type;
+            rawTypeBindings = Collections.emptyMap();
+        } else {
+            return null;
+        }
+        if (rawType == SphereRequest.class) {
+            return null;
+        }
+        final Type superclass = rawType.getGenericSuperclass();
+        if (superclass != null) {
+            final BoundType resultType = findResultType(superclass, rawTypeBindings);
+            if (resultType != null) {
+                return resultType;
+            }
+        }
+        for (final Type superInterface : rawType.getGenericInterfaces()) {
+            final BoundType resultType = findResultType(superInterface, rawTypeBindings);
+            if (resultType != null) {
+                return resultType;
+            }
+        }
+        return null;
+    }
+
+    private static boolean isFixed(final BoundType boundType) {
+        final Type type = boundType.type;
+        if (type instanceof Class) {
+            return true;
+        } else if (type instanceof TypeVariable) {
+            final BoundType binding = boundType.bindings.get(type);
+            return binding != null && isFixed(binding);
+        } else if (type instanceof ParameterizedType) {
+            for (final Type typeArgument : ((ParameterizedType) type).getActualTypeArguments()) {
+                if (!isFixed(new BoundType(typeArgument, boundType.bindings))) {
+                    return false;
+                }
+            }
+            return true;
+        } else if (type instanceof GenericArrayType) {
+            return isFixed(new BoundType(((GenericArrayType) type).getGenericComponentType(), boundType.bindings));
+        }
+        return false;
+    }
+
+    /**
+     * A type together with the values of the type variables of the class which declares it.
+     */
+    private static final class BoundType {
+        private final Type type;
+        private final Map<TypeVariable<?>, BoundType> bindings;
+
+        private BoundType(final Type type, final Map<TypeVariable<?>, BoundType> bindings) {
+            this.type = type;
+            this.bindings = bindings;
+        }
+    }
+}
@@ -1,6 +1,6 @@
 package io.sphere.sdk.client;
 
-import io.sphere.sdk.utils.CompletableFutureUtils;
+import io.sphere.sdk.utils.HashedWheelTimer;
 
 import java.time.Duration;
 import java.time.temporal.ChronoUnit;
@@ -11,9 +11,10 @@ import java.util.concurrent.*;
  * There are no guarantees that the timeout will be after the exact duration.
  * The underlying HTTP client most likely will have a timeout and you may consider to implement it there.
  * If the timeout occurs a {@link SphereTimeoutException} will be thrown.
+ * The timeouts of all decorators share the thread of {@link HashedWheelTimer#shared()} and are cancelled when the request completes.
  */
 public final class TimeoutSphereClientDecorator extends SphereClientDecorator implements SphereClient {
-    private final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(1);
+    private final HashedWheelTimer timer = HashedWheelTimer.shared();
     private final long delay;
     private final TimeUnit timeUnit;
 
@@ -34,15 +35,18 @@ public final class TimeoutSphereClientDecorator extends SphereClientDecorator im
     @Override
     public <T> CompletionStage<T> execute(final SphereRequest<T> sphereRequest) {
         final CompletableFuture<T> result = new CompletableFuture<>();
+        //the dependent stages of the caller must not run on the timer thread
+        final HashedWheelTimer.Timeout timeout = timer.schedule(() -> result.completeExceptionally(new SphereTimeoutException(new TimeoutException())),
+                delay, timeUnit, ForkJoinPool.commonPool());
         final CompletionStage<T> prevResult = super.execute(sphereRequest);
-        CompletableFutureUtils.transferResult(prevResult, result);
-        scheduler.schedule(() -> result.completeExceptionally(new SphereTimeoutException(new TimeoutException())), delay, timeUnit);
+        prevResult.whenComplete((value, throwable) -> {
+            timeout.cancel();
+            if (throwable != null) {
+                result.completeExceptionally(throwable);
+            } else {
+                result.complete(value);
+            }
+        });
         return result;
     }
-
-    @Override
-    public void close() {
-        scheduler.shutdown();
-        super.close();
-    }
 }
@@ -6,10 +6,15 @@ import io.sphere.sdk.http.HttpResponse;
 import io.sphere.sdk.models.Base;
 import org.junit.Test;
 
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
 
+import static java.util.stream.Collectors.toList;
 import static org.assertj.core.api.Assertions.assertThat;
 
 public class AutoRefreshSphereAccessTokenSupplierImplTest {
@@ -29,6 +34,52 @@ public class AutoRefreshSphereAccessTokenSupplierImplTest {
         assertThat(AuthActor.selectNextRetryTime(20 * aDay)).as("max one day").isEqualTo(aDay);
         assertThat(AuthActor.selectNextRetryTime((long)(0.5 * aDay))).as("half the time of the expire time").isEqualTo(aDay / 4);
         assertThat(AuthActor.selectNextRetryTime(-100L)).as("at least a second").isEqualTo(1L);
+        assertThat(AuthActor.selectNextRetryTime(1000L, 0.8)).as("refresh ahead ratio").isEqualTo(800L);
+    }
+
+    @Test
+    public void concurrentNewTokenRequestsShareOneFetch() throws Exception {
+        final List<CompletableFuture<HttpResponse>> responses = new CopyOnWriteArrayList<>();
+        final HttpClient httpClient = new HttpClient() {
+            @Override
+            public CompletionStage<HttpResponse> execute(final HttpRequest httpRequest) {
+                final CompletableFuture<HttpResponse> response = new CompletableFuture<>();
+                responses.add(response);
+                return response;
+            }
+
+            @Override
+            public void close() {
+
+            }
+        };
+        try (final RefreshableSphereAccessTokenSupplier supplier = (RefreshableSphereAccessTokenSupplier)
+                AutoRefreshSphereAccessTokenSupplierImpl.createAndBeginRefreshInBackground(SphereAuthConfig.of("project-key", "client-id", "clientSecret"), httpClient, true)) {
+            waitForRequests(responses, 1);
+            responses.get(0).complete(HttpResponse.of(200, "{\"access_token\": \"old-token\", \"expires_in\": 3600}"));
+            assertThat(supplier.get().toCompletableFuture().get(5, TimeUnit.SECONDS)).isEqualTo("old-token");
+
+            final List<CompletableFuture<String>> newTokens = IntStream.range(0, 50)
+                    .parallel()
+                    .mapToObj(i -> supplier.getNewToken().toCompletableFuture())
+                    .collect(toList());
+            waitForRequests(responses, 2);
+            responses.get(1).complete(HttpResponse.of(200, "{\"access_token\": \"new-token\", \"expires_in\": 7200}"));
+
+            for (final CompletableFuture<String> newToken : newTokens) {
+                assertThat(newToken.get(5, TimeUnit.SECONDS)).isEqualTo("new-token");
+            }
+            assertThat(responses).hasSize(2);
+            assertThat(supplier.get().toCompletableFuture().get(5, TimeUnit.SECONDS)).isEqualTo("new-token");
+        }
+    }
+
+    private static void waitForRequests(final List<?> responses, final int count) throws InterruptedException {
+        final long deadline = System.currentTimeMillis() + 5000;
+        while (responses.size() < count && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(responses).hasSize(count);
     }
 
     private TestDoubleHttpClient getHttpClient() {
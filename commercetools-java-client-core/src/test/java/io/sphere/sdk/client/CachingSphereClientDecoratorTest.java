@@ -0,0 +1,178 @@
+package io.sphere.sdk.client;
+
+import io.sphere.sdk.http.HttpHeaders;
+import io.sphere.sdk.http.HttpMethod;
+import io.sphere.sdk.http.HttpResponse;
+import io.sphere.sdk.utils.CompletableFutureUtils;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CachingSphereClientDecoratorTest {
+    private static final ResponseCacheConfig CONFIG = ResponseCacheConfig.of(1024 * 1024)
+            .withTtl("/product-types", Duration.ofMinutes(1));
+
+    @Test
+    public void answersFromCacheWithinTtl() throws Exception {
+        final RecordingSphereClient delegate = new RecordingSphereClient();
+        delegate.respond(HttpResponse.of(200, "product types"));
+        try (final CachingSphereClientDecorator client = CachingSphereClientDecorator.of(delegate, CONFIG)) {
+            final StringRequest first = new StringRequest("/product-types?limit=500");
+            final StringRequest second = new StringRequest("/product-types?limit=500");
+            assertThat(client.execute(first).toCompletableFuture().join()).isEqualTo("product types");
+            assertThat(client.execute(second).toCompletableFuture().join()).isEqualTo("product types");
+
+            assertThat(delegate.sentIntents).hasSize(1);
+            assertThat(second.deserializations).as("cached responses are deserialized again").isEqualTo(1);
+            final ResponseCacheMetrics metrics = client.getMetrics();
+            assertThat(metrics.getHits()).isEqualTo(1);
+            assertThat(metrics.getMisses()).isEqualTo(1);
+            assertThat(metrics.getEntries()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    public void doesNotCacheEndpointsWithoutTtl() throws Exception {
+        final RecordingSphereClient delegate = new RecordingSphereClient();
+        delegate.respond(HttpResponse.of(200, "carts"));
+        delegate.respond(HttpResponse.of(200, "carts"));
+        try (final CachingSphereClientDecorator client = CachingSphereClientDecorator.of(delegate, CONFIG)) {
+            client.execute(new StringRequest("/carts")).toCompletableFuture().join();
+            client.execute(new StringRequest("/carts")).toCompletableFuture().join();
+            assertThat(delegate.sentIntents).hasSize(2);
+            assertThat(client.getMetrics().getEntries()).isZero();
+        }
+    }
+
+    @Test
+    public void revalidatesExpiredResponseWithETag() throws Exception {
+        final RecordingSphereClient delegate = new RecordingSphereClient();
+        delegate.respond(HttpResponse.of(200, "zones", HttpHeaders.of(HttpHeaders.ETAG, "\"v1\"")));
+        delegate.respond(HttpResponse.of(304));
+        final ResponseCacheConfig config = ResponseCacheConfig.of(1024).withTtl("/zones", Duration.ofMillis(1));
+        try (final CachingSphereClientDecorator client = CachingSphereClientDecorator.of(delegate, config)) {
+            client.execute(new StringRequest("/zones")).toCompletableFuture().join();
+            Thread.sleep(10);
+            assertThat(client.execute(new StringRequest("/zones")).toCompletableFuture().join()).isEqualTo("zones");
+
+            assertThat(delegate.sentIntents.get(1).getHeaders().findFlatHeader(HttpHeaders.IF_NONE_MATCH)).contains("\"v1\"");
+            assertThat(client.getMetrics().getRevalidations()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    public void returnsStaleResponseWhileRevalidating() throws Exception {
+        final RecordingSphereClient delegate = new RecordingSphereClient();
+        delegate.respond(HttpResponse.of(200, "old channels"));
+        final ResponseCacheConfig config = ResponseCacheConfig.of(1024)
+                .withTtl("/channels", Duration.ofMillis(200))
+                .withStaleWhileRevalidate(Duration.ofMinutes(1));
+        try (final CachingSphereClientDecorator client = CachingSphereClientDecorator.of(delegate, config)) {
+            client.execute(new StringRequest("/channels")).toCompletableFuture().join();
+            Thread.sleep(250);
+            final CompletableFuture<HttpResponse> pendingRefresh = delegate.respondLater();
+
+            assertThat(client.execute(new StringRequest("/channels")).toCompletableFuture().join()).isEqualTo("old channels");
+            assertThat(client.execute(new StringRequest("/channels")).toCompletableFuture().join()).isEqualTo("old channels");
+            assertThat(delegate.sentIntents).as("only one refresh at a time").hasSize(2);
+
+            pendingRefresh.complete(HttpResponse.of(200, "new channels"));
+            assertThat(client.execute(new StringRequest("/channels")).toCompletableFuture().join()).isEqualTo("new channels");
+            assertThat(client.getMetrics().getStaleHits()).isEqualTo(2);
+        }
+    }
+
+    @Test
+    public void evictsLeastRecentlyUsedResponses() throws Exception {
+        final RecordingSphereClient delegate = new RecordingSphereClient();
+        delegate.respond(HttpResponse.of(200, "aaaaaaaaaaaaaaaaaaaa"));
+        delegate.respond(HttpResponse.of(200, "bbbbbbbbbbbbbbbbbbbb"));
+        delegate.respond(HttpResponse.of(200, "cccccccccccccccccccc"));
+        final ResponseCacheConfig config = ResponseCacheConfig.of(80).withTtl("/product-types", Duration.ofMinutes(1));
+        try (final CachingSphereClientDecorator client = CachingSphereClientDecorator.of(delegate, config)) {
+            client.execute(new StringRequest("/product-types/a")).toCompletableFuture().join();
+            client.execute(new StringRequest("/product-types/b")).toCompletableFuture().join();
+            client.execute(new StringRequest("/product-types/a")).toCompletableFuture().join();
+            client.execute(new StringRequest("/product-types/c")).toCompletableFuture().join();
+
+            final ResponseCacheMetrics metrics = client.getMetrics();
+            assertThat(metrics.getEvictions()).isEqualTo(1);
+            assertThat(metrics.getEntries()).isEqualTo(2);
+            assertThat(metrics.getSizeInBytes()).isLessThanOrEqualTo(80);
+            client.execute(new StringRequest("/product-types/a")).toCompletableFuture().join();
+            assertThat(delegate.sentIntents).as("a has been used more recently than b").hasSize(3);
+        }
+    }
+
+    private static final class StringRequest implements SphereRequest<String> {
+        private final String path;
+        private int deserializations = 0;
+
+        private StringRequest(final String path) {
+            this.path = path;
+        }
+
+        @Override
+        public String deserialize(final HttpResponse httpResponse) {
+            deserializations++;
+            return new String(httpResponse.getResponseBody(), StandardCharsets.UTF_8);
+        }
+
+        @Override
+        public HttpRequestIntent httpRequestIntent() {
+            return HttpRequestIntent.of(HttpMethod.GET, path);
+        }
+    }
+
+    /**
+     * Processes responses like {@link SphereClientImpl} with {@link SphereRequest#canDeserialize(HttpResponse)}.
+     */
+    private static final class RecordingSphereClient implements SphereClient {
+        private final Queue<CompletableFuture<HttpResponse>> responses = new LinkedList<>();
+        private final List<HttpRequestIntent> sentIntents = new ArrayList<>();
+
+        private void respond(final HttpResponse httpResponse) {
+            responses.add(CompletableFuture.completedFuture(httpResponse));
+        }
+
+        private CompletableFuture<HttpResponse> respondLater() {
+            final CompletableFuture<HttpResponse> response = new CompletableFuture<>();
+            responses.add(response);
+            return response;
+        }
+
+        @Override
+        public <T> CompletionStage<T> execute(final SphereRequest<T> sphereRequest) {
+            sentIntents.add(sphereRequest.httpRequestIntent());
+            final CompletableFuture<HttpResponse> response = responses.poll();
+            if (response == null) {
+                return CompletableFutureUtils.failed(new IllegalStateException("no response left"));
+            }
+            return response.thenApply(httpResponse -> {
+                if (!sphereRequest.canDeserialize(httpResponse)) {
+                    throw new IllegalStateException("cannot deserialize " + httpResponse.getStatusCode());
+                }
+                return sphereRequest.deserialize(httpResponse);
+            });
+        }
+
+        @Override
+        public void close() {
+
+        }
+
+        @Override
+        public SphereApiConfig getConfig() {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package io.sphere.sdk.client;
+
+import io.sphere.sdk.utils.CompletableFutureUtils;
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+public class CircuitBreakerSphereClientDecoratorTest {
+    private static final CircuitBreakerConfig CONFIG = CircuitBreakerConfig.of()
+            .withSlidingWindowSize(10)
+            .withMinimumNumberOfCalls(4)
+            .withPermittedCallsInHalfOpenState(2)
+            .withOpenDuration(Duration.ofSeconds(1));
+
+    @Test
+    public void opensOnServerErrorsAndFailsFast() throws Exception {
+        final AtomicInteger sentRequests = new AtomicInteger();
+        final SphereClient failingClient = respondingClient(() -> {
+            sentRequests.incrementAndGet();
+            return CompletableFutureUtils.failed(new GatewayTimeoutException());
+        });
+        try (final CircuitBreakerSphereClientDecorator client = CircuitBreakerSphereClientDecorator.of(failingClient, CONFIG)) {
+            IntStream.range(0, 4).forEach(i -> executeIgnoringErrors(client));
+            assertThat(client.getState("/foo")).isEqualTo(CircuitBreakerState.OPEN);
+
+            final Throwable throwable = catchThrowable(() -> client.execute(DummySphereRequest.of()).toCompletableFuture().join());
+            assertThat(throwable).hasCauseInstanceOf(SphereCircuitBreakerOpenException.class);
+            assertThat(sentRequests.get()).isEqualTo(4);
+            assertThat(client.getSnapshots()).hasSize(1);
+            assertThat(client.getSnapshots().get(0).getRejectedCalls()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    public void clientErrorsDoNotOpen() throws Exception {
+        final SphereClient failingClient = respondingClient(() -> CompletableFutureUtils.failed(new NotFoundException()));
+        try (final CircuitBreakerSphereClientDecorator client = CircuitBreakerSphereClientDecorator.of(failingClient, CONFIG)) {
+            IntStream.range(0, 10).forEach(i -> executeIgnoringErrors(client));
+            assertThat(client.getState("/foo")).isEqualTo(CircuitBreakerState.CLOSED);
+        }
+    }
+
+    @Test
+    public void synchronousExceptionsCountAsFailures() throws Exception {
+        final SphereClient throwingClient = respondingClient(() -> {
+            throw new IllegalStateException("thrown before returning a future");
+        });
+        try (final CircuitBreakerSphereClientDecorator client = CircuitBreakerSphereClientDecorator.of(throwingClient, CONFIG)) {
+            final CompletionStage<String> result = client.execute(DummySphereRequest.of());
+            assertThat(catchThrowable(() -> result.toCompletableFuture().join())).hasCauseInstanceOf(IllegalStateException.class);
+            IntStream.range(0, 3).forEach(i -> executeIgnoringErrors(client));
+            assertThat(client.getState("/foo")).isEqualTo(CircuitBreakerState.OPEN);
+        }
+    }
+
+    @Test
+    public void createsIntentOnlyOnce() throws Exception {
+        final IntentCountingSphereRequest request = new IntentCountingSphereRequest();
+        final SphereClient delegate = respondingClient(() -> CompletableFutureUtils.successful("hello"));
+        try (final CircuitBreakerSphereClientDecorator client = CircuitBreakerSphereClientDecorator.of(delegate, CONFIG)) {
+            assertThat(client.execute(request).toCompletableFuture().join()).isEqualTo("hello");
+            assertThat(request.getCreatedIntents()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    public void closesAfterSuccessfulProbes() throws Exception {
+        final CircuitBreakerSphereClientDecorator.CircuitBreaker circuitBreaker = new CircuitBreakerSphereClientDecorator.CircuitBreaker(CONFIG);
+        final long start = System.nanoTime();
+        IntStream.range(0, 4).forEach(i -> circuitBreaker.onComplete(circuitBreaker.tryAcquire(start), true, false, start));
+        assertThat(circuitBreaker.snapshot("/foo").getState()).isEqualTo(CircuitBreakerState.OPEN);
+        assertThat(circuitBreaker.tryAcquire(start + TimeUnit.MILLISECONDS.toNanos(500))).isNegative();
+
+        final long afterOpenDuration = start + TimeUnit.SECONDS.toNanos(1);
+        final long firstProbe = circuitBreaker.tryAcquire(afterOpenDuration);
+        final long secondProbe = circuitBreaker.tryAcquire(afterOpenDuration);
+        assertThat(circuitBreaker.tryAcquire(afterOpenDuration)).as("only two probes are permitted").isNegative();
+        assertThat(circuitBreaker.snapshot("/foo").getState()).isEqualTo(CircuitBreakerState.HALF_OPEN);
+
+        circuitBreaker.onComplete(firstProbe, false, false, afterOpenDuration);
+        circuitBreaker.onComplete(secondProbe, false, false, afterOpenDuration);
+        assertThat(circuitBreaker.snapshot("/foo").getState()).isEqualTo(CircuitBreakerState.CLOSED);
+    }
+
+    @Test
+    public void reopensAfterSlowProbe() throws Exception {
+        final CircuitBreakerSphereClientDecorator.CircuitBreaker circuitBreaker = new CircuitBreakerSphereClientDecorator.CircuitBreaker(CONFIG);
+        final long start = System.nanoTime();
+        IntStream.range(0, 4).forEach(i -> circuitBreaker.onComplete(circuitBreaker.tryAcquire(start), false, true, start));
+        assertThat(circuitBreaker.snapshot("/foo").getState()).isEqualTo(CircuitBreakerState.OPEN);
+
+        final long afterOpenDuration = start + TimeUnit.SECONDS.toNanos(1);
+        circuitBreaker.onComplete(circuitBreaker.tryAcquire(afterOpenDuration), false, true, afterOpenDuration);
+        assertThat(circuitBreaker.snapshot("/foo").getState()).isEqualTo(CircuitBreakerState.OPEN);
+    }
+
+    private static void executeIgnoringErrors(final SphereClient client) {
+        client.execute(DummySphereRequest.of()).toCompletableFuture().handle((value, throwable) -> value).join();
+    }
+
+    private static SphereClient respondingClient(final Supplier<CompletionStage<?>> response) {
+        return new SphereClient() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <T> CompletionStage<T> execute(final SphereRequest<T> sphereRequest) {
+                return (CompletionStage<T>) response.get();
+            }
+
+            @Override
+            public void close() {
+
+            }
+
+            @Override
+            public SphereApiConfig getConfig() {
+                return null;
+            }
+        };
+    }
+}
@@ -0,0 +1,30 @@
+package io.sphere.sdk.client;
+
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class EndpointsTest {
+    @Test
+    public void resourceIsFirstPathSegment() throws Exception {
+        assertThat(Endpoints.resource("/products/abc?expand=productType")).isEqualTo("/products");
+        assertThat(Endpoints.resource("/carts?where=foo")).isEqualTo("/carts");
+        assertThat(Endpoints.resource("/")).isEqualTo("/");
+    }
+
+    @Test
+    public void fixedPrefixConsistsOfFixedSegments() throws Exception {
+        assertThat(Endpoints.fixedPrefix("/product-projections/search?text.en=foo")).isEqualTo("/product-projections/search");
+        assertThat(Endpoints.fixedPrefix("/carts/6fd3b1f8-8a0a-4d5c-9f3b-0c5c2b4a1e7d")).isEqualTo("/carts");
+        assertThat(Endpoints.fixedPrefix("/products/key=foo?expand=productType")).isEqualTo("/products");
+        assertThat(Endpoints.fixedPrefix("/")).isEqualTo("/");
+    }
+
+    @Test
+    public void normalizeReplacesVariableSegments() throws Exception {
+        assertThat(Endpoints.normalize("/products/6b2f5a5e-7e5f-4c3f-9b3f-2d1c8f3e7a10?expand=productType")).isEqualTo("/products/{id}");
+        assertThat(Endpoints.normalize("/products/key=shoe-42")).isEqualTo("/products/key={value}");
+        assertThat(Endpoints.normalize("/product-projections/search?text.en=foo")).isEqualTo("/product-projections/search");
+        assertThat(Endpoints.normalize("/")).isEqualTo("/");
+    }
+}
@@ -0,0 +1,135 @@
+package io.sphere.sdk.client;
+
+import io.sphere.sdk.utils.CompletableFutureUtils;
+import org.junit.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class HedgingSphereClientDecoratorTest {
+
+    @Test
+    public void hedgesSlowRequestAndReturnsFirstResponse() throws Exception {
+        final AtomicInteger calls = new AtomicInteger();
+        final CompletableFuture<String> neverCompleting = new CompletableFuture<>();
+        final SlowOnceSphereClient delegate = new SlowOnceSphereClient(calls, neverCompleting);
+        try (final HedgingSphereClientDecorator client = HedgingSphereClientDecorator.of(delegate, 0.5, 1.0)) {
+            warmUp(client);
+            assertThat(client.getHedgeDelayMillis("/foo")).isPresent();
+            delegate.slowCall.set(calls.get() + 1);
+
+            final String result = client.execute(DummySphereRequest.of()).toCompletableFuture().get(5, TimeUnit.SECONDS);
+
+            assertThat(result).isEqualTo(DummySphereRequest.DEFAULT_RESPONSE_OBJECT);
+            assertThat(client.getHedgedRequests()).isEqualTo(1);
+            assertThat(neverCompleting).isNotDone();
+        }
+    }
+
+    @Test
+    public void doesNotHedgeWithoutKnownLatencies() throws Exception {
+        final AtomicInteger calls = new AtomicInteger();
+        final CompletableFuture<String> slowResponse = new CompletableFuture<>();
+        final SlowOnceSphereClient delegate = new SlowOnceSphereClient(calls, slowResponse);
+        delegate.slowCall.set(1);
+        try (final HedgingSphereClientDecorator client = HedgingSphereClientDecorator.of(delegate)) {
+            final CompletableFuture<String> result = client.execute(DummySphereRequest.of()).toCompletableFuture();
+            Thread.sleep(100);
+            assertThat(result).isNotDone();
+            assertThat(calls.get()).isEqualTo(1);
+            slowResponse.complete("slow");
+            assertThat(result.join()).isEqualTo("slow");
+            assertThat(client.getHedgedRequests()).isZero();
+        }
+    }
+
+    @Test
+    public void failsIfHedgeThrowsAndPrimaryFails() throws Exception {
+        final AtomicInteger calls = new AtomicInteger();
+        final CompletableFuture<String> slowResponse = new CompletableFuture<>();
+        final SlowOnceSphereClient delegate = new SlowOnceSphereClient(calls, slowResponse);
+        try (final HedgingSphereClientDecorator client = HedgingSphereClientDecorator.of(delegate, 0.5, 1.0)) {
+            warmUp(client);
+            delegate.slowCall.set(calls.get() + 1);
+            delegate.throwingCall.set(calls.get() + 2);
+
+            final CompletableFuture<String> result = client.execute(DummySphereRequest.of()).toCompletableFuture();
+            while (calls.get() < delegate.throwingCall.get()) {
+                Thread.sleep(1);
+            }
+            slowResponse.completeExceptionally(new IllegalStateException("primary"));
+
+            assertThatThrownBy(() -> result.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(IllegalStateException.class);
+            assertThat(client.getHedgedRequests()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    public void createsIntentOnlyOnce() throws Exception {
+        final IntentCountingSphereRequest request = new IntentCountingSphereRequest();
+        final SlowOnceSphereClient delegate = new SlowOnceSphereClient(new AtomicInteger(), new CompletableFuture<>());
+        try (final HedgingSphereClientDecorator client = HedgingSphereClientDecorator.of(delegate)) {
+            assertThat(client.execute(request).toCompletableFuture().join()).isEqualTo(DummySphereRequest.DEFAULT_RESPONSE_OBJECT);
+            assertThat(request.getCreatedIntents()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    public void hedgeDelayIsPercentileOfLatestLatencies() throws Exception {
+        final HedgingSphereClientDecorator.LatencyTracker tracker = new HedgingSphereClientDecorator.LatencyTracker(0.9);
+        IntStream.rangeClosed(1, 63).forEach(tracker::record);
+        assertThat(tracker.getHedgeDelayNanos()).isZero();
+        tracker.record(64);
+        assertThat(tracker.getHedgeDelayNanos()).isEqualTo(58);
+    }
+
+    private static void warmUp(final SphereClient client) {
+        IntStream.range(0, 128).forEach(i -> client.execute(DummySphereRequest.of()).toCompletableFuture().join());
+    }
+
+    private static final class SlowOnceSphereClient implements SphereClient {
+        private final AtomicInteger calls;
+        private final CompletableFuture<String> slowResponse;
+        private final AtomicInteger slowCall = new AtomicInteger(-1);
+        private final AtomicInteger throwingCall = new AtomicInteger(-1);
+
+        private SlowOnceSphereClient(final AtomicInteger calls, final CompletableFuture<String> slowResponse) {
+            this.calls = calls;
+            this.slowResponse = slowResponse;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> CompletionStage<T> execute(final SphereRequest<T> sphereRequest) {
+            final int call = calls.incrementAndGet();
+            if (call == slowCall.get()) {
+                return (CompletionStage<T>) slowResponse;
+            }
+            if (call == throwingCall.get()) {
+                throw new IllegalStateException("hedge");
+            }
+            try {
+                Thread.sleep(1);
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return CompletableFutureUtils.successful((T) DummySphereRequest.DEFAULT_RESPONSE_OBJECT);
+        }
+
+        @Override
+        public void close() {
+
+        }
+
+        @Override
+        public SphereApiConfig getConfig() {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package io.sphere.sdk.client;
+
+import io.sphere.sdk.http.HttpMethod;
+import io.sphere.sdk.http.HttpResponse;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Request which counts how often its {@link HttpRequestIntent} has been created.
+ */
+public class IntentCountingSphereRequest implements SphereRequest<String> {
+    private final AtomicInteger createdIntents = new AtomicInteger();
+
+    @Override
+    public String deserialize(final HttpResponse httpResponse) {
+        return DummySphereRequest.DEFAULT_RESPONSE_OBJECT;
+    }
+
+    @Override
+    public HttpRequestIntent httpRequestIntent() {
+        createdIntents.incrementAndGet();
+        return HttpRequestIntent.of(HttpMethod.GET, "/foo");
+    }
+
+    public int getCreatedIntents() {
+        return createdIntents.get();
+    }
+}
@@ -0,0 +1,112 @@
+package io.sphere.sdk.client;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link PriorityQueueSphereClientDecorator}.
+ */
+public class PriorityQueueSphereClientDecoratorTest {
+    private static final String CHECKOUT = "checkout";
+    private static final String IMPORT = "import";
+
+    @Test
+    public void lanesAreServedByWeight() throws Exception {
+        final ManuallyAnsweringSphereClient delegate = new ManuallyAnsweringSphereClient();
+        final PriorityQueueSphereClientDecorator client = PriorityQueueSphereClientDecorator.of(delegate, 1,
+                asList(RequestLane.of(CHECKOUT, 3, 10), RequestLane.of(IMPORT, 1, 10)), IMPORT);
+        client.execute(DummySphereRequest.of("blocker"));
+        for (int i = 0; i < 10; i++) {
+            client.execute(DummySphereRequest.of(IMPORT));
+        }
+        for (int i = 0; i < 10; i++) {
+            client.execute(PrioritizedSphereRequest.of(DummySphereRequest.of(CHECKOUT), CHECKOUT));
+        }
+        assertThat(client.getQueueDepth(IMPORT)).isEqualTo(10);
+        assertThat(client.getQueueDepth(CHECKOUT)).isEqualTo(10);
+
+        for (int i = 0; i < 8; i++) {
+            delegate.answerNext();
+        }
+
+        final List<String> startedAfterBlocker = delegate.getMarkers().subList(1, 9);
+        assertThat(startedAfterBlocker.stream().filter(CHECKOUT::equals).count()).isEqualTo(6);
+        assertThat(startedAfterBlocker.stream().filter(IMPORT::equals).count()).isEqualTo(2);
+        assertThat(client.getQueueDepths()).containsEntry(CHECKOUT, 4).containsEntry(IMPORT, 8);
+    }
+
+    @Test
+    public void laneLimitIsRespected() throws Exception {
+        final ManuallyAnsweringSphereClient delegate = new ManuallyAnsweringSphereClient();
+        final PriorityQueueSphereClientDecorator client = PriorityQueueSphereClientDecorator.of(delegate, 10,
+                asList(RequestLane.of(CHECKOUT, 1, 10), RequestLane.of(IMPORT, 1, 2)), CHECKOUT);
+        for (int i = 0; i < 5; i++) {
+            client.execute(PrioritizedSphereRequest.of(DummySphereRequest.of(IMPORT), IMPORT));
+        }
+        final CompletionStage<String> checkoutResult = client.execute(DummySphereRequest.of(CHECKOUT));
+
+        assertThat(client.getRunningRequests(IMPORT)).isEqualTo(2);
+        assertThat(client.getQueueDepth(IMPORT)).isEqualTo(3);
+        assertThat(client.getRunningRequests(CHECKOUT)).isEqualTo(1);
+        assertThat(delegate.getMarkers()).containsExactly(IMPORT, IMPORT, CHECKOUT);
+        delegate.answer(2);
+        assertThat(checkoutResult.toCompletableFuture()).isCompletedWithValue(DummySphereRequest.DEFAULT_RESPONSE_OBJECT);
+    }
+
+    @Test
+    public void unknownLaneUsesDefaultLane() throws Exception {
+        final ManuallyAnsweringSphereClient delegate = new ManuallyAnsweringSphereClient();
+        final PriorityQueueSphereClientDecorator client = PriorityQueueSphereClientDecorator.of(delegate, 1,
+                asList(RequestLane.of(CHECKOUT, 1, 1), RequestLane.of(IMPORT, 1, 1)), IMPORT);
+        client.execute(DummySphereRequest.of());
+        client.execute(PrioritizedSphereRequest.of(DummySphereRequest.of(), "unknown"));
+        assertThat(client.getQueueDepth(IMPORT)).isEqualTo(1);
+    }
+
+    private static class ManuallyAnsweringSphereClient implements SphereClient {
+        private final List<String> markers = new ArrayList<>();
+        private final List<CompletableFuture<String>> responses = new ArrayList<>();
+        private int answered = 0;
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> CompletionStage<T> execute(final SphereRequest<T> sphereRequest) {
+            final SphereRequest<T> request = sphereRequest instanceof PrioritizedSphereRequest
+                    ? ((PrioritizedSphereRequest<T>) sphereRequest).delegate
+                    : sphereRequest;
+            markers.add(((DummySphereRequest) request).getMarker());
+            final CompletableFuture<String> response = new CompletableFuture<>();
+            responses.add(response);
+            return (CompletionStage<T>) response;
+        }
+
+        void answerNext() {
+            answer(answered);
+        }
+
+        void answer(final int index) {
+            answered++;
+            responses.get(index).complete(DummySphereRequest.DEFAULT_RESPONSE_OBJECT);
+        }
+
+        List<String> getMarkers() {
+            return markers;
+        }
+
+        @Override
+        public void close() {
+        }
+
+        @Override
+        public SphereApiConfig getConfig() {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package io.sphere.sdk.client;
+
+import io.sphere.sdk.client.QueueSphereClientDecoratorActor.AsyncTask;
+import io.sphere.sdk.utils.CompletableFutureUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Compares the throughput of {@link QueueSphereClientDecorator} with the former actor based implementation.
+ * The delegate answers immediately on a small pool which simulates the I/O threads of an HTTP client,
+ * so the measured time is dominated by the overhead of the queueing.
+ *
+ * <p>Run with {@code mvn exec:java -Dexec.mainClass=io.sphere.sdk.client.QueueSphereClientDecoratorBenchmark -Dexec.classpathScope=test}.</p>
+ */
+public final class QueueSphereClientDecoratorBenchmark {
+    private static final int MAX_PARALLEL_REQUESTS = 20;
+    private static final int PRODUCER_THREADS = 8;
+    private static final int REQUESTS_PER_PRODUCER = 10_000;
+    private static final int ROUNDS = 3;
+
+    public static void main(final String[] args) throws Exception {
+        final ExecutorService ioThreads = Executors.newFixedThreadPool(4);
+        final ExecutorService producers = Executors.newFixedThreadPool(PRODUCER_THREADS);
+        try {
+            final SphereClient delegate = new ImmediatelyAnsweringSphereClient(ioThreads);
+            for (int round = 1; round <= ROUNDS; round++) {
+                run("actor      ", round, producers, delegate, d -> new ActorQueueSphereClient(d, MAX_PARALLEL_REQUESTS));
+                run("lock-free  ", round, producers, delegate, d -> QueueSphereClientDecorator.of(d, MAX_PARALLEL_REQUESTS, false));
+            }
+        } finally {
+            producers.shutdownNow();
+            ioThreads.shutdownNow();
+        }
+    }
+
+    private static void run(final String name, final int round, final ExecutorService producers, final SphereClient delegate,
+                            final Function<SphereClient, SphereClient> decoratorFactory) throws Exception {
+        final SphereClient client = decoratorFactory.apply(delegate);
+        final DummySphereRequest request = DummySphereRequest.of();
+        final long start = System.nanoTime();
+        final List<CompletableFuture<Void>> producerResults = new ArrayList<>();
+        for (int i = 0; i < PRODUCER_THREADS; i++) {
+            producerResults.add(CompletableFuture.supplyAsync(() -> {
+                final List<CompletableFuture<String>> results = new ArrayList<>(REQUESTS_PER_PRODUCER);
+                for (int j = 0; j < REQUESTS_PER_PRODUCER; j++) {
+                    results.add(client.execute(request).toCompletableFuture());
+                }
+                return CompletableFuture.allOf(results.toArray(new CompletableFuture[results.size()]));
+            }, producers).thenCompose(f -> f));
+        }
+        CompletableFuture.allOf(producerResults.toArray(new CompletableFuture[producerResults.size()])).get(5, TimeUnit.MINUTES);
+        final long elapsedNanos = System.nanoTime() - start;
+        client.close();
+        final int total = PRODUCER_THREADS * REQUESTS_PER_PRODUCER;
+        System.out.printf("round %d %s %,10d requests in %6d ms, %,12.0f req/s%n",
+                round, name, total, TimeUnit.NANOSECONDS.toMillis(elapsedNanos), total / (elapsedNanos / 1e9));
+    }
+
+    private static final class ImmediatelyAnsweringSphereClient implements SphereClient {
+        private final ExecutorService ioThreads;
+
+        private ImmediatelyAnsweringSphereClient(final ExecutorService ioThreads) {
+            this.ioThreads = ioThreads;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> CompletionStage<T> execute(final SphereRequest<T> sphereRequest) {
+            return CompletableFuture.supplyAsync(() -> (T) "result", ioThreads);
+        }
+
+        @Override
+        public void close() {
+        }
+
+        @Override
+        public SphereApiConfig getConfig() {
+            return null;
+        }
+    }
+
+    /**
+     * The implementation of {@link QueueSphereClientDecorator} before it has been replaced by {@link ParallelRequestsLimiter}.
+     */
+    private static final class ActorQueueSphereClient extends SphereClientDecorator {
+        private final Actor actor;
+
+        private ActorQueueSphereClient(final SphereClient delegate, final int maxParallelRequests) {
+            super(delegate);
+            this.actor = new QueueSphereClientDecoratorActor(maxParallelRequests);
+        }
+
+        @Override
+        public <T> CompletionStage<T> execute(final SphereRequest<T> sphereRequest) {
+            final CompletableFuture<T> promiseForTheClient = new CompletableFuture<>();
+            actor.tell(new AsyncTask(() -> {
+                final CompletionStage<T> realFuture = super.execute(sphereRequest);
+                CompletableFutureUtils.transferResult(realFuture, promiseForTheClient);
+                final CompletableFuture<String> forHandlerFuture = new CompletableFuture<>();
+                realFuture.whenComplete((v, e) -> forHandlerFuture.complete("done"));
+                return forHandlerFuture;
+            }));
+            return promiseForTheClient;
+        }
+
+        @Override
+        public void close() {
+            AutoCloseableService.closeQuietly(actor);
+        }
+    }
+}
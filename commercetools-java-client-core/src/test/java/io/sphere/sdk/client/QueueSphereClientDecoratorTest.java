@@ -4,14 +4,17 @@ import io.sphere.sdk.models.Base;
 import io.sphere.sdk.utils.CompletableFutureUtils;
 import org.junit.Test;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
 
 import static io.sphere.sdk.client.ClientTestWrapper.execute;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 public class QueueSphereClientDecoratorTest {
 
@@ -59,6 +62,65 @@ public class QueueSphereClientDecoratorTest {
         assertThat(delegate.getUsageCounter()).isEqualTo(numberOfRequests);
     }
 
+    @Test
+    public void rejectsRequestsIfQueueIsFull() throws Exception {
+        final FakeSphereClient delegate = new FakeSphereClient();
+        final SphereClient client = QueueSphereClientDecorator.of(delegate, 2, 3, QueueOverflowStrategy.REJECT);
+        final List<CompletableFuture<String>> results = new LinkedList<>();
+        for (int i = 0; i < 6; i++) {
+            results.add(client.execute(SPHERE_REQUEST_FINISH_ON_COMMAND).toCompletableFuture());
+        }
+        assertThat(delegate.getUsageCounter()).isEqualTo(2);
+        assertThat(results.get(5)).isCompletedExceptionally();
+        assertThatThrownBy(() -> results.get(5).join()).hasCauseInstanceOf(SphereQueueFullException.class);
+        assertThat(results.subList(0, 5)).allMatch(future -> !future.isDone());
+        delegate.release();
+        delegate.release();
+        delegate.release();
+        assertThat(delegate.getUsageCounter()).isEqualTo(5);
+        assertThat(results.subList(0, 5)).allMatch(future -> future.isDone() && !future.isCompletedExceptionally());
+    }
+
+    @Test
+    public void blocksCallerIfQueueIsFull() throws Exception {
+        final FakeSphereClient delegate = new FakeSphereClient();
+        final SphereClient client = QueueSphereClientDecorator.of(delegate, 1, 1, QueueOverflowStrategy.BLOCK);
+        client.execute(SPHERE_REQUEST_FINISH_ON_COMMAND);
+        client.execute(SPHERE_REQUEST_FINISH_ON_COMMAND);
+        final CompletableFuture<CompletionStage<String>> blockedCall =
+                CompletableFuture.supplyAsync(() -> client.execute(SPHERE_REQUEST_SUCCESS));
+        Thread.sleep(100);
+        assertThat(blockedCall).isNotDone();
+        delegate.release();
+        final CompletionStage<String> resultStage = blockedCall.get(1, TimeUnit.SECONDS);
+        delegate.release();
+        final String result = resultStage.toCompletableFuture().get(1, TimeUnit.SECONDS);
+        assertThat(result).isEqualTo(DUMMY_RESULT);
+    }
+
+    @Test
+    public void synchronouslyCompletingRequestsDoNotOverflowTheStack() throws Exception {
+        final FakeSphereClient delegate = new FakeSphereClient();
+        final SphereClient client = QueueSphereClientDecorator.of(delegate, 1);
+        client.execute(SPHERE_REQUEST_FINISH_ON_COMMAND);
+        final int queuedRequests = 100_000;
+        final List<CompletableFuture<String>> results = new LinkedList<>();
+        for (int i = 0; i < queuedRequests; i++) {
+            results.add(client.execute(SPHERE_REQUEST_SUCCESS).toCompletableFuture());
+        }
+        delegate.release();
+        assertThat(results).allMatch(future -> future.isDone() && !future.isCompletedExceptionally());
+    }
+
+    @Test
+    public void failingDelegateReleasesSlot() throws Exception {
+        final SphereClient client = QueueSphereClientDecorator.of(FAKE_SPHERE_CLIENT, 1);
+        final CompletionStage<String> failed = client.execute(DummySphereRequest.of("unknown"));
+        assertThat(failed.toCompletableFuture()).isCompletedExceptionally();
+        final String s = execute(client, SPHERE_REQUEST_SUCCESS);
+        assertThat(s).isEqualTo(DUMMY_RESULT);
+    }
+
     private static class FakeSphereClient extends Base implements SphereClient {
         private int usageCounter = 0;
 
@@ -108,8 +170,12 @@ public class QueueSphereClientDecoratorTest {
         }
 
         public void release() {
-            releaseOnCommand.forEach(runnable -> runnable.run());
-            releaseOnCommand.clear();
+            final List<Runnable> toRelease;
+            synchronized (releaseOnCommand) {
+                toRelease = new ArrayList<>(releaseOnCommand);
+                releaseOnCommand.clear();
+            }
+            toRelease.forEach(runnable -> runnable.run());
         }
 
         public List<CompletionStage<String>> getResponseFutures() {
@@ -0,0 +1,109 @@
+package io.sphere.sdk.client;
+
+import io.sphere.sdk.http.HttpResponse;
+import io.sphere.sdk.models.SphereException;
+import io.sphere.sdk.utils.CompletableFutureUtils;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.core.api.Assertions.within;
+
+public class RateLimitingSphereClientDecoratorTest {
+
+    @Test
+    public void delaysRequestsAboveRate() throws Exception {
+        try (final SphereClient client = RateLimitingSphereClientDecorator.of(respondingClient(() -> CompletableFutureUtils.successful("hello")), 20, 1)) {
+            final long start = System.nanoTime();
+            final List<CompletableFuture<String>> results = IntStream.range(0, 5)
+                    .mapToObj(i -> client.execute(DummySphereRequest.of()).toCompletableFuture())
+                    .collect(toList());
+            for (final CompletableFuture<String> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("hello");
+            }
+            assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isGreaterThanOrEqualTo(190);
+        }
+    }
+
+    @Test
+    public void halvesRateOnTooManyRequests() throws Exception {
+        final SphereException exception = new SphereException("too many requests");
+        exception.setUnderlyingHttpResponse(HttpResponse.of(429));
+        try (final RateLimitingSphereClientDecorator client = (RateLimitingSphereClientDecorator)
+                RateLimitingSphereClientDecorator.of(respondingClient(() -> CompletableFutureUtils.failed(exception)), 100)) {
+            client.execute(DummySphereRequest.of()).toCompletableFuture().handle((value, throwable) -> value).join();
+
+            assertThat(client.getCurrentRequestsPerSecond("/foo")).isCloseTo(50, within(0.001));
+            assertThat(client.getCurrentRequestsPerSecond("/bar")).as("other endpoints keep their rate").isCloseTo(100, within(0.001));
+        }
+    }
+
+    @Test
+    public void increasesRateOnSuccessUpToMaximum() throws Exception {
+        final RateLimitingSphereClientDecorator.TokenBucket bucket = new RateLimitingSphereClientDecorator.TokenBucket(100, 10);
+        bucket.decrease(System.nanoTime(), 0);
+        bucket.increase();
+        assertThat(bucket.getRate()).isCloseTo(51, within(0.001));
+        IntStream.range(0, 100).forEach(i -> bucket.increase());
+        assertThat(bucket.getRate()).isCloseTo(100, within(0.001));
+    }
+
+    @Test
+    public void pausesForRetryAfter() throws Exception {
+        final RateLimitingSphereClientDecorator.TokenBucket bucket = new RateLimitingSphereClientDecorator.TokenBucket(100, 10);
+        final long now = System.nanoTime();
+        bucket.decrease(now, 2);
+        assertThat(bucket.reserve(now)).isGreaterThanOrEqualTo(TimeUnit.SECONDS.toNanos(2));
+    }
+
+    @Test
+    public void delayedRequestFailsIfDelegateThrows() throws Exception {
+        final SphereClient throwingClient = respondingClient(() -> {
+            throw new IllegalStateException("client is closed");
+        });
+        try (final SphereClient client = RateLimitingSphereClientDecorator.of(throwingClient, 20, 1)) {
+            client.execute(DummySphereRequest.of()).toCompletableFuture().handle((value, throwable) -> value).join();
+            final CompletableFuture<String> delayed = client.execute(DummySphereRequest.of()).toCompletableFuture();
+
+            assertThat(catchThrowable(() -> delayed.get(5, TimeUnit.SECONDS))).hasCauseInstanceOf(IllegalStateException.class);
+        }
+    }
+
+    @Test
+    public void createsIntentOnlyOnce() throws Exception {
+        final IntentCountingSphereRequest request = new IntentCountingSphereRequest();
+        final SphereClient delegate = respondingClient(() -> CompletableFutureUtils.successful("hello"));
+        try (final SphereClient client = RateLimitingSphereClientDecorator.of(delegate, 100)) {
+            assertThat(client.execute(request).toCompletableFuture().get(5, TimeUnit.SECONDS)).isEqualTo("hello");
+            assertThat(request.getCreatedIntents()).isEqualTo(1);
+        }
+    }
+
+    private static SphereClient respondingClient(final Supplier<CompletionStage<?>> response) {
+        return new SphereClient() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <T> CompletionStage<T> execute(final SphereRequest<T> sphereRequest) {
+                return (CompletionStage<T>) response.get();
+            }
+
+            @Override
+            public void close() {
+
+            }
+
+            @Override
+            public SphereApiConfig getConfig() {
+                return null;
+            }
+        };
+    }
+}
@@ -0,0 +1,81 @@
+package io.sphere.sdk.client;
+
+import io.sphere.sdk.client.AutoRefreshSphereAccessTokenSupplierImplTest.TestDoubleHttpClient;
+import io.sphere.sdk.http.HttpRequest;
+import io.sphere.sdk.http.HttpResponse;
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SharedSphereAccessTokenManagerTest {
+    private static final SphereAuthConfig PROJECT_A = SphereAuthConfig.of("project-a", "client-id", "clientSecret");
+    private static final SphereAuthConfig PROJECT_B = SphereAuthConfig.of("project-b", "client-id", "clientSecret");
+
+    @Test
+    public void sharesTokensOfSameConfig() throws Exception {
+        final TestDoubleHttpClient httpClient = tokenHttpClient(3600);
+        try (final SharedSphereAccessTokenManager tokenManager = SharedSphereAccessTokenManager.of(httpClient, true)) {
+            final SphereAccessTokenSupplier first = tokenManager.getTokenSupplier(PROJECT_A);
+            final SphereAccessTokenSupplier second = tokenManager.getTokenSupplier(SphereAuthConfig.of("project-a", "client-id", "clientSecret"));
+            final SphereAccessTokenSupplier other = tokenManager.getTokenSupplier(PROJECT_B);
+
+            assertThat(first.get().toCompletableFuture().get(5, TimeUnit.SECONDS)).isEqualTo("token-1");
+            assertThat(second.get().toCompletableFuture().get(5, TimeUnit.SECONDS)).isEqualTo("token-1");
+            assertThat(other.get().toCompletableFuture().get(5, TimeUnit.SECONDS)).isEqualTo("token-2");
+            assertThat(httpClient.getTimesCalledCount()).isEqualTo(2);
+            assertThat(tokenManager.getTokenCount()).isEqualTo(2);
+        }
+    }
+
+    @Test
+    public void releasesTokenWhenAllSuppliersAreClosed() throws Exception {
+        final TestDoubleHttpClient httpClient = tokenHttpClient(3600);
+        try (final SharedSphereAccessTokenManager tokenManager = SharedSphereAccessTokenManager.of(httpClient, true)) {
+            final SphereAccessTokenSupplier first = tokenManager.getTokenSupplier(PROJECT_A);
+            final SphereAccessTokenSupplier second = tokenManager.getTokenSupplier(PROJECT_A);
+
+            first.close();
+            assertThat(tokenManager.getTokenCount()).isEqualTo(1);
+            first.close();
+            assertThat(tokenManager.getTokenCount()).as("closing twice releases once").isEqualTo(1);
+            second.close();
+            assertThat(tokenManager.getTokenCount()).isEqualTo(0);
+        }
+    }
+
+    @Test
+    public void refreshesFromSharedScheduler() throws Exception {
+        final TestDoubleHttpClient httpClient = tokenHttpClient(1);
+        try (final SharedSphereAccessTokenManager tokenManager = SharedSphereAccessTokenManager.of(httpClient, true)) {
+            tokenManager.getTokenSupplier(PROJECT_A);
+            tokenManager.getTokenSupplier(PROJECT_B);
+            Thread.sleep(2500);
+            assertThat(httpClient.getTimesCalledCount()).isGreaterThanOrEqualTo(4).isLessThan(10);
+        }
+    }
+
+    @Test
+    public void newTokenRequestsShareOneFetch() throws Exception {
+        final TestDoubleHttpClient httpClient = tokenHttpClient(3600);
+        try (final SharedSphereAccessTokenManager tokenManager = SharedSphereAccessTokenManager.of(httpClient, true)) {
+            final RefreshableSphereAccessTokenSupplier supplier = (RefreshableSphereAccessTokenSupplier) tokenManager.getTokenSupplier(PROJECT_A);
+            supplier.get().toCompletableFuture().get(5, TimeUnit.SECONDS);
+
+            final String newToken = supplier.getNewToken().toCompletableFuture().get(5, TimeUnit.SECONDS);
+
+            assertThat(newToken).isEqualTo("token-2");
+            assertThat(supplier.get().toCompletableFuture().get(5, TimeUnit.SECONDS)).isEqualTo("token-2");
+        }
+    }
+
+    private static TestDoubleHttpClient tokenHttpClient(final int expiresInSeconds) {
+        return new TestDoubleHttpClient() {
+            @Override
+            protected HttpResponse executeSync(final HttpRequest httpRequest, final int requestId) {
+                return HttpResponse.of(200, "{\"access_token\": \"token-" + requestId + "\", \"expires_in\": " + expiresInSeconds + "}");
+            }
+        };
+    }
+}
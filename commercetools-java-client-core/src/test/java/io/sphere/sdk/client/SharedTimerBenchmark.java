@@ -0,0 +1,125 @@
+package io.sphere.sdk.client;
+
+import io.sphere.sdk.retry.RetryAction;
+import io.sphere.sdk.retry.RetryPredicate;
+import io.sphere.sdk.retry.RetryRule;
+import io.sphere.sdk.utils.CompletableFutureUtils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static java.util.Collections.singletonList;
+
+/**
+ * Compares the thread count and the completion latency of 50 clients decorated with {@link TimeoutSphereClientDecorator}
+ * and {@link RetrySphereClientDecorator}, which share {@link io.sphere.sdk.utils.HashedWheelTimer#shared()},
+ * with the same number of clients which each own a scheduler thread and pass every result through it like the decorators did before.
+ *
+ * <p>Run with {@code mvn exec:java -Dexec.mainClass=io.sphere.sdk.client.SharedTimerBenchmark -Dexec.classpathScope=test}.</p>
+ */
+public final class SharedTimerBenchmark {
+    private static final int CLIENTS = 50;
+    private static final int WARMUP_REQUESTS = 50_000;
+    private static final int REQUESTS = 200_000;
+
+    public static void main(final String[] args) throws Exception {
+        final SphereClient stubClient = new StubSphereClient();
+        final List<RetryRule> retryRules = singletonList(RetryRule.of(RetryPredicate.ofMatchingStatusCodes(503), RetryAction.ofImmediateRetries(2)));
+
+        final int threadsBefore = Thread.activeCount();
+        final List<SphereClient> sharedTimerClients = new ArrayList<>();
+        for (int i = 0; i < CLIENTS; i++) {
+            sharedTimerClients.add(TimeoutSphereClientDecorator.of(RetrySphereClientDecorator.of(stubClient, retryRules), 10, TimeUnit.SECONDS));
+        }
+        sharedTimerClients.forEach(client -> client.execute(DummySphereRequest.of()).toCompletableFuture().join());
+        System.out.printf("shared timer        %3d clients, %3d additional threads%n", CLIENTS, Thread.activeCount() - threadsBefore);
+
+        final int threadsBeforePerClient = Thread.activeCount();
+        final List<SphereClient> perClientSchedulerClients = new ArrayList<>();
+        for (int i = 0; i < CLIENTS; i++) {
+            perClientSchedulerClients.add(new PerClientSchedulerClient(new PerClientSchedulerClient(stubClient)));
+        }
+        perClientSchedulerClients.forEach(client -> client.execute(DummySphereRequest.of()).toCompletableFuture().join());
+        System.out.printf("per client schedulers %3d clients, %3d additional threads%n", CLIENTS, Thread.activeCount() - threadsBeforePerClient);
+
+        for (int round = 1; round <= 3; round++) {
+            run("shared timer         ", round, sharedTimerClients);
+            run("per client schedulers", round, perClientSchedulerClients);
+        }
+        sharedTimerClients.forEach(SphereClient::close);
+        perClientSchedulerClients.forEach(SphereClient::close);
+    }
+
+    private static void run(final String name, final int round, final List<SphereClient> clients) {
+        execute(clients, WARMUP_REQUESTS);
+        final long[] latencies = execute(clients, REQUESTS);
+        Arrays.sort(latencies);
+        System.out.printf("%s round %d: p50 %,8d ns, p99 %,8d ns, p99.9 %,9d ns%n", name, round,
+                latencies[latencies.length / 2], latencies[(int) (latencies.length * 0.99)], latencies[(int) (latencies.length * 0.999)]);
+    }
+
+    private static long[] execute(final List<SphereClient> clients, final int requests) {
+        final long[] latencies = new long[requests];
+        final DummySphereRequest request = DummySphereRequest.of();
+        for (int i = 0; i < requests; i++) {
+            final long start = System.nanoTime();
+            clients.get(i % clients.size()).execute(request).toCompletableFuture().join();
+            latencies[i] = System.nanoTime() - start;
+        }
+        return latencies;
+    }
+
+    /**
+     * Emulates the previous decorators: an own scheduler thread per client which completes every result.
+     */
+    private static final class PerClientSchedulerClient extends SphereClientDecorator {
+        private final ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1);
+
+        private PerClientSchedulerClient(final SphereClient delegate) {
+            super(delegate);
+        }
+
+        @Override
+        public <T> CompletionStage<T> execute(final SphereRequest<T> sphereRequest) {
+            final CompletableFuture<T> result = new CompletableFuture<>();
+            executor.schedule(() -> result.completeExceptionally(new SphereTimeoutException(new TimeoutException())), 10, TimeUnit.SECONDS);
+            super.execute(sphereRequest).whenCompleteAsync((value, throwable) -> {
+                if (throwable != null) {
+                    result.completeExceptionally(throwable);
+                } else {
+                    result.complete(value);
+                }
+            }, executor);
+            return result;
+        }
+
+        @Override
+        public void close() {
+            executor.shutdownNow();
+            super.close();
+        }
+    }
+
+    private static final class StubSphereClient implements SphereClient {
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> CompletionStage<T> execute(final SphereRequest<T> sphereRequest) {
+            return CompletableFutureUtils.successful((T) DummySphereRequest.DEFAULT_RESPONSE_OBJECT);
+        }
+
+        @Override
+        public void close() {
+        }
+
+        @Override
+        public SphereApiConfig getConfig() {
+            return SphereApiConfig.of("project-key");
+        }
+    }
+}
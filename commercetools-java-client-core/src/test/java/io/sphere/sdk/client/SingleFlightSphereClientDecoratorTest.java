@@ -0,0 +1,152 @@
+package io.sphere.sdk.client;
+
+import io.sphere.sdk.http.HttpMethod;
+import io.sphere.sdk.http.HttpResponse;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeoutException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class SingleFlightSphereClientDecoratorTest {
+
+    @Test
+    public void collapsesIdenticalRunningGetRequests() throws Exception {
+        final RecordingSphereClient sphereClient = new RecordingSphereClient();
+        final SphereClient decoratedClient = SingleFlightSphereClientDecorator.of(sphereClient);
+
+        final CompletionStage<String> first = decoratedClient.execute(DummySphereRequest.of());
+        final CompletionStage<String> second = decoratedClient.execute(DummySphereRequest.of());
+        assertThat(sphereClient.results).hasSize(1);
+
+        sphereClient.results.get(0).complete("hello");
+        assertThat(first.toCompletableFuture().join()).isEqualTo("hello");
+        assertThat(second.toCompletableFuture().join()).isEqualTo("hello");
+    }
+
+    @Test
+    public void sendsAgainAfterCompletion() throws Exception {
+        final RecordingSphereClient sphereClient = new RecordingSphereClient();
+        final SphereClient decoratedClient = SingleFlightSphereClientDecorator.of(sphereClient);
+
+        decoratedClient.execute(DummySphereRequest.of());
+        sphereClient.results.get(0).complete("hello");
+        decoratedClient.execute(DummySphereRequest.of());
+
+        assertThat(sphereClient.results).hasSize(2);
+    }
+
+    @Test
+    public void sharesFailures() throws Exception {
+        final RecordingSphereClient sphereClient = new RecordingSphereClient();
+        final SphereClient decoratedClient = SingleFlightSphereClientDecorator.of(sphereClient);
+
+        final CompletionStage<String> first = decoratedClient.execute(DummySphereRequest.of());
+        final CompletionStage<String> second = decoratedClient.execute(DummySphereRequest.of());
+        sphereClient.results.get(0).completeExceptionally(new SphereTimeoutException(new TimeoutException()));
+
+        assertThatThrownBy(() -> first.toCompletableFuture().join()).hasCauseInstanceOf(SphereTimeoutException.class);
+        assertThatThrownBy(() -> second.toCompletableFuture().join()).hasCauseInstanceOf(SphereTimeoutException.class);
+    }
+
+    @Test
+    public void cancellationDoesNotAffectOtherCallers() throws Exception {
+        final RecordingSphereClient sphereClient = new RecordingSphereClient();
+        final SphereClient decoratedClient = SingleFlightSphereClientDecorator.of(sphereClient);
+
+        final CompletionStage<String> first = decoratedClient.execute(DummySphereRequest.of());
+        final CompletionStage<String> second = decoratedClient.execute(DummySphereRequest.of());
+        first.toCompletableFuture().cancel(true);
+        sphereClient.results.get(0).complete("hello");
+
+        assertThat(second.toCompletableFuture().join()).isEqualTo("hello");
+    }
+
+    @Test
+    public void doesNotCollapseOtherPathsOrMethods() throws Exception {
+        final RecordingSphereClient sphereClient = new RecordingSphereClient();
+        final SphereClient decoratedClient = SingleFlightSphereClientDecorator.of(sphereClient);
+
+        decoratedClient.execute(new IntentSphereRequest(HttpRequestIntent.of(HttpMethod.GET, "/foo?limit=1")));
+        decoratedClient.execute(new IntentSphereRequest(HttpRequestIntent.of(HttpMethod.GET, "/foo?limit=2")));
+        decoratedClient.execute(new IntentSphereRequest(HttpRequestIntent.of(HttpMethod.POST, "/foo", "{}")));
+        decoratedClient.execute(new IntentSphereRequest(HttpRequestIntent.of(HttpMethod.POST, "/foo", "{}")));
+
+        assertThat(sphereClient.results).hasSize(4);
+    }
+
+    @Test
+    public void doesNotCollapseRequestsWithOpenResultType() throws Exception {
+        final RecordingSphereClient sphereClient = new RecordingSphereClient();
+        final SphereClient decoratedClient = SingleFlightSphereClientDecorator.of(sphereClient);
+
+        decoratedClient.execute(JavaAndHttpResponseSphereRequest.of(DummySphereRequest.of()));
+        decoratedClient.execute(JavaAndHttpResponseSphereRequest.of(new IntentSphereRequest(HttpRequestIntent.of(HttpMethod.GET, "/foo"))));
+
+        assertThat(sphereClient.results).hasSize(2);
+    }
+
+    @Test
+    public void collapsesDecoratedRequestsByTheirDelegate() throws Exception {
+        final RecordingSphereClient sphereClient = new RecordingSphereClient();
+        final SphereClient decoratedClient = SingleFlightSphereClientDecorator.of(sphereClient);
+
+        decoratedClient.execute(PrioritizedSphereRequest.of(DummySphereRequest.of(), "high"));
+        decoratedClient.execute(PrioritizedSphereRequest.of(DummySphereRequest.of(), "high"));
+        decoratedClient.execute(PrioritizedSphereRequest.of(new IntentSphereRequest(HttpRequestIntent.of(HttpMethod.GET, "/foo")), "high"));
+
+        assertThat(sphereClient.results).hasSize(2);
+    }
+
+    @Test
+    public void resultTypeIsFixedByConcreteRequestClasses() throws Exception {
+        assertThat(SphereRequestResultTypes.hasFixedResultType(DummySphereRequest.class)).isTrue();
+        assertThat(SphereRequestResultTypes.hasFixedResultType(JavaAndHttpResponseSphereRequest.class)).isFalse();
+        assertThat(SphereRequestResultTypes.hasFixedResultType(PrioritizedSphereRequest.class)).isFalse();
+    }
+
+    private static final class IntentSphereRequest implements SphereRequest<String> {
+        private final HttpRequestIntent httpRequestIntent;
+
+        private IntentSphereRequest(final HttpRequestIntent httpRequestIntent) {
+            this.httpRequestIntent = httpRequestIntent;
+        }
+
+        @Override
+        public String deserialize(final HttpResponse httpResponse) {
+            return DummySphereRequest.DEFAULT_RESPONSE_OBJECT;
+        }
+
+        @Override
+        public HttpRequestIntent httpRequestIntent() {
+            return httpRequestIntent;
+        }
+    }
+
+    private static final class RecordingSphereClient implements SphereClient {
+        private final List<CompletableFuture<Object>> results = new ArrayList<>();
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> CompletionStage<T> execute(final SphereRequest<T> sphereRequest) {
+            final CompletableFuture<Object> result = new CompletableFuture<>();
+            results.add(result);
+            return (CompletionStage<T>) result;
+        }
+
+        @Override
+        public void close() {
+
+        }
+
+        @Override
+        public SphereApiConfig getConfig() {
+            return null;
+        }
+    }
+}
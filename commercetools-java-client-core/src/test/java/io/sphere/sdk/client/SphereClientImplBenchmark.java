@@ -0,0 +1,78 @@
+package io.sphere.sdk.client;
+
+import io.sphere.sdk.http.HttpClient;
+import io.sphere.sdk.http.HttpMethod;
+import io.sphere.sdk.http.HttpRequest;
+import io.sphere.sdk.http.HttpResponse;
+import io.sphere.sdk.utils.CompletableFutureUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the overhead of {@link SphereClientImpl} per request against a stub {@link HttpClient} which answers immediately,
+ * once with the default execution over the common pool and once with a dedicated deserialization executor.
+ *
+ * <p>Run with {@code mvn exec:java -Dexec.mainClass=io.sphere.sdk.client.SphereClientImplBenchmark -Dexec.classpathScope=test}.</p>
+ */
+public final class SphereClientImplBenchmark {
+    private static final int WARMUP_REQUESTS = 50_000;
+    private static final int SEQUENTIAL_REQUESTS = 100_000;
+    private static final int CONCURRENT_REQUESTS = 200_000;
+    private static final byte[] RESPONSE_BODY = "{\"id\":\"abc\",\"version\":1,\"name\":{\"en\":\"foo\"}}".getBytes(StandardCharsets.UTF_8);
+
+    public static void main(final String[] args) throws Exception {
+        final SphereApiConfig config = SphereApiConfig.of("project-key");
+        final JsonNodeSphereRequest request = JsonNodeSphereRequest.of(HttpMethod.GET, "/products/abc");
+        final ExecutorService deserializationExecutor = Executors.newFixedThreadPool(2);
+        try {
+            final SphereClient defaultClient = SphereClient.of(config, new StubHttpClient(), SphereAccessTokenSupplier.ofConstantToken("token"));
+            final SphereClient executorClient = SphereClient.of(config, new StubHttpClient(), SphereAccessTokenSupplier.ofConstantToken("token"), deserializationExecutor);
+            for (int round = 1; round <= 3; round++) {
+                run("common pool        ", round, defaultClient, request);
+                run("dedicated executor ", round, executorClient, request);
+            }
+        } finally {
+            deserializationExecutor.shutdown();
+        }
+    }
+
+    private static void run(final String name, final int round, final SphereClient client, final JsonNodeSphereRequest request) throws Exception {
+        for (int i = 0; i < WARMUP_REQUESTS; i++) {
+            client.execute(request).toCompletableFuture().join();
+        }
+        final long sequentialStart = System.nanoTime();
+        for (int i = 0; i < SEQUENTIAL_REQUESTS; i++) {
+            client.execute(request).toCompletableFuture().join();
+        }
+        final long sequentialNanos = System.nanoTime() - sequentialStart;
+
+        final long concurrentStart = System.nanoTime();
+        final List<CompletableFuture<?>> results = new ArrayList<>(CONCURRENT_REQUESTS);
+        for (int i = 0; i < CONCURRENT_REQUESTS; i++) {
+            results.add(client.execute(request).toCompletableFuture());
+        }
+        CompletableFuture.allOf(results.toArray(new CompletableFuture[results.size()])).get(5, TimeUnit.MINUTES);
+        final long concurrentNanos = System.nanoTime() - concurrentStart;
+
+        System.out.printf("round %d %s sequential %,8d ns/request, concurrent %,12.0f requests/s%n",
+                round, name, sequentialNanos / SEQUENTIAL_REQUESTS, CONCURRENT_REQUESTS / (concurrentNanos / 1e9));
+    }
+
+    private static final class StubHttpClient implements HttpClient {
+        @Override
+        public CompletionStage<HttpResponse> execute(final HttpRequest httpRequest) {
+            return CompletableFutureUtils.successful(HttpResponse.of(200, RESPONSE_BODY, httpRequest));
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
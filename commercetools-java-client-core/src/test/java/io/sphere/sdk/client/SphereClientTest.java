@@ -17,7 +17,11 @@ import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.when;
@@ -73,4 +77,37 @@ public class SphereClientTest {
             assertThat(uuid).isNotNull();
         }
     }
+
+    @Test
+    public void deserializesOnDedicatedExecutor() throws Exception {
+        final ExecutorService deserializationExecutor = Executors.newSingleThreadExecutor(runnable -> new Thread(runnable, "deserialization"));
+        try {
+            when(sphereApiConfig.getProjectKey()).thenReturn("my-project");
+            when(sphereApiConfig.getApiUrl()).thenReturn("http://api.commercetools.de");
+            when(httpClient.getUserAgent()).thenReturn("user-agent");
+            when(sphereAccessTokenSupplier.get()).thenReturn(CompletableFutureUtils.successful("token"));
+            final CompletableFuture<HttpResponse> httpResponseFuture = new CompletableFuture<>();
+            when(httpClient.execute(httpRequestArgumentCaptor.capture())).thenReturn(httpResponseFuture);
+            final List<String> deserializationThreads = new CopyOnWriteArrayList<>();
+            final SphereRequest<String> sphereRequest = new SphereRequestDecorator<String>(DummySphereRequest.of()) {
+                @Override
+                public String deserialize(final HttpResponse httpResponse) {
+                    deserializationThreads.add(Thread.currentThread().getName());
+                    return super.deserialize(httpResponse);
+                }
+            };
+
+            final SphereClient sphereClient = SphereClient.of(sphereApiConfig, httpClient, sphereAccessTokenSupplier, deserializationExecutor);
+            final CompletableFuture<String> result = sphereClient.execute(sphereRequest).toCompletableFuture();
+
+            assertThat(httpRequestArgumentCaptor.getAllValues())
+                    .as("with a present token the request is sent from the calling thread")
+                    .hasSize(1);
+            httpResponseFuture.complete(HttpResponse.of(200, "ok"));
+            assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo(DummySphereRequest.DEFAULT_RESPONSE_OBJECT);
+            assertThat(deserializationThreads).containsExactly("deserialization");
+        } finally {
+            deserializationExecutor.shutdown();
+        }
+    }
 }
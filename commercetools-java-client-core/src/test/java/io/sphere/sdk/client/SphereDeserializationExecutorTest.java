@@ -0,0 +1,66 @@
+package io.sphere.sdk.client;
+
+import org.junit.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class SphereDeserializationExecutorTest {
+
+    @Test
+    public void runsOnPoolThreads() throws Exception {
+        try (final SphereDeserializationExecutor executor = SphereDeserializationExecutor.of(2, 10)) {
+            final AtomicReference<String> threadName = new AtomicReference<>();
+            final CountDownLatch done = new CountDownLatch(1);
+            executor.execute(() -> {
+                threadName.set(Thread.currentThread().getName());
+                done.countDown();
+            });
+            assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+            assertThat(threadName.get()).startsWith("sphere-deserialization-");
+            assertThat(executor.getThreads()).isEqualTo(2);
+            assertThat(executor.getCallerRunsCount()).isZero();
+        }
+    }
+
+    @Test
+    public void saturatedPoolRunsTasksInCallerThread() throws Exception {
+        try (final SphereDeserializationExecutor executor = SphereDeserializationExecutor.of(1, 1)) {
+            final CountDownLatch release = new CountDownLatch(1);
+            final CountDownLatch started = new CountDownLatch(1);
+            executor.execute(() -> {
+                started.countDown();
+                awaitQuietly(release);
+            });
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+            executor.execute(() -> awaitQuietly(release));
+            assertThat(executor.getActiveThreads()).isEqualTo(1);
+            assertThat(executor.getQueuedTasks()).isEqualTo(1);
+
+            final AtomicReference<Thread> overflowThread = new AtomicReference<>();
+            executor.execute(() -> overflowThread.set(Thread.currentThread()));
+
+            assertThat(overflowThread.get()).isSameAs(Thread.currentThread());
+            assertThat(executor.getCallerRunsCount()).isEqualTo(1);
+            release.countDown();
+        }
+    }
+
+    @Test
+    public void validatesParameters() throws Exception {
+        assertThatThrownBy(() -> SphereDeserializationExecutor.of(0, 10)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> SphereDeserializationExecutor.of(1, 0)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static void awaitQuietly(final CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
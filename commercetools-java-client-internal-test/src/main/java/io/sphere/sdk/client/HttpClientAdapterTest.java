@@ -10,11 +10,13 @@ import org.slf4j.LoggerFactory;
 import java.io.*;
 import java.net.ServerSocket;
 import java.net.Socket;
+import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -42,6 +44,29 @@ public abstract class HttpClientAdapterTest {
         checkBodyRequest(port(), requestBody, length);
     }
 
+    @Test
+    public final void byteArrayBody() throws Exception {
+        final byte[] bodyData = "{\"name\":\"äöü\"}".getBytes(StandardCharsets.UTF_8);
+        final HttpRequestBody requestBody = ByteArrayHttpRequestBody.of(bodyData);
+        checkBodyRequest(port() + 300, requestBody, bodyData.length);
+    }
+
+    @Test
+    public final void gzipCompressedBody() throws Exception {
+        final StringBuilder bodyData = new StringBuilder();
+        for (int i = 0; i < 1000; i++) {
+            bodyData.append("{\"sku\":\"sku-").append(i).append("\"}");
+        }
+        final HttpRequestBody requestBody = StringHttpRequestBody.of(bodyData.toString());
+        final HttpClient client = GzipRequestBodyHttpClientDecorator.of(createClient(), 1024);
+        final ByteArrayOutputStream expectedBody = new ByteArrayOutputStream();
+        try (final GZIPOutputStream gzipOutputStream = new GZIPOutputStream(expectedBody)) {
+            gzipOutputStream.write(bodyData.toString().getBytes(StandardCharsets.UTF_8));
+        }
+        final String receivedHttpHeaders = checkBodyRequest(port() + 400, client, requestBody, expectedBody.size());
+        assertThat(receivedHttpHeaders).contains("Content-Encoding: gzip");
+    }
+
     @Test
     public final void fileBody() throws Exception {
         final String bodyData = "123456789";
@@ -74,6 +99,10 @@ public abstract class HttpClientAdapterTest {
     }
 
     private void checkBodyRequest(final int port, final HttpRequestBody requestBody, final int length) throws Exception {
+        checkBodyRequest(port, createClient(), requestBody, length);
+    }
+
+    private String checkBodyRequest(final int port, final HttpClient client, final HttpRequestBody requestBody, final int length) throws Exception {
         final ServerSocket serverSocket = new ServerSocket(port);
         final CompletableFuture<String> future = CompletableFuture.supplyAsync(() -> {
             final StringBuilder stringBuilder = new StringBuilder();
@@ -99,12 +128,12 @@ public abstract class HttpClientAdapterTest {
             }
         });
         Thread.sleep(100);
-        final HttpClient client = createClient();
         final HttpRequest httpRequest = HttpRequest.of(HttpMethod.POST, "http://localhost:" + port, HttpHeaders.of("foo", "bar"), requestBody);
         final HttpResponse response = client.execute(httpRequest).toCompletableFuture().get(15, TimeUnit.SECONDS);
         client.close();
         final String receivedHttpHeadersAndBody = future.join();
         LoggerFactory.getLogger(HttpClientAdapterTest.class).info(receivedHttpHeadersAndBody);
         assertThat(receivedHttpHeadersAndBody).contains("Content-Length: " + length);
+        return receivedHttpHeadersAndBody;
     }
 }
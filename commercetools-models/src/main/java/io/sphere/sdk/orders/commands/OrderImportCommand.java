@@ -26,7 +26,7 @@ public final class OrderImportCommand extends CommandImpl<Order> {
 
     @Override
     public HttpRequestIntent httpRequestIntent() {
-        return HttpRequestIntent.of(POST, OrderEndpoint.ENDPOINT.endpoint() + "/import", SphereJsonUtils.toJsonString(orderImportDraft));
+        return HttpRequestIntent.of(POST, OrderEndpoint.ENDPOINT.endpoint() + "/import", SphereJsonUtils.toJsonBytes(orderImportDraft));
     }
 
     public static OrderImportCommand of(final OrderImportDraft orderImportDraft) {
@@ -49,6 +49,13 @@ public interface AttributeContainer {
         return getAttributes().stream().filter(attr -> attr.getName().equals(attributeName)).findAny().orElse(null);
     }
 
+    /**
+     * Creates a container which looks up its attributes by name with an index built on the first access.
+     * The container uses a copy of {@code attributes}, so later changes to the list don't affect it.
+     *
+     * @param attributes the attributes of the container
+     * @return container
+     */
     static AttributeContainer of(final List<Attribute> attributes) {
         return AttributeContainerImpl.of(attributes);
     }
@@ -6,19 +6,26 @@ import io.sphere.sdk.products.attributes.Attribute;
 import io.sphere.sdk.products.attributes.AttributeMapper;
 import io.sphere.sdk.products.attributes.NamedAttributeAccess;
 
-import java.util.Objects;
+import javax.annotation.Nullable;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
 
 abstract class AttributeContainerBase extends Base implements AttributeContainer {
+    /**
+     * Index of {@link #getAttributes()} by name, built on the first lookup, the first attribute of a name wins like in the linear search.
+     */
+    @Nullable
+    private transient volatile Map<String, Attribute> attributesByName;
 
     @Override
     public <T> Optional<T> findAttribute(final NamedAttributeAccess<T> accessor) {
         final String attributeName = accessor.getName();
-        final Optional<Attribute> attributeOption = getAttributes().stream()
-                .filter(a -> Objects.equals(attributeName, a.getName()))
-                .findFirst();
+        final Optional<Attribute> attributeOption = Optional.ofNullable(attributesByName().get(attributeName));
 
         return attributeOption.map(attribute -> {
             final AttributeMapper<T> mapper = accessor.attributeMapper();
@@ -31,7 +38,37 @@ abstract class AttributeContainerBase extends Base implements AttributeContainer
         });
     }
 
+    @Nullable
+    @Override
+    public Attribute getAttribute(final String attributeName) {
+        requireNonNull(attributeName);
+        return attributesByName().get(attributeName);
+    }
+
+    @Override
+    public boolean hasAttribute(final String attributeName) {
+        return attributesByName().containsKey(attributeName);
+    }
+
+    @Override
+    public boolean hasAttribute(final NamedAttributeAccess<?> namedAccess) {
+        return attributesByName().containsKey(namedAccess.getName());
+    }
+
     protected JsonException transformError(JsonException e, String attributeName, AttributeMapper<?> mapper) {
         return new JsonException(format("AttributeContainer does not contain an attribute '%s' which can be mapped with %s.", attributeName, mapper), e.getCause());
     }
+
+    private Map<String, Attribute> attributesByName() {
+        Map<String, Attribute> index = attributesByName;
+        if (index == null) {
+            final List<Attribute> attributes = getAttributes();
+            index = new HashMap<>(attributes.size() * 4 / 3 + 1);
+            for (final Attribute attribute : attributes) {
+                index.putIfAbsent(attribute.getName(), attribute);
+            }
+            attributesByName = index;
+        }
+        return index;
+    }
 }
@@ -4,6 +4,8 @@ import io.sphere.sdk.products.attributes.Attribute;
 
 import java.util.List;
 
+import static io.sphere.sdk.utils.SphereInternalUtils.immutableCopyOf;
+
 class AttributeContainerImpl extends AttributeContainerBase {
     private final List<Attribute> attributes;
 
@@ -18,6 +20,6 @@ class AttributeContainerImpl extends AttributeContainerBase {
 
 
     public static AttributeContainer of(final List<Attribute> attributes) {
-        return new AttributeContainerImpl(attributes);
+        return new AttributeContainerImpl(immutableCopyOf(attributes));
     }
 }
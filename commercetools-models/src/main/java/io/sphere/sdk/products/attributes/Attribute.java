@@ -25,6 +25,18 @@ import java.util.Set;
 public interface Attribute {
     String getName();
 
+    /**
+     * Decodes the value with the mapper of {@code access}.
+     *
+     * <p>The decoded value is remembered for the mapper which has been used last, so reading the attribute again with the same
+     * access returns the same instance. The accesses of {@link AttributeAccess} like {@link AttributeAccess#ofString()} share their mappers.
+     * Sets, lists and maps are not remembered, each call returns a newly decoded instance.</p>
+     *
+     * @param access declaration of the type of the attribute
+     * @param <T> the underlying type of the attribute
+     * @return the decoded value
+     * @throws io.sphere.sdk.json.JsonException if the value cannot be decoded with the mapper
+     */
     <T> T getValue(final AttributeAccess<T> access);
 
     static Attribute of(final String name, final JsonNode jsonNode) {
@@ -37,21 +37,21 @@ public interface AttributeAccess<T> {
     boolean canHandle(AttributeDefinition attributeDefinition);
 
     static AttributeAccess<Boolean> ofBoolean() {
-        return AttributeAccessImpl.ofPrimitive(booleanTypeReference(), BooleanAttributeType.class);
+        return AttributeAccessImpl.shared("ofBoolean", () -> AttributeAccessImpl.ofPrimitive(booleanTypeReference(), BooleanAttributeType.class));
     }
 
     static AttributeAccess<Set<Boolean>> ofBooleanSet() {
-        return AttributeAccessImpl.ofSet(BooleanAttributeType.class, new TypeReference<Set<Boolean>>() {
-        });
+        return AttributeAccessImpl.shared("ofBooleanSet", () -> AttributeAccessImpl.ofSet(BooleanAttributeType.class, new TypeReference<Set<Boolean>>() {
+        }));
     }
 
     static AttributeAccess<String> ofString() {
-        return AttributeAccessImpl.ofPrimitive(stringTypeReference(), StringAttributeType.class);
+        return AttributeAccessImpl.shared("ofString", () -> AttributeAccessImpl.ofPrimitive(stringTypeReference(), StringAttributeType.class));
     }
 
     static AttributeAccess<Set<String>> ofStringSet() {
-        return AttributeAccessImpl.ofSet(StringAttributeType.class, new TypeReference<Set<String>>() {
-        });
+        return AttributeAccessImpl.shared("ofStringSet", () -> AttributeAccessImpl.ofSet(StringAttributeType.class, new TypeReference<Set<String>>() {
+        }));
     }
 
     static AttributeAccess<String> ofText() {
@@ -63,66 +63,66 @@ public interface AttributeAccess<T> {
     }
 
     static AttributeAccess<LocalizedString> ofLocalizedString() {
-        return AttributeAccessImpl.ofPrimitive(LocalizedString.typeReference(), LocalizedStringAttributeType.class);
+        return AttributeAccessImpl.shared("ofLocalizedString", () -> AttributeAccessImpl.ofPrimitive(LocalizedString.typeReference(), LocalizedStringAttributeType.class));
     }
 
     static AttributeAccess<Set<LocalizedString>> ofLocalizedStringSet() {
-        return AttributeAccessImpl.ofSet(LocalizedStringAttributeType.class, new TypeReference<Set<LocalizedString>>() {
-        });
+        return AttributeAccessImpl.shared("ofLocalizedStringSet", () -> AttributeAccessImpl.ofSet(LocalizedStringAttributeType.class, new TypeReference<Set<LocalizedString>>() {
+        }));
     }
 
     static AttributeAccess<EnumValue> ofEnumValue() {
-        return AttributeAccessImpl.ofEnumLike(EnumValue.typeReference(), EnumAttributeType.class);
+        return AttributeAccessImpl.shared("ofEnumValue", () -> AttributeAccessImpl.ofEnumLike(EnumValue.typeReference(), EnumAttributeType.class));
     }
 
     static AttributeAccess<Set<EnumValue>> ofEnumValueSet() {
-        return AttributeAccessImpl.ofEnumLikeSet(EnumAttributeType.class, new TypeReference<Set<EnumValue>>() {
-        });
+        return AttributeAccessImpl.shared("ofEnumValueSet", () -> AttributeAccessImpl.ofEnumLikeSet(EnumAttributeType.class, new TypeReference<Set<EnumValue>>() {
+        }));
     }
 
     static AttributeAccess<LocalizedEnumValue> ofLocalizedEnumValue() {
-        return AttributeAccessImpl.ofEnumLike(LocalizedEnumValue.typeReference(), LocalizedEnumAttributeType.class);
+        return AttributeAccessImpl.shared("ofLocalizedEnumValue", () -> AttributeAccessImpl.ofEnumLike(LocalizedEnumValue.typeReference(), LocalizedEnumAttributeType.class));
     }
 
     static AttributeAccess<Set<LocalizedEnumValue>> ofLocalizedEnumValueSet() {
-        return AttributeAccessImpl.ofEnumLikeSet(LocalizedEnumAttributeType.class, new TypeReference<Set<LocalizedEnumValue>>() {
-        });
+        return AttributeAccessImpl.shared("ofLocalizedEnumValueSet", () -> AttributeAccessImpl.ofEnumLikeSet(LocalizedEnumAttributeType.class, new TypeReference<Set<LocalizedEnumValue>>() {
+        }));
     }
 
     static AttributeAccess<Double> ofDouble() {
-        return AttributeAccessImpl.ofPrimitive(doubleTypeReference(), NumberAttributeType.class);
+        return AttributeAccessImpl.shared("ofDouble", () -> AttributeAccessImpl.ofPrimitive(doubleTypeReference(), NumberAttributeType.class));
     }
 
     static AttributeAccess<Set<Double>> ofDoubleSet() {
-        return AttributeAccessImpl.ofSet(NumberAttributeType.class, new TypeReference<Set<Double>>() {
-        });
+        return AttributeAccessImpl.shared("ofDoubleSet", () -> AttributeAccessImpl.ofSet(NumberAttributeType.class, new TypeReference<Set<Double>>() {
+        }));
     }
 
     static AttributeAccess<Integer> ofInteger() {
-        return AttributeAccessImpl.ofPrimitive(integerTypeReference(), NumberAttributeType.class);
+        return AttributeAccessImpl.shared("ofInteger", () -> AttributeAccessImpl.ofPrimitive(integerTypeReference(), NumberAttributeType.class));
     }
 
     static AttributeAccess<Set<Integer>> ofIntegerSet() {
-        return AttributeAccessImpl.ofSet(NumberAttributeType.class, new TypeReference<Set<Integer>>() {
-        });
+        return AttributeAccessImpl.shared("ofIntegerSet", () -> AttributeAccessImpl.ofSet(NumberAttributeType.class, new TypeReference<Set<Integer>>() {
+        }));
     }
 
     static AttributeAccess<Long> ofLong() {
-        return AttributeAccessImpl.ofPrimitive(longTypeReference(), NumberAttributeType.class);
+        return AttributeAccessImpl.shared("ofLong", () -> AttributeAccessImpl.ofPrimitive(longTypeReference(), NumberAttributeType.class));
     }
 
     static AttributeAccess<Set<Long>> ofLongSet() {
-        return AttributeAccessImpl.ofSet(NumberAttributeType.class, new TypeReference<Set<Long>>() {
-        });
+        return AttributeAccessImpl.shared("ofLongSet", () -> AttributeAccessImpl.ofSet(NumberAttributeType.class, new TypeReference<Set<Long>>() {
+        }));
     }
 
     static AttributeAccess<MonetaryAmount> ofMoney() {
-        return AttributeAccessImpl.ofPrimitive(monetaryAmountTypeReference(), MoneyAttributeType.class);
+        return AttributeAccessImpl.shared("ofMoney", () -> AttributeAccessImpl.ofPrimitive(monetaryAmountTypeReference(), MoneyAttributeType.class));
     }
 
     static AttributeAccess<Set<MonetaryAmount>> ofMoneySet() {
-        return AttributeAccessImpl.ofSet(MoneyAttributeType.class, new TypeReference<Set<MonetaryAmount>>() {
-        });
+        return AttributeAccessImpl.shared("ofMoneySet", () -> AttributeAccessImpl.ofSet(MoneyAttributeType.class, new TypeReference<Set<MonetaryAmount>>() {
+        }));
     }
 
     static AttributeAccess<LocalDate> ofLocalDate() {
@@ -134,12 +134,12 @@ public interface AttributeAccess<T> {
     }
 
     static AttributeAccess<LocalDate> ofDate() {
-        return AttributeAccessImpl.ofPrimitive(localDateTypeReference(), DateAttributeType.class);
+        return AttributeAccessImpl.shared("ofDate", () -> AttributeAccessImpl.ofPrimitive(localDateTypeReference(), DateAttributeType.class));
     }
 
     static AttributeAccess<Set<LocalDate>> ofDateSet() {
-        return AttributeAccessImpl.ofSet(DateAttributeType.class, new TypeReference<Set<LocalDate>>() {
-        });
+        return AttributeAccessImpl.shared("ofDateSet", () -> AttributeAccessImpl.ofSet(DateAttributeType.class, new TypeReference<Set<LocalDate>>() {
+        }));
     }
 
     static AttributeAccess<LocalTime> ofLocalTime() {
@@ -151,21 +151,21 @@ public interface AttributeAccess<T> {
     }
 
     static AttributeAccess<LocalTime> ofTime() {
-        return AttributeAccessImpl.ofPrimitive(localTimeTypeReference(), TimeAttributeType.class);
+        return AttributeAccessImpl.shared("ofTime", () -> AttributeAccessImpl.ofPrimitive(localTimeTypeReference(), TimeAttributeType.class));
     }
 
     static AttributeAccess<Set<LocalTime>> ofTimeSet() {
-        return AttributeAccessImpl.ofSet(TimeAttributeType.class, new TypeReference<Set<LocalTime>>() {
-        });
+        return AttributeAccessImpl.shared("ofTimeSet", () -> AttributeAccessImpl.ofSet(TimeAttributeType.class, new TypeReference<Set<LocalTime>>() {
+        }));
     }
 
     static AttributeAccess<ZonedDateTime> ofDateTime() {
-        return AttributeAccessImpl.ofPrimitive(zonedDateTimeTypeReference(), DateTimeAttributeType.class);
+        return AttributeAccessImpl.shared("ofDateTime", () -> AttributeAccessImpl.ofPrimitive(zonedDateTimeTypeReference(), DateTimeAttributeType.class));
     }
 
     static AttributeAccess<Set<ZonedDateTime>> ofDateTimeSet() {
-        return AttributeAccessImpl.ofSet(DateTimeAttributeType.class, new TypeReference<Set<ZonedDateTime>>() {
-        });
+        return AttributeAccessImpl.shared("ofDateTimeSet", () -> AttributeAccessImpl.ofSet(DateTimeAttributeType.class, new TypeReference<Set<ZonedDateTime>>() {
+        }));
     }
 
     static AttributeAccess<ZonedDateTime> ofZonedDateTime() {
@@ -177,71 +177,73 @@ public interface AttributeAccess<T> {
     }
 
     static AttributeAccess<Reference<Product>> ofProductReference() {
-        return AttributeAccessImpl.ofReferenceType(ReferenceAttributeType.ofProduct());
+        return AttributeAccessImpl.shared("ofProductReference", () -> AttributeAccessImpl.ofReferenceType(ReferenceAttributeType.ofProduct()));
     }
 
     static AttributeAccess<Set<Reference<Product>>> ofProductReferenceSet() {
-        return AttributeAccessImpl.ofSet(ReferenceAttributeType.ofProduct(), new TypeReference<Set<Reference<Product>>>() {
-        });
+        return AttributeAccessImpl.shared("ofProductReferenceSet", () -> AttributeAccessImpl.ofSet(ReferenceAttributeType.ofProduct(), new TypeReference<Set<Reference<Product>>>() {
+        }));
     }
 
     static AttributeAccess<Reference<ProductType>> ofProductTypeReference() {
-        return AttributeAccessImpl.ofReferenceType(ReferenceAttributeType.ofProductType());
+        return AttributeAccessImpl.shared("ofProductTypeReference", () -> AttributeAccessImpl.ofReferenceType(ReferenceAttributeType.ofProductType()));
     }
 
     static AttributeAccess<Set<Reference<ProductType>>> ofProductTypeReferenceSet() {
-        return AttributeAccessImpl.ofSet(ReferenceAttributeType.ofProductType(), new TypeReference<Set<Reference<ProductType>>>() {
-        });
+        return AttributeAccessImpl.shared("ofProductTypeReferenceSet", () -> AttributeAccessImpl.ofSet(ReferenceAttributeType.ofProductType(), new TypeReference<Set<Reference<ProductType>>>() {
+        }));
     }
 
     static AttributeAccess<Reference<Category>> ofCategoryReference() {
-        return AttributeAccessImpl.ofReferenceType(ReferenceAttributeType.ofCategory());
+        return AttributeAccessImpl.shared("ofCategoryReference", () -> AttributeAccessImpl.ofReferenceType(ReferenceAttributeType.ofCategory()));
     }
 
     static AttributeAccess<Set<Reference<Category>>> ofCategoryReferenceSet() {
-        return AttributeAccessImpl.ofSet(ReferenceAttributeType.ofCategory(), new TypeReference<Set<Reference<Category>>>() {
-        });
+        return AttributeAccessImpl.shared("ofCategoryReferenceSet", () -> AttributeAccessImpl.ofSet(ReferenceAttributeType.ofCategory(), new TypeReference<Set<Reference<Category>>>() {
+        }));
     }
 
     static AttributeAccess<Reference<Channel>> ofChannelReference() {
-        return AttributeAccessImpl.ofReferenceType(ReferenceAttributeType.ofChannel());
+        return AttributeAccessImpl.shared("ofChannelReference", () -> AttributeAccessImpl.ofReferenceType(ReferenceAttributeType.ofChannel()));
     }
 
     static AttributeAccess<Set<Reference<Channel>>> ofChannelReferenceSet() {
-        return AttributeAccessImpl.ofSet(ReferenceAttributeType.ofChannel(), new TypeReference<Set<Reference<Channel>>>() {
-        });
+        return AttributeAccessImpl.shared("ofChannelReferenceSet", () -> AttributeAccessImpl.ofSet(ReferenceAttributeType.ofChannel(), new TypeReference<Set<Reference<Channel>>>() {
+        }));
     }
 
     static AttributeAccess<JsonNode> ofJsonNode() {
-        final AttributeMapper<JsonNode> attributeMapper = new AttributeMapper<JsonNode>() {
-            @Override
-            public JsonNode deserialize(final JsonNode value) {
-                return value;
-            }
+        return AttributeAccessImpl.shared("ofJsonNode", () -> {
+            final AttributeMapper<JsonNode> attributeMapper = new AttributeMapper<JsonNode>() {
+                @Override
+                public JsonNode deserialize(final JsonNode value) {
+                    return value;
+                }
 
-            @Override
-            public JsonNode serialize(final JsonNode value) {
-                return value;
-            }
-        };
-        return new AttributeAccessImpl<>(attributeMapper, TypeReferences.jsonNodeTypeReference(), ad -> true);
+                @Override
+                public JsonNode serialize(final JsonNode value) {
+                    return value;
+                }
+            };
+            return new AttributeAccessImpl<>(attributeMapper, TypeReferences.jsonNodeTypeReference(), ad -> true);
+        });
     }
 
     static AttributeAccess<AttributeContainer> ofNested() {
-        return new AttributeAccessImpl<>(new NestedAttributeMapperImpl(), new TypeReference<AttributeContainer>() {
+        return AttributeAccessImpl.shared("ofNested", () -> new AttributeAccessImpl<>(new NestedAttributeMapperImpl(), new TypeReference<AttributeContainer>() {
             @Override
             public String toString() {
                 return "TypeReference<AttributeContainer>";
             }
-        }, attributeDefinition -> attributeDefinition.getAttributeType() instanceof NestedAttributeType);
+        }, attributeDefinition -> attributeDefinition.getAttributeType() instanceof NestedAttributeType));
     }
 
     static AttributeAccess<Set<AttributeContainer>> ofNestedSet() {
-        return AttributeAccessImpl.ofSet(NestedAttributeType.class, new TypeReference<Set<AttributeContainer>>() {
+        return AttributeAccessImpl.shared("ofNestedSet", () -> AttributeAccessImpl.ofSet(NestedAttributeType.class, new TypeReference<Set<AttributeContainer>>() {
             @Override
             public String toString() {
                 return "TypeReference<Set<AttributeContainer>>";
             }
-        }, new NestedSetAttributeMapperImpl());
+        }, new NestedSetAttributeMapperImpl()));
     }
 }
@@ -6,9 +6,12 @@ import io.sphere.sdk.models.Reference;
 import io.sphere.sdk.models.WithKey;
 
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 
 final class AttributeAccessImpl<T> extends Base implements AttributeAccess<T> {
+    private static final ConcurrentHashMap<String, AttributeAccess<?>> SHARED_ACCESSES = new ConcurrentHashMap<>();
     private final AttributeMapper<T> attributeMapper;
     private final TypeReference<T> typeReference;
     private final java.util.function.Predicate<AttributeDefinition> canHandle;
@@ -34,6 +37,21 @@ final class AttributeAccessImpl<T> extends Base implements AttributeAccess<T> {
         return canHandle.test(attributeDefinition);
     }
 
+    /**
+     * Returns one instance per factory method, so the decoded values which {@link AttributeImpl} remembers per {@link AttributeMapper}
+     * are also found if the access is created again for each call like {@code variant.findAttribute("color", AttributeAccess.ofString())}.
+     */
+    @SuppressWarnings("unchecked")
+    static <T> AttributeAccess<T> shared(final String factoryName, final Supplier<AttributeAccess<T>> factory) {
+        final AttributeAccess<T> access = (AttributeAccess<T>) SHARED_ACCESSES.get(factoryName);
+        if (access != null) {
+            return access;
+        }
+        final AttributeAccess<T> created = factory.get();
+        final AttributeAccess<T> concurrentlyCreated = (AttributeAccess<T>) SHARED_ACCESSES.putIfAbsent(factoryName, created);
+        return concurrentlyCreated != null ? concurrentlyCreated : created;
+    }
+
     static <T extends WithKey> AttributeAccess<T> ofEnumLike(final TypeReference<T> typeReference, final Class<? extends AttributeType> attributeTypeClass) {
         final AttributeMapper<T> mapper = new EnumLikeAttributeMapperImpl<>(typeReference);
         return new AttributeAccessImpl<>(mapper, typeReference, attributeDefinition ->
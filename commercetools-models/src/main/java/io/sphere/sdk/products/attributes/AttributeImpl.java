@@ -6,6 +6,10 @@ import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import io.sphere.sdk.json.JsonException;
 import io.sphere.sdk.models.Base;
 
+import javax.annotation.Nullable;
+import java.util.Collection;
+import java.util.Map;
+
 import static java.lang.String.format;
 
 final class AttributeImpl extends Base implements Attribute {
@@ -14,6 +18,9 @@ final class AttributeImpl extends Base implements Attribute {
     @JsonSerialize
     private final JsonNode value;
 
+    @Nullable
+    private transient volatile DecodedValue decodedValue;
+
     @JsonCreator
     public AttributeImpl(final String name, final JsonNode value) {
         this.name = name;
@@ -25,11 +32,42 @@ final class AttributeImpl extends Base implements Attribute {
     }
 
     @Override
+    @SuppressWarnings("unchecked")
     public <T> T getValue(final AttributeAccess<T> access) {
+        final AttributeMapper<T> mapper = access.attributeMapper();
+        final DecodedValue cached = decodedValue;
+        if (cached != null && cached.mapper == mapper) {
+            return (T) cached.value;
+        }
         try {
-            return access.attributeMapper().deserialize(value);
+            final T result = mapper.deserialize(value);
+            if (isShareable(result)) {
+                decodedValue = new DecodedValue(mapper, result);
+            }
+            return result;
         } catch (final JsonException e) {
-            throw new JsonException(format("Cannot parse attribute %s with mapper %s.", getName(), access.attributeMapper()), e.getCause());
+            throw new JsonException(format("Cannot parse attribute %s with mapper %s.", getName(), mapper), e.getCause());
+        }
+    }
+
+    /**
+     * Collections and maps are decoded for each read, so callers can still modify their own copy as before.
+     */
+    private static boolean isShareable(@Nullable final Object value) {
+        return !(value instanceof Collection || value instanceof Map);
+    }
+
+    /**
+     * The value decoded by the latest used mapper, it is replaced as a whole so readers on other threads see a consistent pair.
+     */
+    private static final class DecodedValue {
+        private final AttributeMapper<?> mapper;
+        @Nullable
+        private final Object value;
+
+        private DecodedValue(final AttributeMapper<?> mapper, @Nullable final Object value) {
+            this.mapper = mapper;
+            this.value = value;
         }
     }
 }
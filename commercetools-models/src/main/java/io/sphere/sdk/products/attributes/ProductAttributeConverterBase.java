@@ -14,16 +14,26 @@ import java.time.LocalTime;
 import java.time.ZonedDateTime;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiPredicate;
 
 import static io.sphere.sdk.products.attributes.AttributeAccess.*;
+import static java.util.Arrays.asList;
+import static java.util.stream.Collectors.toList;
 
 public abstract class ProductAttributeConverterBase<T> extends Base implements ProductAttributeConverter<T> {
     private final ProductTypeLocalRepository productTypes;
+    private final transient List<ConversionRule<T, ?>> rules = createRules();
+    private final transient ConcurrentHashMap<String, DispatchTable<T>> dispatchTables = new ConcurrentHashMap<>();
 
     protected ProductAttributeConverterBase(final ProductTypeLocalRepository productTypes) {
         this.productTypes = productTypes;
+        productTypes.getAll().forEach(this::dispatchTable);
     }
 
     protected ProductAttributeConverterBase(final Collection<ProductType> productTypes) {
@@ -43,47 +53,81 @@ public abstract class ProductAttributeConverterBase<T> extends Base implements P
         return productTypes.findById(productTypeId);
     }
 
+    /**
+     * Converts the attribute with the first conversion method which matches the attribute definition and returns a value.
+     *
+     * <p>The conversion methods which can handle an attribute definition are looked up once per product type,
+     * so converting an attribute costs a map lookup instead of asking every conversion method.</p>
+     *
+     * @param attribute the attribute to convert
+     * @param productType the product type which contains the definition of the attribute
+     * @return the converted value or null if no conversion method matches
+     */
+    @Nullable
     protected T convertWithProductType(final Attribute attribute, final ProductType productType) {
-        return AttributeExtraction.<T>of(productType, attribute)
-                .ifIs(ofBoolean(), v -> convertBoolean(v, attribute, productType))
-                .ifIs(ofBooleanSet(), v -> convertBooleanSet(v, attribute, productType))
-                .ifIs(ofCategoryReference(), v -> convertCategoryReference(v, attribute, productType))
-                .ifIs(ofCategoryReferenceSet(), v -> convertCategoryReferenceSet(v, attribute, productType))
-                .ifIs(ofChannelReference(), v -> convertChannelReference(v, attribute, productType))
-                .ifIs(ofChannelReferenceSet(), v -> convertChannelReferenceSet(v, attribute, productType))
-                .ifIs(ofDate(), v -> convertDate(v, attribute, productType))
-                .ifIs(ofDateSet(), v -> convertDateSet(v, attribute, productType))
-                .ifIs(ofDateTime(), v -> convertDateTime(v, attribute, productType))
-                .ifIs(ofDateTimeSet(), v -> convertDateTimeSet(v, attribute, productType))
-                .ifIs(ofEnumValue(), v -> convertEnumValue(v, attribute, productType))
-                .ifIs(ofEnumValueSet(), v -> convertEnumValueSet(v, attribute, productType))
-                .ifIs(ofInteger(), v -> convertInteger(v, attribute, productType), value -> isInteger(attribute, productType))
-                .ifIs(ofIntegerSet(), v -> convertIntegerSet(v, attribute, productType), value -> isIntegerSet(attribute, productType))
-                .ifIs(ofLocalizedEnumValue(), v -> convertLocalizedEnumValue(v, attribute, productType))
-                .ifIs(ofLocalizedEnumValueSet(), v -> convertLocalizedEnumValueSet(v, attribute, productType))
-                .ifIs(ofLocalizedString(), v -> convertLocalizedString(v, attribute, productType))
-                .ifIs(ofLocalizedStringSet(), v -> convertLocalizedStringSet(v, attribute, productType))
-                .ifIs(ofLocalTime(), v -> convertTime(v, attribute, productType))
-                .ifIs(ofLocalTimeSet(), v -> convertTimeSet(v, attribute, productType))
-                .ifIs(ofLong(), v -> convertLong(v, attribute, productType), value -> isLong(attribute, productType))
-                .ifIs(ofLongSet(), v -> convertLongSet(v, attribute, productType), value -> isLongSet(attribute, productType))
-                .ifIs(ofMoney(), v -> convertMoney(v, attribute, productType))
-                .ifIs(ofMoneySet(), v -> convertMoneySet(v, attribute, productType))
-                .ifIs(ofProductReference(), v -> convertProductReference(v, attribute, productType))
-                .ifIs(ofProductReferenceSet(), v -> convertProductReferenceSet(v, attribute, productType))
-                .ifIs(ofProductTypeReference(), v -> convertProductTypeReference(v, attribute, productType))
-                .ifIs(ofProductTypeReferenceSet(), v -> convertProductTypeReferenceSet(v, attribute, productType))
-                .ifIs(ofString(), v -> convertString(v, attribute, productType))
-                .ifIs(ofStringSet(), v -> convertStringSet(v, attribute, productType))
-                .ifIs(ofTime(), v -> convertTime(v, attribute, productType))
-                .ifIs(ofTimeSet(), v -> convertTimeSet(v, attribute, productType))
+        final List<ConversionRule<T, ?>> candidates = dispatchTable(productType).findRules(attribute.getName());
+        for (final ConversionRule<T, ?> rule : candidates) {
+            final T result = rule.apply(attribute, productType);
+            if (result != null) {
+                return result;
+            }
+        }
+        return null;
+    }
 
-                //double is fallback if not int or long are used
-                .ifIs(ofDouble(), v -> convertDouble(v, attribute, productType))
-                .ifIs(ofDoubleSet(), v -> convertDoubleSet(v, attribute, productType))
+    private DispatchTable<T> dispatchTable(final ProductType productType) {
+        final DispatchTable<T> dispatchTable = dispatchTables.get(productType.getId());
+        if (dispatchTable != null && dispatchTable.isCompiledFrom(productType)) {
+            return dispatchTable;
+        }
+        final DispatchTable<T> compiled = new DispatchTable<>(productType, rules);
+        dispatchTables.put(productType.getId(), compiled);
+        return compiled;
+    }
+
+    /**
+     * The conversion methods in the order in which they are tried, integer and long are guarded by their attribute names
+     * and double is the fallback for numbers.
+     */
+    private List<ConversionRule<T, ?>> createRules() {
+        return asList(
+                new ConversionRule<>(ofBoolean(), this::convertBoolean),
+                new ConversionRule<>(ofBooleanSet(), this::convertBooleanSet),
+                new ConversionRule<>(ofCategoryReference(), this::convertCategoryReference),
+                new ConversionRule<>(ofCategoryReferenceSet(), this::convertCategoryReferenceSet),
+                new ConversionRule<>(ofChannelReference(), this::convertChannelReference),
+                new ConversionRule<>(ofChannelReferenceSet(), this::convertChannelReferenceSet),
+                new ConversionRule<>(ofDate(), this::convertDate),
+                new ConversionRule<>(ofDateSet(), this::convertDateSet),
+                new ConversionRule<>(ofDateTime(), this::convertDateTime),
+                new ConversionRule<>(ofDateTimeSet(), this::convertDateTimeSet),
+                new ConversionRule<>(ofEnumValue(), this::convertEnumValue),
+                new ConversionRule<>(ofEnumValueSet(), this::convertEnumValueSet),
+                new ConversionRule<>(ofInteger(), this::isInteger, this::convertInteger),
+                new ConversionRule<>(ofIntegerSet(), this::isIntegerSet, this::convertIntegerSet),
+                new ConversionRule<>(ofLocalizedEnumValue(), this::convertLocalizedEnumValue),
+                new ConversionRule<>(ofLocalizedEnumValueSet(), this::convertLocalizedEnumValueSet),
+                new ConversionRule<>(ofLocalizedString(), this::convertLocalizedString),
+                new ConversionRule<>(ofLocalizedStringSet(), this::convertLocalizedStringSet),
+                new ConversionRule<>(ofLocalTime(), this::convertTime),
+                new ConversionRule<>(ofLocalTimeSet(), this::convertTimeSet),
+                new ConversionRule<>(ofLong(), this::isLong, this::convertLong),
+                new ConversionRule<>(ofLongSet(), this::isLongSet, this::convertLongSet),
+                new ConversionRule<>(ofMoney(), this::convertMoney),
+                new ConversionRule<>(ofMoneySet(), this::convertMoneySet),
+                new ConversionRule<>(ofProductReference(), this::convertProductReference),
+                new ConversionRule<>(ofProductReferenceSet(), this::convertProductReferenceSet),
+                new ConversionRule<>(ofProductTypeReference(), this::convertProductTypeReference),
+                new ConversionRule<>(ofProductTypeReferenceSet(), this::convertProductTypeReferenceSet),
+                new ConversionRule<>(ofString(), this::convertString),
+                new ConversionRule<>(ofStringSet(), this::convertStringSet),
+                new ConversionRule<>(ofTime(), this::convertTime),
+                new ConversionRule<>(ofTimeSet(), this::convertTimeSet),
 
-                .findValue()
-                .orElse(null);
+                //double is fallback if not int or long are used
+                new ConversionRule<>(ofDouble(), this::convertDouble),
+                new ConversionRule<>(ofDoubleSet(), this::convertDoubleSet)
+        );
     }
 
     @Nullable
@@ -213,4 +257,64 @@ public abstract class ProductAttributeConverterBase<T> extends Base implements P
 
     @Nullable
     protected abstract T convertBoolean(final Boolean booleanValue, final Attribute attribute, final ProductType productType);
+
+    @FunctionalInterface
+    private interface Conversion<T, V> {
+        @Nullable
+        T convert(V value, Attribute attribute, ProductType productType);
+    }
+
+    private static final class ConversionRule<T, V> {
+        private final AttributeAccess<V> access;
+        @Nullable
+        private final BiPredicate<Attribute, ProductType> guard;
+        private final Conversion<T, V> conversion;
+
+        private ConversionRule(final AttributeAccess<V> access, @Nullable final BiPredicate<Attribute, ProductType> guard, final Conversion<T, V> conversion) {
+            this.access = access;
+            this.guard = guard;
+            this.conversion = conversion;
+        }
+
+        private ConversionRule(final AttributeAccess<V> access, final Conversion<T, V> conversion) {
+            this(access, null, conversion);
+        }
+
+        @Nullable
+        private T apply(final Attribute attribute, final ProductType productType) {
+            if (guard != null && !guard.test(attribute, productType)) {
+                return null;
+            }
+            final V value = attribute.getValue(access);
+            return value != null ? conversion.convert(value, attribute, productType) : null;
+        }
+    }
+
+    /**
+     * The conversion rules which can handle the attribute definitions of one product type, by attribute name.
+     */
+    private static final class DispatchTable<T> {
+        private final ProductType productType;
+        private final Map<String, List<ConversionRule<T, ?>>> rulesByAttributeName;
+
+        private DispatchTable(final ProductType productType, final List<ConversionRule<T, ?>> rules) {
+            this.productType = productType;
+            this.rulesByAttributeName = new HashMap<>();
+            for (final AttributeDefinition attributeDefinition : productType.getAttributes()) {
+                final List<ConversionRule<T, ?>> matchingRules = rules.stream()
+                        .filter(rule -> rule.access.canHandle(attributeDefinition))
+                        .collect(toList());
+                rulesByAttributeName.putIfAbsent(attributeDefinition.getName(), matchingRules);
+            }
+        }
+
+        private boolean isCompiledFrom(final ProductType productType) {
+            return this.productType == productType
+                    || (productType.getVersion() != null && productType.getVersion().equals(this.productType.getVersion()));
+        }
+
+        private List<ConversionRule<T, ?>> findRules(final String attributeName) {
+            return rulesByAttributeName.getOrDefault(attributeName, Collections.emptyList());
+        }
+    }
 }
@@ -0,0 +1,58 @@
+package io.sphere.sdk.json;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.sphere.sdk.carts.Cart;
+import io.sphere.sdk.categories.Category;
+import io.sphere.sdk.products.Product;
+import io.sphere.sdk.products.ProductProjection;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class AcceleratedObjectMapperTest {
+    private final ObjectMapper objectMapper = SphereJsonUtils.newObjectMapper();
+    private final ObjectMapper acceleratedObjectMapper = SphereJsonUtils.newAcceleratedObjectMapper();
+
+    @Test
+    public void product() throws Exception {
+        assertSameResult("product1.json", Product.typeReference());
+    }
+
+    @Test
+    public void productProjection() throws Exception {
+        assertSameResult("product-projection1.json", ProductProjection.typeReference());
+    }
+
+    @Test
+    public void category() throws Exception {
+        assertSameResult("category1.json", Category.typeReference());
+    }
+
+    @Test
+    public void cart() throws Exception {
+        assertSameResult("carts/cart-with-taxes.json", Cart.typeReference());
+    }
+
+    @Test
+    public void notAcceleratedWithoutSystemProperty() throws Exception {
+        assertThat(SphereJsonUtils.isAccelerated()).isFalse();
+    }
+
+    private <T> void assertSameResult(final String resourcePath, final TypeReference<T> typeReference) throws IOException {
+        final T expected = read(objectMapper, resourcePath, typeReference);
+        final T actual = read(acceleratedObjectMapper, resourcePath, typeReference);
+
+        assertThat(actual).isEqualTo(expected);
+        assertThat(acceleratedObjectMapper.valueToTree(actual)).isEqualTo(objectMapper.valueToTree(expected));
+    }
+
+    private static <T> T read(final ObjectMapper objectMapper, final String resourcePath, final TypeReference<T> typeReference) throws IOException {
+        try (final InputStream inputStream = Thread.currentThread().getContextClassLoader().getResourceAsStream(resourcePath)) {
+            return objectMapper.readValue(inputStream, typeReference);
+        }
+    }
+}
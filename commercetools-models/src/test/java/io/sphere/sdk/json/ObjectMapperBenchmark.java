@@ -0,0 +1,79 @@
+package io.sphere.sdk.json;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.sphere.sdk.carts.Cart;
+import io.sphere.sdk.categories.Category;
+import io.sphere.sdk.products.Product;
+import io.sphere.sdk.products.ProductProjection;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Compares the deserialization throughput and the allocated bytes per object of {@link SphereJsonUtils#newObjectMapper()}
+ * and {@link SphereJsonUtils#newAcceleratedObjectMapper()} for the JSON fixtures of several resource types.
+ *
+ * <p>Run with {@code mvn exec:java -Dexec.mainClass=io.sphere.sdk.json.ObjectMapperBenchmark -Dexec.classpathScope=test}.</p>
+ */
+public final class ObjectMapperBenchmark {
+    private static final int WARM_UP_ITERATIONS = 20_000;
+    private static final int MEASURED_ITERATIONS = 50_000;
+    private static volatile Object blackhole;
+
+    public static void main(final String[] args) throws Exception {
+        final Map<String, TypeReference<?>> fixtures = new LinkedHashMap<>();
+        fixtures.put("product1.json", Product.typeReference());
+        fixtures.put("product-projection1.json", ProductProjection.typeReference());
+        fixtures.put("category1.json", Category.typeReference());
+        fixtures.put("carts/cart-with-taxes.json", Cart.typeReference());
+        final ObjectMapper reflective = SphereJsonUtils.newObjectMapper();
+        final ObjectMapper accelerated = SphereJsonUtils.newAcceleratedObjectMapper();
+        for (final Map.Entry<String, TypeReference<?>> fixture : fixtures.entrySet()) {
+            final byte[] json = readResource(fixture.getKey());
+            run("reflective ", fixture.getKey(), reflective, json, fixture.getValue());
+            run("accelerated", fixture.getKey(), accelerated, json, fixture.getValue());
+        }
+    }
+
+    private static void run(final String name, final String fixture, final ObjectMapper objectMapper,
+                            final byte[] json, final TypeReference<?> typeReference) throws IOException {
+        for (int i = 0; i < WARM_UP_ITERATIONS; i++) {
+            blackhole = objectMapper.readValue(json, typeReference);
+        }
+        final long allocatedBefore = allocatedBytes();
+        final long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            blackhole = objectMapper.readValue(json, typeReference);
+        }
+        final long elapsedNanos = System.nanoTime() - start;
+        final long allocatedBytes = allocatedBytes() - allocatedBefore;
+        System.out.printf("%s %-28s %,10.0f ops/s %,10d bytes/op%n", name, fixture,
+                MEASURED_ITERATIONS * 1e9 / elapsedNanos, allocatedBytes / MEASURED_ITERATIONS);
+    }
+
+    private static long allocatedBytes() {
+        final ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+        if (threadMXBean instanceof com.sun.management.ThreadMXBean) {
+            return ((com.sun.management.ThreadMXBean) threadMXBean).getThreadAllocatedBytes(Thread.currentThread().getId());
+        }
+        return 0;
+    }
+
+    private static byte[] readResource(final String resourcePath) throws IOException {
+        try (final InputStream inputStream = Thread.currentThread().getContextClassLoader().getResourceAsStream(resourcePath)) {
+            final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+            final byte[] buffer = new byte[8192];
+            int read;
+            while ((read = inputStream.read(buffer)) != -1) {
+                outputStream.write(buffer, 0, read);
+            }
+            return outputStream.toByteArray();
+        }
+    }
+}
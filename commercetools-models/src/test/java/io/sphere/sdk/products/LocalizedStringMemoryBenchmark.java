@@ -0,0 +1,91 @@
+package io.sphere.sdk.products;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.sphere.sdk.json.SphereJsonUtils;
+import io.sphere.sdk.models.LocalizedString;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Measures the retained heap of {@code product-projection1.json} with name, slug, description and meta fields
+ * in 12 languages, by default for 200000 products.
+ *
+ * <p>It also compares the storage of the localized fields of these products as {@link LocalizedString}
+ * with the same translations in one {@code LinkedHashMap<Locale, String>} per field, the translated texts are shared by both.</p>
+ *
+ * <p>Run with {@code mvn exec:java -Dexec.mainClass=io.sphere.sdk.products.LocalizedStringMemoryBenchmark -Dexec.classpathScope=test -Dexec.args=200000},
+ * a heap of at least 4GB is required for the default size.</p>
+ */
+public final class LocalizedStringMemoryBenchmark {
+    private static final String[] LANGUAGE_TAGS = {"en", "de", "fr", "it", "es", "nl", "pl", "pt", "sv", "da", "fi", "cs"};
+    private static final String[] FIELDS = {"name", "slug", "description", "metaTitle", "metaDescription"};
+    private static volatile Object blackhole;
+
+    public static void main(final String[] args) {
+        final int products = args.length > 0 ? Integer.parseInt(args[0]) : 200_000;
+        final ObjectNode fixture = (ObjectNode) SphereJsonUtils.readObjectFromResource("product-projection1.json", JsonNode.class);
+
+        final long beforeProducts = usedHeap();
+        final List<ProductProjection> productProjections = new ArrayList<>(products);
+        for (int i = 0; i < products; i++) {
+            productProjections.add(SphereJsonUtils.readObject(localize(fixture, i), ProductProjection.typeReference()));
+        }
+        final long productBytes = usedHeap() - beforeProducts;
+        System.out.printf("products                 %,12d bytes %,8d bytes/product%n", productBytes, productBytes / products);
+
+        final List<LocalizedString> localizedStrings = new ArrayList<>(products * FIELDS.length);
+        for (final ProductProjection productProjection : productProjections) {
+            localizedStrings.add(productProjection.getName());
+            localizedStrings.add(productProjection.getSlug());
+            localizedStrings.add(productProjection.getDescription());
+            localizedStrings.add(productProjection.getMetaTitle());
+            localizedStrings.add(productProjection.getMetaDescription());
+        }
+        productProjections.clear();
+
+        final long beforeMaps = usedHeap();
+        final List<Map<Locale, String>> maps = new ArrayList<>(localizedStrings.size());
+        for (final LocalizedString localizedString : localizedStrings) {
+            final Map<Locale, String> map = new LinkedHashMap<>();
+            localizedString.stream().forEach(entry -> map.put(entry.getLocale(), entry.getValue()));
+            maps.add(map);
+        }
+        final long mapBytes = usedHeap() - beforeMaps;
+        blackhole = maps;
+        maps.clear();
+
+        final long beforeCopies = usedHeap();
+        final List<LocalizedString> copies = new ArrayList<>(localizedStrings.size());
+        for (final LocalizedString localizedString : localizedStrings) {
+            copies.add(localizedString.stream().collect(LocalizedString.streamCollector()));
+        }
+        final long compactBytes = usedHeap() - beforeCopies;
+        System.out.printf("localized fields as maps %,12d bytes %,8d bytes/product%n", mapBytes, mapBytes / products);
+        System.out.printf("localized fields compact %,12d bytes %,8d bytes/product%n", compactBytes, compactBytes / products);
+        blackhole = copies;
+    }
+
+    private static JsonNode localize(final ObjectNode fixture, final int productNumber) {
+        final ObjectNode product = fixture.deepCopy();
+        for (final String field : FIELDS) {
+            final ObjectNode translations = product.putObject(field);
+            for (final String languageTag : LANGUAGE_TAGS) {
+                translations.put(languageTag, field + " " + languageTag + " " + productNumber);
+            }
+        }
+        return product;
+    }
+
+    private static long usedHeap() {
+        final Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -99,6 +99,52 @@ public class ProductAttributeAccessTest {
         assertThat(map(attr)).isEqualTo("<no mapping found>");
     }
 
+    @Test
+    public void decodedValuesAreRemembered() throws Exception {
+        final ProductVariant variant = SphereJsonUtils.readObjectFromResource("product-projection1.json", ProductProjection.typeReference()).getMasterVariant();
+        final LocalizedString first = variant.findAttribute(LOC_STRING_ATTRIBUTE, ofLocalizedString()).get();
+        assertThat(variant.findAttribute(LOC_STRING_ATTRIBUTE, ofLocalizedString()).get()).isSameAs(first);
+        assertThat(variant.findAttribute(localizedStringNamedAttributeAccess).get()).isSameAs(first);
+        assertThat(variant.getAttribute(LOC_STRING_ATTRIBUTE).getValueAsLocalizedString()).isSameAs(first);
+
+        final JsonNode asJson = variant.findAttribute(LOC_STRING_ATTRIBUTE, ofJsonNode()).get();
+        assertThat(variant.findAttribute(LOC_STRING_ATTRIBUTE, ofLocalizedString()).get())
+                .as("another mapper replaces the remembered value")
+                .isNotSameAs(first)
+                .isEqualTo(first);
+        assertThat(asJson.get("de").asText()).isEqualTo("val-loc-string-de");
+    }
+
+    @Test
+    public void firstAttributeOfSameNameWins() throws Exception {
+        final AttributeContainer container = AttributeContainer.of(asList(
+                Attribute.of(STRING_ATTRIBUTE, ofString(), "first"),
+                Attribute.of(BOOLEAN_ATTRIBUTE, ofBoolean(), true),
+                Attribute.of(STRING_ATTRIBUTE, ofString(), "second")));
+
+        assertThat(container.findAttribute(STRING_ATTRIBUTE, ofString())).contains("first");
+        assertThat(container.getAttribute(STRING_ATTRIBUTE).getValueAsString()).isEqualTo("first");
+        assertThat(container.hasAttribute(BOOLEAN_ATTRIBUTE)).isTrue();
+        assertThat(container.hasAttribute(NOT_PRESENT)).isFalse();
+    }
+
+    @Test
+    public void setsCanBeModifiedByTheCaller() throws Exception {
+        final Attribute attribute = Attribute.of("set", ofStringSet(), new HashSet<>(asList("a", "b")));
+        final Set<String> first = attribute.getValue(ofStringSet());
+        first.add("c");
+        assertThat(attribute.getValue(ofStringSet())).containsOnly("a", "b");
+    }
+
+    @Test
+    public void containerCopiesAttributes() throws Exception {
+        final List<Attribute> attributes = new ArrayList<>(asList(Attribute.of(STRING_ATTRIBUTE, ofString(), "first")));
+        final AttributeContainer container = AttributeContainer.of(attributes);
+        assertThat(container.hasAttribute(STRING_ATTRIBUTE)).isTrue();
+        attributes.add(Attribute.of(BOOLEAN_ATTRIBUTE, ofBoolean(), true));
+        assertThat(container.getAttributes()).hasSize(1);
+        assertThat(container.hasAttribute(BOOLEAN_ATTRIBUTE)).isFalse();
+    }
 
     private String map(final Attribute attr) {
         final MetaProductType metaProductType = MetaProductType.of(asList(productType));
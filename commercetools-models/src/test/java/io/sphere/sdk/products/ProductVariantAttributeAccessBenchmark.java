@@ -0,0 +1,76 @@
+package io.sphere.sdk.products;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import io.sphere.sdk.json.SphereJsonUtils;
+import io.sphere.sdk.models.EnumValue;
+import io.sphere.sdk.models.LocalizedEnumValue;
+import io.sphere.sdk.models.LocalizedString;
+import io.sphere.sdk.products.attributes.AttributeAccess;
+import io.sphere.sdk.products.attributes.NamedAttributeAccess;
+
+import javax.money.MonetaryAmount;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Measures reading attributes of the variants of a listing page: 500 variants of {@code product-projection1.json},
+ * 16 attributes per variant, every page is rendered 3 times.
+ *
+ * <p>The first render of a page decodes the attributes, the later ones read the remembered values.
+ * The fresh page is parsed outside of the measurement.</p>
+ *
+ * <p>Run with {@code mvn exec:java -Dexec.mainClass=io.sphere.sdk.products.ProductVariantAttributeAccessBenchmark -Dexec.classpathScope=test}.</p>
+ */
+public final class ProductVariantAttributeAccessBenchmark {
+    private static final int VARIANTS_PER_PAGE = 500;
+    private static final int RENDERS_PER_PAGE = 3;
+    private static final NamedAttributeAccess<Set<String>> SET_STRING = AttributeAccess.ofStringSet().ofName("set-string-attribute");
+    private static final NamedAttributeAccess<Set<LocalizedString>> SET_LOC_STRING = AttributeAccess.ofLocalizedStringSet().ofName("set-loc-string-attribute");
+    private static volatile int blackhole;
+
+    public static void main(final String[] args) {
+        final JsonNode json = SphereJsonUtils.readObjectFromResource("product-projection1.json", JsonNode.class);
+        for (int round = 1; round <= 10; round++) {
+            final List<ProductVariant> page = readPage(json);
+            final long start = System.nanoTime();
+            for (int render = 0; render < RENDERS_PER_PAGE; render++) {
+                for (final ProductVariant variant : page) {
+                    blackhole += render(variant);
+                }
+            }
+            final long elapsedMicros = (System.nanoTime() - start) / 1000;
+            System.out.printf("round %2d: %,8d µs for %d renders of %d variants%n", round, elapsedMicros, RENDERS_PER_PAGE, VARIANTS_PER_PAGE);
+        }
+    }
+
+    private static List<ProductVariant> readPage(final JsonNode json) {
+        final List<ProductVariant> page = new ArrayList<>(VARIANTS_PER_PAGE);
+        for (int i = 0; i < VARIANTS_PER_PAGE; i++) {
+            page.add(SphereJsonUtils.readObject(json, ProductProjection.typeReference()).getMasterVariant());
+        }
+        return page;
+    }
+
+    private static int render(final ProductVariant variant) {
+        int hash = 0;
+        hash += variant.findAttribute("string-attribute", AttributeAccess.ofString()).map(String::hashCode).orElse(0);
+        hash += variant.findAttribute("loc-string-attribute", AttributeAccess.ofLocalizedString()).map(LocalizedString::hashCode).orElse(0);
+        hash += variant.findAttribute("boolean-attribute", AttributeAccess.ofBoolean()).map(Boolean::hashCode).orElse(0);
+        hash += variant.findAttribute("number-attribute", AttributeAccess.ofDouble()).map(Double::hashCode).orElse(0);
+        hash += variant.findAttribute("money-attribute", AttributeAccess.ofMoney()).map(MonetaryAmount::hashCode).orElse(0);
+        hash += variant.findAttribute("date-attribute", AttributeAccess.ofDate()).map(LocalDate::hashCode).orElse(0);
+        hash += variant.findAttribute("time-attribute", AttributeAccess.ofTime()).map(Object::hashCode).orElse(0);
+        hash += variant.findAttribute("date-time-attribute", AttributeAccess.ofDateTime()).map(Object::hashCode).orElse(0);
+        hash += variant.findAttribute("enum-attribute", AttributeAccess.ofEnumValue()).map(EnumValue::hashCode).orElse(0);
+        hash += variant.findAttribute("loc-enum-attribute", AttributeAccess.ofLocalizedEnumValue()).map(LocalizedEnumValue::hashCode).orElse(0);
+        hash += variant.findAttribute(SET_STRING).map(Set::size).orElse(0);
+        hash += variant.findAttribute(SET_LOC_STRING).map(Set::size).orElse(0);
+        hash += variant.findAttribute("set-number-attribute", AttributeAccess.ofDoubleSet()).map(Set::size).orElse(0);
+        hash += variant.findAttribute("set-enum-attribute", AttributeAccess.ofEnumValueSet()).map(Set::size).orElse(0);
+        hash += variant.findAttribute("set-date-attribute", AttributeAccess.ofDateSet()).map(Set::size).orElse(0);
+        hash += variant.hasAttribute("custom-attribute") ? 1 : 0;
+        return hash;
+    }
+}
@@ -0,0 +1,61 @@
+package io.sphere.sdk.products.attributes;
+
+import io.sphere.sdk.producttypes.ProductType;
+
+import javax.annotation.Nullable;
+
+import static io.sphere.sdk.products.attributes.AttributeAccess.*;
+
+/**
+ * Converts attributes like {@link ProductAttributeConverterBase} did before it used a dispatch table,
+ * by asking every conversion method with {@link AttributeExtraction#ifIs(AttributeAccess, java.util.function.Function)}.
+ */
+final class ChainedProductAttributeConverter<T> {
+    private final ProductAttributeConverterBase<T> converter;
+
+    ChainedProductAttributeConverter(final ProductAttributeConverterBase<T> converter) {
+        this.converter = converter;
+    }
+
+    @Nullable
+    T convert(final Attribute attribute, final ProductType productType) {
+        final ProductAttributeConverterBase<T> c = converter;
+        return AttributeExtraction.<T>of(productType, attribute)
+                .ifIs(ofBoolean(), v -> c.convertBoolean(v, attribute, productType))
+                .ifIs(ofBooleanSet(), v -> c.convertBooleanSet(v, attribute, productType))
+                .ifIs(ofCategoryReference(), v -> c.convertCategoryReference(v, attribute, productType))
+                .ifIs(ofCategoryReferenceSet(), v -> c.convertCategoryReferenceSet(v, attribute, productType))
+                .ifIs(ofChannelReference(), v -> c.convertChannelReference(v, attribute, productType))
+                .ifIs(ofChannelReferenceSet(), v -> c.convertChannelReferenceSet(v, attribute, productType))
+                .ifIs(ofDate(), v -> c.convertDate(v, attribute, productType))
+                .ifIs(ofDateSet(), v -> c.convertDateSet(v, attribute, productType))
+                .ifIs(ofDateTime(), v -> c.convertDateTime(v, attribute, productType))
+                .ifIs(ofDateTimeSet(), v -> c.convertDateTimeSet(v, attribute, productType))
+                .ifIs(ofEnumValue(), v -> c.convertEnumValue(v, attribute, productType))
+                .ifIs(ofEnumValueSet(), v -> c.convertEnumValueSet(v, attribute, productType))
+                .ifIs(ofInteger(), v -> c.convertInteger(v, attribute, productType), value -> c.isInteger(attribute, productType))
+                .ifIs(ofIntegerSet(), v -> c.convertIntegerSet(v, attribute, productType), value -> c.isIntegerSet(attribute, productType))
+                .ifIs(ofLocalizedEnumValue(), v -> c.convertLocalizedEnumValue(v, attribute, productType))
+                .ifIs(ofLocalizedEnumValueSet(), v -> c.convertLocalizedEnumValueSet(v, attribute, productType))
+                .ifIs(ofLocalizedString(), v -> c.convertLocalizedString(v, attribute, productType))
+                .ifIs(ofLocalizedStringSet(), v -> c.convertLocalizedStringSet(v, attribute, productType))
+                .ifIs(ofLocalTime(), v -> c.convertTime(v, attribute, productType))
+                .ifIs(ofLocalTimeSet(), v -> c.convertTimeSet(v, attribute, productType))
+                .ifIs(ofLong(), v -> c.convertLong(v, attribute, productType), value -> c.isLong(attribute, productType))
+                .ifIs(ofLongSet(), v -> c.convertLongSet(v, attribute, productType), value -> c.isLongSet(attribute, productType))
+                .ifIs(ofMoney(), v -> c.convertMoney(v, attribute, productType))
+                .ifIs(ofMoneySet(), v -> c.convertMoneySet(v, attribute, productType))
+                .ifIs(ofProductReference(), v -> c.convertProductReference(v, attribute, productType))
+                .ifIs(ofProductReferenceSet(), v -> c.convertProductReferenceSet(v, attribute, productType))
+                .ifIs(ofProductTypeReference(), v -> c.convertProductTypeReference(v, attribute, productType))
+                .ifIs(ofProductTypeReferenceSet(), v -> c.convertProductTypeReferenceSet(v, attribute, productType))
+                .ifIs(ofString(), v -> c.convertString(v, attribute, productType))
+                .ifIs(ofStringSet(), v -> c.convertStringSet(v, attribute, productType))
+                .ifIs(ofTime(), v -> c.convertTime(v, attribute, productType))
+                .ifIs(ofTimeSet(), v -> c.convertTimeSet(v, attribute, productType))
+                .ifIs(ofDouble(), v -> c.convertDouble(v, attribute, productType))
+                .ifIs(ofDoubleSet(), v -> c.convertDoubleSet(v, attribute, productType))
+                .findValue()
+                .orElse(null);
+    }
+}
@@ -0,0 +1,71 @@
+package io.sphere.sdk.products.attributes;
+
+import io.sphere.sdk.json.SphereJsonUtils;
+import io.sphere.sdk.products.ProductProjection;
+import io.sphere.sdk.producttypes.ProductType;
+import org.junit.Test;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Supplier;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class DefaultProductAttributeFormatterTest {
+    private static final List<Locale> LOCALES = asList(Locale.GERMAN, Locale.ENGLISH);
+    private final ProductProjection productProjection = SphereJsonUtils.readObjectFromResource("product-projection1.json", ProductProjection.typeReference());
+    private final ProductType productType = productProjection.getProductType().getObj();
+
+    @Test
+    public void formatsLikeTheExtractionChain() throws Exception {
+        final DefaultProductAttributeFormatter formatter = new DefaultProductAttributeFormatter(singletonList(productType), LOCALES);
+        assertFormatsLikeTheExtractionChain(formatter);
+        assertThat(formatter.convert(productProjection.getMasterVariant().getAttribute("loc-string-attribute"), productProjection.getProductType()))
+                .isEqualTo("val-loc-string-de");
+    }
+
+    @Test
+    public void guardedNumberConversionsFormatLikeTheExtractionChain() throws Exception {
+        final DefaultProductAttributeFormatter formatter = new DefaultProductAttributeFormatter(singletonList(productType), LOCALES) {
+            @Override
+            protected Collection<String> integerAttributes() {
+                return singletonList("number-attribute");
+            }
+
+            @Override
+            protected Collection<String> longSetAttributes() {
+                return singletonList("set-number-attribute");
+            }
+        };
+        assertFormatsLikeTheExtractionChain(formatter);
+        assertThat(formatter.convert(productProjection.getMasterVariant().getAttribute("number-attribute"), productProjection.getProductType()))
+                .isEqualTo("2");
+    }
+
+    @Test
+    public void unknownProductTypeAndAttribute() throws Exception {
+        final DefaultProductAttributeFormatter formatter = new DefaultProductAttributeFormatter(singletonList(productType), LOCALES);
+        assertThat(formatter.convert(Attribute.of("not-present", AttributeAccess.ofString(), "foo"), productProjection.getProductType())).isNull();
+        assertThat(formatter.convert(productProjection.getMasterVariant().getAttribute("string-attribute"), ProductType.referenceOfId("unknown"))).isNull();
+    }
+
+    private void assertFormatsLikeTheExtractionChain(final DefaultProductAttributeFormatter formatter) {
+        final ChainedProductAttributeConverter<String> chain = new ChainedProductAttributeConverter<>(formatter);
+        assertThat(productProjection.getMasterVariant().getAttributes()).hasSize(20);
+        productProjection.getMasterVariant().getAttributes().forEach(attribute ->
+                assertThat(outcome(() -> formatter.convert(attribute, productProjection.getProductType())))
+                        .as(attribute.getName())
+                        .isEqualTo(outcome(() -> chain.convert(attribute, productType))));
+    }
+
+    private static String outcome(final Supplier<String> conversion) {
+        try {
+            return "value " + conversion.get();
+        } catch (final RuntimeException e) {
+            return "exception " + e.getClass().getName();
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package io.sphere.sdk.products.attributes;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.sphere.sdk.json.SphereJsonUtils;
+import io.sphere.sdk.products.ProductProjection;
+import io.sphere.sdk.producttypes.ProductType;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Supplier;
+
+import static java.util.Arrays.asList;
+
+/**
+ * Compares {@link DefaultProductAttributeFormatter} with the former {@link AttributeExtraction} chain
+ * while formatting all attributes of a catalog export.
+ *
+ * <p>The catalog consists of 20 000 products of {@code product-projection1.json} with 20 attributes each,
+ * spread over 50 product types. Every measurement uses freshly parsed products so no decoded value is reused.</p>
+ *
+ * <p>Run with {@code mvn exec:java -Dexec.mainClass=io.sphere.sdk.products.attributes.ProductAttributeConverterBenchmark -Dexec.classpathScope=test}.</p>
+ */
+public final class ProductAttributeConverterBenchmark {
+    private static final int PRODUCTS = 20_000;
+    private static final int PRODUCT_TYPES = 50;
+    private static volatile int blackhole;
+
+    public static void main(final String[] args) {
+        final JsonNode productJson = SphereJsonUtils.readObjectFromResource("product-projection1.json", JsonNode.class);
+        final List<ProductType> productTypes = createProductTypes(productJson.get("productType").get("obj"));
+        final DefaultProductAttributeFormatter formatter = new DefaultProductAttributeFormatter(productTypes, asList(Locale.GERMAN, Locale.ENGLISH));
+        final ChainedProductAttributeConverter<String> chain = new ChainedProductAttributeConverter<>(formatter);
+        for (int round = 1; round <= 5; round++) {
+            final List<ProductProjection> chainCatalog = createCatalog(productJson);
+            final long chainStart = System.nanoTime();
+            for (final ProductProjection product : chainCatalog) {
+                final ProductType productType = productTypes.get(indexOf(product));
+                product.getMasterVariant().getAttributes().forEach(attribute -> blackhole += hash(() -> chain.convert(attribute, productType)));
+            }
+            final long chainMillis = (System.nanoTime() - chainStart) / 1_000_000;
+
+            final List<ProductProjection> dispatchCatalog = createCatalog(productJson);
+            final long dispatchStart = System.nanoTime();
+            for (final ProductProjection product : dispatchCatalog) {
+                product.getMasterVariant().getAttributes().forEach(attribute -> blackhole += hash(() -> formatter.convert(attribute, product.getProductType())));
+            }
+            final long dispatchMillis = (System.nanoTime() - dispatchStart) / 1_000_000;
+            System.out.printf("round %d: extraction chain %,6d ms, dispatch table %,6d ms%n", round, chainMillis, dispatchMillis);
+        }
+    }
+
+    private static List<ProductType> createProductTypes(final JsonNode productTypeJson) {
+        final List<ProductType> productTypes = new ArrayList<>(PRODUCT_TYPES);
+        for (int i = 0; i < PRODUCT_TYPES; i++) {
+            final ObjectNode copy = productTypeJson.deepCopy();
+            copy.put("id", "product-type-" + i);
+            productTypes.add(SphereJsonUtils.readObject(copy, ProductType.typeReference()));
+        }
+        return productTypes;
+    }
+
+    private static List<ProductProjection> createCatalog(final JsonNode productJson) {
+        final List<ProductProjection> catalog = new ArrayList<>(PRODUCTS);
+        for (int i = 0; i < PRODUCTS; i++) {
+            final ObjectNode copy = productJson.deepCopy();
+            final ObjectNode productTypeReference = (ObjectNode) copy.get("productType");
+            productTypeReference.remove("obj");
+            productTypeReference.put("id", "product-type-" + (i % PRODUCT_TYPES));
+            catalog.add(SphereJsonUtils.readObject(copy, ProductProjection.typeReference()));
+        }
+        return catalog;
+    }
+
+    private static int indexOf(final ProductProjection product) {
+        final String productTypeId = product.getProductType().getId();
+        return Integer.parseInt(productTypeId.substring(productTypeId.lastIndexOf('-') + 1));
+    }
+
+    private static int hash(final Supplier<String> conversion) {
+        try {
+            final String value = conversion.get();
+            return value != null ? value.hashCode() : 0;
+        } catch (final RuntimeException e) {//both converters fail for the same attributes
+            return -1;
+        }
+    }
+}
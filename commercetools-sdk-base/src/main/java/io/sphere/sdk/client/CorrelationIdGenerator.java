@@ -7,9 +7,12 @@ import java.util.function.Supplier;
  *
  * The format of the correlation id is defined as:
  * {@code <projectKey> / <UUID> (/ customId)*}
+ *
+ * <p>{@link #of(String)} uses {@link java.util.UUID#randomUUID()} which draws from a shared {@link java.security.SecureRandom}
+ * and can become a point of contention with many requests per second. {@link #ofSequential(String)} avoids that.</p>
  */
 @FunctionalInterface
-interface CorrelationIdGenerator extends Supplier<String> {
+public interface CorrelationIdGenerator extends Supplier<String> {
 
     /**
      * Creates a new correlation id.
@@ -30,4 +33,17 @@ interface CorrelationIdGenerator extends Supplier<String> {
     static CorrelationIdGenerator of(final String projectKey) {
         return new CorrelationIdGeneratorImpl(projectKey);
     }
+
+    /**
+     * Creates a correlation id generator which does not need random numbers per id.
+     *
+     * <p>The format is {@code <projectKey>/<node>-<thread>-<counter>}: the node part is drawn once per JVM from a secure random generator,
+     * so ids of different nodes do not collide, the thread part is unique within the JVM and the counter is incremented per thread without synchronization.</p>
+     *
+     * @param projectKey the project key {@link SphereApiConfig#getProjectKey()}
+     * @return correlation id provider
+     */
+    static CorrelationIdGenerator ofSequential(final String projectKey) {
+        return new SequentialCorrelationIdGenerator(projectKey);
+    }
 }
@@ -74,6 +74,18 @@ public final class HttpRequestIntent extends Base {
         return of(httpMethod, path, HttpHeaders.of(), StringHttpRequestBody.of(body));
     }
 
+    /**
+     * Creates an intent with a UTF-8 encoded JSON body, for example created by {@link io.sphere.sdk.json.SphereJsonUtils#toJsonBytes(Object)}.
+     *
+     * @param httpMethod the http method
+     * @param path the path of the request
+     * @param body the UTF-8 encoded JSON body
+     * @return http request intent
+     */
+    public static HttpRequestIntent of(final HttpMethod httpMethod, final String path, final byte[] body) {
+        return of(httpMethod, path, HttpHeaders.of(), ByteArrayHttpRequestBody.of(body));
+    }
+
     public static HttpRequestIntent of(final HttpMethod httpMethod, final String path, final File body, final String contentType) {
         return of(httpMethod, path, HttpHeaders.of(CONTENT_TYPE, contentType), FileHttpRequestBody.of(body));
     }
@@ -28,6 +28,7 @@ public final class JavaAndHttpResponseSphereRequest<T> extends Base implements S
     @Nullable
     @Override
     public Pair<T, HttpResponse> deserialize(final HttpResponse httpResponse) {
+        httpResponse.getResponseBody();//buffers a streamed body so it is still readable by the caller
         final T javaObject = delegate.deserialize(httpResponse);
         return ImmutablePair.of(javaObject, httpResponse);
     }
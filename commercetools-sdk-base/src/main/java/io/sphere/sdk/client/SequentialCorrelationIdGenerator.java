@@ -0,0 +1,38 @@
+package io.sphere.sdk.client;
+
+import io.sphere.sdk.models.Base;
+
+import java.security.SecureRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Implementation of {@link CorrelationIdGenerator#ofSequential(String)}.
+ */
+final class SequentialCorrelationIdGenerator extends Base implements CorrelationIdGenerator {
+    private static final String NODE_ID = Long.toHexString(new SecureRandom().nextLong() | Long.MIN_VALUE);
+    private static final AtomicLong THREAD_SEQUENCE = new AtomicLong();
+    private static final ThreadLocal<ThreadCounter> THREAD_COUNTERS = ThreadLocal.withInitial(() -> new ThreadCounter(THREAD_SEQUENCE.incrementAndGet()));
+    private final String prefix;
+
+    SequentialCorrelationIdGenerator(final String projectKey) {
+        this.prefix = projectKey + "/" + NODE_ID + "-";
+    }
+
+    @Override
+    public String get() {
+        final ThreadCounter threadCounter = THREAD_COUNTERS.get();
+        return prefix + threadCounter.threadId + Long.toHexString(threadCounter.counter++);
+    }
+
+    /**
+     * The counter is only accessed by its thread.
+     */
+    private static final class ThreadCounter {
+        private final String threadId;
+        private long counter = 0;
+
+        private ThreadCounter(final long threadSequence) {
+            this.threadId = Long.toHexString(threadSequence) + "-";
+        }
+    }
+}
@@ -20,11 +20,11 @@ public final class SphereRequestUtils {
     }
 
     public static <T> T deserialize(final HttpResponse httpResponse, final TypeReference<T> typeReference) {
-        return SphereJsonUtils.readObject(Optional.ofNullable(httpResponse.getResponseBody()).orElseThrow(() -> new JsonException(httpResponse)), typeReference);
+        return SphereJsonUtils.readObject(Optional.ofNullable(httpResponse.getResponseBodyAsStream()).orElseThrow(() -> new JsonException(httpResponse)), typeReference);
     }
 
     public static <T> T deserialize(final HttpResponse httpResponse, final JavaType javaType) {
-        return SphereJsonUtils.readObject(Optional.ofNullable(httpResponse.getResponseBody()).orElseThrow(() -> new JsonException(httpResponse)), javaType);
+        return SphereJsonUtils.readObject(Optional.ofNullable(httpResponse.getResponseBodyAsStream()).orElseThrow(() -> new JsonException(httpResponse)), javaType);
     }
 
     public static String getBodyAsString(final HttpResponse httpResponse) {
@@ -4,6 +4,9 @@ import com.fasterxml.jackson.databind.JavaType;
 import io.sphere.sdk.client.HttpRequestIntent;
 import io.sphere.sdk.http.HttpMethod;
 
+import java.nio.charset.StandardCharsets;
+
+import static io.sphere.sdk.json.SphereJsonUtils.toJsonBytes;
 import static io.sphere.sdk.json.SphereJsonUtils.toJsonString;
 import static java.util.Objects.requireNonNull;
 
@@ -27,13 +30,30 @@ public abstract class CreateCommandImpl<T, D> extends CommandImpl<T> implements
 
     @Override
     public HttpRequestIntent httpRequestIntent() {
-        return HttpRequestIntent.of(httpMethod(), path, httpBody());
+        return HttpRequestIntent.of(httpMethod(), path, httpBodyBytes());
     }
 
     protected HttpMethod httpMethod() {
         return HttpMethod.POST;
     }
 
+    /**
+     * Serializes the draft as UTF-8 encoded JSON for the request body.
+     * If a subclass overrides {@link #httpBody()} the result of that method is encoded instead.
+     *
+     * @return the request body
+     */
+    protected byte[] httpBodyBytes() {
+        return HttpBodyOverrides.overridesHttpBody(getClass()) ? httpBody().getBytes(StandardCharsets.UTF_8) : toJsonBytes(body);
+    }
+
+    /**
+     * Serializes the draft as JSON string.
+     *
+     * @return the request body as string
+     * @deprecated overriding this method still works, but {@link #httpBodyBytes()} avoids creating the body as String and encoding it again
+     */
+    @Deprecated
     protected String httpBody() {
         return toJsonString(body);
     }
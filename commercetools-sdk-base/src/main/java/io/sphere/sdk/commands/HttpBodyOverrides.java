@@ -0,0 +1,31 @@
+package io.sphere.sdk.commands;
+
+/**
+ * Finds create commands which still override the String based {@code httpBody()},
+ * their body is encoded from that String instead of serializing the draft directly as bytes.
+ */
+final class HttpBodyOverrides {
+    private static final ClassValue<Boolean> OVERRIDES_HTTP_BODY = new ClassValue<Boolean>() {
+        @Override
+        protected Boolean computeValue(final Class<?> type) {
+            for (Class<?> current = type;
+                 current != null && current != CreateCommandImpl.class && current != MetaModelCreateCommandImpl.class;
+                 current = current.getSuperclass()) {
+                try {
+                    current.getDeclaredMethod("httpBody");
+                    return true;
+                } catch (final NoSuchMethodException e) {
+                    //continue with the super class
+                }
+            }
+            return false;
+        }
+    };
+
+    private HttpBodyOverrides() {
+    }
+
+    static boolean overridesHttpBody(final Class<?> commandClass) {
+        return OVERRIDES_HTTP_BODY.get(commandClass);
+    }
+}
@@ -10,6 +10,7 @@ import io.sphere.sdk.expansion.ExpansionPathContainer;
 import io.sphere.sdk.http.HttpMethod;
 import io.sphere.sdk.http.UrlQueryBuilder;
 
+import java.nio.charset.StandardCharsets;
 import java.util.Collections;
 import java.util.List;
 import java.util.function.Function;
@@ -55,7 +56,7 @@ public abstract class MetaModelCreateCommandImpl<T, C, D, E> extends CommandImpl
     @Override
     public HttpRequestIntent httpRequestIntent() {
         final String additions = queryParametersToString(true);
-        return HttpRequestIntent.of(httpMethod(), endpoint + (additions.length() > 1 ? additions : ""), httpBody());
+        return HttpRequestIntent.of(httpMethod(), endpoint + (additions.length() > 1 ? additions : ""), httpBodyBytes());
     }
 
     private String queryParametersToString(final boolean urlEncoded) {
@@ -68,6 +69,23 @@ public abstract class MetaModelCreateCommandImpl<T, C, D, E> extends CommandImpl
         return HttpMethod.POST;
     }
 
+    /**
+     * Serializes the draft as UTF-8 encoded JSON for the request body.
+     * If a subclass overrides {@link #httpBody()} the result of that method is encoded instead.
+     *
+     * @return the request body
+     */
+    protected byte[] httpBodyBytes() {
+        return HttpBodyOverrides.overridesHttpBody(getClass()) ? httpBody().getBytes(StandardCharsets.UTF_8) : toJsonBytes(body);
+    }
+
+    /**
+     * Serializes the draft as JSON string.
+     *
+     * @return the request body as string
+     * @deprecated overriding this method still works, but {@link #httpBodyBytes()} avoids creating the body as String and encoding it again
+     */
+    @Deprecated
     protected String httpBody() {
         return toJsonString(body);
     }
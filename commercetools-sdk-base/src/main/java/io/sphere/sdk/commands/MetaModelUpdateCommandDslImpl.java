@@ -18,7 +18,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.function.Function;
 
-import static io.sphere.sdk.json.SphereJsonUtils.toJsonString;
+import static io.sphere.sdk.json.SphereJsonUtils.toJsonBytes;
 import static io.sphere.sdk.utils.SphereInternalUtils.listOf;
 import static java.util.Objects.requireNonNull;
 
@@ -81,7 +81,7 @@ public class MetaModelUpdateCommandDslImpl<T extends ResourceView<T, T>, C exten
         }
         final String additions = queryParametersToString(true);
         final String path = baseEndpointWithoutId + "/" + getVersioned().getId() + (additions.length() > 1 ? additions : "");
-        return HttpRequestIntent.of(HttpMethod.POST, path, toJsonString(new UpdateCommandBody<>(getVersioned().getVersion(), getUpdateActions())));
+        return HttpRequestIntent.of(HttpMethod.POST, path, toJsonBytes(new UpdateCommandBody<>(getVersioned().getVersion(), getUpdateActions())));
     }
 
     private String queryParametersToString(final boolean urlEncoded) {
@@ -0,0 +1,16 @@
+package io.sphere.sdk.json;
+
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.module.afterburner.AfterburnerModule;
+
+/**
+ * Only this class refers to the optional jackson-module-afterburner, so {@link SphereJsonUtils} can be loaded without it.
+ */
+final class AfterburnerSupport {
+    private AfterburnerSupport() {
+    }
+
+    static Module newModule() {
+        return new AfterburnerModule();
+    }
+}
@@ -7,9 +7,11 @@ import com.fasterxml.jackson.databind.deser.std.StdScalarDeserializer;
 import javax.money.CurrencyUnit;
 import javax.money.Monetary;
 import java.io.IOException;
+import java.util.concurrent.ConcurrentHashMap;
 
 final class CurrencyUnitDeserializer extends StdScalarDeserializer<CurrencyUnit> {
     private static final long serialVersionUID = 0L;
+    private static final ConcurrentHashMap<String, CurrencyUnit> CURRENCIES_BY_CODE = new ConcurrentHashMap<>();
 
     CurrencyUnitDeserializer() {
         super(CurrencyUnit.class);
@@ -18,6 +20,7 @@ final class CurrencyUnitDeserializer extends StdScalarDeserializer<CurrencyUnit>
     @Override
     public CurrencyUnit deserialize(final JsonParser jsonParser, final DeserializationContext deserializationContext) throws IOException {
         final String currencyCode = deserializationContext.readValue(jsonParser, String.class);
-        return Monetary.getCurrency(currencyCode);
+        final CurrencyUnit cached = CURRENCIES_BY_CODE.get(currencyCode);
+        return cached != null ? cached : CURRENCIES_BY_CODE.computeIfAbsent(currencyCode, Monetary::getCurrency);
     }
 }
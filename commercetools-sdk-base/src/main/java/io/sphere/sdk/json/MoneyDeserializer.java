@@ -1,13 +1,18 @@
 package io.sphere.sdk.json;
 
 import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonMappingException;
 import com.fasterxml.jackson.databind.deser.std.StdScalarDeserializer;
 import io.sphere.sdk.utils.MoneyImpl;
 
 import javax.money.MonetaryAmount;
 import java.io.IOException;
 
+/**
+ * Reads the fields of a money object directly from the parser without creating an intermediate {@link MoneyRepresentation}.
+ */
 final class MoneyDeserializer extends StdScalarDeserializer<MonetaryAmount> {
     private static final long serialVersionUID = 0L;
 
@@ -17,8 +22,29 @@ final class MoneyDeserializer extends StdScalarDeserializer<MonetaryAmount> {
 
     @Override
     public MonetaryAmount deserialize(final JsonParser jsonParser, final DeserializationContext deserializationContext) throws IOException {
-        final MoneyRepresentation moneyRepresentation = deserializationContext.readValue(jsonParser, MoneyRepresentation.class);
-        final String currencyCode = moneyRepresentation.getCurrencyCode();
-        return MoneyImpl.ofCents(moneyRepresentation.getCentAmount(), currencyCode);
+        JsonToken token = jsonParser.getCurrentToken();
+        if (token == JsonToken.START_OBJECT) {
+            token = jsonParser.nextToken();
+        }
+        Long centAmount = null;
+        String currencyCode = null;
+        for (; token == JsonToken.FIELD_NAME; token = jsonParser.nextToken()) {
+            final String fieldName = jsonParser.getCurrentName();
+            final JsonToken valueToken = jsonParser.nextToken();
+            if ("centAmount".equals(fieldName)) {
+                centAmount = valueToken == JsonToken.VALUE_NULL ? null : jsonParser.getValueAsLong();
+            } else if ("currencyCode".equals(fieldName)) {
+                currencyCode = valueToken == JsonToken.VALUE_NULL ? null : jsonParser.getValueAsString();
+            } else {
+                jsonParser.skipChildren();
+            }
+        }
+        if (token != JsonToken.END_OBJECT) {
+            throw new JsonMappingException(jsonParser, "Expected a money object but got " + token + ".");
+        }
+        if (centAmount == null || currencyCode == null) {
+            throw new JsonMappingException(jsonParser, "Money requires the fields centAmount and currencyCode.");
+        }
+        return MoneyImpl.ofCents(centAmount, currencyCode);
     }
 }
@@ -3,6 +3,7 @@ package io.sphere.sdk.json;
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.SerializerProvider;
 import com.fasterxml.jackson.databind.ser.std.StdScalarSerializer;
+import io.sphere.sdk.utils.CentPrecisionMoney;
 
 import javax.money.MonetaryAmount;
 import java.io.IOException;
@@ -16,7 +17,15 @@ final class MoneySerializer extends StdScalarSerializer<MonetaryAmount> {
 
     @Override
     public void serialize(final MonetaryAmount monetaryAmount, final JsonGenerator jsonGenerator, final SerializerProvider serializerProvider) throws IOException {
-        final MoneyRepresentation moneyRepresentation = new MoneyRepresentation(monetaryAmount);
-        jsonGenerator.writeObject(moneyRepresentation);
+        if (monetaryAmount instanceof CentPrecisionMoney) {
+            final CentPrecisionMoney centPrecisionMoney = (CentPrecisionMoney) monetaryAmount;
+            jsonGenerator.writeStartObject();
+            jsonGenerator.writeNumberField("centAmount", centPrecisionMoney.getCentAmount());
+            jsonGenerator.writeStringField("currencyCode", centPrecisionMoney.getCurrency().getCurrencyCode());
+            jsonGenerator.writeEndObject();
+        } else {
+            final MoneyRepresentation moneyRepresentation = new MoneyRepresentation(monetaryAmount);
+            jsonGenerator.writeObject(moneyRepresentation);
+        }
     }
 }
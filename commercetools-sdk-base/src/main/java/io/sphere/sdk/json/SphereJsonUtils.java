@@ -28,7 +28,13 @@ import java.util.Set;
  *
  */
 public final class SphereJsonUtils {
-    private static final ObjectMapper objectMapper = newObjectMapper();
+    /**
+     * System property which makes {@link SphereJsonUtils} and the {@code SphereClient}s use
+     * {@link #newAcceleratedObjectMapper()}, for example {@code -Dio.sphere.sdk.json.accelerated=true}.
+     */
+    public static final String ACCELERATED_PROPERTY = "io.sphere.sdk.json.accelerated";
+    private static final boolean accelerated = Boolean.getBoolean(ACCELERATED_PROPERTY) && isAccelerationAvailable();
+    private static final ObjectMapper objectMapper = newObjectMapper(accelerated);
 
     private SphereJsonUtils() {
     }
@@ -54,6 +60,54 @@ public final class SphereJsonUtils {
                 .setSerializationInclusion(JsonInclude.Include.NON_NULL);
     }
 
+    /**
+     * Creates a new {@link ObjectMapper} like {@link #newObjectMapper()} which uses generated bytecode
+     * instead of reflection to call the constructors, setters and getters of the models.
+     *
+     * <p>This is an option for batch jobs which deserialize millions of resources,
+     * it requires {@code com.fasterxml.jackson.module:jackson-module-afterburner} in the version of jackson-databind on the classpath.</p>
+     *
+     * @return new object mapper
+     * @throws IllegalStateException if jackson-module-afterburner is not on the classpath
+     * @see #ACCELERATED_PROPERTY
+     */
+    public static ObjectMapper newAcceleratedObjectMapper() {
+        if (!isAccelerationAvailable()) {
+            throw new IllegalStateException("The accelerated object mapper requires com.fasterxml.jackson.module:jackson-module-afterburner on the classpath.");
+        }
+        return newObjectMapper().registerModule(AfterburnerSupport.newModule());
+    }
+
+    /**
+     * Creates a new {@link ObjectMapper} with {@link #newAcceleratedObjectMapper()} or {@link #newObjectMapper()}.
+     *
+     * @param accelerated true to use generated bytecode instead of reflection
+     * @return new object mapper
+     * @see #isAccelerated()
+     */
+    public static ObjectMapper newObjectMapper(final boolean accelerated) {
+        return accelerated ? newAcceleratedObjectMapper() : newObjectMapper();
+    }
+
+    /**
+     * Tells whether the object mapper of this class has been created with {@link #newAcceleratedObjectMapper()}
+     * because {@link #ACCELERATED_PROPERTY} is true and jackson-module-afterburner is on the classpath.
+     *
+     * @return true if accelerated
+     */
+    public static boolean isAccelerated() {
+        return accelerated;
+    }
+
+    private static boolean isAccelerationAvailable() {
+        try {
+            Class.forName("com.fasterxml.jackson.module.afterburner.AfterburnerModule", false, SphereJsonUtils.class.getClassLoader());
+            return true;
+        } catch (final ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+
     /**
      * Converts a commercetools platform Java object to JSON as String (one liner).
      *
@@ -66,6 +120,17 @@ public final class SphereJsonUtils {
         return executing(() -> objectMapper.writeValueAsString(value));
     }
 
+    /**
+     * Converts a commercetools platform Java object to JSON as UTF-8 encoded bytes (one liner).
+     * Jackson writes the bytes into its recycled buffers, so in contrast to {@link #toJsonString(Object)} there is no intermediate String.
+     *
+     * @param value the object to convert
+     * @return UTF-8 encoded JSON representation of the value
+     */
+    public static byte[] toJsonBytes(final Object value) {
+        return executing(() -> objectMapper.writeValueAsBytes(value));
+    }
+
     /**
      * Converts a commercetools platform Java object to JSON as String (pretty).
      *
@@ -231,6 +296,32 @@ public final class SphereJsonUtils {
         return executing(() -> objectMapper.readValue(jsonAsBytes, javaType));
     }
 
+    /**
+     * Reads a Java object from a stream of JSON data encoded as UTF-8 without buffering the whole data first.
+     * The stream will be closed afterwards.
+     *
+     * @param jsonAsStream the JSON data which represents sth. of type {@code <T>}
+     * @param typeReference the full generic type information about the object to create
+     * @param <T> the type of the result
+     * @return the created objected
+     */
+    public static <T> T readObject(final InputStream jsonAsStream, final TypeReference<T> typeReference) {
+        return executing(() -> objectMapper.readValue(jsonAsStream, typeReference));
+    }
+
+    /**
+     * Reads a Java object from a stream of JSON data encoded as UTF-8 without buffering the whole data first.
+     * The stream will be closed afterwards.
+     *
+     * @param jsonAsStream the JSON data which represents sth. of type {@code <T>}
+     * @param javaType the full generic type information about the object to create
+     * @param <T> the type of the result
+     * @return the created objected
+     */
+    public static <T> T readObject(final InputStream jsonAsStream, final JavaType javaType) {
+        return executing(() -> objectMapper.readValue(jsonAsStream, javaType));
+    }
+
     /**
      * Creates a new {@link ObjectNode} created by the commercetools platform object mapper.
      *
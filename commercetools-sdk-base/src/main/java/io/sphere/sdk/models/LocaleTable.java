@@ -0,0 +1,73 @@
+package io.sphere.sdk.models;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Shared locales and locale sequences of {@link LocalizedString}s.
+ *
+ * <p>The resources of a project use mostly the same few languages in the same order, so the {@link LocalizedString}s
+ * with the same locales point to one array instead of having their own keys. The tables are bounded,
+ * after reaching the limit new entries are not shared anymore.</p>
+ */
+final class LocaleTable {
+    private static final int MAX_ENTRIES = 4096;
+    private static final ConcurrentHashMap<String, Locale> LOCALES_BY_LANGUAGE_TAG = new ConcurrentHashMap<>();
+    private static final ConcurrentHashMap<LocaleSequence, Locale[]> LOCALE_SEQUENCES = new ConcurrentHashMap<>();
+
+    private LocaleTable() {
+    }
+
+    static Locale forLanguageTag(final String languageTag) {
+        final Locale cached = LOCALES_BY_LANGUAGE_TAG.get(languageTag);
+        if (cached != null) {
+            return cached;
+        }
+        final Locale locale = Locale.forLanguageTag(languageTag);
+        if (LOCALES_BY_LANGUAGE_TAG.size() < MAX_ENTRIES) {
+            LOCALES_BY_LANGUAGE_TAG.putIfAbsent(languageTag, locale);
+        }
+        return locale;
+    }
+
+    /**
+     * Finds the shared array with the same locales in the same order or registers {@code locales} as shared array.
+     * The arrays must not be modified afterwards.
+     *
+     * @param locales the locales of a {@link LocalizedString}
+     * @return the shared array or {@code locales} if the table is full
+     */
+    static Locale[] intern(final Locale[] locales) {
+        final LocaleSequence sequence = new LocaleSequence(locales);
+        final Locale[] cached = LOCALE_SEQUENCES.get(sequence);
+        if (cached != null) {
+            return cached;
+        }
+        if (LOCALE_SEQUENCES.size() < MAX_ENTRIES) {
+            final Locale[] previous = LOCALE_SEQUENCES.putIfAbsent(sequence, locales);
+            return previous != null ? previous : locales;
+        }
+        return locales;
+    }
+
+    private static final class LocaleSequence {
+        private final Locale[] locales;
+        private final int hashCode;
+
+        private LocaleSequence(final Locale[] locales) {
+            this.locales = locales;
+            this.hashCode = Arrays.hashCode(locales);
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            return o instanceof LocaleSequence && Arrays.equals(locales, ((LocaleSequence) o).locales);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+}
@@ -2,14 +2,23 @@ package io.sphere.sdk.models;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 
+import javax.annotation.Nullable;
+import java.util.concurrent.ConcurrentHashMap;
+
 final class LocalizedEnumValueImpl extends Base implements LocalizedEnumValue {
+    private static final int MAX_INTERNED_LABELS = 4096;
+    /**
+     * The labels of an enum are repeated in every product which uses the enum value, so equal labels share one instance.
+     */
+    private static final ConcurrentHashMap<LocalizedString, LocalizedString> INTERNED_LABELS = new ConcurrentHashMap<>();
+
     private final String key;
     private final LocalizedString label;
 
     @JsonCreator
     LocalizedEnumValueImpl(final String key, final LocalizedString label) {
         this.key = key;
-        this.label = label;
+        this.label = intern(label);
     }
 
     @Override
@@ -20,4 +29,20 @@ final class LocalizedEnumValueImpl extends Base implements LocalizedEnumValue {
     public LocalizedString getLabel() {
         return label;
     }
+
+    @Nullable
+    private static LocalizedString intern(@Nullable final LocalizedString label) {
+        if (label == null) {
+            return null;
+        }
+        final LocalizedString interned = INTERNED_LABELS.get(label);
+        if (interned != null) {
+            return interned;
+        }
+        if (INTERNED_LABELS.size() < MAX_INTERNED_LABELS) {
+            final LocalizedString previous = INTERNED_LABELS.putIfAbsent(label, label);
+            return previous != null ? previous : label;
+        }
+        return label;
+    }
 }
@@ -1,17 +1,16 @@
 package io.sphere.sdk.models;
 
 import com.fasterxml.jackson.annotation.JsonAnyGetter;
-import com.fasterxml.jackson.annotation.JsonAnySetter;
-import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.core.type.TypeReference;
-import io.sphere.sdk.utils.SphereInternalUtils;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import java.util.*;
 import java.util.function.BiFunction;
 import java.util.stream.Collector;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
@@ -26,18 +25,23 @@ import static java.util.stream.Collectors.joining;
  * and the values are the corresponding strings used for that language.
  *
  * {@include.example io.sphere.sdk.models.LocalizedStringTest#defaultUseCases()}
+ *
+ * <p>The translations are stored in insertion order as parallel arrays of locales and values,
+ * the locale array is shared by all instances with the same locales in the same order.</p>
  */
+@JsonDeserialize(using = LocalizedStringDeserializer.class)
 public final class LocalizedString extends Base {
 
-    private static final Comparator<Map.Entry<Locale, String>> BY_LOCALE_COMPARATOR = (left, right) -> left.getKey().toString().compareTo(right.getKey().toString());
+    private static final LocalizedString EMPTY = new LocalizedString(new Locale[0], new String[0]);
 
     @JsonIgnore
-    private final Map<Locale, String> translations;
+    private final Locale[] locales;
+    @JsonIgnore
+    private final String[] values;
 
-    @JsonCreator
-    private LocalizedString(final Map<Locale, String> translations) {
-        //the Jackson mapper may passes null here and it is not possible to use an immutable map
-        this.translations = immutableCopyOf(Optional.ofNullable(translations).orElse(Collections.emptyMap()));
+    private LocalizedString(final Locale[] locales, final String[] values) {
+        this.locales = locales;
+        this.values = values;
     }
 
     /**
@@ -47,7 +51,7 @@ public final class LocalizedString extends Base {
      */
     @JsonIgnore
     public static LocalizedString of() {
-        return of(emptyMap());
+        return EMPTY;
     }
 
     /**
@@ -72,7 +76,7 @@ public final class LocalizedString extends Base {
     public static LocalizedString of(final Locale locale, final String value) {
         requireNonNull(locale);
         requireNonNull(value);
-        return of(mapOf(locale, value));
+        return new LocalizedString(LocaleTable.intern(new Locale[]{locale}), new String[]{value});
     }
 
     /**
@@ -102,7 +106,30 @@ public final class LocalizedString extends Base {
     @JsonIgnore
     public static LocalizedString of(final Map<Locale, String> translations) {
         requireNonNull(translations);
-        return new LocalizedString(translations);
+        final Locale[] locales = new Locale[translations.size()];
+        final String[] values = new String[locales.length];
+        int size = 0;
+        for (final Map.Entry<Locale, String> entry : translations.entrySet()) {
+            locales[size] = entry.getKey();
+            values[size] = entry.getValue();
+            size++;
+        }
+        return of(locales, values, size);
+    }
+
+    /**
+     * Creates an instance from the first {@code size} elements of parallel arrays with distinct locales, the arrays are copied.
+     *
+     * @param locales the locales
+     * @param values the translations corresponding to {@code locales}
+     * @param size the number of used elements
+     * @return new instance
+     */
+    static LocalizedString of(final Locale[] locales, final String[] values, final int size) {
+        if (size == 0) {
+            return EMPTY;
+        }
+        return new LocalizedString(LocaleTable.intern(Arrays.copyOf(locales, size)), Arrays.copyOf(values, size));
     }
 
     /**
@@ -136,13 +163,14 @@ public final class LocalizedString extends Base {
      * @throws IllegalArgumentException if duplicate locales are provided
      */
     public LocalizedString plus(final Locale locale, final String value) {
-        if (translations.containsKey(locale)) {
+        if (indexOf(locale) >= 0) {
             throw new IllegalArgumentException(format("Duplicate keys (%s) for map creation.", locale));
         }
-        final Map<Locale, String> newMap = new HashMap<>();
-        newMap.putAll(translations);
-        newMap.put(locale, value);
-        return new LocalizedString(newMap);
+        final Locale[] newLocales = Arrays.copyOf(locales, locales.length + 1);
+        final String[] newValues = Arrays.copyOf(values, values.length + 1);
+        newLocales[locales.length] = locale;
+        newValues[values.length] = value;
+        return new LocalizedString(LocaleTable.intern(newLocales), newValues);
     }
 
     /**
@@ -168,7 +196,8 @@ public final class LocalizedString extends Base {
      */
     @Nullable
     public String get(final Locale locale) {
-        return translations.get(locale);
+        final int index = indexOf(locale);
+        return index >= 0 ? values[index] : null;
     }
 
     /**
@@ -194,7 +223,7 @@ public final class LocalizedString extends Base {
      */
     @Nonnull
     public Optional<String> find(final Iterable<Locale> locales) {
-        final Optional<Locale> firstFoundLocale = toStream(locales).filter(locale -> translations.containsKey(locale)).findFirst();
+        final Optional<Locale> firstFoundLocale = toStream(locales).filter(locale -> indexOf(locale) >= 0).findFirst();
         return firstFoundLocale.map(foundLocale -> get(foundLocale));
     }
 
@@ -260,7 +289,7 @@ public final class LocalizedString extends Base {
      * @return stream of all entries
      */
     public Stream<LocalizedStringEntry> stream() {
-        return translations.entrySet().stream().map(entry -> LocalizedStringEntry.of(entry.getKey(), entry.getValue()));
+        return IntStream.range(0, locales.length).mapToObj(index -> LocalizedStringEntry.of(locales[index], values[index]));
     }
 
     /**
@@ -311,7 +340,7 @@ public final class LocalizedString extends Base {
     @JsonIgnore
     @Nonnull
     public Set<Locale> getLocales() {
-        return translations.keySet();
+        return unmodifiableSet(new LinkedHashSet<>(Arrays.asList(locales)));
     }
 
     /**
@@ -321,25 +350,65 @@ public final class LocalizedString extends Base {
      */
     @JsonAnyGetter//@JsonUnwrap supports not maps, but this construct puts map content on top level
     private Map<Locale, String> getTranslations() {
-        return immutableCopyOf(translations);
+        final Map<Locale, String> translations = new LinkedHashMap<>();
+        for (int i = 0; i < locales.length; i++) {
+            translations.put(locales[i], values[i]);
+        }
+        return unmodifiableMap(translations);
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof LocalizedString)) {
+            return false;
+        }
+        final LocalizedString other = (LocalizedString) o;
+        if (locales == other.locales) {
+            return Arrays.equals(values, other.values);
+        }
+        if (locales.length != other.locales.length) {
+            return false;
+        }
+        for (int i = 0; i < locales.length; i++) {
+            final int otherIndex = other.indexOf(locales[i]);
+            if (otherIndex < 0 || !Objects.equals(values[i], other.values[otherIndex])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        //like Map.hashCode() it does not depend on the order of the translations
+        int result = 0;
+        for (int i = 0; i < locales.length; i++) {
+            result += Objects.hashCode(locales[i]) ^ Objects.hashCode(values[i]);
+        }
+        return result;
     }
 
     @Override
     public String toString() {
         return "LocalizedString(" +
-                translations
-                        .entrySet()
-                        .stream()
-                        .sorted(BY_LOCALE_COMPARATOR)
-                        .map(entry -> entry.getKey() + " -> " + entry.getValue())
+                IntStream.range(0, locales.length)
+                        .boxed()
+                        .sorted(Comparator.comparing(index -> locales[index].toString()))
+                        .map(index -> locales[index] + " -> " + values[index])
                         .collect(joining(", "))
                 + ")";
     }
 
-    @SuppressWarnings("unused")//used by Jackson JSON mapper
-    @JsonAnySetter
-    private void set(final String languageTag, final String value) {
-        translations.put(Locale.forLanguageTag(languageTag), value);
+    private int indexOf(@Nullable final Locale locale) {
+        for (int i = 0; i < locales.length; i++) {
+            if (Objects.equals(locales[i], locale)) {
+                return i;
+            }
+        }
+        return -1;
     }
 
     /**
@@ -0,0 +1,73 @@
+package io.sphere.sdk.models;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * Reads the translations directly into the arrays of a {@link LocalizedString} without an intermediate map.
+ */
+final class LocalizedStringDeserializer extends StdDeserializer<LocalizedString> {
+    private static final long serialVersionUID = 0L;
+    private static final int INITIAL_CAPACITY = 8;
+
+    LocalizedStringDeserializer() {
+        super(LocalizedString.class);
+    }
+
+    @Override
+    public LocalizedString deserialize(final JsonParser jsonParser, final DeserializationContext deserializationContext) throws IOException {
+        JsonToken token = jsonParser.getCurrentToken();
+        if (token == JsonToken.START_OBJECT) {
+            token = jsonParser.nextToken();
+        } else if (token != JsonToken.FIELD_NAME && token != JsonToken.END_OBJECT) {
+            return (LocalizedString) deserializationContext.handleUnexpectedToken(LocalizedString.class, jsonParser);
+        }
+        Locale[] locales = new Locale[INITIAL_CAPACITY];
+        String[] values = new String[INITIAL_CAPACITY];
+        int size = 0;
+        for (; token == JsonToken.FIELD_NAME; token = jsonParser.nextToken()) {
+            final Locale locale = LocaleTable.forLanguageTag(jsonParser.getCurrentName());
+            final String value = readValue(jsonParser, deserializationContext);
+            final int index = indexOf(locales, size, locale);
+            if (index >= 0) {
+                values[index] = value;
+            } else {
+                if (size == locales.length) {
+                    locales = Arrays.copyOf(locales, size * 2);
+                    values = Arrays.copyOf(values, size * 2);
+                }
+                locales[size] = locale;
+                values[size] = value;
+                size++;
+            }
+        }
+        return LocalizedString.of(locales, values, size);
+    }
+
+    private static String readValue(final JsonParser jsonParser, final DeserializationContext deserializationContext) throws IOException {
+        final JsonToken token = jsonParser.nextToken();
+        if (token == JsonToken.VALUE_STRING) {
+            return jsonParser.getText();
+        } else if (token == JsonToken.VALUE_NULL) {
+            return null;
+        } else if (token.isScalarValue()) {
+            return jsonParser.getValueAsString();
+        }
+        return (String) deserializationContext.handleUnexpectedToken(String.class, jsonParser);
+    }
+
+    private static int indexOf(final Locale[] locales, final int size, final Locale locale) {
+        for (int i = 0; i < size; i++) {
+            if (locales[i].equals(locale)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
@@ -4,8 +4,8 @@ import com.fasterxml.jackson.annotation.JsonIgnore;
 import io.sphere.sdk.client.HttpRequestIntent;
 import io.sphere.sdk.client.SphereRequest;
 import io.sphere.sdk.http.HttpRequest;
+import io.sphere.sdk.http.HttpRequestBody;
 import io.sphere.sdk.http.HttpResponse;
-import io.sphere.sdk.http.StringHttpRequestBody;
 import io.sphere.sdk.json.SphereJsonUtils;
 import io.sphere.sdk.meta.BuildInfo;
 import org.apache.commons.lang3.StringUtils;
@@ -184,8 +184,7 @@ public class SphereException extends RuntimeException {
             final Optional<String> stringBodyOfHttpRequest = stringBodyOfHttpRequest();
             final Optional<String> stringBodyOfHttpRequestIntentSupplier = Optional.ofNullable(httpRequestIntent)
                     .map(r -> r.getBody())
-                    .filter(r -> r instanceof StringHttpRequestBody)
-                    .map(r -> ((StringHttpRequestBody) r).getSecuredBody());
+                    .map(HttpRequestBody::getSecuredBody);
             return Optional.ofNullable(stringBodyOfHttpRequest.orElse(stringBodyOfHttpRequestIntentSupplier.orElse(null)))
                     .map(SphereJsonUtils::prettyPrint)
                     .map(s -> "http request formatted body: " + s + "\n")
@@ -198,11 +197,9 @@ public class SphereException extends RuntimeException {
     private Optional<String> stringBodyOfHttpRequest() {
         return Optional.ofNullable(httpRequest)
                 .map(r -> r.getBody())
-                .filter(x -> x instanceof StringHttpRequestBody)
-                .map(b -> ((StringHttpRequestBody) b).getSecuredBody());
+                .map(HttpRequestBody::getSecuredBody);
     }
 
-
     private static String getVersionForJavadoc() {
         return getVersionForJavadoc(BuildInfo.version());
     }
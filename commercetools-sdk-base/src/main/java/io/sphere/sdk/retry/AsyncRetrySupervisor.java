@@ -15,10 +15,31 @@ import java.util.function.Function;
 public interface AsyncRetrySupervisor extends AutoCloseable {
     <P, R> CompletionStage<R> supervise(final AutoCloseable service, final Function<P, CompletionStage<R>> f, @Nullable P parameterObject);
 
+    /**
+     * The metrics of the retry budget of this supervisor.
+     *
+     * @return metrics or null if the supervisor has no budget
+     */
+    @Nullable
+    default RetryBudgetMetrics getRetryBudgetMetrics() {
+        return null;
+    }
+
     @Override
     void close();
 
     static AsyncRetrySupervisor of(final List<RetryRule> retryRules) {
-        return new AsyncRetrySupervisorImpl(retryRules);
+        return new AsyncRetrySupervisorImpl(retryRules, null);
+    }
+
+    /**
+     * Creates a supervisor which only retries as long as {@code retryBudget} allows it.
+     *
+     * @param retryRules the rules which decide how to handle an error
+     * @param retryBudget the budget, can be shared with other supervisors
+     * @return supervisor
+     */
+    static AsyncRetrySupervisor of(final List<RetryRule> retryRules, final RetryBudget retryBudget) {
+        return new AsyncRetrySupervisorImpl(retryRules, retryBudget);
     }
 }
@@ -2,6 +2,7 @@ package io.sphere.sdk.retry;
 
 import io.sphere.sdk.models.Base;
 import io.sphere.sdk.retry.RetryStrategy.StrategyType;
+import io.sphere.sdk.utils.HashedWheelTimer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -10,16 +11,23 @@ import java.time.Duration;
 import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
 
 final class AsyncRetrySupervisorImpl extends Base implements AsyncRetrySupervisor {
     private static final Logger logger = LoggerFactory.getLogger(AsyncRetrySupervisor.class);
     private final List<RetryRule> retryRules;
-    private final ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1);
+    @Nullable
+    private final RetryBudget retryBudget;
+    private final HashedWheelTimer timer = HashedWheelTimer.shared();
+    private final Set<HashedWheelTimer.Timeout> scheduledRetries = ConcurrentHashMap.newKeySet();
+    private volatile boolean closed = false;
 
-    AsyncRetrySupervisorImpl(final List<RetryRule> retryRules) {
+    AsyncRetrySupervisorImpl(final List<RetryRule> retryRules, @Nullable final RetryBudget retryBudget) {
         this.retryRules = retryRules;
+        this.retryBudget = retryBudget;
     }
 
     @Override
@@ -27,9 +35,13 @@ final class AsyncRetrySupervisorImpl extends Base implements AsyncRetrySuperviso
                                                final Function<P, CompletionStage<R>> f,
                                                @Nullable final P parameterObject) {
         final CompletableFuture<R> result = new CompletableFuture<>();
+        if (retryBudget != null) {
+            retryBudget.recordRequest();
+        }
         try {
             final CompletionStage<R> initialCompletionStage = f.apply(parameterObject);
-            initialCompletionStage.whenCompleteAsync((res, firstError) -> {
+            //results are completed inline, only scheduled retries go through the timer
+            initialCompletionStage.whenComplete((res, firstError) -> {
                 final boolean isErrorCase = firstError != null;
                 if (isErrorCase) {
                     final RetryContextImpl<P, R> retryOperationContext = createFirstRetryOperationContext(firstError, result, f, parameterObject, service);
@@ -37,16 +49,24 @@ final class AsyncRetrySupervisorImpl extends Base implements AsyncRetrySuperviso
                 } else {
                     result.complete(res);
                 }
-            }, executor);
+            });
         } catch (final Throwable e) {//necessary if f.apply() throws directly an exception
             result.completeExceptionally(e);
         }
         return result;
     }
 
+    @Override
+    @Nullable
+    public RetryBudgetMetrics getRetryBudgetMetrics() {
+        return retryBudget != null ? retryBudget.getMetrics() : null;
+    }
+
     @Override
     public void close() {
-        executor.shutdownNow();
+        closed = true;
+        scheduledRetries.forEach(HashedWheelTimer.Timeout::cancel);
+        scheduledRetries.clear();
     }
 
     private <P, R> RetryContextImpl<P, R> createFirstRetryOperationContext(final Throwable throwable, final CompletableFuture<R> result, final Function<P, CompletionStage<R>> f, final P parameterObject, final AutoCloseable service) {
@@ -56,7 +76,24 @@ final class AsyncRetrySupervisorImpl extends Base implements AsyncRetrySuperviso
     }
 
     private void schedule(final Runnable r, final Duration d) {
-        executor.schedule(r, d.toMillis(), TimeUnit.MILLISECONDS);
+        if (!closed) {
+            final AtomicReference<HashedWheelTimer.Timeout> timeoutReference = new AtomicReference<>();
+            final Runnable retry = () -> {
+                final HashedWheelTimer.Timeout timeout = timeoutReference.get();
+                if (timeout != null) {
+                    scheduledRetries.remove(timeout);
+                }
+                if (!closed) {
+                    r.run();
+                }
+            };
+            final HashedWheelTimer.Timeout timeout = timer.schedule(retry, d.toMillis(), TimeUnit.MILLISECONDS, ForkJoinPool.commonPool());
+            timeoutReference.set(timeout);
+            scheduledRetries.add(timeout);
+            if (timeout.isExpired()) {
+                scheduledRetries.remove(timeout);
+            }
+        }
     }
 
     private <P, R> void handle(final RetryContextImpl<P, R> retryContext) {
@@ -70,11 +107,15 @@ final class AsyncRetrySupervisorImpl extends Base implements AsyncRetrySuperviso
         } else {
             final Function<P, CompletionStage<R>> function = retryContext.getFunction();
             final Object parameter = retryStrategy.getParameter();
-            if (strategyType == StrategyType.RETRY_IMMEDIATELY) {
-                retry(retryContext, function, parameter);
+            if (retryBudget != null && !retryBudget.tryAcquireRetry()) {
+                logger.debug("Retry budget is exhausted, failing without retry.");
+                retryContext.getResult().completeExceptionally(retryContext.getLatestError());
+            } else if (strategyType == StrategyType.RETRY_IMMEDIATELY) {
+                retry(retryContext.withLatestDelay(Duration.ZERO), function, parameter);
             } else if (strategyType == StrategyType.RETRY_SCHEDULED) {
                 final Duration duration = retryStrategy.getDuration();
-                retryContext.schedule(() -> retry(retryContext, function, parameter), duration);
+                final RetryContextImpl<P, R> scheduledContext = retryContext.withLatestDelay(duration);
+                retryContext.schedule(() -> retry(scheduledContext, function, parameter), duration);
             } else {
                 throw new IllegalStateException("illegal state for " + retryStrategy);
             }
@@ -100,7 +141,7 @@ final class AsyncRetrySupervisorImpl extends Base implements AsyncRetrySuperviso
     }
 
     private <P, R> void handleResultAndEnqueueErrorHandlingAgain(final CompletionStage<R> completionStage, final Object parameter, final RetryContextImpl<P, R> retryOperationContext) {
-        completionStage.whenCompleteAsync((res, error) -> {
+        completionStage.whenComplete((res, error) -> {
             final boolean isErrorCase = error != null;
             if (isErrorCase) {
                 final RetryContextImpl<P, R> nextContext = retryOperationContext.withNewFailedAttempt(error, parameter);
@@ -108,7 +149,7 @@ final class AsyncRetrySupervisorImpl extends Base implements AsyncRetrySuperviso
             } else {
                 retryOperationContext.getResult().complete(res);
             }
-        }, executor);
+        });
     }
 
     private RetryStrategy applyContext(final RetryContext retryContext) {
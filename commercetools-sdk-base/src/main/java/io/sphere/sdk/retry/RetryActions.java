@@ -1,5 +1,8 @@
 package io.sphere.sdk.retry;
 
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
 final class RetryActions {
 
     private RetryActions() {
@@ -10,4 +13,28 @@ final class RetryActions {
             throw new IllegalArgumentException("Max attempts must be greater than 0.");
         }
     }
+
+    static long exponentialNanos(final Duration base, final Duration max, final long attempt) {
+        final long maxNanos = max.toNanos();
+        final long shift = Math.max(0, Math.min(attempt - 1, 62));
+        final long baseNanos = base.toNanos();
+        return baseNanos > (maxNanos >> shift) ? maxNanos : baseNanos << shift;
+    }
+
+    static long randomBetween(final long lowerInclusive, final long upperInclusive) {
+        if (upperInclusive <= lowerInclusive) {
+            return lowerInclusive;
+        }
+        final long upperExclusive = upperInclusive == Long.MAX_VALUE ? upperInclusive : upperInclusive + 1;
+        return ThreadLocalRandom.current().nextLong(lowerInclusive, upperExclusive);
+    }
+
+    static void validateBackoff(final Duration base, final Duration max) {
+        if (base.isNegative() || base.isZero()) {
+            throw new IllegalArgumentException("base must be positive but was " + base);
+        }
+        if (max.compareTo(base) < 0) {
+            throw new IllegalArgumentException("max must not be less than base but was " + max);
+        }
+    }
 }
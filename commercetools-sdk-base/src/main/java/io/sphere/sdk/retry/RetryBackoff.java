@@ -0,0 +1,70 @@
+package io.sphere.sdk.retry;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+import static io.sphere.sdk.retry.RetryActions.exponentialNanos;
+import static io.sphere.sdk.retry.RetryActions.randomBetween;
+import static io.sphere.sdk.retry.RetryActions.validateBackoff;
+
+/**
+ * Calculates the time to wait before the next attempt, to be used with {@link RetryAction#ofScheduledRetry(long, Function)}.
+ *
+ * <p>Fixed or purely exponential delays let all clients which failed at the same time retry at the same time again,
+ * which amplifies the load on a degraded platform. The jittered strategies spread the retries randomly:</p>
+ *
+ * <ul>
+ *     <li>{@link #ofFullJitter(Duration, Duration)} waits a random time between 0 and the exponential delay</li>
+ *     <li>{@link #ofDecorrelatedJitter(Duration, Duration)} waits a random time between {@code base} and three times the previous delay</li>
+ * </ul>
+ *
+ * {@include.example io.sphere.sdk.client.retry.RetryBadGatewayExample}
+ */
+@FunctionalInterface
+public interface RetryBackoff extends Function<RetryContext, Duration> {
+    @Override
+    Duration apply(RetryContext retryContext);
+
+    /**
+     * Doubles the delay with each attempt, starting with {@code base} for the first retry, without randomization.
+     *
+     * @param base the delay before the first retry
+     * @param max the maximal delay
+     * @return backoff
+     */
+    static RetryBackoff ofExponential(final Duration base, final Duration max) {
+        validateBackoff(base, max);
+        return retryContext -> Duration.ofNanos(exponentialNanos(base, max, retryContext.getAttempt()));
+    }
+
+    /**
+     * Waits a random time between 0 and the exponential delay of {@link #ofExponential(Duration, Duration)}.
+     *
+     * @param base the upper bound of the delay before the first retry
+     * @param max the maximal delay
+     * @return backoff
+     */
+    static RetryBackoff ofFullJitter(final Duration base, final Duration max) {
+        validateBackoff(base, max);
+        return retryContext -> Duration.ofNanos(randomBetween(0, exponentialNanos(base, max, retryContext.getAttempt())));
+    }
+
+    /**
+     * Waits a random time between {@code base} and three times the previous delay, limited by {@code max}.
+     * The delays grow on average, but retries of requests which failed at the same time drift apart.
+     *
+     * @param base the minimal delay
+     * @param max the maximal delay
+     * @return backoff
+     */
+    static RetryBackoff ofDecorrelatedJitter(final Duration base, final Duration max) {
+        validateBackoff(base, max);
+        return retryContext -> {
+            final long baseNanos = base.toNanos();
+            final Duration latestDelay = retryContext.getLatestDelay();
+            final long previousNanos = latestDelay != null ? Math.max(baseNanos, latestDelay.toNanos()) : baseNanos;
+            final long upperNanos = previousNanos > Long.MAX_VALUE / 3 ? Long.MAX_VALUE : previousNanos * 3;
+            return Duration.ofNanos(Math.min(max.toNanos(), randomBetween(baseNanos, upperNanos)));
+        };
+    }
+}
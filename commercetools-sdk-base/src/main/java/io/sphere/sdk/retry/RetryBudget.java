@@ -0,0 +1,125 @@
+package io.sphere.sdk.retry;
+
+import io.sphere.sdk.models.Base;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Limits the retries of a client to a ratio of the first attempts, so retries cannot multiply the load when the platform degrades.
+ *
+ * <p>The budget is a token bucket: each first attempt deposits {@code retryRatio} tokens, each retry withdraws one token.
+ * A reserve of {@code minRetriesPerSecond} is refilled over time, so clients with few requests can still retry.
+ * The balance is limited to {@code maxRetryBurst}. If the budget is exhausted, {@link AsyncRetrySupervisor} does not retry
+ * but fails immediately with the latest error.</p>
+ *
+ * <p>One budget can be shared by several supervisors, for example all clients of one application.</p>
+ */
+public final class RetryBudget extends Base {
+    private final double retryRatio;
+    private final double minRetriesPerSecond;
+    private final double maxRetryBurst;
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder retries = new LongAdder();
+    private final LongAdder rejectedRetries = new LongAdder();
+    private double balance;//guarded by this
+    private long lastRefillNanos;//guarded by this
+    private long depositedRequests = 0;//guarded by this
+
+    private RetryBudget(final double retryRatio, final double minRetriesPerSecond, final double maxRetryBurst) {
+        if (retryRatio < 0) {
+            throw new IllegalArgumentException("retryRatio must not be negative but was " + retryRatio);
+        }
+        if (minRetriesPerSecond < 0) {
+            throw new IllegalArgumentException("minRetriesPerSecond must not be negative but was " + minRetriesPerSecond);
+        }
+        if (maxRetryBurst < 1) {
+            throw new IllegalArgumentException("maxRetryBurst must be at least 1 but was " + maxRetryBurst);
+        }
+        this.retryRatio = retryRatio;
+        this.minRetriesPerSecond = minRetriesPerSecond;
+        this.maxRetryBurst = maxRetryBurst;
+        this.balance = maxRetryBurst;
+        this.lastRefillNanos = System.nanoTime();
+    }
+
+    /**
+     * Creates a budget with a reserve of 10 retries per second and at most 100 retries at once.
+     *
+     * @param retryRatio the allowed retries per first attempt, for example 0.2 for 20%
+     * @return budget
+     */
+    public static RetryBudget of(final double retryRatio) {
+        return of(retryRatio, 10, 100);
+    }
+
+    /**
+     * Creates a budget.
+     *
+     * @param retryRatio the allowed retries per first attempt, for example 0.2 for 20%
+     * @param minRetriesPerSecond the retries per second which are allowed independent of the amount of first attempts
+     * @param maxRetryBurst the maximal balance of the budget
+     * @return budget
+     */
+    public static RetryBudget of(final double retryRatio, final double minRetriesPerSecond, final double maxRetryBurst) {
+        return new RetryBudget(retryRatio, minRetriesPerSecond, maxRetryBurst);
+    }
+
+    /**
+     * Deposits {@code retryRatio} for a first attempt.
+     * The first attempts are only counted, they are added to the balance when it is read, so this does not lock.
+     */
+    void recordRequest() {
+        requests.increment();
+    }
+
+    /**
+     * Withdraws a token for a retry.
+     *
+     * @return true if the retry is allowed
+     */
+    boolean tryAcquireRetry() {
+        return tryAcquireRetry(System.nanoTime());
+    }
+
+    synchronized boolean tryAcquireRetry(final long nowNanos) {
+        refill(nowNanos);
+        if (balance >= 1) {
+            balance -= 1;
+            retries.increment();
+            return true;
+        } else {
+            rejectedRetries.increment();
+            return false;
+        }
+    }
+
+    /**
+     * Takes a snapshot of the counters and the current balance.
+     *
+     * @return metrics
+     */
+    public RetryBudgetMetrics getMetrics() {
+        final double currentBalance;
+        synchronized (this) {
+            refill(System.nanoTime());
+            currentBalance = balance;
+        }
+        return RetryBudgetMetrics.of(requests.sum(), retries.sum(), rejectedRetries.sum(), currentBalance);
+    }
+
+    /**
+     * Adds the deposits of the first attempts since the last call and the reserve for the elapsed time.
+     * The balance only grows between withdrawals, so limiting the sum once is the same as limiting each deposit.
+     */
+    private void refill(final long nowNanos) {
+        final long currentRequests = requests.sum();
+        final long elapsedNanos = Math.max(0, nowNanos - lastRefillNanos);
+        final double deposit = (currentRequests - depositedRequests) * retryRatio + elapsedNanos * minRetriesPerSecond / TimeUnit.SECONDS.toNanos(1);
+        balance = Math.min(maxRetryBurst, balance + deposit);
+        depositedRequests = currentRequests;
+        if (elapsedNanos > 0) {
+            lastRefillNanos = nowNanos;
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package io.sphere.sdk.retry;
+
+import io.sphere.sdk.models.Base;
+
+/**
+ * Snapshot of the counters of a {@link RetryBudget}.
+ */
+public final class RetryBudgetMetrics extends Base {
+    private final long requests;
+    private final long retries;
+    private final long rejectedRetries;
+    private final double balance;
+
+    private RetryBudgetMetrics(final long requests, final long retries, final long rejectedRetries, final double balance) {
+        this.requests = requests;
+        this.retries = retries;
+        this.rejectedRetries = rejectedRetries;
+        this.balance = balance;
+    }
+
+    public static RetryBudgetMetrics of(final long requests, final long retries, final long rejectedRetries, final double balance) {
+        return new RetryBudgetMetrics(requests, retries, rejectedRetries, balance);
+    }
+
+    /**
+     * The number of first attempts.
+     *
+     * @return count
+     */
+    public long getRequests() {
+        return requests;
+    }
+
+    /**
+     * The number of retries which have been allowed.
+     *
+     * @return count
+     */
+    public long getRetries() {
+        return retries;
+    }
+
+    /**
+     * The number of retries which have been rejected because the budget was exhausted.
+     *
+     * @return count
+     */
+    public long getRejectedRetries() {
+        return rejectedRetries;
+    }
+
+    /**
+     * The retries which can currently be done.
+     *
+     * @return balance
+     */
+    public double getBalance() {
+        return balance;
+    }
+}
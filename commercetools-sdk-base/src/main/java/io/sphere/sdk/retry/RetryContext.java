@@ -1,6 +1,7 @@
 package io.sphere.sdk.retry;
 
 import javax.annotation.Nullable;
+import java.time.Duration;
 import java.time.Instant;
 
 /**
@@ -48,4 +49,15 @@ public interface RetryContext {
      * @return attempt
      */
     Long getAttempt();
+
+    /**
+     * The time waited before the latest attempt, null for the first attempt or if the implementation does not track it.
+     * Backoff strategies like {@link RetryBackoff#ofDecorrelatedJitter(Duration, Duration)} calculate the next delay from it.
+     *
+     * @return null or the latest delay
+     */
+    @Nullable
+    default Duration getLatestDelay() {
+        return null;
+    }
 }
@@ -20,6 +20,8 @@ final class RetryContextImpl<P, R> extends Base implements RetryContext {
     @Nullable
     private final Object latestParameter;
     private final Long attempt;
+    @Nullable
+    private final Duration latestDelay;
 
     private final CompletableFuture<R> result;
     private final Function<P, CompletionStage<R>> f;
@@ -27,7 +29,12 @@ final class RetryContextImpl<P, R> extends Base implements RetryContext {
     private final BiConsumer<Runnable, Duration> scheduler;
 
     public RetryContextImpl(final Instant startTimestamp, final Long attempt, final Throwable firstError, final Object firstParameter, final Throwable latestError, final Object latestParameter, final CompletableFuture<R> result, final Function<P, CompletionStage<R>> f, final AutoCloseable closeable, final BiConsumer<Runnable, Duration> scheduler) {
+        this(startTimestamp, attempt, firstError, firstParameter, latestError, latestParameter, result, f, closeable, scheduler, null);
+    }
+
+    RetryContextImpl(final Instant startTimestamp, final Long attempt, final Throwable firstError, final Object firstParameter, final Throwable latestError, final Object latestParameter, final CompletableFuture<R> result, final Function<P, CompletionStage<R>> f, final AutoCloseable closeable, final BiConsumer<Runnable, Duration> scheduler, @Nullable final Duration latestDelay) {
         this.attempt = attempt;
+        this.latestDelay = latestDelay;
         this.startTimestamp = startTimestamp;
         this.firstError = filterOutCompletionException(firstError);
         this.latestError = filterOutCompletionException(latestError);
@@ -75,6 +82,12 @@ final class RetryContextImpl<P, R> extends Base implements RetryContext {
         return startTimestamp;
     }
 
+    @Override
+    @Nullable
+    public Duration getLatestDelay() {
+        return latestDelay;
+    }
+
     Function<P, CompletionStage<R>> getFunction() {
         return f;
     }
@@ -93,6 +106,10 @@ final class RetryContextImpl<P, R> extends Base implements RetryContext {
 
     RetryContextImpl<P, R> withNewFailedAttempt(final Throwable error, final Object parameter) {
         final long attemptCount = getAttempt() + 1;
-        return new RetryContextImpl<>(getStartTimestamp(), attemptCount, getFirstError(), getFirstParameter(), error, parameter, getResult(), getFunction(), getService(), this::schedule);
+        return new RetryContextImpl<>(getStartTimestamp(), attemptCount, getFirstError(), getFirstParameter(), error, parameter, getResult(), getFunction(), getService(), this::schedule, getLatestDelay());
+    }
+
+    RetryContextImpl<P, R> withLatestDelay(final Duration delay) {
+        return new RetryContextImpl<>(getStartTimestamp(), getAttempt(), getFirstError(), getFirstParameter(), getLatestError(), getLatestParameter(), getResult(), getFunction(), getService(), this::schedule, delay);
     }
 }
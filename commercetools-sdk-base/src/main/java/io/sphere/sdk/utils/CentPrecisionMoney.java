@@ -0,0 +1,280 @@
+package io.sphere.sdk.utils;
+
+import io.sphere.sdk.models.Base;
+
+import javax.annotation.Nullable;
+import javax.money.*;
+import java.math.BigDecimal;
+
+/**
+ * Compact {@link MonetaryAmount} of an amount in the minor unit of a currency, like the money values of the commercetools platform.
+ *
+ * <p>It only stores the cent amount as {@code long} and the currency, the full JavaMoney amount is created on demand
+ * for arithmetic and queries. Comparisons, {@link #equals(Object)} and {@link #hashCode()} are compatible with {@link MoneyImpl}.</p>
+ *
+ * @see MoneyImpl#ofCents(long, CurrencyUnit)
+ */
+public final class CentPrecisionMoney extends Base implements MonetaryAmount {
+    private final long centAmount;
+    private final CurrencyUnit currency;
+    @Nullable
+    private transient MonetaryAmount money;//created on demand, racy but the result is immutable
+
+    private CentPrecisionMoney(final long centAmount, final CurrencyUnit currency) {
+        this.centAmount = centAmount;
+        this.currency = currency;
+    }
+
+    /**
+     * Creates an amount in the minor unit of a currency.
+     *
+     * @param centAmount the amount in the minor unit, for example 250 for 2.50 EUR or 250 for 250 JPY
+     * @param currency the currency which has a non negative number of fraction digits
+     * @return amount
+     */
+    public static CentPrecisionMoney of(final long centAmount, final CurrencyUnit currency) {
+        if (currency.getDefaultFractionDigits() < 0) {
+            throw new IllegalArgumentException("The currency " + currency.getCurrencyCode() + " has no minor unit.");
+        }
+        return new CentPrecisionMoney(centAmount, currency);
+    }
+
+    public long getCentAmount() {
+        return centAmount;
+    }
+
+    @Override
+    public CurrencyUnit getCurrency() {
+        return currency;
+    }
+
+    @Override
+    public NumberValue getNumber() {
+        return money().getNumber();
+    }
+
+    @Override
+    public MonetaryContext getContext() {
+        return money().getContext();
+    }
+
+    @Override
+    public <R> R query(final MonetaryQuery<R> query) {
+        return money().query(query);
+    }
+
+    @Override
+    public MonetaryAmount with(final MonetaryOperator operator) {
+        return money().with(operator);
+    }
+
+    @Override
+    public MonetaryAmountFactory<? extends MonetaryAmount> getFactory() {
+        return money().getFactory();
+    }
+
+    @Override
+    public boolean isGreaterThan(final MonetaryAmount amount) {
+        return compareTo(amount) > 0;
+    }
+
+    @Override
+    public boolean isGreaterThanOrEqualTo(final MonetaryAmount amount) {
+        return compareTo(amount) >= 0;
+    }
+
+    @Override
+    public boolean isLessThan(final MonetaryAmount amount) {
+        return compareTo(amount) < 0;
+    }
+
+    @Override
+    public boolean isLessThanOrEqualTo(final MonetaryAmount amount) {
+        return compareTo(amount) <= 0;
+    }
+
+    @Override
+    public boolean isEqualTo(final MonetaryAmount amount) {
+        return isSameCurrencyCompact(amount) ? centAmount == ((CentPrecisionMoney) amount).centAmount : money().isEqualTo(amount);
+    }
+
+    @Override
+    public boolean isNegative() {
+        return centAmount < 0;
+    }
+
+    @Override
+    public boolean isNegativeOrZero() {
+        return centAmount <= 0;
+    }
+
+    @Override
+    public boolean isPositive() {
+        return centAmount > 0;
+    }
+
+    @Override
+    public boolean isPositiveOrZero() {
+        return centAmount >= 0;
+    }
+
+    @Override
+    public boolean isZero() {
+        return centAmount == 0;
+    }
+
+    @Override
+    public int signum() {
+        return Long.signum(centAmount);
+    }
+
+    @Override
+    public MonetaryAmount add(final MonetaryAmount amount) {
+        return money().add(amount);
+    }
+
+    @Override
+    public MonetaryAmount subtract(final MonetaryAmount amount) {
+        return money().subtract(amount);
+    }
+
+    @Override
+    public MonetaryAmount multiply(final long multiplicand) {
+        return money().multiply(multiplicand);
+    }
+
+    @Override
+    public MonetaryAmount multiply(final double multiplicand) {
+        return money().multiply(multiplicand);
+    }
+
+    @Override
+    public MonetaryAmount multiply(final Number multiplicand) {
+        return money().multiply(multiplicand);
+    }
+
+    @Override
+    public MonetaryAmount divide(final long divisor) {
+        return money().divide(divisor);
+    }
+
+    @Override
+    public MonetaryAmount divide(final double divisor) {
+        return money().divide(divisor);
+    }
+
+    @Override
+    public MonetaryAmount divide(final Number divisor) {
+        return money().divide(divisor);
+    }
+
+    @Override
+    public MonetaryAmount remainder(final long divisor) {
+        return money().remainder(divisor);
+    }
+
+    @Override
+    public MonetaryAmount remainder(final double divisor) {
+        return money().remainder(divisor);
+    }
+
+    @Override
+    public MonetaryAmount remainder(final Number divisor) {
+        return money().remainder(divisor);
+    }
+
+    @Override
+    public MonetaryAmount[] divideAndRemainder(final long divisor) {
+        return money().divideAndRemainder(divisor);
+    }
+
+    @Override
+    public MonetaryAmount[] divideAndRemainder(final double divisor) {
+        return money().divideAndRemainder(divisor);
+    }
+
+    @Override
+    public MonetaryAmount[] divideAndRemainder(final Number divisor) {
+        return money().divideAndRemainder(divisor);
+    }
+
+    @Override
+    public MonetaryAmount divideToIntegralValue(final long divisor) {
+        return money().divideToIntegralValue(divisor);
+    }
+
+    @Override
+    public MonetaryAmount divideToIntegralValue(final double divisor) {
+        return money().divideToIntegralValue(divisor);
+    }
+
+    @Override
+    public MonetaryAmount divideToIntegralValue(final Number divisor) {
+        return money().divideToIntegralValue(divisor);
+    }
+
+    @Override
+    public MonetaryAmount scaleByPowerOfTen(final int power) {
+        return money().scaleByPowerOfTen(power);
+    }
+
+    @Override
+    public MonetaryAmount abs() {
+        return centAmount < 0 ? negate() : this;
+    }
+
+    @Override
+    public MonetaryAmount negate() {
+        return new CentPrecisionMoney(Math.negateExact(centAmount), currency);
+    }
+
+    @Override
+    public MonetaryAmount plus() {
+        return this;
+    }
+
+    @Override
+    public MonetaryAmount stripTrailingZeros() {
+        return money().stripTrailingZeros();
+    }
+
+    @Override
+    public int compareTo(final MonetaryAmount o) {
+        return isSameCurrencyCompact(o) ? Long.compare(centAmount, ((CentPrecisionMoney) o).centAmount) : money().compareTo(o);
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof MonetaryAmount)) {
+            return false;
+        }
+        final MonetaryAmount other = (MonetaryAmount) obj;
+        return other.getCurrency().equals(currency) && isEqualTo(other);
+    }
+
+    @Override
+    public int hashCode() {
+        return money().hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return money().toString();
+    }
+
+    private boolean isSameCurrencyCompact(final MonetaryAmount amount) {
+        return amount instanceof CentPrecisionMoney && currency.equals(amount.getCurrency());
+    }
+
+    private MonetaryAmount money() {
+        MonetaryAmount result = money;
+        if (result == null) {
+            result = MoneyImpl.of(BigDecimal.valueOf(centAmount, currency.getDefaultFractionDigits()), currency);
+            money = result;
+        }
+        return result;
+    }
+}
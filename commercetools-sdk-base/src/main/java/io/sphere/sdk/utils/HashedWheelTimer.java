@@ -0,0 +1,250 @@
+package io.sphere.sdk.utils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Timer for delayed tasks like timeouts, scheduled retries and token refreshes which serves any number of clients with one daemon thread.
+ *
+ * <p>The timeouts are sorted into the slots of a wheel by their deadline, so scheduling and cancelling is cheap and does not need a lock.
+ * The timer has a resolution of one tick, by default 10 milliseconds, tasks run at most one tick too late.
+ * If no task is pending, the thread sleeps until the next task is scheduled.</p>
+ *
+ * <p>The tasks run on the timer thread, so they have to be short, for example completing a future.
+ * Longer tasks should be passed on to an executor with {@link #schedule(Runnable, long, TimeUnit, Executor)}.</p>
+ *
+ * <p>Usually the instance of {@link #shared()} should be used, all schedulers of the SDK use it.</p>
+ */
+public final class HashedWheelTimer {
+    private static final SphereInternalLogger LOGGER = SphereInternalLogger.getLogger(HashedWheelTimer.class);
+    private static final AtomicInteger THREAD_COUNTER = new AtomicInteger();
+
+    private final long tickNanos;
+    private final List<TimeoutImpl>[] wheel;
+    private final int mask;
+    private final Queue<TimeoutImpl> newTimeouts = new ConcurrentLinkedQueue<>();
+    private final AtomicLong pendingTimeouts = new AtomicLong();
+    private final long startNanos = System.nanoTime();
+    private final Thread workerThread;
+    private volatile boolean idle = false;
+    private long tick = 0;//only accessed by the worker thread
+
+    @SuppressWarnings("unchecked")
+    private HashedWheelTimer(final long tickDuration, final TimeUnit unit, final int ticksPerWheel) {
+        if (tickDuration <= 0) {
+            throw new IllegalArgumentException("tickDuration must be positive but was " + tickDuration);
+        }
+        if (ticksPerWheel <= 0 || ticksPerWheel > (1 << 20)) {
+            throw new IllegalArgumentException("ticksPerWheel must be between 1 and 2^20 but was " + ticksPerWheel);
+        }
+        int wheelSize = 1;
+        while (wheelSize < ticksPerWheel) {
+            wheelSize <<= 1;
+        }
+        this.tickNanos = unit.toNanos(tickDuration);
+        this.wheel = new List[wheelSize];
+        for (int i = 0; i < wheelSize; i++) {
+            wheel[i] = new ArrayList<>();
+        }
+        this.mask = wheelSize - 1;
+        this.workerThread = new Thread(this::run, "sphere-timer-" + THREAD_COUNTER.incrementAndGet());
+        this.workerThread.setDaemon(true);
+        this.workerThread.start();
+    }
+
+    /**
+     * Creates a new timer with an own thread which runs as long as the JVM.
+     *
+     * @param tickDuration the resolution of the timer
+     * @param unit the unit of {@code tickDuration}
+     * @param ticksPerWheel the number of slots, rounded up to a power of two
+     * @return timer
+     */
+    public static HashedWheelTimer of(final long tickDuration, final TimeUnit unit, final int ticksPerWheel) {
+        return new HashedWheelTimer(tickDuration, unit, ticksPerWheel);
+    }
+
+    /**
+     * Gets the timer shared by all components of the SDK in this JVM, it has a resolution of 10 milliseconds.
+     *
+     * @return timer
+     */
+    public static HashedWheelTimer shared() {
+        return SharedHolder.INSTANCE;
+    }
+
+    /**
+     * Schedules a short task to run on the timer thread after {@code delay}.
+     *
+     * @param task the task
+     * @param delay the delay, values less than or equal to 0 run the task with the next tick
+     * @param unit the unit of {@code delay}
+     * @return handle to cancel the task
+     */
+    public Timeout schedule(final Runnable task, final long delay, final TimeUnit unit) {
+        final long deadlineNanos = System.nanoTime() - startNanos + Math.max(0, unit.toNanos(delay));
+        final TimeoutImpl timeout = new TimeoutImpl(task, deadlineNanos);
+        pendingTimeouts.incrementAndGet();
+        newTimeouts.add(timeout);
+        if (idle) {
+            LockSupport.unpark(workerThread);
+        }
+        return timeout;
+    }
+
+    /**
+     * Schedules a task to run in {@code executor} after {@code delay}, so it does not block the timer thread.
+     *
+     * @param task the task
+     * @param delay the delay
+     * @param unit the unit of {@code delay}
+     * @param executor the executor which runs the task
+     * @return handle to cancel the task
+     */
+    public Timeout schedule(final Runnable task, final long delay, final TimeUnit unit, final Executor executor) {
+        return schedule(() -> executor.execute(task), delay, unit);
+    }
+
+    /**
+     * The number of scheduled tasks which have neither run nor been cancelled.
+     *
+     * @return number of pending tasks
+     */
+    public long getPendingTimeouts() {
+        return pendingTimeouts.get();
+    }
+
+    private void run() {
+        while (true) {
+            final long nowNanos = waitForNextTick();
+            transferNewTimeouts();
+            expireTimeouts(wheel[(int) (tick & mask)], nowNanos);
+            tick++;
+        }
+    }
+
+    private long waitForNextTick() {
+        while (true) {
+            final long nowNanos = System.nanoTime() - startNanos;
+            final long sleepNanos = tickNanos * (tick + 1) - nowNanos;
+            if (sleepNanos <= 0) {
+                return nowNanos;
+            }
+            if (pendingTimeouts.get() == 0) {
+                idle = true;
+                if (pendingTimeouts.get() == 0) {
+                    LockSupport.park(this);
+                }
+                idle = false;
+                //no timeout is in the wheel, so the ticks which passed while sleeping can be skipped
+                tick = Math.max(tick, (System.nanoTime() - startNanos) / tickNanos - 1);
+            } else {
+                LockSupport.parkNanos(this, sleepNanos);
+            }
+        }
+    }
+
+    private void transferNewTimeouts() {
+        TimeoutImpl timeout;
+        while ((timeout = newTimeouts.poll()) != null) {
+            if (timeout.state.get() == TimeoutImpl.CANCELLED) {
+                continue;
+            }
+            final long deadlineTick = timeout.deadlineNanos / tickNanos;
+            timeout.remainingRounds = (deadlineTick - tick) / wheel.length;
+            final long slotTick = Math.max(deadlineTick, tick);
+            wheel[(int) (slotTick & mask)].add(timeout);
+        }
+    }
+
+    private void expireTimeouts(final List<TimeoutImpl> slot, final long nowNanos) {
+        int kept = 0;
+        for (int i = 0; i < slot.size(); i++) {
+            final TimeoutImpl timeout = slot.get(i);
+            if (timeout.state.get() == TimeoutImpl.CANCELLED) {
+                continue;
+            }
+            if (timeout.remainingRounds <= 0 && timeout.deadlineNanos <= nowNanos) {
+                timeout.expire();
+            } else {
+                if (timeout.remainingRounds > 0) {
+                    timeout.remainingRounds--;
+                }
+                slot.set(kept++, timeout);
+            }
+        }
+        slot.subList(kept, slot.size()).clear();
+    }
+
+    /**
+     * Handle for a scheduled task.
+     */
+    public interface Timeout {
+        /**
+         * Cancels the task if it has not run yet.
+         *
+         * @return true if the task has been cancelled by this call
+         */
+        boolean cancel();
+
+        boolean isExpired();
+
+        boolean isCancelled();
+    }
+
+    private final class TimeoutImpl implements Timeout {
+        private static final int INIT = 0;
+        private static final int CANCELLED = 1;
+        private static final int EXPIRED = 2;
+        private final Runnable task;
+        private final long deadlineNanos;
+        private final AtomicInteger state = new AtomicInteger(INIT);
+        private long remainingRounds;//only accessed by the worker thread
+
+        private TimeoutImpl(final Runnable task, final long deadlineNanos) {
+            this.task = task;
+            this.deadlineNanos = deadlineNanos;
+        }
+
+        @Override
+        public boolean cancel() {
+            final boolean cancelled = state.compareAndSet(INIT, CANCELLED);
+            if (cancelled) {
+                pendingTimeouts.decrementAndGet();
+            }
+            return cancelled;
+        }
+
+        @Override
+        public boolean isExpired() {
+            return state.get() == EXPIRED;
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return state.get() == CANCELLED;
+        }
+
+        private void expire() {
+            if (state.compareAndSet(INIT, EXPIRED)) {
+                pendingTimeouts.decrementAndGet();
+                try {
+                    task.run();
+                } catch (final Throwable t) {
+                    LOGGER.error(() -> "Error in timer task " + task, t);
+                }
+            }
+        }
+    }
+
+    private static final class SharedHolder {
+        private static final HashedWheelTimer INSTANCE = new HashedWheelTimer(10, TimeUnit.MILLISECONDS, 512);
+    }
+}
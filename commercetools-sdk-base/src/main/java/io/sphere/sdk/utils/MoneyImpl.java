@@ -8,8 +8,10 @@ import javax.annotation.Nonnull;
 import javax.money.*;
 import java.math.BigDecimal;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 public final class MoneyImpl extends Base implements MonetaryAmount {
+    private static final ConcurrentHashMap<String, CurrencyUnit> CURRENCIES_BY_CODE = new ConcurrentHashMap<>();
     private final MonetaryAmount money;
 
     private MoneyImpl(final MonetaryAmount money) {
@@ -265,7 +267,8 @@ public final class MoneyImpl extends Base implements MonetaryAmount {
     }
 
     private static CurrencyUnit createCurrencyByCode(final String currencyCode) {
-        return Monetary.getCurrency(currencyCode);
+        final CurrencyUnit cached = CURRENCIES_BY_CODE.get(currencyCode);
+        return cached != null ? cached : CURRENCIES_BY_CODE.computeIfAbsent(currencyCode, Monetary::getCurrency);
     }
 
     public static MonetaryAmount of(final String amount, final CurrencyUnit currencyUnit) {
@@ -287,7 +290,18 @@ public final class MoneyImpl extends Base implements MonetaryAmount {
         return ofCents(centAmount, createCurrencyByCode(currencyCode));
     }
 
+    /**
+     * Creates a {@link MonetaryAmount} from an amount in the minor unit of the currency.
+     * For currencies with a minor unit the result is a compact {@link CentPrecisionMoney}.
+     *
+     * @param centAmount the amount in the minor unit, for example 250 for 2.50 EUR
+     * @param currencyUnit the currency of the amount
+     * @return amount
+     */
     public static MonetaryAmount ofCents(final long centAmount, final CurrencyUnit currencyUnit) {
+        if (currencyUnit.getDefaultFractionDigits() >= 0) {
+            return CentPrecisionMoney.of(centAmount, currencyUnit);
+        }
         return of(new BigDecimal(centAmount).divide(new BigDecimal(10).pow(currencyUnit.getDefaultFractionDigits())), currencyUnit);
     }
 
@@ -296,6 +310,9 @@ public final class MoneyImpl extends Base implements MonetaryAmount {
     }
 
     public static Long centAmountOf(@Nonnull final MonetaryAmount monetaryAmount) {
+        if (monetaryAmount instanceof CentPrecisionMoney) {
+            return ((CentPrecisionMoney) monetaryAmount).getCentAmount();
+        }
         return monetaryAmount.query(MonetaryQueries.convertMinorPart());
     }
 }
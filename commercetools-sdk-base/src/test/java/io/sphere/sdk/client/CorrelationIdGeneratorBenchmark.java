@@ -0,0 +1,56 @@
+package io.sphere.sdk.client;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * Compares the throughput of {@link CorrelationIdGenerator#of(String)} and {@link CorrelationIdGenerator#ofSequential(String)}
+ * with an increasing number of threads which generate ids at the same time.
+ *
+ * <p>Run with {@code mvn exec:java -Dexec.mainClass=io.sphere.sdk.client.CorrelationIdGeneratorBenchmark -Dexec.classpathScope=test}.</p>
+ */
+public final class CorrelationIdGeneratorBenchmark {
+    private static final int IDS_PER_THREAD = 500_000;
+    private static volatile int blackhole;
+
+    public static void main(final String[] args) throws Exception {
+        final int maxThreads = Math.max(8, Runtime.getRuntime().availableProcessors() * 2);
+        for (int round = 1; round <= 2; round++) {
+            for (int threads = 1; threads <= maxThreads; threads *= 2) {
+                run("uuid      ", round, threads, CorrelationIdGenerator.of("project-key"));
+                run("sequential", round, threads, CorrelationIdGenerator.ofSequential("project-key"));
+            }
+        }
+    }
+
+    private static void run(final String name, final int round, final int threadCount, final CorrelationIdGenerator generator) throws InterruptedException {
+        final CountDownLatch start = new CountDownLatch(1);
+        final List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < threadCount; i++) {
+            final Thread thread = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                int hash = 0;
+                for (int n = 0; n < IDS_PER_THREAD; n++) {
+                    hash += generator.get().length();
+                }
+                blackhole += hash;
+            });
+            thread.start();
+            threads.add(thread);
+        }
+        final long startNanos = System.nanoTime();
+        start.countDown();
+        for (final Thread thread : threads) {
+            thread.join();
+        }
+        final long elapsedNanos = System.nanoTime() - startNanos;
+        final double idsPerSecond = (double) IDS_PER_THREAD * threadCount / elapsedNanos * 1e9;
+        System.out.printf("%s round %d, %2d threads: %,14.0f ids/s%n", name, round, threadCount, idsPerSecond);
+    }
+}
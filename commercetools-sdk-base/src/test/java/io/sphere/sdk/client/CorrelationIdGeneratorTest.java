@@ -4,7 +4,10 @@ import org.junit.Test;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -28,4 +31,26 @@ public class CorrelationIdGeneratorTest {
         final UUID uuid = UUID.fromString(correlationIdParts.get(1));
         assertThat(uuid).isNotNull();
     }
+
+    @Test
+    public void createSequentialCorrelationId() {
+        final String projectKey = "my-project";
+
+        final String correlationId = CorrelationIdGenerator.ofSequential(projectKey).get();
+        final List<String> correlationIdParts = Arrays.asList(correlationId.split("/"));
+
+        assertThat(correlationIdParts).hasSize(2);
+        assertThat(correlationIdParts.get(0)).isEqualTo(projectKey);
+        assertThat(correlationIdParts.get(1)).matches("[0-9a-f]{16}-[0-9a-f]+-[0-9a-f]+");
+    }
+
+    @Test
+    public void sequentialCorrelationIdsAreUniqueAcrossThreads() {
+        final CorrelationIdGenerator correlationIdGenerator = CorrelationIdGenerator.ofSequential("my-project");
+        final Set<String> correlationIds = ConcurrentHashMap.newKeySet();
+
+        IntStream.range(0, 40_000).parallel().forEach(i -> correlationIds.add(correlationIdGenerator.get()));
+
+        assertThat(correlationIds).hasSize(40_000);
+    }
 }
@@ -0,0 +1,39 @@
+package io.sphere.sdk.commands;
+
+import io.sphere.sdk.http.HttpRequestBody;
+import org.junit.Test;
+
+import static io.sphere.sdk.json.SphereJsonUtils.convertToJavaType;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CreateCommandImplTest {
+    @Test
+    public void serializesDraft() {
+        final HttpRequestBody body = new DraftCommand("draft").httpRequestIntent().getBody();
+        assertThat(body.getSecuredBody()).isEqualTo("\"draft\"");
+    }
+
+    @Test
+    public void usesOverriddenStringBody() {
+        final HttpRequestBody body = new LegacyBodyCommand("draft").httpRequestIntent().getBody();
+        assertThat(body.getSecuredBody()).isEqualTo("{\"custom\":\"draft\"}");
+    }
+
+    private static class DraftCommand extends CreateCommandImpl<String, String> {
+        DraftCommand(final String draft) {
+            super(draft, "/drafts", convertToJavaType(String.class));
+        }
+    }
+
+    private static final class LegacyBodyCommand extends DraftCommand {
+        LegacyBodyCommand(final String draft) {
+            super(draft);
+        }
+
+        @Override
+        @SuppressWarnings("deprecation")
+        protected String httpBody() {
+            return "{\"custom\":\"" + getDraft() + "\"}";
+        }
+    }
+}
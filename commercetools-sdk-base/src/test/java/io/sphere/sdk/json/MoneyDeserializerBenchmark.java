@@ -0,0 +1,96 @@
+package io.sphere.sdk.json;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.deser.std.StdScalarDeserializer;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import io.sphere.sdk.utils.MoneyImpl;
+
+import javax.money.MonetaryAmount;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * Compares the throughput and the allocated bytes per price list of the streaming {@link MoneyDeserializer}
+ * with the previous deserialization through {@link MoneyRepresentation} and a {@link MoneyImpl} backed by a FastMoney.
+ *
+ * <p>Run with {@code mvn exec:java -Dexec.mainClass=io.sphere.sdk.json.MoneyDeserializerBenchmark -Dexec.classpathScope=test}.</p>
+ */
+public final class MoneyDeserializerBenchmark {
+    private static final int AMOUNTS = 1_000;
+    private static final int WARM_UP_ITERATIONS = 2_000;
+    private static final int MEASURED_ITERATIONS = 5_000;
+    private static final TypeReference<List<MonetaryAmount>> TYPE_REFERENCE = new TypeReference<List<MonetaryAmount>>() {
+    };
+    private static volatile Object blackhole;
+
+    public static void main(final String[] args) throws Exception {
+        final byte[] json = createJson();
+        final ObjectMapper streaming = SphereJsonUtils.newObjectMapper();
+        final ObjectMapper representation = SphereJsonUtils.newObjectMapper()
+                .registerModule(new SimpleModule().addDeserializer(MonetaryAmount.class, new RepresentationMoneyDeserializer()));
+        for (int round = 1; round <= 2; round++) {
+            run("representation", round, representation, json);
+            run("streaming     ", round, streaming, json);
+        }
+    }
+
+    private static void run(final String name, final int round, final ObjectMapper objectMapper, final byte[] json) throws IOException {
+        for (int i = 0; i < WARM_UP_ITERATIONS; i++) {
+            blackhole = objectMapper.readValue(json, TYPE_REFERENCE);
+        }
+        final long allocatedBefore = allocatedBytes();
+        final long start = System.nanoTime();
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            blackhole = objectMapper.readValue(json, TYPE_REFERENCE);
+        }
+        final long elapsedNanos = System.nanoTime() - start;
+        final long allocatedBytes = allocatedBytes() - allocatedBefore;
+        System.out.printf("%s round %d %,10.0f amounts/s %,6d bytes/amount%n", name, round,
+                (double) MEASURED_ITERATIONS * AMOUNTS * 1e9 / elapsedNanos, allocatedBytes / MEASURED_ITERATIONS / AMOUNTS);
+    }
+
+    private static byte[] createJson() {
+        final StringBuilder builder = new StringBuilder("[");
+        for (int i = 0; i < AMOUNTS; i++) {
+            if (i > 0) {
+                builder.append(',');
+            }
+            builder.append("{\"type\":\"centPrecision\",\"currencyCode\":\"").append(i % 3 == 0 ? "USD" : "EUR")
+                    .append("\",\"centAmount\":").append(i * 137).append(",\"fractionDigits\":2}");
+        }
+        return builder.append(']').toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static long allocatedBytes() {
+        final ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+        if (threadMXBean instanceof com.sun.management.ThreadMXBean) {
+            return ((com.sun.management.ThreadMXBean) threadMXBean).getThreadAllocatedBytes(Thread.currentThread().getId());
+        }
+        return 0;
+    }
+
+    /**
+     * The deserialization before the streaming {@link MoneyDeserializer}.
+     */
+    private static final class RepresentationMoneyDeserializer extends StdScalarDeserializer<MonetaryAmount> {
+        private static final long serialVersionUID = 0L;
+
+        private RepresentationMoneyDeserializer() {
+            super(MonetaryAmount.class);
+        }
+
+        @Override
+        public MonetaryAmount deserialize(final JsonParser jsonParser, final DeserializationContext deserializationContext) throws IOException {
+            final MoneyRepresentation moneyRepresentation = deserializationContext.readValue(jsonParser, MoneyRepresentation.class);
+            final BigDecimal amount = BigDecimal.valueOf(moneyRepresentation.getCentAmount(), 2);
+            return MoneyImpl.of(amount, moneyRepresentation.getCurrencyCode());
+        }
+    }
+}
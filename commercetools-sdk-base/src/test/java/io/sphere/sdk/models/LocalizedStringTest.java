@@ -352,4 +352,36 @@ public class LocalizedStringTest {
                 .plus(Locale.ITALIAN, "Giacche");
         assertThat(actual).isEqualTo(expected);
     }
+
+    @Test
+    public void equalsDoesNotDependOnTheOrder() {
+        final LocalizedString germanFirst = LocalizedString.of(Locale.GERMAN, "Hundefutter", Locale.ENGLISH, "dog food");
+        final LocalizedString englishFirst = LocalizedString.of(Locale.ENGLISH, "dog food", Locale.GERMAN, "Hundefutter");
+        assertThat(germanFirst).isEqualTo(englishFirst);
+        assertThat(germanFirst.hashCode()).isEqualTo(englishFirst.hashCode());
+        assertThat(germanFirst).isNotEqualTo(LocalizedString.of(Locale.ENGLISH, "dog food", Locale.GERMAN, "Katzenfutter"));
+        assertThat(englishFirst.getLocales()).containsExactly(Locale.ENGLISH, Locale.GERMAN);
+    }
+
+    @Test
+    public void jsonDeserializeKeepsOrderAndLastDuplicate() {
+        final LocalizedString localizedString = SphereJsonUtils.readObject("{\"en\":\"dog\",\"de\":\"Hund\",\"en\":\"dog food\",\"it\":null}", LocalizedString.typeReference());
+        assertThat(localizedString.getLocales()).containsExactly(Locale.ENGLISH, Locale.GERMAN, Locale.ITALIAN);
+        assertThat(localizedString.get(Locale.ENGLISH)).isEqualTo("dog food");
+        assertThat(localizedString.get(Locale.ITALIAN)).isNull();
+        assertThat(SphereJsonUtils.readObject("{}", LocalizedString.typeReference())).isEqualTo(LocalizedString.empty());
+    }
+
+    @Test
+    public void jsonDeserializeAsProperty() {
+        final LocalizedEnumValue value = SphereJsonUtils.readObject("{\"key\":\"food\",\"label\":" + DOG_FOOD_JSON + "}", LocalizedEnumValue.typeReference());
+        assertThat(value.getLabel()).isEqualTo(LocalizedString.of(Locale.GERMAN, "Hundefutter", Locale.ENGLISH, "dog food"));
+    }
+
+    @Test
+    public void sameLabelsOfEnumValuesAreShared() {
+        final LocalizedEnumValue first = LocalizedEnumValue.of("food", SphereJsonUtils.readObject(DOG_FOOD_JSON, LocalizedString.typeReference()));
+        final LocalizedEnumValue second = LocalizedEnumValue.of("food", SphereJsonUtils.readObject(DOG_FOOD_JSON, LocalizedString.typeReference()));
+        assertThat(first.getLabel()).isSameAs(second.getLabel());
+    }
 }
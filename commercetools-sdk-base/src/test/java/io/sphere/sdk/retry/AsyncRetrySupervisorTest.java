@@ -101,6 +101,36 @@ public class AsyncRetrySupervisorTest {
         }
     }
 
+    @Test
+    public void exhaustedRetryBudgetFailsFast() throws Exception {
+        try (final Service service = new Failing2TimesServiceImpl()) {
+            final List<RetryRule> retryRules = singletonList(RetryRule.of(RetryPredicate.ofAlwaysTrue(), RetryAction.ofImmediateRetries(3)));
+            final RetryBudget retryBudget = RetryBudget.of(0, 0, 1);
+            try(final AsyncRetrySupervisor supervisor = AsyncRetrySupervisor.of(retryRules, retryBudget)) {
+                final CompletionStage<Integer> bar = supervisor.supervise(service, service::apply, "bar");
+                final Throwable throwable = catchThrowable(() -> waitAndGet(bar));
+                assertThat(throwable.getCause()).hasMessage(Failing2TimesServiceImpl.ERROR_MESSAGE);
+                final RetryBudgetMetrics metrics = supervisor.getRetryBudgetMetrics();
+                assertThat(metrics.getRequests()).isEqualTo(1);
+                assertThat(metrics.getRetries()).isEqualTo(1);
+                assertThat(metrics.getRejectedRetries()).isEqualTo(1);
+            }
+        }
+    }
+
+    @Test
+    public void scheduledRetryWithJitter() throws Exception {
+        try (final Service service = new Failing2TimesServiceImpl()) {
+            final RetryAction op = RetryAction.ofScheduledRetry(3, RetryBackoff.ofDecorrelatedJitter(Duration.ofMillis(10), Duration.ofMillis(100)));
+            final List<RetryRule> retryRules = singletonList(RetryRule.of(RetryPredicate.ofAlwaysTrue(), op));
+            try(final AsyncRetrySupervisor supervisor = AsyncRetrySupervisor.of(retryRules, RetryBudget.of(0.2))) {
+                final CompletionStage<Integer> bar = supervisor.supervise(service, service::apply, "bar");
+                assertThat(waitAndGet(bar)).isEqualTo(3);
+                assertThat(supervisor.getRetryBudgetMetrics().getRetries()).isEqualTo(2);
+            }
+        }
+    }
+
     private Integer waitAndGet(final CompletionStage<Integer> bar) {
         return bar.toCompletableFuture().join();
     }
@@ -0,0 +1,66 @@
+package io.sphere.sdk.retry;
+
+import org.junit.Test;
+
+import java.time.Duration;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class RetryBackoffTest {
+    private static final Duration BASE = Duration.ofMillis(100);
+    private static final Duration MAX = Duration.ofSeconds(2);
+
+    @Test
+    public void exponentialDoublesUpToMax() {
+        final RetryBackoff backoff = RetryBackoff.ofExponential(BASE, MAX);
+        assertThat(backoff.apply(retryContext(1, null))).isEqualTo(Duration.ofMillis(100));
+        assertThat(backoff.apply(retryContext(2, null))).isEqualTo(Duration.ofMillis(200));
+        assertThat(backoff.apply(retryContext(4, null))).isEqualTo(Duration.ofMillis(800));
+        assertThat(backoff.apply(retryContext(6, null))).isEqualTo(MAX);
+        assertThat(backoff.apply(retryContext(1000, null))).isEqualTo(MAX);
+    }
+
+    @Test
+    public void fullJitterStaysBelowExponentialDelay() {
+        final RetryBackoff backoff = RetryBackoff.ofFullJitter(BASE, MAX);
+        for (int i = 0; i < 1000; i++) {
+            assertThat(backoff.apply(retryContext(3, null))).isBetween(Duration.ZERO, Duration.ofMillis(400));
+        }
+    }
+
+    @Test
+    public void decorrelatedJitterGrowsFromPreviousDelay() {
+        final RetryBackoff backoff = RetryBackoff.ofDecorrelatedJitter(BASE, MAX);
+        for (int i = 0; i < 1000; i++) {
+            assertThat(backoff.apply(retryContext(1, null))).isBetween(BASE, Duration.ofMillis(300));
+            assertThat(backoff.apply(retryContext(2, Duration.ofMillis(500)))).isBetween(BASE, Duration.ofMillis(1500));
+            assertThat(backoff.apply(retryContext(3, Duration.ofSeconds(1)))).isBetween(BASE, MAX);
+        }
+    }
+
+    @Test
+    public void decorrelatedJitterSpreadsRetries() {
+        final RetryBackoff backoff = RetryBackoff.ofDecorrelatedJitter(BASE, MAX);
+        final long distinctDelays = IntStream.range(0, 100)
+                .mapToObj(i -> backoff.apply(retryContext(1, null)))
+                .distinct()
+                .count();
+        assertThat(distinctDelays).isGreaterThan(50);
+    }
+
+    @Test
+    public void randomBetweenIncludesBothBounds() {
+        final long distinctValues = IntStream.range(0, 1000)
+                .mapToLong(i -> RetryActions.randomBetween(0, 2))
+                .peek(value -> assertThat(value).isBetween(0L, 2L))
+                .distinct()
+                .count();
+        assertThat(distinctValues).isEqualTo(3);
+        assertThat(RetryActions.randomBetween(5, 5)).isEqualTo(5);
+    }
+
+    private static RetryContext retryContext(final long attempt, final Duration latestDelay) {
+        return new RetryContextImpl<>(null, attempt, null, null, null, null, null, null, null, null, latestDelay);
+    }
+}
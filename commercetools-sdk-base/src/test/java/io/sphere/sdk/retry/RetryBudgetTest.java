@@ -0,0 +1,67 @@
+package io.sphere.sdk.retry;
+
+import org.junit.Test;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class RetryBudgetTest {
+    private static final long START = 0;
+
+    @Test
+    public void allowsBurstThenRatioOfRequests() {
+        final RetryBudget budget = RetryBudget.of(0.5, 0, 2);
+        assertThat(budget.tryAcquireRetry(START)).isTrue();
+        assertThat(budget.tryAcquireRetry(START)).isTrue();
+        assertThat(budget.tryAcquireRetry(START)).isFalse();
+
+        budget.recordRequest();
+        assertThat(budget.tryAcquireRetry(START)).isFalse();
+        budget.recordRequest();
+        assertThat(budget.tryAcquireRetry(START)).isTrue();
+        assertThat(budget.tryAcquireRetry(START)).isFalse();
+    }
+
+    @Test
+    public void refillsReserveOverTime() {
+        final RetryBudget budget = RetryBudget.of(0, 10, 1);
+        final long now = System.nanoTime();
+        assertThat(budget.tryAcquireRetry(now)).isTrue();
+        assertThat(budget.tryAcquireRetry(now)).isFalse();
+        assertThat(budget.tryAcquireRetry(now + TimeUnit.MILLISECONDS.toNanos(50))).isFalse();
+        assertThat(budget.tryAcquireRetry(now + TimeUnit.MILLISECONDS.toNanos(200))).isTrue();
+    }
+
+    @Test
+    public void countsRequestsOfConcurrentThreads() throws Exception {
+        final RetryBudget budget = RetryBudget.of(0.01, 0, 100);
+        IntStream.range(0, 100).forEach(i -> budget.tryAcquireRetry(START));
+        final List<Thread> threads = IntStream.range(0, 4)
+                .mapToObj(i -> new Thread(() -> IntStream.range(0, 1000).forEach(j -> budget.recordRequest())))
+                .collect(toList());
+        threads.forEach(Thread::start);
+        for (final Thread thread : threads) {
+            thread.join();
+        }
+        assertThat(budget.getMetrics().getRequests()).isEqualTo(4000);
+        assertThat(IntStream.range(0, 50).filter(i -> budget.tryAcquireRetry(START)).count()).isEqualTo(40);
+    }
+
+    @Test
+    public void reportsMetrics() {
+        final RetryBudget budget = RetryBudget.of(0, 0, 1);
+        budget.recordRequest();
+        budget.recordRequest();
+        budget.tryAcquireRetry();
+        budget.tryAcquireRetry();
+        final RetryBudgetMetrics metrics = budget.getMetrics();
+        assertThat(metrics.getRequests()).isEqualTo(2);
+        assertThat(metrics.getRetries()).isEqualTo(1);
+        assertThat(metrics.getRejectedRetries()).isEqualTo(1);
+        assertThat(metrics.getBalance()).isLessThan(1);
+    }
+}
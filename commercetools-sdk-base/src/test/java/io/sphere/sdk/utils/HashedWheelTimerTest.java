@@ -0,0 +1,69 @@
+package io.sphere.sdk.utils;
+
+import org.junit.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class HashedWheelTimerTest {
+
+    @Test
+    public void runsTaskAfterDelay() throws Exception {
+        final HashedWheelTimer timer = HashedWheelTimer.of(5, TimeUnit.MILLISECONDS, 8);
+        final CountDownLatch latch = new CountDownLatch(1);
+        final AtomicLong ranAfterNanos = new AtomicLong();
+        final long start = System.nanoTime();
+
+        timer.schedule(() -> {
+            ranAfterNanos.set(System.nanoTime() - start);
+            latch.countDown();
+        }, 100, TimeUnit.MILLISECONDS);
+
+        assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(TimeUnit.NANOSECONDS.toMillis(ranAfterNanos.get())).isBetween(100L, 1000L);
+        assertThat(timer.getPendingTimeouts()).isZero();
+    }
+
+    @Test
+    public void runsTasksWhichNeedMultipleRounds() throws Exception {
+        final HashedWheelTimer timer = HashedWheelTimer.of(1, TimeUnit.MILLISECONDS, 4);
+        final CountDownLatch latch = new CountDownLatch(2);
+        final long start = System.nanoTime();
+
+        timer.schedule(latch::countDown, 50, TimeUnit.MILLISECONDS);
+        timer.schedule(latch::countDown, 0, TimeUnit.MILLISECONDS);
+
+        assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isGreaterThanOrEqualTo(50L);
+    }
+
+    @Test
+    public void cancelledTasksDoNotRun() throws Exception {
+        final HashedWheelTimer timer = HashedWheelTimer.of(1, TimeUnit.MILLISECONDS, 16);
+        final AtomicBoolean ran = new AtomicBoolean(false);
+
+        final HashedWheelTimer.Timeout timeout = timer.schedule(() -> ran.set(true), 20, TimeUnit.MILLISECONDS);
+        assertThat(timeout.cancel()).isTrue();
+        assertThat(timer.getPendingTimeouts()).isZero();
+        Thread.sleep(100);
+
+        assertThat(ran).isFalse();
+        assertThat(timeout.isCancelled()).isTrue();
+        assertThat(timeout.cancel()).isFalse();
+    }
+
+    @Test
+    public void wakesUpAfterIdlePeriod() throws Exception {
+        final HashedWheelTimer timer = HashedWheelTimer.of(1, TimeUnit.MILLISECONDS, 16);
+        Thread.sleep(50);
+        final CountDownLatch latch = new CountDownLatch(1);
+
+        timer.schedule(latch::countDown, 5, TimeUnit.MILLISECONDS);
+
+        assertThat(latch.await(1, TimeUnit.SECONDS)).isTrue();
+    }
+}
@@ -1,5 +1,7 @@
 package io.sphere.sdk.utils;
 
+import io.sphere.sdk.json.JsonException;
+import io.sphere.sdk.json.SphereJsonUtils;
 import org.junit.Test;
 
 import javax.money.MonetaryAmount;
@@ -21,4 +23,39 @@ public class MoneyImplTest {
         assertThat(MoneyImpl.ofCents(123456, "EUR").toString()).isEqualTo("EUR 1234.56000");
         assertThat(MoneyImpl.of(MoneyImpl.ofCents(123456, "EUR")).toString()).isEqualTo("EUR 1234.56000");
     }
-}
\ No newline at end of file
+
+    @Test
+    public void ofCentsIsCompatibleWithOtherAmounts() {
+        final MonetaryAmount compact = MoneyImpl.ofCents(123456, EUR);
+        final MonetaryAmount full = MoneyImpl.of(new BigDecimal("1234.56"), EUR);
+        assertThat(compact).isInstanceOf(CentPrecisionMoney.class);
+        assertThat(compact).isEqualTo(full);
+        assertThat(full).isEqualTo(compact);
+        assertThat(compact.hashCode()).isEqualTo(full.hashCode());
+        assertThat(compact.compareTo(MoneyImpl.ofCents(123457, EUR))).isNegative();
+        assertThat(compact.add(MoneyImpl.ofCents(44, EUR))).isEqualTo(MoneyImpl.of(new BigDecimal("1235.00"), EUR));
+        assertThat(MoneyImpl.centAmountOf(compact)).isEqualTo(123456L);
+        assertThat(MoneyImpl.ofCents(-5, EUR).abs()).isEqualTo(MoneyImpl.ofCents(5, EUR));
+    }
+
+    @Test
+    public void jsonRoundTrip() {
+        final String json = "{\"centAmount\":123456,\"currencyCode\":\"EUR\"}";
+        final MonetaryAmount amount = SphereJsonUtils.readObject(json, MonetaryAmount.class);
+        assertThat(amount).isEqualTo(MoneyImpl.ofCents(123456, "EUR"));
+        assertThat(SphereJsonUtils.toJsonString(amount)).isEqualTo(json);
+        assertThat(SphereJsonUtils.toJsonString(MoneyImpl.of(new BigDecimal("1234.56"), EUR))).isEqualTo(json);
+    }
+
+    @Test
+    public void jsonIgnoresFieldOrderAndUnknownFields() {
+        final String json = "{\"type\":\"centPrecision\",\"currencyCode\":\"EUR\",\"fractionDigits\":2,\"centAmount\":5}";
+        assertThat(SphereJsonUtils.readObject(json, MonetaryAmount.class)).isEqualTo(MoneyImpl.ofCents(5, "EUR"));
+    }
+
+    @Test
+    public void jsonRequiresCentAmount() {
+        assertThatThrownBy(() -> SphereJsonUtils.readObject("{\"currencyCode\":\"EUR\"}", MonetaryAmount.class))
+                .isInstanceOf(JsonException.class);
+    }
+}
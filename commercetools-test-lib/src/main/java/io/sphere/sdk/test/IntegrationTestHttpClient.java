@@ -8,6 +8,7 @@ import org.apache.http.HttpEntity;
 import org.apache.http.client.entity.UrlEncodedFormEntity;
 import org.apache.http.client.methods.HttpUriRequest;
 import org.apache.http.client.methods.RequestBuilder;
+import org.apache.http.entity.ByteArrayEntity;
 import org.apache.http.entity.ContentType;
 import org.apache.http.entity.FileEntity;
 import org.apache.http.entity.StringEntity;
@@ -109,6 +110,11 @@ final class IntegrationTestHttpClient extends HttpClientAdapterBase {
                 stringEntity.setContentType(ContentType.APPLICATION_JSON.toString());
                 httpEntity = stringEntity;
 
+            } else if (body instanceof ByteArrayHttpRequestBody) {
+                final ContentType contentType = httpRequest.getHeaders().findFlatHeader(HttpHeaders.CONTENT_TYPE)
+                        .map(ContentType::parse)
+                        .orElse(ContentType.APPLICATION_JSON);
+                httpEntity = new ByteArrayEntity(((ByteArrayHttpRequestBody) body).getBytes(), contentType);
             } else if (body instanceof FileHttpRequestBody) {
                 httpEntity = new FileEntity(((FileHttpRequestBody)body).getFile());
             } else if (body instanceof FormUrlEncodedHttpRequestBody) {
@@ -73,6 +73,8 @@ final class AsyncHttpClientAdapterImpl extends HttpClientAdapterBase {
             if (body instanceof StringHttpRequestBody) {
                 final String bodyAsString = ((StringHttpRequestBody) body).getString();
                 builder.setBodyEncoding(StandardCharsets.UTF_8.name()).setBody(bodyAsString);
+            } else if (body instanceof ByteArrayHttpRequestBody) {
+                builder.setBody(((ByteArrayHttpRequestBody) body).getBytes());
             } else if (body instanceof FileHttpRequestBody) {
                 final File file = ((FileHttpRequestBody) body).getFile();
                 builder.setBody(out -> FileUtils.copyFile(file, out));
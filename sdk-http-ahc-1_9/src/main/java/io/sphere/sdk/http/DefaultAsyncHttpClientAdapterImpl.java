@@ -80,6 +80,8 @@ final class DefaultAsyncHttpClientAdapterImpl extends HttpClientAdapterBase {
             if (body instanceof StringHttpRequestBody) {
                 final String bodyAsString = ((StringHttpRequestBody) body).getString();
                 builder.setBodyEncoding(StandardCharsets.UTF_8.name()).setBody(bodyAsString);
+            } else if (body instanceof ByteArrayHttpRequestBody) {
+                builder.setBody(((ByteArrayHttpRequestBody) body).getBytes());
             } else if (body instanceof FileHttpRequestBody) {
                 builder.setBody(((FileHttpRequestBody) body).getFile());
             } else if (body instanceof FormUrlEncodedHttpRequestBody) {
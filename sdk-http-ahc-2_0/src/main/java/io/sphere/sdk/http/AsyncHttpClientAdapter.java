@@ -8,6 +8,17 @@ import org.asynchttpclient.AsyncHttpClient;
 public interface AsyncHttpClientAdapter extends HttpClient {
 
     static HttpClient of(final AsyncHttpClient asyncHttpClient) {
-        return new DefaultAsyncHttpClient2_0AdapterImpl(asyncHttpClient);
+        return of(asyncHttpClient, false);
+    }
+
+    /**
+     * Creates an adapter which can deliver the response bodies as stream.
+     *
+     * @param asyncHttpClient the underlying client
+     * @param streamResponseBody if true the responses are created with {@link HttpResponse#ofStream(Integer, java.io.InputStream, HttpRequest, HttpHeaders)} so the response is available as soon as the headers arrive and the body can be parsed while the body parts are received instead of concatenating them into one array
+     * @return http client
+     */
+    static HttpClient of(final AsyncHttpClient asyncHttpClient, final boolean streamResponseBody) {
+        return new DefaultAsyncHttpClient2_0AdapterImpl(asyncHttpClient, streamResponseBody);
     }
 }
\ No newline at end of file
@@ -0,0 +1,133 @@
+package io.sphere.sdk.http;
+
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.LinkedBlockingQueue;
+
+/**
+ * Stream of the body parts which are added by the I/O thread while the reading thread consumes them.
+ * Reading blocks until the next part arrives, so it must not happen on the I/O thread.
+ * After closing the stream further parts are dropped.
+ */
+final class BodyPartInputStream extends InputStream {
+    private static final byte[] END = new byte[0];
+    private final BlockingQueue<byte[]> parts = new LinkedBlockingQueue<>();
+    @Nullable
+    private volatile Throwable failure;
+    private volatile boolean closed;
+    @Nullable
+    private byte[] current;
+    private int position;
+    private boolean ended;
+
+    void add(final byte[] part) {
+        if (part.length > 0 && !closed) {
+            parts.add(part);
+        }
+    }
+
+    void end() {
+        parts.add(END);
+    }
+
+    void fail(final Throwable throwable) {
+        failure = throwable;
+        parts.add(END);
+    }
+
+    @Override
+    public int read() throws IOException {
+        return nextPart() ? current[position++] & 0xFF : -1;
+    }
+
+    @Override
+    public int read(final byte[] b, final int off, final int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+        if (!nextPart()) {
+            return -1;
+        }
+        final int count = Math.min(len, current.length - position);
+        System.arraycopy(current, position, b, off, count);
+        position += count;
+        return count;
+    }
+
+    @Override
+    public int available() throws IOException {
+        return current != null ? current.length - position : 0;
+    }
+
+    @Override
+    public void close() throws IOException {
+        closed = true;
+        current = null;
+        ended = true;
+        parts.clear();
+    }
+
+    /**
+     * Makes sure that {@link #current} has unread bytes.
+     *
+     * @return false if the end of the body has been reached
+     */
+    private boolean nextPart() throws IOException {
+        while (!ended && (current == null || position == current.length)) {
+            final byte[] part;
+            try {
+                part = takePart();
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("interrupted while waiting for the response body");
+            }
+            if (part == END) {
+                ended = true;
+                current = null;
+                final Throwable throwable = failure;
+                if (throwable != null) {
+                    throw new IOException("the response body could not be received completely", throwable);
+                }
+            } else {
+                current = part;
+                position = 0;
+            }
+        }
+        return !ended;
+    }
+
+    /**
+     * Waits for the next part, a {@link ForkJoinPool} running this task can compensate the blocked thread.
+     */
+    private byte[] takePart() throws InterruptedException {
+        final byte[] availablePart = parts.poll();
+        if (availablePart != null) {
+            return availablePart;
+        }
+        final PartBlocker blocker = new PartBlocker();
+        ForkJoinPool.managedBlock(blocker);
+        return blocker.part;
+    }
+
+    private final class PartBlocker implements ForkJoinPool.ManagedBlocker {
+        @Nullable
+        private byte[] part;
+
+        @Override
+        public boolean block() throws InterruptedException {
+            if (part == null) {
+                part = parts.take();
+            }
+            return true;
+        }
+
+        @Override
+        public boolean isReleasable() {
+            return part != null || (part = parts.poll()) != null;
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package io.sphere.sdk.http;
+
+import io.netty.channel.Channel;
+import org.asynchttpclient.AsyncCompletionHandler;
+import org.asynchttpclient.Response;
+import org.asynchttpclient.handler.AsyncHandlerExtensions;
+import org.asynchttpclient.netty.request.NettyRequest;
+
+import java.net.InetSocketAddress;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Completes a future with the response and reports the connection events of the request to a {@link ConnectionMetricsRecorder}.
+ */
+abstract class ConnectionMetricsAsyncCompletionHandler extends AsyncCompletionHandler<Response> implements AsyncHandlerExtensions {
+    private final CompletableFuture<Response> future;
+    private final ConnectionMetricsRecorder metricsRecorder;
+    private long connectStartNanos;
+
+    ConnectionMetricsAsyncCompletionHandler(final CompletableFuture<Response> future, final ConnectionMetricsRecorder metricsRecorder) {
+        this.future = future;
+        this.metricsRecorder = metricsRecorder;
+    }
+
+    @Override
+    public Response onCompleted(final Response response) throws Exception {
+        future.complete(response);
+        return response;
+    }
+
+    @Override
+    public void onThrowable(final Throwable t) {
+        future.completeExceptionally(t);
+        super.onThrowable(t);
+    }
+
+    @Override
+    public void onTcpConnectAttempt(final InetSocketAddress remoteAddress) {
+        connectStartNanos = System.nanoTime();
+    }
+
+    @Override
+    public void onTcpConnectSuccess(final InetSocketAddress remoteAddress, final Channel connection) {
+        metricsRecorder.connectSucceeded(System.nanoTime() - connectStartNanos);
+    }
+
+    @Override
+    public void onTcpConnectFailure(final InetSocketAddress remoteAddress, final Throwable cause) {
+        metricsRecorder.connectFailed();
+    }
+
+    @Override
+    public void onTlsHandshakeSuccess() {
+        metricsRecorder.tlsHandshakeSucceeded();
+    }
+
+    @Override
+    public void onHostnameResolutionAttempt(final String name) {
+    }
+
+    @Override
+    public void onHostnameResolutionSuccess(final String name, final List<InetSocketAddress> addresses) {
+    }
+
+    @Override
+    public void onHostnameResolutionFailure(final String name, final Throwable cause) {
+    }
+
+    @Override
+    public void onTlsHandshakeAttempt() {
+    }
+
+    @Override
+    public void onTlsHandshakeFailure(final Throwable cause) {
+    }
+
+    @Override
+    public void onConnectionPoolAttempt() {
+    }
+
+    @Override
+    public void onConnectionPooled(final Channel connection) {
+    }
+
+    @Override
+    public void onConnectionOffer(final Channel connection) {
+    }
+
+    @Override
+    public void onRequestSend(final NettyRequest request) {
+    }
+
+    @Override
+    public void onRetry() {
+    }
+}
@@ -6,13 +6,18 @@ import javax.annotation.Nullable;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicInteger;
 
 final class DefaultAsyncHttpClient2_0AdapterImpl extends HttpClientAdapterBase {
     private final AsyncHttpClient asyncHttpClient;
     private final String userAgent;
+    private final boolean streamResponseBody;
+    private final ConnectionMetricsRecorder metricsRecorder = ConnectionMetricsRecorder.of();
+    private final AtomicInteger runningRequests = new AtomicInteger();
 
-    DefaultAsyncHttpClient2_0AdapterImpl(final AsyncHttpClient asyncHttpClient) {
+    DefaultAsyncHttpClient2_0AdapterImpl(final AsyncHttpClient asyncHttpClient, final boolean streamResponseBody) {
         this.asyncHttpClient = asyncHttpClient;
+        this.streamResponseBody = streamResponseBody;
         userAgent = new DefaultAsyncHttpClientConfig.Builder().build().getUserAgent();
     }
 
@@ -20,7 +25,14 @@ final class DefaultAsyncHttpClient2_0AdapterImpl extends HttpClientAdapterBase {
     protected CompletionStage<HttpResponse> executeDelegate(final HttpRequest httpRequest) {
         final Request request = asAhcRequest(httpRequest);
         final CompletableFuture<Response> future = new CompletableFuture<>();
-        asyncHttpClient.executeRequest(request, new ResponseAsyncCompletionHandler(future));
+        runningRequests.incrementAndGet();
+        future.whenComplete((response, throwable) -> runningRequests.decrementAndGet());
+        if (streamResponseBody) {
+            final CompletableFuture<HttpResponse> httpResponseFuture = new CompletableFuture<>();
+            asyncHttpClient.executeRequest(request, new StreamingAsyncCompletionHandler(future, metricsRecorder, httpRequest, httpResponseFuture, threadPool()));
+            return httpResponseFuture;
+        }
+        asyncHttpClient.executeRequest(request, new ResponseAsyncCompletionHandler(future, metricsRecorder));
         return future.thenApplyAsync(response -> convert(httpRequest, response), threadPool());
     }
 
@@ -50,6 +62,11 @@ final class DefaultAsyncHttpClient2_0AdapterImpl extends HttpClientAdapterBase {
                 if (!request.getHeaders().findFlatHeader(HttpHeaders.CONTENT_TYPE).isPresent()) {
                     builder.addHeader(HttpHeaders.CONTENT_TYPE, "application/json; charset=utf-8");
                 }
+            } else if (body instanceof ByteArrayHttpRequestBody) {
+                builder.setBody(((ByteArrayHttpRequestBody) body).getBytes());
+                if (!request.getHeaders().findFlatHeader(HttpHeaders.CONTENT_TYPE).isPresent()) {
+                    builder.addHeader(HttpHeaders.CONTENT_TYPE, "application/json; charset=utf-8");
+                }
             } else if (body instanceof FileHttpRequestBody) {
                 builder.setBody(((FileHttpRequestBody) body).getFile());
             } else if (body instanceof FormUrlEncodedHttpRequestBody) {
@@ -70,4 +87,13 @@ final class DefaultAsyncHttpClient2_0AdapterImpl extends HttpClientAdapterBase {
     public String getUserAgent() {
         return userAgent;
     }
+
+    /**
+     * AsyncHttpClient 2.0 does not expose its pool, so the running requests are reported as leased connections
+     * and the available connections as well as the pending requests are unknown.
+     */
+    @Override
+    public HttpClientMetrics getMetrics() {
+        return metricsRecorder.snapshot(runningRequests.get(), -1, -1);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,83 @@
+package io.sphere.sdk.http;
+
+import org.asynchttpclient.HttpResponseBodyPart;
+import org.asynchttpclient.HttpResponseHeaders;
+import org.asynchttpclient.HttpResponseStatus;
+import org.asynchttpclient.Response;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Provides the {@link HttpResponse} as soon as the headers have been received and hands the body parts
+ * over to its body stream while they arrive, instead of accumulating them in the {@link Response}.
+ * The future of the {@link Response} is still completed after the last body part.
+ *
+ * <p>The {@link HttpResponse} is completed with the given executor, so the stages which read the body never run on the
+ * I/O thread, which would wait for body parts only it can deliver.</p>
+ */
+final class StreamingAsyncCompletionHandler extends ConnectionMetricsAsyncCompletionHandler {
+    private final HttpRequest httpRequest;
+    private final CompletableFuture<HttpResponse> httpResponseFuture;
+    private final Executor executor;
+    private final BodyPartInputStream body = new BodyPartInputStream();
+    private int statusCode;
+    private boolean httpResponseProvided;
+
+    StreamingAsyncCompletionHandler(final CompletableFuture<Response> future, final ConnectionMetricsRecorder metricsRecorder,
+                                    final HttpRequest httpRequest, final CompletableFuture<HttpResponse> httpResponseFuture,
+                                    final Executor executor) {
+        super(future, metricsRecorder);
+        this.httpRequest = httpRequest;
+        this.httpResponseFuture = httpResponseFuture;
+        this.executor = executor;
+    }
+
+    @Override
+    public State onStatusReceived(final HttpResponseStatus status) throws Exception {
+        statusCode = status.getStatusCode();
+        return super.onStatusReceived(status);
+    }
+
+    @Override
+    public State onHeadersReceived(final HttpResponseHeaders headers) throws Exception {
+        if (!headers.isTrailling()) {
+            final HttpHeaders httpHeaders = HttpHeaders.ofMapEntryList(headers.getHeaders().entries());
+            completeHttpResponse(HttpResponse.ofStream(statusCode, body, httpRequest, httpHeaders));
+        }
+        return super.onHeadersReceived(headers);
+    }
+
+    @Override
+    public State onBodyPartReceived(final HttpResponseBodyPart content) throws Exception {
+        body.add(content.getBodyPartBytes());
+        return State.CONTINUE;
+    }
+
+    @Override
+    public Response onCompleted(final Response response) throws Exception {
+        body.end();
+        if (!httpResponseProvided) {
+            completeHttpResponse(HttpResponse.ofStream(response.getStatusCode(), body, httpRequest, HttpHeaders.ofMapEntryList(response.getHeaders().entries())));
+        }
+        return super.onCompleted(response);
+    }
+
+    @Override
+    public void onThrowable(final Throwable t) {
+        body.fail(t);
+        httpResponseFuture.completeExceptionally(t);
+        super.onThrowable(t);
+    }
+
+    private void completeHttpResponse(final HttpResponse httpResponse) {
+        httpResponseProvided = true;
+        try {
+            executor.execute(() -> httpResponseFuture.complete(httpResponse));
+        } catch (final RejectedExecutionException e) {
+            body.fail(e);
+            httpResponseFuture.completeExceptionally(e);
+        }
+    }
+}
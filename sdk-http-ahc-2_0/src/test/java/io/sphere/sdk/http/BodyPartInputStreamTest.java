@@ -0,0 +1,65 @@
+package io.sphere.sdk.http;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+public class BodyPartInputStreamTest {
+    @Test
+    public void readsPartsWhileTheyArrive() throws Exception {
+        final BodyPartInputStream body = new BodyPartInputStream();
+        body.add(bytes("{\"foo\":"));
+        final CompletableFuture<String> result = CompletableFuture.supplyAsync(() -> readFully(body));
+        Thread.sleep(50);
+        assertThat(result).isNotDone();
+
+        body.add(new byte[0]);
+        body.add(bytes("\"bar\"}"));
+        body.end();
+        assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("{\"foo\":\"bar\"}");
+    }
+
+    @Test
+    public void failureIsReportedToTheReader() throws Exception {
+        final BodyPartInputStream body = new BodyPartInputStream();
+        body.add(bytes("{"));
+        body.fail(new IOException("connection reset"));
+
+        assertThat(body.read()).isEqualTo('{');
+        final Throwable throwable = catchThrowable(() -> body.read());
+        assertThat(throwable).isInstanceOf(IOException.class).hasCauseInstanceOf(IOException.class);
+    }
+
+    @Test
+    public void emptyBody() throws Exception {
+        final BodyPartInputStream body = new BodyPartInputStream();
+        body.end();
+
+        assertThat(body.read(new byte[16], 0, 16)).isEqualTo(-1);
+        assertThat(body.read()).isEqualTo(-1);
+    }
+
+    private static byte[] bytes(final String s) {
+        return s.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static String readFully(final BodyPartInputStream body) {
+        try {
+            final byte[] buffer = new byte[4];
+            final StringBuilder stringBuilder = new StringBuilder();
+            int read;
+            while ((read = body.read(buffer, 0, buffer.length)) != -1) {
+                stringBuilder.append(new String(buffer, 0, read, StandardCharsets.UTF_8));
+            }
+            return stringBuilder.toString();
+        } catch (final IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
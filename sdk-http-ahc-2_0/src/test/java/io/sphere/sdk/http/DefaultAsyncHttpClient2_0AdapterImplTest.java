@@ -0,0 +1,58 @@
+package io.sphere.sdk.http;
+
+import org.asynchttpclient.DefaultAsyncHttpClient;
+import org.asynchttpclient.Request;
+import org.asynchttpclient.Response;
+import org.junit.Test;
+
+import java.net.ConnectException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class DefaultAsyncHttpClient2_0AdapterImplTest {
+    @Test
+    public void metricsOfIdleClient() throws Exception {
+        try (final HttpClient httpClient = AsyncHttpClientAdapter.of(new DefaultAsyncHttpClient())) {
+            final HttpClientMetrics metrics = httpClient.getMetrics();
+
+            assertThat(metrics.getLeasedConnections()).isZero();
+            assertThat(metrics.getAvailableConnections()).as("the pool is not exposed").isEqualTo(-1);
+            assertThat(metrics.getPendingRequests()).as("the pool is not exposed").isEqualTo(-1);
+            assertThat(metrics.getOpenedConnections()).isZero();
+        }
+    }
+
+    @Test
+    public void handlerRecordsConnectionEvents() throws Exception {
+        final ConnectionMetricsRecorder metricsRecorder = ConnectionMetricsRecorder.of();
+        final ResponseAsyncCompletionHandler handler = new ResponseAsyncCompletionHandler(new CompletableFuture<Response>(), metricsRecorder);
+        final InetSocketAddress address = InetSocketAddress.createUnresolved("localhost", 443);
+
+        handler.onTcpConnectAttempt(address);
+        handler.onTcpConnectSuccess(address, null);
+        handler.onTlsHandshakeSuccess();
+        handler.onTcpConnectAttempt(address);
+        handler.onTcpConnectFailure(address, new ConnectException());
+
+        final HttpClientMetrics metrics = metricsRecorder.snapshot(0, -1, -1);
+        assertThat(metrics.getOpenedConnections()).isEqualTo(1);
+        assertThat(metrics.getFailedConnects()).isEqualTo(1);
+        assertThat(metrics.getTlsHandshakes()).isEqualTo(1);
+        assertThat(metrics.getConnectLatencyMaxNanos()).isGreaterThanOrEqualTo(0);
+    }
+
+    @Test
+    public void sendsByteArrayBodyAsJson() throws Exception {
+        final byte[] body = "{\"name\":\"Grüße\"}".getBytes(StandardCharsets.UTF_8);
+        final HttpRequest httpRequest = HttpRequest.of(HttpMethod.POST, "https://api.example.com/products", HttpHeaders.of(), ByteArrayHttpRequestBody.of(body));
+        try (final DefaultAsyncHttpClient2_0AdapterImpl adapter = new DefaultAsyncHttpClient2_0AdapterImpl(new DefaultAsyncHttpClient(), false)) {
+            final Request request = adapter.asAhcRequest(httpRequest);
+
+            assertThat(request.getByteData()).isEqualTo(body);
+            assertThat(request.getHeaders().get(HttpHeaders.CONTENT_TYPE)).isEqualTo("application/json; charset=utf-8");
+        }
+    }
+}
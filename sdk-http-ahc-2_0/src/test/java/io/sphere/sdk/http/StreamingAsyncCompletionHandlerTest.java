@@ -0,0 +1,33 @@
+package io.sphere.sdk.http;
+
+import io.netty.handler.codec.http.DefaultHttpHeaders;
+import org.asynchttpclient.HttpResponseHeaders;
+import org.asynchttpclient.Response;
+import org.junit.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class StreamingAsyncCompletionHandlerTest {
+    @Test
+    public void completesResponseWithExecutorInsteadOfIoThread() throws Exception {
+        final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> new Thread(runnable, "response-executor"));
+        try {
+            final CompletableFuture<HttpResponse> httpResponseFuture = new CompletableFuture<>();
+            final StreamingAsyncCompletionHandler handler = new StreamingAsyncCompletionHandler(new CompletableFuture<Response>(),
+                    ConnectionMetricsRecorder.of(), HttpRequest.of(HttpMethod.GET, "https://api.example.com/foo"), httpResponseFuture, executor);
+            final CompletableFuture<String> completingThread = httpResponseFuture.thenApply(httpResponse -> Thread.currentThread().getName());
+
+            handler.onHeadersReceived(new HttpResponseHeaders(new DefaultHttpHeaders().add("X-Foo", "bar")));
+
+            assertThat(completingThread.get(5, TimeUnit.SECONDS)).isEqualTo("response-executor");
+            assertThat(httpResponseFuture.join().getHeaders().findFlatHeader("X-Foo")).contains("bar");
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
@@ -12,4 +12,27 @@ public interface ApacheHttpClientAdapter extends HttpClient {
     static HttpClient of(final CloseableHttpAsyncClient client) {
         return ApacheHttpClientAdapterImpl.of(client);
     }
+
+    /**
+     * Creates an adapter which can deliver the response bodies as stream.
+     *
+     * @param client the underlying client
+     * @param streamResponseBody if true the responses are created with {@link HttpResponse#ofStream(Integer, java.io.InputStream, HttpRequest, HttpHeaders)} so the entity content is not copied into an array
+     * @return http client
+     */
+    static HttpClient of(final CloseableHttpAsyncClient client, final boolean streamResponseBody) {
+        return ApacheHttpClientAdapterImpl.of(client, streamResponseBody);
+    }
+
+    /**
+     * Creates an adapter for a client with a connection pool configured by {@code poolConfig}.
+     * In contrast to the adapters for given clients it provides {@link HttpClient#getMetrics()}
+     * and closes idle connections if {@link HttpClientPoolConfig#getPooledConnectionIdleTimeout()} is set.
+     *
+     * @param poolConfig the connection pool settings, unset values keep the defaults of the Apache client
+     * @return http client
+     */
+    static HttpClient of(final HttpClientPoolConfig poolConfig) {
+        return ApacheHttpClientAdapterImpl.of(poolConfig);
+    }
 }
@@ -4,14 +4,28 @@ import org.apache.commons.io.IOUtils;
 import org.apache.commons.io.input.AutoCloseInputStream;
 import org.apache.http.Header;
 import org.apache.http.HttpEntity;
+import org.apache.http.client.config.RequestConfig;
 import org.apache.http.client.entity.UrlEncodedFormEntity;
 import org.apache.http.client.methods.HttpUriRequest;
 import org.apache.http.client.methods.RequestBuilder;
+import org.apache.http.entity.ByteArrayEntity;
 import org.apache.http.entity.ContentType;
 import org.apache.http.entity.FileEntity;
 import org.apache.http.entity.StringEntity;
+import org.apache.http.config.Registry;
+import org.apache.http.config.RegistryBuilder;
+import org.apache.http.impl.NoConnectionReuseStrategy;
 import org.apache.http.impl.nio.client.CloseableHttpAsyncClient;
+import org.apache.http.impl.nio.client.HttpAsyncClientBuilder;
+import org.apache.http.impl.nio.client.HttpAsyncClients;
+import org.apache.http.impl.nio.conn.PoolingNHttpClientConnectionManager;
+import org.apache.http.impl.nio.reactor.IOReactorConfig;
 import org.apache.http.message.BasicNameValuePair;
+import org.apache.http.nio.conn.NoopIOSessionStrategy;
+import org.apache.http.nio.conn.SchemeIOSessionStrategy;
+import org.apache.http.nio.reactor.ConnectingIOReactor;
+import org.apache.http.nio.reactor.IOReactorException;
+import org.apache.http.pool.PoolStats;
 
 import javax.annotation.Nullable;
 import java.io.IOException;
@@ -19,11 +33,15 @@ import java.io.InputStream;
 import java.io.UnsupportedEncodingException;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.zip.GZIPInputStream;
@@ -32,23 +50,101 @@ import static java.util.Arrays.asList;
 
 final class ApacheHttpClientAdapterImpl extends HttpClientAdapterBase {
     private final CloseableHttpAsyncClient apacheHttpClient;
+    private final boolean streamResponseBody;
+    @Nullable
+    private final PoolingNHttpClientConnectionManager connectionManager;
+    @Nullable
+    private final ConnectionMetricsRecorder metricsRecorder;
+    @Nullable
+    private final ScheduledExecutorService idleConnectionEvictor;
 
-    private ApacheHttpClientAdapterImpl(final CloseableHttpAsyncClient apacheHttpClient) {
+    private ApacheHttpClientAdapterImpl(final CloseableHttpAsyncClient apacheHttpClient, final boolean streamResponseBody,
+                                        @Nullable final PoolingNHttpClientConnectionManager connectionManager,
+                                        @Nullable final ConnectionMetricsRecorder metricsRecorder,
+                                        @Nullable final Duration pooledConnectionIdleTimeout) {
         this.apacheHttpClient = apacheHttpClient;
+        this.streamResponseBody = streamResponseBody;
+        this.connectionManager = connectionManager;
+        this.metricsRecorder = metricsRecorder;
+        this.idleConnectionEvictor = connectionManager != null && pooledConnectionIdleTimeout != null
+                ? startIdleConnectionEvictor(connectionManager, pooledConnectionIdleTimeout)
+                : null;
         if (!apacheHttpClient.isRunning()) {
             apacheHttpClient.start();
         }
     }
 
     public static HttpClient of(final CloseableHttpAsyncClient client) {
-        return new ApacheHttpClientAdapterImpl(client);
+        return of(client, false);
+    }
+
+    public static HttpClient of(final CloseableHttpAsyncClient client, final boolean streamResponseBody) {
+        return new ApacheHttpClientAdapterImpl(client, streamResponseBody, null, null, null);
+    }
+
+    public static HttpClient of(final HttpClientPoolConfig poolConfig) {
+        final ConnectionMetricsRecorder metricsRecorder = ConnectionMetricsRecorder.of();
+        final ConnectingIOReactor ioReactor;
+        try {
+            ioReactor = new ConnectionMetricsIOReactor(IOReactorConfig.DEFAULT, metricsRecorder);
+        } catch (final IOReactorException e) {
+            throw new HttpException(e);
+        }
+        final Registry<SchemeIOSessionStrategy> sessionStrategies = RegistryBuilder.<SchemeIOSessionStrategy>create()
+                .register("http", NoopIOSessionStrategy.INSTANCE)
+                .register("https", new ConnectionMetricsSSLIOSessionStrategy(metricsRecorder))
+                .build();
+        final PoolingNHttpClientConnectionManager connectionManager = new PoolingNHttpClientConnectionManager(ioReactor, sessionStrategies);
+        if (poolConfig.getMaxConnections() != null) {
+            connectionManager.setMaxTotal(poolConfig.getMaxConnections());
+        }
+        if (poolConfig.getMaxConnectionsPerHost() != null) {
+            connectionManager.setDefaultMaxPerRoute(poolConfig.getMaxConnectionsPerHost());
+        }
+        final HttpAsyncClientBuilder builder = HttpAsyncClients.custom().setConnectionManager(connectionManager);
+        if (Boolean.FALSE.equals(poolConfig.getKeepAlive())) {
+            builder.setConnectionReuseStrategy(NoConnectionReuseStrategy.INSTANCE);
+        }
+        if (poolConfig.getConnectTimeout() != null) {
+            builder.setDefaultRequestConfig(RequestConfig.custom().setConnectTimeout((int) poolConfig.getConnectTimeout().toMillis()).build());
+        }
+        return new ApacheHttpClientAdapterImpl(builder.build(), false, connectionManager, metricsRecorder, poolConfig.getPooledConnectionIdleTimeout());
+    }
+
+    private static ScheduledExecutorService startIdleConnectionEvictor(final PoolingNHttpClientConnectionManager connectionManager,
+                                                                       final Duration pooledConnectionIdleTimeout) {
+        final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final Thread thread = new Thread(runnable, "sphere-apache-idle-connection-evictor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        final long idleMillis = Math.max(1, pooledConnectionIdleTimeout.toMillis());
+        final long checkIntervalMillis = Math.max(100, idleMillis / 2);
+        executor.scheduleWithFixedDelay(() -> {
+            connectionManager.closeExpiredConnections();
+            connectionManager.closeIdleConnections(idleMillis, TimeUnit.MILLISECONDS);
+        }, checkIntervalMillis, checkIntervalMillis, TimeUnit.MILLISECONDS);
+        return executor;
     }
 
     @Override
     protected void closeDelegate() throws IOException {
+        if (idleConnectionEvictor != null) {
+            idleConnectionEvictor.shutdownNow();
+        }
         apacheHttpClient.close();
     }
 
+    @Nullable
+    @Override
+    public HttpClientMetrics getMetrics() {
+        if (connectionManager == null || metricsRecorder == null) {
+            return null;
+        }
+        final PoolStats stats = connectionManager.getTotalStats();
+        return metricsRecorder.snapshot(stats.getLeased(), stats.getAvailable(), stats.getPending());
+    }
+
     @Override
     protected CompletionStage<HttpResponse> executeDelegate(final HttpRequest httpRequest) throws Throwable {
         final HttpUriRequest realHttpRequest = toApacheRequest(httpRequest);
@@ -58,7 +154,7 @@ final class ApacheHttpClientAdapterImpl extends HttpClientAdapterBase {
     }
 
     private HttpResponse convertApacheToSphereResponse(final org.apache.http.HttpResponse apacheResponse, final HttpRequest httpRequest) {
-        final byte[] bodyNullable = Optional.ofNullable(apacheResponse.getEntity())
+        final InputStream bodyStreamNullable = Optional.ofNullable(apacheResponse.getEntity())
                 .map((HttpEntity entity) -> {
                     try {
                         final boolean gzipEncoded =
@@ -67,9 +163,7 @@ final class ApacheHttpClientAdapterImpl extends HttpClientAdapterBase {
                                 .map(v -> v.equalsIgnoreCase("gzip"))
                                 .orElse(false);
                         final InputStream content = gzipEncoded ? new GZIPInputStream(entity.getContent()): entity.getContent();
-                        final AutoCloseInputStream autoCloseInputStream = new AutoCloseInputStream(content);
-                        final byte[] bytes = IOUtils.toByteArray(autoCloseInputStream);
-                        return bytes;
+                        return new AutoCloseInputStream(content);
                     } catch (final IOException e) {
                         throw new HttpException(e);
                     }
@@ -85,6 +179,17 @@ final class ApacheHttpClientAdapterImpl extends HttpClientAdapterBase {
                         )
                 );
 
+        if (streamResponseBody) {
+            return HttpResponse.ofStream(statusCode, bodyStreamNullable, httpRequest, HttpHeaders.of(headers));
+        }
+        final byte[] bodyNullable = Optional.ofNullable(bodyStreamNullable)
+                .map(inputStream -> {
+                    try {
+                        return IOUtils.toByteArray(inputStream);
+                    } catch (final IOException e) {
+                        throw new HttpException(e);
+                    }
+                }).orElse(null);
         return HttpResponse.of(statusCode, bodyNullable, httpRequest, HttpHeaders.of(headers));
     }
 
@@ -104,6 +209,8 @@ final class ApacheHttpClientAdapterImpl extends HttpClientAdapterBase {
                 stringEntity.setContentType(ContentType.APPLICATION_JSON.toString());
                 httpEntity = stringEntity;
 
+            } else if (body instanceof ByteArrayHttpRequestBody) {
+                httpEntity = new ByteArrayEntity(((ByteArrayHttpRequestBody) body).getBytes(), ContentType.APPLICATION_JSON);
             } else if (body instanceof FileHttpRequestBody) {
                 httpEntity = new FileEntity(((FileHttpRequestBody)body).getFile());
             } else if (body instanceof FormUrlEncodedHttpRequestBody) {
@@ -0,0 +1,59 @@
+package io.sphere.sdk.http;
+
+import org.apache.http.impl.nio.reactor.DefaultConnectingIOReactor;
+import org.apache.http.impl.nio.reactor.IOReactorConfig;
+import org.apache.http.nio.reactor.IOReactorException;
+import org.apache.http.nio.reactor.SessionRequest;
+import org.apache.http.nio.reactor.SessionRequestCallback;
+
+import java.net.SocketAddress;
+
+/**
+ * Reports the duration and the outcome of connection attempts to a {@link ConnectionMetricsRecorder}.
+ */
+final class ConnectionMetricsIOReactor extends DefaultConnectingIOReactor {
+    private final ConnectionMetricsRecorder metricsRecorder;
+
+    ConnectionMetricsIOReactor(final IOReactorConfig config, final ConnectionMetricsRecorder metricsRecorder) throws IOReactorException {
+        super(config);
+        this.metricsRecorder = metricsRecorder;
+    }
+
+    @Override
+    public SessionRequest connect(final SocketAddress remoteAddress, final SocketAddress localAddress,
+                                  final Object attachment, final SessionRequestCallback callback) {
+        final long startNanos = System.nanoTime();
+        return super.connect(remoteAddress, localAddress, attachment, new SessionRequestCallback() {
+            @Override
+            public void completed(final SessionRequest request) {
+                metricsRecorder.connectSucceeded(System.nanoTime() - startNanos);
+                if (callback != null) {
+                    callback.completed(request);
+                }
+            }
+
+            @Override
+            public void failed(final SessionRequest request) {
+                metricsRecorder.connectFailed();
+                if (callback != null) {
+                    callback.failed(request);
+                }
+            }
+
+            @Override
+            public void timeout(final SessionRequest request) {
+                metricsRecorder.connectFailed();
+                if (callback != null) {
+                    callback.timeout(request);
+                }
+            }
+
+            @Override
+            public void cancelled(final SessionRequest request) {
+                if (callback != null) {
+                    callback.cancelled(request);
+                }
+            }
+        });
+    }
+}
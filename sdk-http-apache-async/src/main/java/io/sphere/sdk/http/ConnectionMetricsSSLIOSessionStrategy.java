@@ -0,0 +1,27 @@
+package io.sphere.sdk.http;
+
+import org.apache.http.HttpHost;
+import org.apache.http.nio.conn.ssl.SSLIOSessionStrategy;
+import org.apache.http.nio.reactor.IOSession;
+import org.apache.http.ssl.SSLContexts;
+
+import javax.net.ssl.SSLException;
+import javax.net.ssl.SSLSession;
+
+/**
+ * Default TLS setup which counts the completed handshakes in a {@link ConnectionMetricsRecorder}.
+ */
+final class ConnectionMetricsSSLIOSessionStrategy extends SSLIOSessionStrategy {
+    private final ConnectionMetricsRecorder metricsRecorder;
+
+    ConnectionMetricsSSLIOSessionStrategy(final ConnectionMetricsRecorder metricsRecorder) {
+        super(SSLContexts.createDefault(), null, null, SSLIOSessionStrategy.getDefaultHostnameVerifier());
+        this.metricsRecorder = metricsRecorder;
+    }
+
+    @Override
+    protected void verifySession(final HttpHost host, final IOSession iosession, final SSLSession sslsession) throws SSLException {
+        super.verifySession(host, iosession, sslsession);
+        metricsRecorder.tlsHandshakeSucceeded();
+    }
+}
@@ -0,0 +1,56 @@
+package io.sphere.sdk.http;
+
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.client5.http.impl.async.HttpAsyncClients;
+import org.apache.hc.core5.http2.config.H2Config;
+
+/**
+ * Adapter to use an HTTP/2 capable {@link CloseableHttpAsyncClient} of Apache HttpClient 5 as {@link HttpClient}.
+ *
+ * <p>With HTTP/2 all requests to one host are multiplexed as streams over a single connection,
+ * so many parallel requests do not need many TCP and TLS connections.
+ * The amount of parallel streams and the flow control windows are configured with {@link H2Config}.
+ * HTTPS connections negotiate HTTP/2 with ALPN, plain HTTP connections use HTTP/2 with prior knowledge.</p>
+ *
+ * For more information about <a href="https://hc.apache.org" target="_blank">HttpComponents Client use their webpage</a>.
+ */
+public interface ApacheH2HttpClientAdapter extends HttpClient {
+
+    static HttpClient of(final CloseableHttpAsyncClient client) {
+        return of(client, false);
+    }
+
+    /**
+     * Creates an adapter which can deliver the response bodies as stream.
+     *
+     * @param client the underlying client, for HTTP/2 created with {@link HttpAsyncClients#customHttp2()}
+     * @param streamResponseBody if true the responses are created with {@link HttpResponse#ofStream(Integer, java.io.InputStream, HttpRequest, HttpHeaders)} so a compressed body is decompressed while reading
+     * @return http client
+     */
+    static HttpClient of(final CloseableHttpAsyncClient client, final boolean streamResponseBody) {
+        return ApacheH2HttpClientAdapterImpl.of(client, streamResponseBody);
+    }
+
+    /**
+     * Creates an adapter for an HTTP/2 client with the given stream and flow control settings.
+     *
+     * @param h2Config HTTP/2 settings like the maximal amount of concurrent streams and the initial flow control window size
+     * @return http client
+     */
+    static HttpClient of(final H2Config h2Config) {
+        return of(HttpAsyncClients.customHttp2().setH2Config(h2Config).build());
+    }
+
+    /**
+     * Creates an adapter for an HTTP/2 client with up to 100 concurrent streams per connection and a flow control window of 1 MiB per stream.
+     *
+     * @return http client
+     */
+    static HttpClient of() {
+        return of(H2Config.custom()
+                .setPushEnabled(false)
+                .setMaxConcurrentStreams(100)
+                .setInitialWindowSize(1024 * 1024)
+                .build());
+    }
+}
@@ -0,0 +1,164 @@
+package io.sphere.sdk.http;
+
+import org.apache.commons.io.IOUtils;
+import org.apache.hc.client5.http.async.methods.SimpleHttpResponse;
+import org.apache.hc.client5.http.async.methods.SimpleResponseConsumer;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.core5.concurrent.FutureCallback;
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.Header;
+import org.apache.hc.core5.http.message.BasicHttpRequest;
+import org.apache.hc.core5.http.message.BasicNameValuePair;
+import org.apache.hc.core5.http.nio.AsyncEntityProducer;
+import org.apache.hc.core5.http.nio.entity.AsyncEntityProducers;
+import org.apache.hc.core5.http.nio.support.BasicRequestProducer;
+import org.apache.hc.core5.reactor.IOReactorStatus;
+import org.apache.hc.core5.util.VersionInfo;
+
+import javax.annotation.Nullable;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPInputStream;
+
+final class ApacheH2HttpClientAdapterImpl extends HttpClientAdapterBase {
+    /**
+     * Connection specific headers are not allowed in HTTP/2, the length is defined by the entity.
+     */
+    private static final Set<String> SKIPPED_REQUEST_HEADERS = new HashSet<>(Arrays.asList("connection", "keep-alive", "transfer-encoding", "upgrade", "host", "content-length"));
+    /**
+     * HTTP/2 transmits header names in lower case, the SDK looks them up with the spelling of {@link HttpHeaders}.
+     */
+    private static final Map<String, String> CANONICAL_HEADER_NAMES = new HashMap<>();
+
+    static {
+        Arrays.asList(HttpHeaders.ACCEPT_ENCODING, HttpHeaders.AUTHORIZATION, HttpHeaders.USER_AGENT, HttpHeaders.CONTENT_ENCODING,
+                HttpHeaders.CONTENT_TYPE, HttpHeaders.CONTENT_LENGTH, HttpHeaders.X_CORRELATION_ID)
+                .forEach(name -> CANONICAL_HEADER_NAMES.put(name.toLowerCase(Locale.ENGLISH), name));
+    }
+
+    private final CloseableHttpAsyncClient apacheHttpClient;
+    private final boolean streamResponseBody;
+    private final String userAgent;
+
+    private ApacheH2HttpClientAdapterImpl(final CloseableHttpAsyncClient apacheHttpClient, final boolean streamResponseBody) {
+        this.apacheHttpClient = apacheHttpClient;
+        this.streamResponseBody = streamResponseBody;
+        this.userAgent = VersionInfo.getSoftwareInfo("Apache-HttpAsyncClient", "org.apache.hc.client5", CloseableHttpAsyncClient.class);
+        if (apacheHttpClient.getStatus() == IOReactorStatus.INACTIVE) {
+            apacheHttpClient.start();
+        }
+    }
+
+    public static HttpClient of(final CloseableHttpAsyncClient client, final boolean streamResponseBody) {
+        return new ApacheH2HttpClientAdapterImpl(client, streamResponseBody);
+    }
+
+    @Override
+    protected void closeDelegate() throws IOException {
+        apacheHttpClient.close();
+    }
+
+    @Override
+    protected CompletionStage<HttpResponse> executeDelegate(final HttpRequest httpRequest) throws Throwable {
+        final BasicRequestProducer requestProducer = toApacheRequestProducer(httpRequest);
+        final CompletableFuture<SimpleHttpResponse> apacheResponseFuture = new CompletableFuture<>();
+        apacheHttpClient.execute(requestProducer, SimpleResponseConsumer.create(), new FutureCallback<SimpleHttpResponse>() {
+            @Override
+            public void completed(final SimpleHttpResponse result) {
+                apacheResponseFuture.complete(result);
+            }
+
+            @Override
+            public void failed(final Exception e) {
+                apacheResponseFuture.completeExceptionally(e);
+            }
+
+            @Override
+            public void cancelled() {
+                apacheResponseFuture.cancel(true);
+            }
+        });
+        //the I/O thread serves all streams of the connection, so decompression and copying is done in the thread pool
+        return apacheResponseFuture.thenApplyAsync(apacheResponse -> convertApacheToSphereResponse(apacheResponse, httpRequest), threadPool());
+    }
+
+    private HttpResponse convertApacheToSphereResponse(final SimpleHttpResponse apacheResponse, final HttpRequest httpRequest) {
+        final Map<String, List<String>> headers = Arrays.stream(apacheResponse.getHeaders())
+                .collect(Collectors.groupingBy(header -> canonicalHeaderName(header.getName()),
+                        Collectors.mapping(Header::getValue, Collectors.toList())));
+        final byte[] rawBody = apacheResponse.getBodyBytes();
+        final InputStream bodyStreamNullable;
+        try {
+            final boolean gzipEncoded = rawBody != null && apacheResponse.containsHeader(HttpHeaders.CONTENT_ENCODING)
+                    && apacheResponse.getFirstHeader(HttpHeaders.CONTENT_ENCODING).getValue().equalsIgnoreCase("gzip");
+            bodyStreamNullable = rawBody == null
+                    ? null
+                    : gzipEncoded ? new GZIPInputStream(new ByteArrayInputStream(rawBody)) : new ByteArrayInputStream(rawBody);
+            final int statusCode = apacheResponse.getCode();
+            if (streamResponseBody) {
+                return HttpResponse.ofStream(statusCode, bodyStreamNullable, httpRequest, HttpHeaders.of(headers));
+            }
+            final byte[] bodyNullable = gzipEncoded ? IOUtils.toByteArray(bodyStreamNullable) : rawBody;
+            return HttpResponse.of(statusCode, bodyNullable, httpRequest, HttpHeaders.of(headers));
+        } catch (final IOException e) {
+            throw new HttpException(e);
+        }
+    }
+
+    private static String canonicalHeaderName(final String name) {
+        return CANONICAL_HEADER_NAMES.getOrDefault(name.toLowerCase(Locale.ENGLISH), name);
+    }
+
+    private BasicRequestProducer toApacheRequestProducer(final HttpRequest httpRequest) {
+        final BasicHttpRequest request = new BasicHttpRequest(httpRequest.getHttpMethod().toString(), URI.create(httpRequest.getUrl()));
+        httpRequest.getHeaders().getHeadersAsMap().forEach((name, values) -> {
+            if (!SKIPPED_REQUEST_HEADERS.contains(name.toLowerCase(Locale.ENGLISH))) {
+                values.forEach(value -> request.addHeader(name, value));
+            }
+        });
+        final AsyncEntityProducer entityProducer = httpRequest.getBody() == null ? null : toEntityProducer(httpRequest);
+        return new BasicRequestProducer(request, entityProducer);
+    }
+
+    private static AsyncEntityProducer toEntityProducer(final HttpRequest httpRequest) {
+        final HttpRequestBody body = httpRequest.getBody();
+        final ContentType contentTypeFromHeaders = httpRequest.getHeaders().findFlatHeader(HttpHeaders.CONTENT_TYPE)
+                .map(ContentType::parse)
+                .orElse(null);
+        if (body instanceof StringHttpRequestBody) {
+            final byte[] bytes = ((StringHttpRequestBody) body).getString().getBytes(StandardCharsets.UTF_8);
+            return AsyncEntityProducers.create(bytes, contentTypeFromHeaders != null ? contentTypeFromHeaders : ContentType.APPLICATION_JSON);
+        } else if (body instanceof ByteArrayHttpRequestBody) {
+            return AsyncEntityProducers.create(((ByteArrayHttpRequestBody) body).getBytes(), contentTypeFromHeaders != null ? contentTypeFromHeaders : ContentType.APPLICATION_JSON);
+        } else if (body instanceof FileHttpRequestBody) {
+            return AsyncEntityProducers.create(((FileHttpRequestBody) body).getFile(), contentTypeFromHeaders != null ? contentTypeFromHeaders : ContentType.DEFAULT_BINARY);
+        } else if (body instanceof FormUrlEncodedHttpRequestBody) {
+            final List<BasicNameValuePair> values = ((FormUrlEncodedHttpRequestBody) body).getParameters()
+                    .stream()
+                    .map(entry -> new BasicNameValuePair(entry.getName(), entry.getValue()))
+                    .collect(Collectors.toList());
+            return AsyncEntityProducers.createUrlEncoded(values, StandardCharsets.UTF_8);
+        } else {
+            throw new HttpException("Cannot interpret request " + httpRequest);
+        }
+    }
+
+    @Nullable
+    @Override
+    public String getUserAgent() {
+        return userAgent;
+    }
+}
@@ -0,0 +1,62 @@
+package io.sphere.sdk.http;
+
+import org.asynchttpclient.DefaultAsyncHttpClient;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Compares the throughput of {@link ApacheH2HttpClientAdapter} (HTTP/2, one multiplexed connection)
+ * with the AsyncHttpClient 2.0 adapter (HTTP/1.1, one connection per parallel request) against a local {@link H2StubServer}.
+ *
+ * <p>Run with {@code mvn exec:java -Dexec.mainClass=io.sphere.sdk.http.ApacheH2HttpClientAdapterBenchmark -Dexec.classpathScope=test}.</p>
+ */
+public final class ApacheH2HttpClientAdapterBenchmark {
+    private static final int WARMUP_REQUESTS = 20_000;
+    private static final int REQUESTS = 100_000;
+    private static final int[] PARALLEL_REQUESTS = {16, 64, 256};
+    private static final byte[] RESPONSE_BODY = "{\"id\":\"abc\",\"version\":1,\"name\":{\"en\":\"foo\"}}".getBytes(StandardCharsets.UTF_8);
+
+    public static void main(final String[] args) throws Exception {
+        try (final H2StubServer server = H2StubServer.start(RESPONSE_BODY);
+             final HttpClient h2Client = ApacheH2HttpClientAdapter.of();
+             final HttpClient ahcClient = AsyncHttpClientAdapter.of(new DefaultAsyncHttpClient())) {
+            final String url = server.getBaseUrl() + "/products/abc";
+            for (final int parallelRequests : PARALLEL_REQUESTS) {
+                run("apache h2  ", h2Client, url, parallelRequests);
+                run("ahc 2.0    ", ahcClient, url, parallelRequests);
+            }
+        }
+    }
+
+    private static void run(final String name, final HttpClient client, final String url, final int parallelRequests) throws Exception {
+        execute(client, url, parallelRequests, WARMUP_REQUESTS);
+        final long start = System.nanoTime();
+        final int failures = execute(client, url, parallelRequests, REQUESTS);
+        final long nanos = System.nanoTime() - start;
+        System.out.printf("%s %4d parallel %,12.0f requests/s, %d failures%n",
+                name, parallelRequests, REQUESTS / (nanos / 1e9), failures);
+    }
+
+    private static int execute(final HttpClient client, final String url, final int parallelRequests, final int requests) throws Exception {
+        final Semaphore inFlight = new Semaphore(parallelRequests);
+        final CountDownLatch done = new CountDownLatch(requests);
+        final AtomicInteger failures = new AtomicInteger();
+        final HttpRequest request = HttpRequest.of(HttpMethod.GET, url);
+        for (int i = 0; i < requests; i++) {
+            inFlight.acquire();
+            client.execute(request).whenComplete((response, throwable) -> {
+                if (throwable != null || response.getStatusCode() != 200) {
+                    failures.incrementAndGet();
+                }
+                inFlight.release();
+                done.countDown();
+            });
+        }
+        done.await(5, TimeUnit.MINUTES);
+        return failures.get();
+    }
+}
@@ -0,0 +1,65 @@
+package io.sphere.sdk.http;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ApacheH2HttpClientAdapterTest {
+    private static final String RESPONSE_BODY = "{\"id\":\"abc\"}";
+    private static H2StubServer server;
+
+    @BeforeClass
+    public static void startServer() throws Exception {
+        server = H2StubServer.start(RESPONSE_BODY.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @AfterClass
+    public static void stopServer() {
+        server.close();
+    }
+
+    @Test
+    public void usesHttp2() throws Exception {
+        try (final HttpClient httpClient = ApacheH2HttpClientAdapter.of()) {
+            final HttpResponse response = httpClient.execute(HttpRequest.of(HttpMethod.GET, server.getBaseUrl() + "/products"))
+                    .toCompletableFuture().get(5, TimeUnit.SECONDS);
+
+            assertThat(response.getStatusCode()).isEqualTo(200);
+            assertThat(new String(response.getResponseBody(), StandardCharsets.UTF_8)).isEqualTo(RESPONSE_BODY);
+            assertThat(response.getHeaders().findFlatHeader(H2StubServer.PROTOCOL_HEADER)).hasValueSatisfying(protocol -> assertThat(protocol).startsWith("HTTP/2"));
+            assertThat(response.getHeaders().findFlatHeader(HttpHeaders.CONTENT_TYPE)).isPresent();
+        }
+    }
+
+    @Test
+    public void sendsStringBody() throws Exception {
+        final String body = "{\"name\":\"foo\"}";
+        try (final HttpClient httpClient = ApacheH2HttpClientAdapter.of()) {
+            final HttpRequest request = HttpRequest.of(HttpMethod.POST, server.getBaseUrl() + "/products", HttpHeaders.of(), StringHttpRequestBody.of(body));
+            final HttpResponse response = httpClient.execute(request).toCompletableFuture().get(5, TimeUnit.SECONDS);
+
+            assertThat(new String(response.getResponseBody(), StandardCharsets.UTF_8)).isEqualTo(body);
+        }
+    }
+
+    @Test
+    public void multiplexesParallelRequests() throws Exception {
+        try (final HttpClient httpClient = ApacheH2HttpClientAdapter.of()) {
+            final List<CompletableFuture<HttpResponse>> responses = IntStream.range(0, 50)
+                    .mapToObj(i -> httpClient.execute(HttpRequest.of(HttpMethod.GET, server.getBaseUrl() + "/products/" + i)).toCompletableFuture())
+                    .collect(Collectors.toList());
+            CompletableFuture.allOf(responses.toArray(new CompletableFuture[responses.size()])).get(10, TimeUnit.SECONDS);
+
+            assertThat(responses).allSatisfy(response -> assertThat(response.join().getStatusCode()).isEqualTo(200));
+        }
+    }
+}
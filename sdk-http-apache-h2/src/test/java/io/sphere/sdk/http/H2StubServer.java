@@ -0,0 +1,71 @@
+package io.sphere.sdk.http;
+
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.EntityDetails;
+import org.apache.hc.core5.http.HttpStatus;
+import org.apache.hc.core5.http.Message;
+import org.apache.hc.core5.http.impl.bootstrap.HttpAsyncServer;
+import org.apache.hc.core5.http.message.BasicHttpResponse;
+import org.apache.hc.core5.http.nio.AsyncRequestConsumer;
+import org.apache.hc.core5.http.nio.AsyncServerRequestHandler;
+import org.apache.hc.core5.http.nio.entity.AsyncEntityProducers;
+import org.apache.hc.core5.http.nio.entity.BasicAsyncEntityConsumer;
+import org.apache.hc.core5.http.nio.support.BasicRequestConsumer;
+import org.apache.hc.core5.http.nio.support.BasicResponseProducer;
+import org.apache.hc.core5.http.protocol.HttpContext;
+import org.apache.hc.core5.http2.HttpVersionPolicy;
+import org.apache.hc.core5.http2.impl.nio.bootstrap.H2ServerBootstrap;
+import org.apache.hc.core5.io.CloseMode;
+import org.apache.hc.core5.reactor.ListenerEndpoint;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+
+/**
+ * Local cleartext server which answers HTTP/1.1 and HTTP/2 (with prior knowledge) requests on the same port.
+ * Requests with a body get the body echoed, requests without body get {@code responseBody}.
+ * The header {@value #PROTOCOL_HEADER} contains the protocol version used for the request.
+ */
+final class H2StubServer implements AutoCloseable {
+    static final String PROTOCOL_HEADER = "x-protocol";
+    private final HttpAsyncServer server;
+    private final int port;
+
+    private H2StubServer(final byte[] responseBody) throws Exception {
+        server = H2ServerBootstrap.bootstrap()
+                .setVersionPolicy(HttpVersionPolicy.NEGOTIATE)
+                .register("*", new AsyncServerRequestHandler<Message<org.apache.hc.core5.http.HttpRequest, byte[]>>() {
+                    @Override
+                    public AsyncRequestConsumer<Message<org.apache.hc.core5.http.HttpRequest, byte[]>> prepare(
+                            final org.apache.hc.core5.http.HttpRequest request, final EntityDetails entityDetails, final HttpContext context) {
+                        return new BasicRequestConsumer<>(new BasicAsyncEntityConsumer());
+                    }
+
+                    @Override
+                    public void handle(final Message<org.apache.hc.core5.http.HttpRequest, byte[]> message,
+                                       final ResponseTrigger responseTrigger, final HttpContext context) throws org.apache.hc.core5.http.HttpException, IOException {
+                        final byte[] body = message.getBody() != null ? message.getBody() : responseBody;
+                        final BasicHttpResponse response = new BasicHttpResponse(HttpStatus.SC_OK);
+                        response.addHeader(PROTOCOL_HEADER, String.valueOf(context.getProtocolVersion()));
+                        responseTrigger.submitResponse(new BasicResponseProducer(response, AsyncEntityProducers.create(body, ContentType.APPLICATION_JSON)), context);
+                    }
+                })
+                .create();
+        server.start();
+        final ListenerEndpoint endpoint = server.listen(new InetSocketAddress("localhost", 0)).get();
+        port = ((InetSocketAddress) endpoint.getAddress()).getPort();
+    }
+
+    String getBaseUrl() {
+        return "http://localhost:" + port;
+    }
+
+    @Override
+    public void close() {
+        server.close(CloseMode.IMMEDIATE);
+    }
+
+    static H2StubServer start(final byte[] responseBody) throws Exception {
+        return new H2StubServer(responseBody);
+    }
+}
@@ -0,0 +1,60 @@
+package io.sphere.sdk.http;
+
+import org.apache.commons.lang3.builder.ToStringBuilder;
+
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Request body which is already encoded as UTF-8, for example JSON written by Jackson directly as bytes.
+ * In contrast to {@link StringHttpRequestBody} the http clients can send the array without encoding the body again.
+ * A string representation is only created for {@link #toString()} and {@link #getSecuredBody()}, so for logging and error messages.
+ */
+public final class ByteArrayHttpRequestBody extends Base implements HttpRequestBody {
+    private final byte[] body;
+
+    private ByteArrayHttpRequestBody(final byte[] body) {
+        this.body = body;
+    }
+
+    /**
+     * Creates a body of UTF-8 encoded bytes. The array is not copied and must not be modified afterwards.
+     *
+     * @param body the UTF-8 encoded body
+     * @return body
+     */
+    public static ByteArrayHttpRequestBody of(final byte[] body) {
+        return new ByteArrayHttpRequestBody(body);
+    }
+
+    /**
+     * Gets the UTF-8 encoded body. The array is not copied and must not be modified.
+     *
+     * @return body
+     */
+    public byte[] getBytes() {
+        return body;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .append("body", getSecuredBody())
+                .toString();
+    }
+
+    /**
+     * internal method
+     * @return body without passwords
+     */
+    @Override
+    public String getSecuredBody() {
+        return isGzipCompressed()
+                ? "gzip compressed body with " + body.length + " bytes"
+                : StringHttpRequestBody.tryToFilter(new String(body, StandardCharsets.UTF_8));
+    }
+
+    private boolean isGzipCompressed() {
+        return body.length >= 2 && body[0] == (byte) GZIPInputStream.GZIP_MAGIC && body[1] == (byte) (GZIPInputStream.GZIP_MAGIC >> 8);
+    }
+}
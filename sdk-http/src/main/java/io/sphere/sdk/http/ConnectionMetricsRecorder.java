@@ -0,0 +1,52 @@
+package io.sphere.sdk.http;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free collector for the connection statistics of {@link HttpClientMetrics} which adapters fill from the callbacks of their http client.
+ * Only the adapters of the SDK in this package can record events, so the statistics cannot be changed from outside.
+ */
+public final class ConnectionMetricsRecorder {
+    private final LongAdder openedConnections = new LongAdder();
+    private final LongAdder failedConnects = new LongAdder();
+    private final LongAdder tlsHandshakes = new LongAdder();
+    private final LongAdder connectLatencySumNanos = new LongAdder();
+    private final AtomicLong connectLatencyMaxNanos = new AtomicLong();
+
+    private ConnectionMetricsRecorder() {
+    }
+
+    void connectSucceeded(final long latencyNanos) {
+        openedConnections.increment();
+        connectLatencySumNanos.add(latencyNanos);
+        connectLatencyMaxNanos.accumulateAndGet(latencyNanos, Math::max);
+    }
+
+    void connectFailed() {
+        failedConnects.increment();
+    }
+
+    void tlsHandshakeSucceeded() {
+        tlsHandshakes.increment();
+    }
+
+    /**
+     * Creates a snapshot of the recorded statistics combined with the current pool state.
+     *
+     * @param leasedConnections connections currently used by requests
+     * @param availableConnections idle connections in the pool or -1 if unknown
+     * @param pendingRequests requests waiting for a connection or -1 if unknown
+     * @return metrics snapshot
+     */
+    public HttpClientMetrics snapshot(final int leasedConnections, final int availableConnections, final int pendingRequests) {
+        final long opened = openedConnections.sum();
+        final long connectLatencyAverageNanos = opened == 0 ? 0 : connectLatencySumNanos.sum() / opened;
+        return HttpClientMetrics.of(leasedConnections, availableConnections, pendingRequests, opened, failedConnects.sum(),
+                tlsHandshakes.sum(), connectLatencyAverageNanos, connectLatencyMaxNanos.get());
+    }
+
+    public static ConnectionMetricsRecorder of() {
+        return new ConnectionMetricsRecorder();
+    }
+}
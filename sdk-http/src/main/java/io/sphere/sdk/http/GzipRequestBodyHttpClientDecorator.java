@@ -0,0 +1,105 @@
+package io.sphere.sdk.http;
+
+import javax.annotation.Nullable;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Decorator for an {@link HttpClient} which compresses big text and JSON request bodies with gzip and sends them with {@code Content-Encoding: gzip}.
+ *
+ * <p>Bodies of {@link StringHttpRequestBody} and {@link ByteArrayHttpRequestBody} with at least {@code minimumSizeInBytes} UTF-8 encoded bytes
+ * are compressed, smaller bodies, files, form parameters and requests which already have a {@code Content-Encoding} header are passed on unchanged.
+ * The compressed body is passed as {@link ByteArrayHttpRequestBody}, so it works with all adapters.</p>
+ *
+ * <p>Compression saves bandwidth for big payloads like order imports or product drafts on slow links, but costs CPU time on the client,
+ * so it is recommended to use a threshold of some kilobytes.</p>
+ */
+public final class GzipRequestBodyHttpClientDecorator extends Base implements HttpClient {
+    private final HttpClient delegate;
+    private final int minimumSizeInBytes;
+
+    private GzipRequestBodyHttpClientDecorator(final HttpClient delegate, final int minimumSizeInBytes) {
+        if (minimumSizeInBytes < 0) {
+            throw new IllegalArgumentException("minimumSizeInBytes must not be negative but was " + minimumSizeInBytes);
+        }
+        this.delegate = delegate;
+        this.minimumSizeInBytes = minimumSizeInBytes;
+    }
+
+    @Override
+    public CompletionStage<HttpResponse> execute(final HttpRequest httpRequest) {
+        final HttpRequest compressedRequest;
+        try {
+            compressedRequest = compressIfWorthwhile(httpRequest);
+        } catch (final IOException e) {
+            final CompletableFuture<HttpResponse> failedFuture = new CompletableFuture<>();
+            failedFuture.completeExceptionally(new HttpException(e));
+            return failedFuture;
+        }
+        return delegate.execute(compressedRequest);
+    }
+
+    private HttpRequest compressIfWorthwhile(final HttpRequest httpRequest) throws IOException {
+        if (httpRequest.getHeaders().findFlatHeader(HttpHeaders.CONTENT_ENCODING).isPresent()) {
+            return httpRequest;
+        }
+        final byte[] uncompressed = utf8BytesOrNull(httpRequest.getBody());
+        if (uncompressed == null || uncompressed.length < minimumSizeInBytes) {
+            return httpRequest;
+        }
+        final HttpHeaders headers = httpRequest.getHeaders().plus(HttpHeaders.CONTENT_ENCODING, "gzip");
+        return HttpRequest.of(httpRequest.getHttpMethod(), httpRequest.getUrl(), headers, ByteArrayHttpRequestBody.of(gzip(uncompressed)));
+    }
+
+    @Nullable
+    private byte[] utf8BytesOrNull(@Nullable final HttpRequestBody body) {
+        if (body instanceof ByteArrayHttpRequestBody) {
+            return ((ByteArrayHttpRequestBody) body).getBytes();
+        } else if (body instanceof StringHttpRequestBody) {
+            final String string = ((StringHttpRequestBody) body).getString();
+            //a char needs at most 3 bytes in UTF-8, so small strings do not need to be encoded to check the threshold
+            return string.length() * 3L < minimumSizeInBytes ? null : string.getBytes(StandardCharsets.UTF_8);
+        }
+        return null;
+    }
+
+    private static byte[] gzip(final byte[] uncompressed) throws IOException {
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream(Math.max(32, uncompressed.length / 4));
+        try (final GZIPOutputStream gzipOutputStream = new GZIPOutputStream(outputStream)) {
+            gzipOutputStream.write(uncompressed);
+        }
+        return outputStream.toByteArray();
+    }
+
+    @Nullable
+    @Override
+    public String getUserAgent() {
+        return delegate.getUserAgent();
+    }
+
+    @Nullable
+    @Override
+    public HttpClientMetrics getMetrics() {
+        return delegate.getMetrics();
+    }
+
+    @Override
+    public void close() {
+        delegate.close();
+    }
+
+    /**
+     * Creates a decorator which compresses request bodies with at least {@code minimumSizeInBytes} bytes.
+     *
+     * @param delegate the http client which performs the requests
+     * @param minimumSizeInBytes the minimal size of the UTF-8 encoded body to compress it, 0 compresses all text bodies
+     * @return http client
+     */
+    public static HttpClient of(final HttpClient delegate, final int minimumSizeInBytes) {
+        return new GzipRequestBodyHttpClientDecorator(delegate, minimumSizeInBytes);
+    }
+}
@@ -12,6 +12,16 @@ public interface HttpClient extends Closeable {
         return null;
     }
 
+    /**
+     * Gets a snapshot of the connection pool state and connection statistics.
+     *
+     * @return metrics or null if the implementation does not provide them
+     */
+    @Nullable
+    default HttpClientMetrics getMetrics() {
+        return null;
+    }
+
     @Override
     void close();
 }
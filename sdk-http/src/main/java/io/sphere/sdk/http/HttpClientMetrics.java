@@ -0,0 +1,112 @@
+package io.sphere.sdk.http;
+
+/**
+ * Snapshot of the connection pool state and connection statistics of an {@link HttpClient}.
+ *
+ * <p>The counters are cumulative since the creation of the client.
+ * Values the underlying http client does not provide are -1.</p>
+ *
+ * @see HttpClient#getMetrics()
+ */
+public final class HttpClientMetrics extends Base {
+    private final int leasedConnections;
+    private final int availableConnections;
+    private final int pendingRequests;
+    private final long openedConnections;
+    private final long failedConnects;
+    private final long tlsHandshakes;
+    private final long connectLatencyAverageNanos;
+    private final long connectLatencyMaxNanos;
+
+    private HttpClientMetrics(final int leasedConnections, final int availableConnections, final int pendingRequests,
+                              final long openedConnections, final long failedConnects, final long tlsHandshakes,
+                              final long connectLatencyAverageNanos, final long connectLatencyMaxNanos) {
+        this.leasedConnections = leasedConnections;
+        this.availableConnections = availableConnections;
+        this.pendingRequests = pendingRequests;
+        this.openedConnections = openedConnections;
+        this.failedConnects = failedConnects;
+        this.tlsHandshakes = tlsHandshakes;
+        this.connectLatencyAverageNanos = connectLatencyAverageNanos;
+        this.connectLatencyMaxNanos = connectLatencyMaxNanos;
+    }
+
+    /**
+     * Gets the amount of connections which are currently used by a request.
+     *
+     * @return leased connections
+     */
+    public int getLeasedConnections() {
+        return leasedConnections;
+    }
+
+    /**
+     * Gets the amount of idle connections in the pool.
+     *
+     * @return available connections or -1
+     */
+    public int getAvailableConnections() {
+        return availableConnections;
+    }
+
+    /**
+     * Gets the amount of requests waiting for a connection.
+     *
+     * @return pending requests or -1
+     */
+    public int getPendingRequests() {
+        return pendingRequests;
+    }
+
+    /**
+     * Gets the amount of successfully established TCP connections.
+     *
+     * @return opened connections or -1
+     */
+    public long getOpenedConnections() {
+        return openedConnections;
+    }
+
+    /**
+     * Gets the amount of TCP connections which could not be established.
+     *
+     * @return failed connects or -1
+     */
+    public long getFailedConnects() {
+        return failedConnects;
+    }
+
+    /**
+     * Gets the amount of successful TLS handshakes.
+     *
+     * @return TLS handshakes or -1
+     */
+    public long getTlsHandshakes() {
+        return tlsHandshakes;
+    }
+
+    /**
+     * Gets the average time to establish a TCP connection.
+     *
+     * @return latency in nanoseconds or -1
+     */
+    public long getConnectLatencyAverageNanos() {
+        return connectLatencyAverageNanos;
+    }
+
+    /**
+     * Gets the maximal time to establish a TCP connection.
+     *
+     * @return latency in nanoseconds or -1
+     */
+    public long getConnectLatencyMaxNanos() {
+        return connectLatencyMaxNanos;
+    }
+
+    public static HttpClientMetrics of(final int leasedConnections, final int availableConnections, final int pendingRequests,
+                                       final long openedConnections, final long failedConnects, final long tlsHandshakes,
+                                       final long connectLatencyAverageNanos, final long connectLatencyMaxNanos) {
+        return new HttpClientMetrics(leasedConnections, availableConnections, pendingRequests, openedConnections, failedConnects,
+                tlsHandshakes, connectLatencyAverageNanos, connectLatencyMaxNanos);
+    }
+}
@@ -0,0 +1,117 @@
+package io.sphere.sdk.http;
+
+import javax.annotation.Nullable;
+import java.time.Duration;
+
+/**
+ * Transport independent configuration of the connection pool of an {@link HttpClient}.
+ *
+ * <p>Values which are not set keep the default of the underlying http client.</p>
+ *
+ * <pre>{@code
+ * final HttpClientPoolConfig poolConfig = HttpClientPoolConfig.of()
+ *         .withMaxConnectionsPerHost(64)
+ *         .withConnectTimeout(Duration.ofSeconds(2));
+ * }</pre>
+ */
+public final class HttpClientPoolConfig extends Base {
+    @Nullable
+    private final Integer maxConnectionsPerHost;
+    @Nullable
+    private final Integer maxConnections;
+    @Nullable
+    private final Boolean keepAlive;
+    @Nullable
+    private final Duration pooledConnectionIdleTimeout;
+    @Nullable
+    private final Duration connectTimeout;
+
+    private HttpClientPoolConfig(@Nullable final Integer maxConnectionsPerHost, @Nullable final Integer maxConnections,
+                                 @Nullable final Boolean keepAlive, @Nullable final Duration pooledConnectionIdleTimeout,
+                                 @Nullable final Duration connectTimeout) {
+        this.maxConnectionsPerHost = maxConnectionsPerHost;
+        this.maxConnections = maxConnections;
+        this.keepAlive = keepAlive;
+        this.pooledConnectionIdleTimeout = pooledConnectionIdleTimeout;
+        this.connectTimeout = connectTimeout;
+    }
+
+    /**
+     * Creates a configuration which uses the defaults of the underlying http client.
+     *
+     * @return pool configuration
+     */
+    public static HttpClientPoolConfig of() {
+        return new HttpClientPoolConfig(null, null, null, null, null);
+    }
+
+    /**
+     * The maximal amount of open connections to one host.
+     *
+     * @return the limit or null for the default of the underlying client
+     */
+    @Nullable
+    public Integer getMaxConnectionsPerHost() {
+        return maxConnectionsPerHost;
+    }
+
+    /**
+     * The maximal amount of open connections to all hosts.
+     *
+     * @return the limit or null for the default of the underlying client
+     */
+    @Nullable
+    public Integer getMaxConnections() {
+        return maxConnections;
+    }
+
+    /**
+     * Whether connections are kept open and returned to the pool after a response.
+     *
+     * @return keep-alive flag or null for the default of the underlying client
+     */
+    @Nullable
+    public Boolean getKeepAlive() {
+        return keepAlive;
+    }
+
+    /**
+     * The time after which idle connections in the pool are closed.
+     *
+     * @return the timeout or null for the default of the underlying client
+     */
+    @Nullable
+    public Duration getPooledConnectionIdleTimeout() {
+        return pooledConnectionIdleTimeout;
+    }
+
+    /**
+     * The maximal time to establish a TCP connection.
+     *
+     * @return the timeout or null for the default of the underlying client
+     */
+    @Nullable
+    public Duration getConnectTimeout() {
+        return connectTimeout;
+    }
+
+    public HttpClientPoolConfig withMaxConnectionsPerHost(final int maxConnectionsPerHost) {
+        return new HttpClientPoolConfig(maxConnectionsPerHost, maxConnections, keepAlive, pooledConnectionIdleTimeout, connectTimeout);
+    }
+
+    public HttpClientPoolConfig withMaxConnections(final int maxConnections) {
+        return new HttpClientPoolConfig(maxConnectionsPerHost, maxConnections, keepAlive, pooledConnectionIdleTimeout, connectTimeout);
+    }
+
+    public HttpClientPoolConfig withKeepAlive(final boolean keepAlive) {
+        return new HttpClientPoolConfig(maxConnectionsPerHost, maxConnections, keepAlive, pooledConnectionIdleTimeout, connectTimeout);
+    }
+
+    public HttpClientPoolConfig withPooledConnectionIdleTimeout(final Duration pooledConnectionIdleTimeout) {
+        return new HttpClientPoolConfig(maxConnectionsPerHost, maxConnections, keepAlive, pooledConnectionIdleTimeout, connectTimeout);
+    }
+
+    public HttpClientPoolConfig withConnectTimeout(final Duration connectTimeout) {
+        return new HttpClientPoolConfig(maxConnectionsPerHost, maxConnections, keepAlive, pooledConnectionIdleTimeout, connectTimeout);
+    }
+}
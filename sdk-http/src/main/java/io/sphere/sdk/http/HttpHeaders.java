@@ -14,6 +14,8 @@ public final class HttpHeaders extends Base {
     public static final String CONTENT_TYPE = "Content-Type";
     public static final String CONTENT_LENGTH = "Content-Length";
     public static final String X_CORRELATION_ID = "X-Correlation-ID";
+    public static final String ETAG = "ETag";
+    public static final String IF_NONE_MATCH = "If-None-Match";
 
     private final List<NameValuePair> data;
 
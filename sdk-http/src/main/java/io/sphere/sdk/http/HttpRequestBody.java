@@ -1,4 +1,14 @@
 package io.sphere.sdk.http;
 
+import javax.annotation.Nullable;
+
 public interface HttpRequestBody {
+    /**
+     * internal method
+     * @return the body as text without passwords or null if the body is not text like a file or a form
+     */
+    @Nullable
+    default String getSecuredBody() {
+        return null;
+    }
 }
@@ -1,6 +1,8 @@
 package io.sphere.sdk.http;
 
 import javax.annotation.Nullable;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
 import java.util.Optional;
 
@@ -15,6 +17,29 @@ public interface HttpResponse {
     @Nullable
     byte[] getResponseBody();
 
+    /**
+     * Provides the response body as stream, so it can be fed directly into a parser without copying it into an array first.
+     * For buffered responses this is a view on {@link #getResponseBody()}.
+     * A streamed response (see {@link #ofStream(Integer, InputStream, HttpRequest, HttpHeaders)}) hands out its body only once,
+     * unless {@link #getResponseBody()} has been called before which buffers the body.
+     * Afterwards {@link #getResponseBody()} provides only the beginning of the body for error messages.
+     *
+     * @return the body as stream or null if there is no body or it has already been consumed
+     */
+    @Nullable
+    default InputStream getResponseBodyAsStream() {
+        return Optional.ofNullable(getResponseBody()).map(ByteArrayInputStream::new).orElse(null);
+    }
+
+    /**
+     * Checks if the response contains a body without buffering a streamed body.
+     *
+     * @return true if the response has a body, otherwise false
+     */
+    default boolean hasResponseBody() {
+        return getResponseBody() != null;
+    }
+
     @Nullable
     HttpRequest getAssociatedRequest();
 
@@ -70,6 +95,20 @@ public interface HttpResponse {
         return new HttpResponseImpl(status, body, associatedRequest, Optional.ofNullable(headers).orElseGet(() -> HttpHeaders.of()));
     }
 
+    /**
+     * Creates a response whose body is read lazily from {@code body}.
+     * The body is only copied into memory if {@link #getResponseBody()} is called, for example for logging or error handling.
+     *
+     * @param status the HTTP status code
+     * @param body the stream of the body, will be closed after it has been read
+     * @param associatedRequest the request which belongs to this response
+     * @param headers the HTTP headers
+     * @return response
+     */
+    static HttpResponse ofStream(@Nullable final Integer status, @Nullable final InputStream body, @Nullable final HttpRequest associatedRequest, @Nullable final HttpHeaders headers) {
+        return new StreamingHttpResponseImpl(status, body, associatedRequest, Optional.ofNullable(headers).orElseGet(() -> HttpHeaders.of()));
+    }
+
     default HttpResponse withoutRequest() {
         return HttpResponse.of(getStatusCode(), getResponseBody(), null, getHeaders());
     }
@@ -0,0 +1,167 @@
+package io.sphere.sdk.http;
+
+import org.apache.commons.lang3.builder.ToStringBuilder;
+
+import javax.annotation.Nullable;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Response which keeps the body as stream until somebody requires it as array.
+ * The first bytes read from the stream are kept for error messages.
+ */
+final class StreamingHttpResponseImpl extends Base implements HttpResponse {
+    private static final int BUFFER_SIZE = 8192;
+    private static final int MAX_EXCERPT_SIZE = 8192;
+    @Nullable
+    private final Integer statusCode;
+    private final HttpHeaders headers;
+    @Nullable
+    private final HttpRequest associatedRequest;
+    private final boolean hasResponseBody;
+    @Nullable
+    private InputStream responseBodyStream;
+    @Nullable
+    private byte[] bufferedResponseBody;
+    @Nullable
+    private ExcerptRecordingInputStream consumedResponseBodyStream;
+
+    StreamingHttpResponseImpl(@Nullable final Integer statusCode, @Nullable final InputStream responseBodyStream, @Nullable final HttpRequest associatedRequest, final HttpHeaders headers) {
+        this.statusCode = statusCode;
+        this.responseBodyStream = responseBodyStream;
+        this.hasResponseBody = responseBodyStream != null;
+        this.associatedRequest = associatedRequest;
+        this.headers = headers;
+    }
+
+    @Nullable
+    @Override
+    public Integer getStatusCode() {
+        return statusCode;
+    }
+
+    @Override
+    public HttpHeaders getHeaders() {
+        return headers;
+    }
+
+    /**
+     * Buffers the body if it has not been consumed as stream yet.
+     * After the body has been consumed by {@link #getResponseBodyAsStream()} only the first up to 8 KiB which have been read
+     * are available, so error messages and logs still contain the beginning of the body.
+     *
+     * @return the body, the beginning of the consumed body or null if there is none
+     */
+    @Nullable
+    @Override
+    public synchronized byte[] getResponseBody() {
+        if (consumedResponseBodyStream != null) {
+            return consumedResponseBodyStream.getExcerpt();
+        }
+        if (bufferedResponseBody == null && responseBodyStream != null) {
+            try (final InputStream inputStream = responseBodyStream) {
+                bufferedResponseBody = toByteArray(inputStream);
+            } catch (final IOException e) {
+                throw new HttpException(e);
+            } finally {
+                responseBodyStream = null;
+            }
+        }
+        return bufferedResponseBody;
+    }
+
+    @Nullable
+    @Override
+    public synchronized InputStream getResponseBodyAsStream() {
+        if (bufferedResponseBody != null) {
+            return new ByteArrayInputStream(bufferedResponseBody);
+        }
+        if (responseBodyStream == null) {
+            return null;
+        }
+        consumedResponseBodyStream = new ExcerptRecordingInputStream(responseBodyStream);
+        responseBodyStream = null;
+        return consumedResponseBodyStream;
+    }
+
+    @Override
+    public boolean hasResponseBody() {
+        return hasResponseBody;
+    }
+
+    @Nullable
+    @Override
+    public HttpRequest getAssociatedRequest() {
+        return associatedRequest;
+    }
+
+    private static byte[] toByteArray(final InputStream inputStream) throws IOException {
+        final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        final byte[] buffer = new byte[BUFFER_SIZE];
+        int read;
+        while ((read = inputStream.read(buffer)) != -1) {
+            outputStream.write(buffer, 0, read);
+        }
+        return outputStream.toByteArray();
+    }
+
+    @Override
+    public synchronized String toString() {
+        final String textInterpretedBody;
+        if (bufferedResponseBody != null) {
+            textInterpretedBody = StringHttpRequestBody.tryToFilter(new String(bufferedResponseBody, StandardCharsets.UTF_8));
+        } else if (consumedResponseBodyStream != null) {
+            textInterpretedBody = "streamed body starting with " + StringHttpRequestBody.tryToFilter(new String(consumedResponseBodyStream.getExcerpt(), StandardCharsets.UTF_8));
+        } else {
+            textInterpretedBody = hasResponseBody ? "streamed body" : "empty body";
+        }
+        return new ToStringBuilder(this)
+                .append("statusCode", statusCode)
+                .append("headers", headers)
+                .append("associatedRequest", associatedRequest)
+                .append("textInterpretedBody", textInterpretedBody)
+                .toString();
+    }
+
+    /**
+     * Copies the first {@link #MAX_EXCERPT_SIZE} bytes which pass through.
+     */
+    private static final class ExcerptRecordingInputStream extends FilterInputStream {
+        private final ByteArrayOutputStream excerpt = new ByteArrayOutputStream();
+
+        private ExcerptRecordingInputStream(final InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            final int b = super.read();
+            if (b != -1 && excerpt.size() < MAX_EXCERPT_SIZE) {
+                excerpt.write(b);
+            }
+            return b;
+        }
+
+        @Override
+        public int read(final byte[] b, final int off, final int len) throws IOException {
+            final int read = super.read(b, off, len);
+            if (read > 0 && excerpt.size() < MAX_EXCERPT_SIZE) {
+                excerpt.write(b, off, Math.min(read, MAX_EXCERPT_SIZE - excerpt.size()));
+            }
+            return read;
+        }
+
+        @Override
+        public boolean markSupported() {
+            return false;
+        }
+
+        private byte[] getExcerpt() {
+            return excerpt.toByteArray();
+        }
+    }
+}
@@ -28,6 +28,7 @@ public final class StringHttpRequestBody extends Base implements HttpRequestBody
      * internal method
      * @return body without passwords
      */
+    @Override
     public String getSecuredBody() {
         return tryToFilter(this.body);
     }
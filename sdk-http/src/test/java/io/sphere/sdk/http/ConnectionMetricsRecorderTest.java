@@ -0,0 +1,35 @@
+package io.sphere.sdk.http;
+
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ConnectionMetricsRecorderTest {
+    @Test
+    public void snapshotAggregatesConnects() {
+        final ConnectionMetricsRecorder recorder = ConnectionMetricsRecorder.of();
+        recorder.connectSucceeded(100);
+        recorder.connectSucceeded(300);
+        recorder.connectFailed();
+        recorder.tlsHandshakeSucceeded();
+
+        final HttpClientMetrics metrics = recorder.snapshot(2, 5, -1);
+
+        assertThat(metrics.getLeasedConnections()).isEqualTo(2);
+        assertThat(metrics.getAvailableConnections()).isEqualTo(5);
+        assertThat(metrics.getPendingRequests()).isEqualTo(-1);
+        assertThat(metrics.getOpenedConnections()).isEqualTo(2);
+        assertThat(metrics.getFailedConnects()).isEqualTo(1);
+        assertThat(metrics.getTlsHandshakes()).isEqualTo(1);
+        assertThat(metrics.getConnectLatencyAverageNanos()).isEqualTo(200);
+        assertThat(metrics.getConnectLatencyMaxNanos()).isEqualTo(300);
+    }
+
+    @Test
+    public void snapshotWithoutConnects() {
+        final HttpClientMetrics metrics = ConnectionMetricsRecorder.of().snapshot(0, 0, 0);
+
+        assertThat(metrics.getOpenedConnections()).isZero();
+        assertThat(metrics.getConnectLatencyAverageNanos()).isZero();
+    }
+}
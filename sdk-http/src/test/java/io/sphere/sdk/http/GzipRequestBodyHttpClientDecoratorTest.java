@@ -0,0 +1,91 @@
+package io.sphere.sdk.http;
+
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class GzipRequestBodyHttpClientDecoratorTest {
+    private static final String URL = "http://localhost/orders/import";
+
+    @Test
+    public void compressesBodiesAboveThreshold() throws Exception {
+        final CapturingHttpClient capturingHttpClient = new CapturingHttpClient();
+        final HttpClient client = GzipRequestBodyHttpClientDecorator.of(capturingHttpClient, 1024);
+        final String body = json(2000);
+
+        client.execute(HttpRequest.of(HttpMethod.POST, URL, HttpHeaders.of(), StringHttpRequestBody.of(body)));
+
+        final HttpRequest sentRequest = capturingHttpClient.lastRequest;
+        assertThat(sentRequest.getHeaders().findFlatHeader(HttpHeaders.CONTENT_ENCODING)).contains("gzip");
+        final byte[] sentBody = ((ByteArrayHttpRequestBody) sentRequest.getBody()).getBytes();
+        assertThat(sentBody.length).isLessThan(body.length());
+        assertThat(gunzip(sentBody)).isEqualTo(body);
+        assertThat(sentRequest.getBody().toString()).contains("gzip compressed body");
+    }
+
+    @Test
+    public void keepsBodiesBelowThreshold() throws Exception {
+        final CapturingHttpClient capturingHttpClient = new CapturingHttpClient();
+        final HttpClient client = GzipRequestBodyHttpClientDecorator.of(capturingHttpClient, 1024);
+        final HttpRequest request = HttpRequest.of(HttpMethod.POST, URL, HttpHeaders.of(), ByteArrayHttpRequestBody.of(json(10).getBytes(StandardCharsets.UTF_8)));
+
+        client.execute(request);
+
+        assertThat(capturingHttpClient.lastRequest).isSameAs(request);
+    }
+
+    @Test
+    public void keepsFileBodies() throws Exception {
+        final CapturingHttpClient capturingHttpClient = new CapturingHttpClient();
+        final HttpClient client = GzipRequestBodyHttpClientDecorator.of(capturingHttpClient, 0);
+        final HttpRequest request = HttpRequest.of(HttpMethod.POST, URL, HttpHeaders.of(), FileHttpRequestBody.of(new File("image.png")));
+
+        client.execute(request);
+
+        assertThat(capturingHttpClient.lastRequest).isSameAs(request);
+    }
+
+    private static String json(final int entries) {
+        final StringBuilder builder = new StringBuilder("[");
+        for (int i = 0; i < entries; i++) {
+            builder.append(i == 0 ? "" : ",").append("{\"sku\":\"sku-").append(i).append("\",\"quantity\":1}");
+        }
+        return builder.append("]").toString();
+    }
+
+    private static String gunzip(final byte[] compressed) throws IOException {
+        try (final InputStream inputStream = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+            final byte[] buffer = new byte[4096];
+            int read;
+            while ((read = inputStream.read(buffer)) != -1) {
+                outputStream.write(buffer, 0, read);
+            }
+            return new String(outputStream.toByteArray(), StandardCharsets.UTF_8);
+        }
+    }
+
+    private static final class CapturingHttpClient implements HttpClient {
+        private HttpRequest lastRequest;
+
+        @Override
+        public CompletionStage<HttpResponse> execute(final HttpRequest httpRequest) {
+            lastRequest = httpRequest;
+            return CompletableFuture.completedFuture(HttpResponse.of(200));
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package io.sphere.sdk.http;
+
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link HttpResponse}.
+ */
+public class HttpResponseTest {
+    private static final String BODY = "{\"foo\":\"bar\"}";
+
+    @Test
+    public void bufferedResponseProvidesStreamView() throws Exception {
+        final HttpResponse response = HttpResponse.of(200, BODY);
+
+        assertThat(response.hasResponseBody()).isTrue();
+        assertThat(read(response.getResponseBodyAsStream())).isEqualTo(BODY);
+        assertThat(read(response.getResponseBodyAsStream())).isEqualTo(BODY);
+    }
+
+    @Test
+    public void streamedBodyCanBeConsumedOnce() throws Exception {
+        final HttpResponse response = HttpResponse.ofStream(200, stream(BODY), null, null);
+
+        assertThat(response.hasResponseBody()).isTrue();
+        assertThat(response.toString()).contains("streamed body");
+        assertThat(read(response.getResponseBodyAsStream())).isEqualTo(BODY);
+        assertThat(response.getResponseBodyAsStream()).isNull();
+        assertThat(response.hasResponseBody()).isTrue();
+    }
+
+    @Test
+    public void streamedBodyCanBeBufferedForLogging() throws Exception {
+        final HttpResponse response = HttpResponse.ofStream(200, stream(BODY), null, null);
+
+        assertThat(new String(response.getResponseBody(), StandardCharsets.UTF_8)).isEqualTo(BODY);
+        assertThat(response.toString()).contains(BODY);
+        assertThat(read(response.getResponseBodyAsStream())).isEqualTo(BODY);
+        assertThat(read(response.getResponseBodyAsStream())).isEqualTo(BODY);
+    }
+
+    @Test
+    public void consumedStreamedBodyKeepsExcerptForErrorMessages() throws Exception {
+        final HttpResponse response = HttpResponse.ofStream(200, stream(BODY), null, null);
+
+        assertThat(read(response.getResponseBodyAsStream())).isEqualTo(BODY);
+        assertThat(new String(response.getResponseBody(), StandardCharsets.UTF_8)).isEqualTo(BODY);
+        assertThat(new String(response.withoutRequest().getResponseBody(), StandardCharsets.UTF_8)).isEqualTo(BODY);
+        assertThat(response.toString()).contains(BODY);
+    }
+
+    @Test
+    public void excerptOfConsumedStreamedBodyIsBounded() throws Exception {
+        final StringBuilder largeBody = new StringBuilder();
+        while (largeBody.length() < 100_000) {
+            largeBody.append(BODY);
+        }
+        final HttpResponse response = HttpResponse.ofStream(200, stream(largeBody.toString()), null, null);
+
+        assertThat(read(response.getResponseBodyAsStream())).isEqualTo(largeBody.toString());
+        assertThat(response.getResponseBody()).hasSize(8192);
+    }
+
+    @Test
+    public void streamedResponseWithoutBody() throws Exception {
+        final HttpResponse response = HttpResponse.ofStream(204, null, null, null);
+
+        assertThat(response.hasResponseBody()).isFalse();
+        assertThat(response.getResponseBody()).isNull();
+        assertThat(response.getResponseBodyAsStream()).isNull();
+    }
+
+    private static InputStream stream(final String s) {
+        return new ByteArrayInputStream(s.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String read(final InputStream inputStream) throws IOException {
+        final StringBuilder stringBuilder = new StringBuilder();
+        int c;
+        while ((c = inputStream.read()) != -1) {
+            stringBuilder.append((char) c);
+        }
+        return stringBuilder.toString();
+    }
+}